@@ -0,0 +1,138 @@
+package com.stock.screener.analyzer;
+
+import com.stock.screener.analyzer.application.port.out.StockMetrics;
+import com.stock.screener.analyzer.application.port.out.StockMetricsPort;
+import com.stock.screener.collector.IntegrationTestProfile;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+import com.stock.screener.collector.domain.valueobject.PsRatio;
+import com.stock.screener.common.Sector;
+import io.quarkus.test.TestTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@TestProfile(IntegrationTestProfile.class)
+@TestTransaction
+@DisplayName("Stock metrics — set-based load for the scoring engine")
+class StockMetricsLoadIT {
+
+    private static final int TICKERS = 30;
+    private static final int QUARTERS_PER_TICKER = 14;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    StockMetricsPort stockMetricsPort;
+
+    @Test
+    @DisplayName("Loads every ticker with a constant number of statements and picks the latest quarter")
+    void loadsUniverseWithoutNPlusOne() {
+        // Given
+        for (int ticker = 0; ticker < TICKERS; ticker++) {
+            persistTicker("SCR" + ticker);
+        }
+        MonthlyReport.flush();
+
+        // When
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        Map<String, StockMetrics> metrics = stockMetricsPort.loadAll().stream()
+                .collect(Collectors.toMap(StockMetrics::ticker, Function.identity()));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(metrics).containsKeys("SCR0", "SCR" + (TICKERS - 1));
+        StockMetrics first = metrics.get("SCR0");
+        assertThat(first.sector()).isEqualTo(Sector.TECHNOLOGY);
+        assertThat(first.revenueTTM()).isEqualByComparingTo("1000");
+        assertThat(first.revenueTTM3YearsAgo()).isEqualByComparingTo("880");
+        assertThat(first.upsidePotential()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Derives the median P/S and the target price three months ago from the collection days")
+    void derivesHistoryFromCollectionDays() {
+        // Given
+        LocalDate today = LocalDate.now();
+        persistDay("HIST", today, "5", "200");
+        persistDay("HIST", today.minusMonths(3).minusDays(2), "7", "180");
+        persistDay("HIST", today.minusMonths(18), "9", "150");
+
+        // When
+        StockMetrics metrics = stockMetricsPort.load(List.of("HIST")).getFirst();
+
+        // Then
+        assertThat(metrics.psRatio()).isEqualByComparingTo("5");
+        assertThat(metrics.medianPsRatio4Y()).isEqualByComparingTo("7");
+        assertThat(metrics.targetPrice3MonthsAgo()).isEqualByComparingTo("180");
+    }
+
+    @Test
+    @DisplayName("Less than a year of collection days gives no P/S median")
+    void needsAYearOfPsHistory() {
+        // Given
+        LocalDate today = LocalDate.now();
+        persistDay("SHORT", today, "5", "200");
+        persistDay("SHORT", today.minusMonths(6), "7", "180");
+
+        // When
+        StockMetrics metrics = stockMetricsPort.load(List.of("SHORT")).getFirst();
+
+        // Then
+        assertThat(metrics.medianPsRatio4Y()).isNull();
+        assertThat(metrics.targetPrice3MonthsAgo()).isNull();
+    }
+
+    /**
+     * The forecast date is a creation timestamp, so it is moved to the collection day after the insert.
+     */
+    private static void persistDay(String ticker, LocalDate day, String psRatio, String targetPrice) {
+        var monthly = new MonthlyReport();
+        monthly.ticker = ticker;
+        monthly.sector = Sector.TECHNOLOGY;
+        monthly.psRatio = new PsRatio(new BigDecimal(psRatio));
+        monthly.targetPrice = new BigDecimal(targetPrice);
+        monthly.persistAndFlush();
+        MonthlyReport.update("forecastDate = ?1 where id = ?2", day, monthly.id);
+    }
+
+    private static void persistTicker(String ticker) {
+        var monthly = new MonthlyReport();
+        monthly.ticker = ticker;
+        monthly.sector = Sector.TECHNOLOGY;
+        monthly.currentPrice = new BigDecimal("100");
+        monthly.targetPrice = new BigDecimal("130");
+        monthly.marketCap = new BigDecimal("5000000000");
+        monthly.revenueTTM = new BigDecimal("1000");
+        monthly.recalculateMetrics();
+        monthly.persist();
+
+        // newest quarter first: revenue TTM drops by 10 per quarter going back
+        LocalDate latest = LocalDate.now().withDayOfMonth(1).minusDays(1);
+        IntStream.range(0, QUARTERS_PER_TICKER).forEach(back -> {
+            var quarterly = new QuarterlyReport();
+            quarterly.ticker = ticker;
+            quarterly.sector = Sector.TECHNOLOGY;
+            quarterly.fiscalDateEnding = latest.minusMonths(3L * back);
+            quarterly.revenueTTM = BigDecimal.valueOf(1000 - 10L * back);
+            quarterly.persist();
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.stock.screener.collector.IntegrationTestProfile;
+import com.stock.screener.collector.application.port.out.ReportUpsertPort;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.common.Sector;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+@TestProfile(IntegrationTestProfile.class)
+@DisplayName("Report changes — analyzer caches follow committed writes only")
+class ReportChangeIT {
+
+    private static final String COMMITTED = "CHGCOMMIT";
+    private static final String ROLLED_BACK = "CHGROLLBACK";
+    private static final String LATER = "CHGLATER";
+    private static final String NO_REPORT = "No monthly report collected";
+
+    @Inject
+    ReportUpsertPort reportUpsertPort;
+
+    @Inject
+    StockAnalysisService stockAnalysisService;
+
+    @Inject
+    UniverseSnapshotService universeSnapshotService;
+
+    @AfterEach
+    void deleteReports() {
+        QuarkusTransaction.requiringNew().run(() ->
+                MonthlyReport.delete("ticker in ?1", List.of(COMMITTED, ROLLED_BACK, LATER)));
+    }
+
+    @Test
+    @DisplayName("A committed upsert is seen by the next analysis and by the snapshot")
+    void seesCommittedWrite() {
+        // Given: the analysis without a report is cached
+        AnalysisReport before = stockAnalysisService.analyzeStock(COMMITTED);
+        assertThat(before.getRejectReason()).isEqualTo(NO_REPORT);
+
+        // When
+        reportUpsertPort.upsertMonthly(List.of(aReport(COMMITTED)));
+
+        // Then
+        AnalysisReport after = stockAnalysisService.analyzeStock(COMMITTED);
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getRejectReason()).isNotEqualTo(NO_REPORT);
+        awaitInSnapshot(COMMITTED);
+    }
+
+    @Test
+    @DisplayName("A rolled back upsert leaves the cached analysis and the snapshot untouched")
+    void ignoresRolledBackWrite() {
+        // Given
+        AnalysisReport before = stockAnalysisService.analyzeStock(ROLLED_BACK);
+
+        // When
+        assertThatThrownBy(() -> QuarkusTransaction.requiringNew().run(() -> {
+            reportUpsertPort.upsertMonthly(List.of(aReport(ROLLED_BACK)));
+            throw new IllegalStateException("Collection failed after the upsert");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then: a later committed write is rescored, the rolled back one never was
+        assertThat(stockAnalysisService.analyzeStock(ROLLED_BACK)).isSameAs(before);
+        reportUpsertPort.upsertMonthly(List.of(aReport(LATER)));
+        awaitInSnapshot(LATER);
+        assertThat(universeSnapshotService.current().row(ROLLED_BACK)).isEqualTo(-1);
+    }
+
+    private static MonthlyReport aReport(String ticker) {
+        var report = new MonthlyReport();
+        report.ticker = ticker;
+        report.sector = Sector.TECHNOLOGY;
+        report.currentPrice = new BigDecimal("100");
+        report.targetPrice = new BigDecimal("130");
+        return report;
+    }
+
+    /**
+     * Rescores are debounced by {@code analyzer.rescore.debounce}, so the snapshot catches up asynchronously.
+     */
+    private void awaitInSnapshot(String ticker) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (universeSnapshotService.current().row(ticker) < 0) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Snapshot was not rescored with " + ticker);
+            }
+            sleep(50);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.stock.screener.collector;
+
+import com.stock.screener.collector.application.port.in.CollectionJobStatus;
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.TickerOutcome;
+import com.stock.screener.collector.application.port.out.job.CollectionFailurePort;
+import com.stock.screener.collector.application.port.out.job.CollectionFailures;
+import com.stock.screener.collector.application.port.out.job.CollectionRunPort;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@TestProfile(IntegrationTestProfile.class)
+@DisplayName("Collection runs — shared work queue")
+class CollectionRunQueueIT {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Inject
+    CollectionRunPort collectionRunPort;
+
+    @Inject
+    CollectionFailurePort collectionFailurePort;
+
+    @AfterEach
+    void finishRuns() {
+        collectionRunPort.findUnfinishedRuns()
+                .forEach(run -> collectionRunPort.finishRun(run.id(), CollectionJobStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("Concurrent workers claim disjoint batches that together cover the run")
+    void claimsDisjointBatches() throws Exception {
+        // Given
+        List<String> tickers = IntStream.range(0, 40).mapToObj(i -> "Q" + i).toList();
+        long runId = collectionRunPort.joinOrCreateRun(CollectionJobType.MONTHLY, tickers, "it-disjoint");
+
+        // When
+        List<Future<List<String>>> workers;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            workers = IntStream.range(0, 4)
+                    .mapToObj(i -> executor.submit(() -> drain(runId, "worker-" + i)))
+                    .toList();
+        }
+
+        // Then
+        List<String> claimed = new ArrayList<>();
+        for (Future<List<String>> worker : workers) {
+            claimed.addAll(worker.get());
+        }
+        assertThat(claimed).containsExactlyInAnyOrderElementsOf(tickers);
+        assertThat(collectionRunPort.hasOpenTickers(runId, 3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Tickers of a worker whose lease expired are claimed by another worker")
+    void reclaimsExpiredLeases() throws InterruptedException {
+        // Given: worker-a claims the ticker and stops renewing
+        long runId = collectionRunPort.joinOrCreateRun(CollectionJobType.MONTHLY, List.of("LEASED"), "it-lease");
+        assertThat(collectionRunPort.claimTickers(runId, "worker-a", 10, Duration.ofSeconds(1), 3))
+                .containsExactly("LEASED");
+        assertThat(collectionRunPort.claimTickers(runId, "worker-b", 10, LEASE, 3)).isEmpty();
+
+        // When
+        Thread.sleep(1500);
+
+        // Then
+        assertThat(collectionRunPort.claimTickers(runId, "worker-b", 10, LEASE, 3)).containsExactly("LEASED");
+    }
+
+    @Test
+    @DisplayName("The outcome of a worker whose lease was taken over is not recorded")
+    void dropsOutcomeOfExpiredLease() throws InterruptedException {
+        // Given: worker-b takes over the ticker after worker-a's lease expired
+        long runId = collectionRunPort.joinOrCreateRun(CollectionJobType.MONTHLY, List.of("TAKEN"), "it-owner");
+        collectionRunPort.claimTickers(runId, "worker-a", 10, Duration.ofSeconds(1), 3);
+        Thread.sleep(1500);
+        assertThat(collectionRunPort.claimTickers(runId, "worker-b", 10, LEASE, 3)).containsExactly("TAKEN");
+
+        // When
+        boolean staleRecorded = collectionRunPort.recordOutcome(runId, "worker-a",
+                TickerOutcome.failed("TAKEN", 5, "too late"), Duration.ZERO);
+
+        // Then
+        assertThat(staleRecorded).isFalse();
+        assertThat(collectionRunPort.hasOpenTickers(runId, 3)).isTrue();
+        assertThat(collectionRunPort.recordOutcome(runId, "worker-b", TickerOutcome.success("TAKEN", 5),
+                Duration.ZERO)).isTrue();
+        assertThat(collectionRunPort.findRun(runId).orElseThrow().done()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A failed ticker is claimed again until it runs out of attempts")
+    void retriesFailedTickers() {
+        // Given
+        long runId = collectionRunPort.joinOrCreateRun(CollectionJobType.MONTHLY, List.of("FLAKY"), "it-retry");
+
+        // When
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertThat(collectionRunPort.claimTickers(runId, "worker-a", 10, LEASE, 2)).containsExactly("FLAKY");
+            collectionRunPort.recordOutcome(runId, "worker-a", TickerOutcome.failed("FLAKY", 5, "boom"),
+                    Duration.ZERO);
+        }
+
+        // Then
+        assertThat(collectionRunPort.claimTickers(runId, "worker-a", 10, LEASE, 2)).isEmpty();
+        assertThat(collectionRunPort.hasOpenTickers(runId, 2)).isFalse();
+        assertThat(collectionRunPort.findRun(runId).orElseThrow().failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A failed ticker waits for its backoff while untried tickers are claimed")
+    void backsOffFailedTickers() {
+        // Given
+        long runId = collectionRunPort.joinOrCreateRun(CollectionJobType.MONTHLY, List.of("BACKOFF", "UNTRIED"),
+                "it-backoff");
+        assertThat(collectionRunPort.claimTickers(runId, "worker-a", 1, LEASE, 3)).containsExactly("BACKOFF");
+        collectionRunPort.recordOutcome(runId, "worker-a", TickerOutcome.failed("BACKOFF", 5, "boom"),
+                Duration.ofHours(1));
+
+        // When
+        List<String> claimed = collectionRunPort.claimTickers(runId, "worker-a", 10, LEASE, 3);
+
+        // Then
+        assertThat(claimed).containsExactly("UNTRIED");
+        collectionRunPort.recordOutcome(runId, "worker-a", TickerOutcome.success("UNTRIED", 5), Duration.ZERO);
+        assertThat(collectionRunPort.claimTickers(runId, "worker-a", 10, LEASE, 3)).isEmpty();
+        assertThat(collectionRunPort.hasOpenTickers(runId, 3)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Instances submitting the same trigger join one run, even after it finished")
+    void joinsRunOfSameTrigger() {
+        // Given
+        long first = collectionRunPort.joinOrCreateRun(CollectionJobType.QUARTERLY, List.of("AAPL"), "it-cron");
+        collectionRunPort.finishRun(first, CollectionJobStatus.COMPLETED);
+
+        // When
+        long second = collectionRunPort.joinOrCreateRun(CollectionJobType.QUARTERLY, List.of("AAPL"), "it-cron");
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(collectionRunPort.findRun(second).orElseThrow().status()).isEqualTo(CollectionJobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("A different trigger or a different ticker set gets a run of its own")
+    void keepsOtherSubmissionsApart() {
+        // Given
+        long wave = collectionRunPort.joinOrCreateRun(CollectionJobType.QUARTERLY, List.of("AAPL"), "it-wave@1");
+
+        // When
+        long nextWave = collectionRunPort.joinOrCreateRun(CollectionJobType.QUARTERLY, List.of("MSFT"), "it-wave@2");
+        long unkeyed = collectionRunPort.joinOrCreateRun(CollectionJobType.QUARTERLY, List.of("AAPL", "MSFT"), null);
+        long resubmitted = collectionRunPort.joinOrCreateRun(CollectionJobType.QUARTERLY, List.of("MSFT", "AAPL"),
+                null);
+
+        // Then
+        assertThat(nextWave).isNotEqualTo(wave);
+        assertThat(unkeyed).isNotIn(wave, nextWave);
+        assertThat(resubmitted).isEqualTo(unkeyed);
+        List.of(wave, nextWave, unkeyed).forEach(runId ->
+                collectionRunPort.finishRun(runId, CollectionJobStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("Only failed runs since a ticker's last successful collection count as recent failures")
+    void countsFailuresSinceLastSuccess() {
+        // Given
+        collect("it-failures-1", TickerOutcome.failed("FAILING", 5, "boom"));
+        collect("it-failures-2", TickerOutcome.success("FAILING", 5));
+        collect("it-failures-3", TickerOutcome.failed("FAILING", 5, "boom"));
+        collect("it-failures-4", TickerOutcome.failed("FAILING", 5, "boom"));
+        collect("it-failures-5", TickerOutcome.success("HEALTHY", 5));
+
+        // When
+        Map<String, CollectionFailures> failures =
+                collectionFailurePort.recentFailures(CollectionJobType.QUARTERLY_HISTORY);
+
+        // Then
+        assertThat(failures.get("FAILING").failedRuns()).isEqualTo(2);
+        assertThat(failures.get("FAILING").lastFailedAt()).isNotNull();
+        assertThat(failures).doesNotContainKey("HEALTHY");
+    }
+
+    private void collect(String triggerKey, TickerOutcome outcome) {
+        long runId = collectionRunPort.joinOrCreateRun(CollectionJobType.QUARTERLY_HISTORY,
+                List.of(outcome.ticker()), triggerKey);
+        assertThat(collectionRunPort.claimTickers(runId, "worker-a", 10, LEASE, 1)).containsExactly(outcome.ticker());
+        collectionRunPort.recordOutcome(runId, "worker-a", outcome, Duration.ZERO);
+        collectionRunPort.finishRun(runId, CollectionJobStatus.COMPLETED);
+    }
+
+    private List<String> drain(long runId, String workerId) {
+        List<String> claimed = new ArrayList<>();
+        List<String> batch;
+        while (!(batch = collectionRunPort.claimTickers(runId, workerId, 3, LEASE, 3)).isEmpty()) {
+            claimed.addAll(batch);
+            batch.forEach(ticker -> collectionRunPort.recordOutcome(runId, workerId, TickerOutcome.success(ticker, 1),
+                    Duration.ZERO));
+        }
+        return claimed;
+    }
+}
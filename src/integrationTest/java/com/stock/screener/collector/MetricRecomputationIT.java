@@ -0,0 +1,114 @@
+package com.stock.screener.collector;
+
+import com.stock.screener.collector.application.port.in.MetricRecomputationResult;
+import com.stock.screener.collector.application.port.in.RecomputeMetricsUseCase;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+import com.stock.screener.collector.domain.valueobject.AltmanZScore;
+import com.stock.screener.collector.domain.valueobject.PsRatio;
+import com.stock.screener.collector.domain.valueobject.QuickRatio;
+import com.stock.screener.collector.domain.valueobject.ReportIntegrityStatus;
+import com.stock.screener.collector.domain.valueobject.UpsidePotential;
+import com.stock.screener.common.Sector;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@TestProfile(IntegrationTestProfile.class)
+@DisplayName("Metric recomputation — rows stored before their inputs")
+class MetricRecomputationIT {
+
+    private static final String LEGACY = "LEGACY";
+    private static final String CURRENT = "CURRENT";
+
+    @Inject
+    RecomputeMetricsUseCase recomputeMetricsUseCase;
+
+    @AfterEach
+    void deleteReports() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            QuarterlyReport.delete("ticker in ?1", List.of(LEGACY, CURRENT));
+            MonthlyReport.delete("ticker in ?1", List.of(LEGACY, CURRENT));
+        });
+    }
+
+    @Test
+    @DisplayName("Recompute leaves the metrics of a row without inputs untouched")
+    void keepsMetricsOfRowsWithoutInputs() {
+        // Given: metrics as collected before V13, input columns null
+        QuarkusTransaction.requiringNew().run(() -> {
+            var quarterly = new QuarterlyReport();
+            quarterly.ticker = LEGACY;
+            quarterly.sector = Sector.TECHNOLOGY;
+            quarterly.fiscalDateEnding = LocalDate.of(2024, 12, 31);
+            quarterly.quickRatio = new QuickRatio(new BigDecimal("1.5"));
+            quarterly.altmanZScore = new AltmanZScore(new BigDecimal("3.2"));
+            quarterly.integrityStatus = ReportIntegrityStatus.READY_FOR_ANALYSIS;
+            quarterly.persist();
+
+            var monthly = new MonthlyReport();
+            monthly.ticker = LEGACY;
+            monthly.targetPrice = new BigDecimal("130");
+            monthly.psRatio = new PsRatio(new BigDecimal("4.2"));
+            monthly.upsidePotential = new UpsidePotential(new BigDecimal("30"));
+            monthly.integrityStatus = ReportIntegrityStatus.READY_FOR_ANALYSIS;
+            monthly.persist();
+        });
+
+        // When
+        MetricRecomputationResult result = recomputeMetricsUseCase.recomputeMetrics();
+
+        // Then
+        assertThat(result.skippedReports()).isGreaterThanOrEqualTo(2);
+        QuarkusTransaction.requiringNew().run(() -> {
+            QuarterlyReport quarterly = QuarterlyReport.find("ticker", LEGACY).firstResult();
+            assertThat(quarterly.quickRatio.value()).isEqualByComparingTo("1.5");
+            assertThat(quarterly.altmanZScore.value()).isEqualByComparingTo("3.2");
+            assertThat(quarterly.integrityStatus).isEqualTo(ReportIntegrityStatus.READY_FOR_ANALYSIS);
+            assertThat(quarterly.calculationErrors).isEmpty();
+
+            MonthlyReport monthly = MonthlyReport.find("ticker", LEGACY).firstResult();
+            assertThat(monthly.psRatio.value()).isEqualByComparingTo("4.2");
+            assertThat(monthly.upsidePotential.value()).isEqualByComparingTo("30");
+            assertThat(monthly.integrityStatus).isEqualTo(ReportIntegrityStatus.READY_FOR_ANALYSIS);
+        });
+    }
+
+    @Test
+    @DisplayName("Recompute re-derives the metrics of a row with stored inputs")
+    void recomputesRowsWithInputs() {
+        // Given: inputs stored, quick ratio stale
+        QuarkusTransaction.requiringNew().run(() -> {
+            var quarterly = new QuarterlyReport();
+            quarterly.ticker = CURRENT;
+            quarterly.sector = Sector.TECHNOLOGY;
+            quarterly.fiscalDateEnding = LocalDate.of(2024, 12, 31);
+            quarterly.totalCurrentAssets = new BigDecimal("500000");
+            quarterly.totalCurrentLiabilities = new BigDecimal("200000");
+            quarterly.inventory = new BigDecimal("100000");
+            quarterly.quickRatio = new QuickRatio(new BigDecimal("9.9"));
+            quarterly.integrityStatus = ReportIntegrityStatus.MISSING_DATA;
+            quarterly.persist();
+        });
+
+        // When
+        recomputeMetricsUseCase.recomputeMetrics();
+
+        // Then
+        QuarkusTransaction.requiringNew().run(() -> {
+            QuarterlyReport quarterly = QuarterlyReport.find("ticker", CURRENT).firstResult();
+            assertThat(quarterly.quickRatio.value()).isEqualByComparingTo("2.0");
+        });
+    }
+}
@@ -94,6 +94,52 @@ class QuarterlyReportHistoryIT {
         }
     }
 
+    @Nested
+    @DisplayName("History backfill")
+    class HistoryBackfill {
+
+        private static final List<String> SIX_QUARTERS = List.of(
+                "2026-03-31", "2025-12-31", "2025-09-30", "2025-06-30", "2025-03-31", "2024-12-31");
+
+        @Test
+        @DisplayName("One set of statement calls stores every quarter as its own row")
+        void shouldStoreEveryQuarterFromOneResponse() {
+            // Given: each statement response carries six quarters
+            stubAlphaVantageHistory(SIX_QUARTERS);
+
+            // When
+            int stored = useCase.collectQuarterlyHistory(TICKER);
+
+            // Then
+            assertThat(stored).isEqualTo(6);
+            assertThat(QuarterlyReport.count("ticker", TICKER)).isEqualTo(6);
+
+            assertThat(findByTickerAndFiscalDate(TICKER, FISCAL_Q1_2026).revenueTTM)
+                    .as("Latest quarter sums itself and the three before it")
+                    .isEqualByComparingTo(new BigDecimal("320000000"));
+            assertThat(findByTickerAndFiscalDate(TICKER, LocalDate.of(2024, 12, 31)).revenueTTM)
+                    .as("Oldest quarter lacks a full trailing window")
+                    .isNull();
+        }
+
+        @Test
+        @DisplayName("Backfilling twice upserts instead of duplicating rows")
+        void shouldUpsertOnRepeatedBackfill() {
+            // Given: one quarter already collected by the regular run
+            stubAlphaVantageFor("2025-12-31");
+            useCase.collectQuarterlyData(TICKER);
+
+            stubAlphaVantageHistory(SIX_QUARTERS);
+
+            // When
+            useCase.collectQuarterlyHistory(TICKER);
+            useCase.collectQuarterlyHistory(TICKER);
+
+            // Then
+            assertThat(QuarterlyReport.count("ticker", TICKER)).isEqualTo(6);
+        }
+    }
+
     // --- Helpers ---
 
     private QuarterlyReport findByTickerAndFiscalDate(String ticker, LocalDate fiscalDate) {
@@ -108,6 +154,30 @@ class QuarterlyReportHistoryIT {
         when(alphaVantageClient.fetchCashFlow(eq(TICKER))).thenReturn(buildCashFlow(fiscalDate));
     }
 
+    private void stubAlphaVantageHistory(List<String> fiscalDates) {
+        when(alphaVantageClient.fetchBalanceSheet(eq(TICKER))).thenReturn(RawBalanceSheet.builder()
+                .symbol(TICKER)
+                .annualReports(List.of())
+                .quarterlyReports(fiscalDates.stream()
+                        .map(date -> buildBalanceSheet(date).quarterlyReports().getFirst())
+                        .toList())
+                .build());
+        when(alphaVantageClient.fetchIncomeStatement(eq(TICKER))).thenReturn(RawIncomeStatement.builder()
+                .symbol(TICKER)
+                .annualReports(List.of())
+                .quarterlyReports(fiscalDates.stream()
+                        .map(date -> buildIncomeStatement(date).quarterlyReports().getFirst())
+                        .toList())
+                .build());
+        when(alphaVantageClient.fetchCashFlow(eq(TICKER))).thenReturn(RawCashFlow.builder()
+                .symbol(TICKER)
+                .annualReports(List.of())
+                .quarterlyReports(fiscalDates.stream()
+                        .map(date -> buildCashFlow(date).quarterlyReports().getFirst())
+                        .toList())
+                .build());
+    }
+
     private RawBalanceSheet buildBalanceSheet(String fiscalDate) {
         var report = RawBalanceSheet.Report.builder()
                 .fiscalDateEnding(fiscalDate)
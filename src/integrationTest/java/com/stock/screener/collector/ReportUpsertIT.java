@@ -0,0 +1,126 @@
+package com.stock.screener.collector;
+
+import com.stock.screener.collector.application.port.out.ReportUpsertPort;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+import com.stock.screener.collector.domain.valueobject.PsRatio;
+import com.stock.screener.collector.domain.valueobject.QuickRatio;
+import com.stock.screener.collector.domain.valueobject.ReportIntegrityStatus;
+import com.stock.screener.collector.domain.valueobject.UpsidePotential;
+import com.stock.screener.common.Sector;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@TestProfile(IntegrationTestProfile.class)
+@DisplayName("Report upsert — replacing stored reports")
+class ReportUpsertIT {
+
+    private static final String TICKER = "UPSERT";
+
+    @Inject
+    ReportUpsertPort reportUpsertPort;
+
+    @AfterEach
+    void deleteReports() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            QuarterlyReport.delete("ticker", TICKER);
+            MonthlyReport.delete("ticker", TICKER);
+        });
+    }
+
+    @Test
+    @DisplayName("A monthly report of the same day replaces the stored inputs and metrics as given")
+    void replacesMonthlyMetrics() {
+        // Given
+        var collected = new MonthlyReport();
+        collected.ticker = TICKER;
+        collected.currentPrice = new BigDecimal("100");
+        collected.psRatio = new PsRatio(new BigDecimal("4.2"));
+        collected.upsidePotential = new UpsidePotential(new BigDecimal("30"));
+        reportUpsertPort.upsertMonthly(List.of(collected));
+
+        // When: the collector could not compute the metrics from the merged inputs
+        var recollected = new MonthlyReport();
+        recollected.ticker = TICKER;
+        recollected.sector = Sector.TECHNOLOGY;
+        recollected.currentPrice = new BigDecimal("110");
+        reportUpsertPort.upsertMonthly(List.of(recollected));
+
+        // Then
+        QuarkusTransaction.requiringNew().run(() -> {
+            MonthlyReport stored = MonthlyReport.findLatest(TICKER).orElseThrow();
+            assertThat(stored.currentPrice).isEqualByComparingTo("110");
+            assertThat(stored.sector).isEqualTo(Sector.TECHNOLOGY);
+            assertThat(stored.psRatio).isNull();
+            assertThat(stored.upsidePotential).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("A monthly report of a later day is stored next to the earlier ones")
+    void keepsMonthlyHistory() {
+        // Given
+        var collected = new MonthlyReport();
+        collected.ticker = TICKER;
+        collected.currentPrice = new BigDecimal("100");
+        reportUpsertPort.upsertMonthly(List.of(collected));
+        QuarkusTransaction.requiringNew().run(() -> MonthlyReport.update("forecastDate = ?1 where ticker = ?2",
+                LocalDate.of(2020, 1, 1), TICKER));
+
+        // When
+        var recollected = new MonthlyReport();
+        recollected.ticker = TICKER;
+        recollected.currentPrice = new BigDecimal("110");
+        reportUpsertPort.upsertMonthly(List.of(recollected));
+
+        // Then
+        QuarkusTransaction.requiringNew().run(() -> {
+            assertThat(MonthlyReport.count("ticker", TICKER)).isEqualTo(2);
+            MonthlyReport earlier = MonthlyReport.find("ticker = ?1 and forecastDate = ?2", TICKER,
+                    LocalDate.of(2020, 1, 1)).firstResult();
+            assertThat(earlier.currentPrice).isEqualByComparingTo("100");
+            MonthlyReport latest = MonthlyReport.findLatest(TICKER).orElseThrow();
+            assertThat(latest.currentPrice).isEqualByComparingTo("110");
+            assertThat(latest.forecastDate).isAfter(LocalDate.of(2020, 1, 1));
+        });
+    }
+
+    @Test
+    @DisplayName("A quarterly report replaces the stored metrics as given")
+    void replacesQuarterlyMetrics() {
+        // Given
+        var collected = aQuarter();
+        collected.quickRatio = new QuickRatio(new BigDecimal("1.5"));
+        reportUpsertPort.upsertQuarterly(List.of(collected));
+
+        // When
+        reportUpsertPort.upsertQuarterly(List.of(aQuarter()));
+
+        // Then
+        QuarkusTransaction.requiringNew().run(() -> {
+            QuarterlyReport stored = QuarterlyReport.find("ticker", TICKER).firstResult();
+            assertThat(stored.quickRatio).isNull();
+        });
+    }
+
+    private static QuarterlyReport aQuarter() {
+        var report = new QuarterlyReport();
+        report.ticker = TICKER;
+        report.sector = Sector.TECHNOLOGY;
+        report.fiscalDateEnding = LocalDate.of(2024, 12, 31);
+        report.integrityStatus = ReportIntegrityStatus.MISSING_DATA;
+        return report;
+    }
+}
@@ -0,0 +1,89 @@
+package com.stock.screener.collector;
+
+import com.stock.screener.collector.application.port.out.log.ResponseLogStoragePort;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@TestProfile(IntegrationTestProfile.class)
+@DisplayName("Response log — partition maintenance")
+class ResponseLogPartitionIT {
+
+    private static final YearMonth OLD_MONTH = YearMonth.of(2020, 1);
+    private static final String OLD_PARTITION = "alpha_vantage_response_log_p2020_01";
+
+    @Inject
+    ResponseLogStoragePort storagePort;
+
+    @Inject
+    EntityManager entityManager;
+
+    @AfterEach
+    void cleanUp() {
+        QuarkusTransaction.requiringNew().run(() -> entityManager
+                .createNativeQuery("DROP TABLE IF EXISTS " + OLD_PARTITION)
+                .executeUpdate());
+    }
+
+    @Test
+    @DisplayName("Payloads of old partitions are moved to compressed storage and the partition is rewritten")
+    void compressesOldPartitions() {
+        // Given: one log row in a month that is long past the compression cutoff
+        storagePort.createMonthlyPartitions(OLD_MONTH, OLD_MONTH);
+        QuarkusTransaction.requiringNew().run(() -> entityManager.createNativeQuery("""
+                        INSERT INTO alpha_vantage_response_log (id, ticker, function_name, request_timestamp, raw_response)
+                        VALUES (nextval('alpha_vantage_response_log_seq'), 'OLDLOG', 'OVERVIEW',
+                                TIMESTAMP '2020-01-15 10:00:00', '{"Symbol": "OLDLOG"}'::jsonb)
+                        """)
+                .executeUpdate());
+        long fileBefore = partitionFile();
+
+        // When
+        long compressed = storagePort.compressPartitionsBefore(OLD_MONTH.plusMonths(1));
+
+        // Then
+        assertThat(compressed).isEqualTo(1);
+        Object[] row = QuarkusTransaction.requiringNew().call(() -> (Object[]) entityManager.createNativeQuery(
+                        "SELECT raw_response::text, raw_response_gz FROM " + OLD_PARTITION + " WHERE ticker = 'OLDLOG'")
+                .getSingleResult());
+        assertThat(row[0]).isNull();
+        assertThat(row[1]).isNotNull();
+        assertThat(partitionFile()).isNotEqualTo(fileBefore);
+    }
+
+    /**
+     * {@code VACUUM FULL} writes the partition to a new file.
+     */
+    private long partitionFile() {
+        return QuarkusTransaction.requiringNew().call(() -> ((Number) entityManager.createNativeQuery(
+                        "SELECT relfilenode FROM pg_class WHERE relname = '" + OLD_PARTITION + "'")
+                .getSingleResult()).longValue());
+    }
+
+    @Test
+    @DisplayName("Partitions past retention are dropped")
+    void dropsExpiredPartitions() {
+        // Given
+        storagePort.createMonthlyPartitions(OLD_MONTH, OLD_MONTH);
+
+        // When
+        var expired = storagePort.expirePartitionsBefore(OLD_MONTH.plusMonths(1), false);
+
+        // Then
+        assertThat(expired).contains(OLD_PARTITION);
+        Number remaining = QuarkusTransaction.requiringNew().call(() -> (Number) entityManager.createNativeQuery(
+                        "SELECT count(*) FROM pg_class WHERE relname = '" + OLD_PARTITION + "'")
+                .getSingleResult());
+        assertThat(remaining.intValue()).isZero();
+    }
+}
@@ -0,0 +1,143 @@
+package com.stock.screener.collector;
+
+import com.stock.screener.collector.application.port.in.ReplayProgress;
+import com.stock.screener.collector.application.port.in.ReplayResponseLogsUseCase;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+import com.stock.screener.common.Sector;
+import com.stock.screener.wiremock.AlphaVantageWireMock;
+import com.stock.screener.wiremock.WireMockServerConfig;
+import com.stock.screener.wiremock.YhFinanceWireMock;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@TestProfile(IntegrationTestProfile.class)
+@ExtendWith(WireMockServerConfig.class)
+@DisplayName("Response log — offline replay")
+class ResponseLogReplayIT {
+
+    private static final String TICKER = "REPLAY";
+
+    @Inject
+    ReplayResponseLogsUseCase replayUseCase;
+
+    @Inject
+    EntityManager entityManager;
+
+    @BeforeAll
+    static void stubExternalApis() {
+        AlphaVantageWireMock.stubAll(TICKER);
+        YhFinanceWireMock.stubQuoteSummary(TICKER);
+    }
+
+    @Test
+    @DisplayName("Reports deleted after collection are rebuilt from the logs without any API call")
+    void rebuildsReportsFromLogs() throws InterruptedException {
+        // Given: one collection of each kind logged every payload, then the reports are lost
+        given().post("/api/collector/monthly/{ticker}", TICKER).then().statusCode(200);
+        given().post("/api/collector/quarterly/{ticker}/history", TICKER).then().statusCode(200);
+        QuarkusTransaction.requiringNew().run(() -> {
+            MonthlyReport.delete("ticker", TICKER);
+            QuarterlyReport.delete("ticker", TICKER);
+        });
+        long loggedCalls = countLoggedCalls();
+        int apiRequests = WireMockServerConfig.getServer().getAllServeEvents().size();
+
+        // When
+        given().post("/api/collector/replay").then().statusCode(202);
+        ReplayProgress progress = awaitReplay();
+
+        // Then
+        assertThat(progress.status()).isEqualTo(ReplayProgress.Status.COMPLETED);
+        assertThat(progress.failedTickers()).isZero();
+        assertThat(WireMockServerConfig.getServer().getAllServeEvents()).hasSize(apiRequests);
+        assertThat(countLoggedCalls()).isEqualTo(loggedCalls);
+
+        MonthlyReport monthly = QuarkusTransaction.requiringNew().call(() ->
+                MonthlyReport.<MonthlyReport>find("ticker", TICKER).firstResult());
+        assertThat(monthly).isNotNull();
+        assertThat(monthly.sector).isEqualTo(Sector.COMMUNICATION_SERVICES);
+        assertThat(monthly.forwardPeRatio).isNotNull();
+        assertThat(QuarkusTransaction.requiringNew().call(() -> QuarterlyReport.count("ticker", TICKER)))
+                .isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("Replayed reports keep the timestamps of their collection")
+    void keepsCollectionTimestamps() throws InterruptedException {
+        // Given
+        given().post("/api/collector/monthly/{ticker}", TICKER).then().statusCode(200);
+        given().post("/api/collector/quarterly/{ticker}/history", TICKER).then().statusCode(200);
+        MonthlyReport collected = QuarkusTransaction.requiringNew().call(() ->
+                MonthlyReport.findLatest(TICKER).orElseThrow());
+        LocalDateTime quartersUpdatedAt = latestQuarterUpdate();
+
+        // When
+        given().post("/api/collector/replay").then().statusCode(202);
+        assertThat(awaitReplay().status()).isEqualTo(ReplayProgress.Status.COMPLETED);
+
+        // Then
+        MonthlyReport replayed = QuarkusTransaction.requiringNew().call(() ->
+                MonthlyReport.findLatest(TICKER).orElseThrow());
+        assertThat(replayed.forecastDate).isEqualTo(collected.forecastDate);
+        assertThat(replayed.updatedAt).isEqualTo(collected.updatedAt);
+        assertThat(latestQuarterUpdate()).isEqualTo(quartersUpdatedAt);
+    }
+
+    @Test
+    @DisplayName("GET returns the progress of the last replay")
+    void exposesProgress() throws InterruptedException {
+        // Given
+        given().post("/api/collector/replay").then().statusCode(202);
+        awaitReplay();
+
+        // When
+        String status = given().get("/api/collector/replay")
+                .then()
+                .statusCode(200)
+                .extract().path("status");
+
+        // Then
+        assertThat(status).isEqualTo("COMPLETED");
+    }
+
+    private ReplayProgress awaitReplay() throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(30));
+        ReplayProgress progress = replayUseCase.replayProgress().orElseThrow();
+        while (progress.status() == ReplayProgress.Status.RUNNING && Instant.now().isBefore(deadline)) {
+            Thread.sleep(100);
+            progress = replayUseCase.replayProgress().orElseThrow();
+        }
+        return progress;
+    }
+
+    private LocalDateTime latestQuarterUpdate() {
+        return QuarkusTransaction.requiringNew().call(() -> entityManager
+                .createQuery("select max(q.updatedAt) from QuarterlyReport q where q.ticker = :ticker",
+                        LocalDateTime.class)
+                .setParameter("ticker", TICKER)
+                .getSingleResult());
+    }
+
+    private long countLoggedCalls() {
+        return QuarkusTransaction.requiringNew().call(() -> ((Number) entityManager.createNativeQuery("""
+                        SELECT (SELECT count(*) FROM alpha_vantage_response_log)
+                             + (SELECT count(*) FROM yh_finance_response_log)
+                        """).getSingleResult()).longValue());
+    }
+}
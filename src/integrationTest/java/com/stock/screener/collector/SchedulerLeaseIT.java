@@ -0,0 +1,84 @@
+package com.stock.screener.collector;
+
+import com.stock.screener.collector.application.port.out.job.SchedulerLeasePort;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@TestProfile(IntegrationTestProfile.class)
+@DisplayName("Scheduler leases — one execution per fire across instances")
+class SchedulerLeaseIT {
+
+    @Inject
+    SchedulerLeasePort schedulerLeasePort;
+
+    @Test
+    @DisplayName("Of several instances claiming the same fire, exactly one wins")
+    void oneInstancePerFire() throws Exception {
+        // Given
+        Instant fireTime = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant nextFire = fireTime.plus(Duration.ofDays(30));
+
+        // When
+        List<Future<Boolean>> claims;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            claims = IntStream.range(0, 5)
+                    .mapToObj(i -> executor.submit(() ->
+                            schedulerLeasePort.tryClaim("it-concurrent", fireTime, nextFire, "node-" + i)))
+                    .toList();
+        }
+
+        // Then
+        int winners = 0;
+        for (Future<Boolean> claim : claims) {
+            winners += claim.get() ? 1 : 0;
+        }
+        assertThat(winners).isEqualTo(1);
+        assertThat(schedulerLeasePort.tryClaim("it-concurrent", fireTime.plus(Duration.ofDays(30)), null, "node-0"))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("A fire missed while all instances were down is caught up on once")
+    void catchesUpMissedFireOnce() {
+        // Given: the last execution expected its successor an hour ago
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant missed = now.minus(Duration.ofHours(1));
+        schedulerLeasePort.tryClaim("it-misfire", now.minus(Duration.ofDays(1)), missed, "node-a");
+
+        // When
+        var first = schedulerLeasePort.claimMissedFire("it-misfire", now, "node-b");
+        var second = schedulerLeasePort.claimMissedFire("it-misfire", now, "node-c");
+
+        // Then
+        assertThat(first).contains(missed);
+        assertThat(second).isEmpty();
+        assertThat(schedulerLeasePort.tryClaim("it-misfire", missed, null, "node-a")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Nothing is caught up on while the next fire is still ahead")
+    void noMisfireBeforeNextFire() {
+        // Given
+        Instant now = Instant.now();
+        schedulerLeasePort.tryClaim("it-on-time", now.minus(Duration.ofMinutes(1)), now.plus(Duration.ofDays(1)),
+                "node-a");
+
+        // When / Then
+        assertThat(schedulerLeasePort.claimMissedFire("it-on-time", now, "node-b")).isEmpty();
+    }
+}
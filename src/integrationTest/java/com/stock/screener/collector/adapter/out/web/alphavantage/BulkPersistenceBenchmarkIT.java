@@ -0,0 +1,115 @@
+package com.stock.screener.collector.adapter.out.web.alphavantage;
+
+import com.stock.screener.collector.IntegrationTestProfile;
+import com.stock.screener.collector.adapter.out.persistence.BulkEntityWriter;
+import com.stock.screener.collector.adapter.out.web.ResponseLogBuffer;
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.out.job.CollectionRunPort;
+import com.stock.screener.collector.application.port.out.log.ResponseLogPort.Fetched;
+import io.quarkus.test.TestTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts JDBC statements on the two production paths that insert through {@link BulkEntityWriter}: the response
+ * logs a collection's write stage flushes, and the items of a new collection run.
+ * <p>
+ * A ticker stands for one quarterly collection — three Alpha Vantage responses. The write stage flushes every
+ * ticker's responses on its own, so a group commit of several tickers still sends one batch per ticker; the
+ * baseline is persisting each response in its own INSERT, as the gateways did before.
+ * </p>
+ */
+@QuarkusTest
+@TestProfile(IntegrationTestProfile.class)
+@TestTransaction
+@DisplayName("Bulk persistence — statements per ticker")
+class BulkPersistenceBenchmarkIT {
+
+    private static final Logger LOG = Logger.getLogger(BulkPersistenceBenchmarkIT.class);
+
+    private static final int TICKERS = 20;
+    private static final List<String> QUARTERLY_FUNCTIONS = List.of("INCOME_STATEMENT", "BALANCE_SHEET", "CASH_FLOW");
+    private static final int RUN_TICKERS = 400;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    Session session;
+
+    @Inject
+    ResponseLogBuffer responseLogBuffer;
+
+    @Inject
+    CollectionRunPort collectionRunPort;
+
+    @Test
+    @DisplayName("A write stage flushing captured responses needs fewer statements than one persist() per response")
+    void batchesCapturedResponses() {
+        // Given
+        List<AlphaVantageResponseLog> unbatched = IntStream.range(0, TICKERS)
+                .boxed()
+                .flatMap(ticker -> QUARTERLY_FUNCTIONS.stream()
+                        .map(function -> new AlphaVantageResponseLog("ROW" + ticker, function, "{}")))
+                .toList();
+        List<Fetched<String>> collections = IntStream.range(0, TICKERS)
+                .mapToObj(ticker -> responseLogBuffer.capture(() -> {
+                    QUARTERLY_FUNCTIONS.forEach(function -> responseLogBuffer.record(
+                            () -> new AlphaVantageResponseLog("BAT" + ticker, function, "{}")));
+                    return "BAT" + ticker;
+                }))
+                .toList();
+
+        // When: before — stateful session, one INSERT per response
+        long before = countStatements(() -> {
+            session.setJdbcBatchSize(1);
+            unbatched.forEach(log -> log.persist());
+            session.flush();
+            session.setJdbcBatchSize(null);
+        });
+
+        // When: after — one write-stage transaction flushing each collection's capture
+        long after = countStatements(() -> collections.forEach(fetched -> fetched.responses().flush()));
+
+        // Then
+        LOG.infof("Statements per ticker (%d responses each): before=%.1f, after=%.1f",
+                QUARTERLY_FUNCTIONS.size(), (double) before / TICKERS, (double) after / TICKERS);
+        assertThat(AlphaVantageResponseLog.count("ticker like 'BAT%'"))
+                .isEqualTo(TICKERS * QUARTERLY_FUNCTIONS.size());
+        assertThat(after).isLessThan(before / 2);
+    }
+
+    @Test
+    @DisplayName("Creating a run inserts its items in batches")
+    void batchesRunItems() {
+        // Given
+        List<String> tickers = IntStream.range(0, RUN_TICKERS).mapToObj(i -> "RUN" + i).toList();
+
+        // When
+        long statements = countStatements(() ->
+                collectionRunPort.joinOrCreateRun(CollectionJobType.QUARTERLY_HISTORY, tickers, "benchmark"));
+
+        // Then
+        LOG.infof("Statements to create a run of %d tickers: %d", RUN_TICKERS, statements);
+        assertThat(statements).isLessThan(RUN_TICKERS / 10);
+    }
+
+    private long countStatements(Runnable work) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        work.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
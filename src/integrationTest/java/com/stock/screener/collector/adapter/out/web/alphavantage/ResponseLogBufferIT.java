@@ -0,0 +1,129 @@
+package com.stock.screener.collector.adapter.out.web.alphavantage;
+
+import com.stock.screener.collector.IntegrationTestProfile;
+import com.stock.screener.collector.adapter.out.web.ResponseLogBuffer;
+import com.stock.screener.collector.application.port.out.log.ResponseLogPort.Fetched;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+@TestProfile(IntegrationTestProfile.class)
+@DisplayName("Response log buffer — one capture per collection")
+class ResponseLogBufferIT {
+
+    private static final String TICKER = "OVERLAP";
+
+    @Inject
+    ResponseLogBuffer responseLogBuffer;
+
+    @AfterEach
+    void deleteLogs() {
+        QuarkusTransaction.requiringNew().run(() -> AlphaVantageResponseLog.delete("ticker", TICKER));
+    }
+
+    @Test
+    @DisplayName("Overlapping collections of one ticker persist only their own responses")
+    void isolatesOverlappingCollections() throws Exception {
+        // Given: both fetch stages are in flight at the same time
+        var bothFetching = new CyclicBarrier(2);
+        Future<Fetched<String>> first;
+        Future<Fetched<String>> second;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            first = executor.submit(() -> responseLogBuffer.capture(() -> fetch(bothFetching, "FIRST")));
+            second = executor.submit(() -> responseLogBuffer.capture(() -> fetch(bothFetching, "SECOND")));
+        }
+        Fetched<String> firstFetch = first.get();
+        Fetched<String> secondFetch = second.get();
+
+        // When: the first collection writes, the second one fails before its write stage
+        QuarkusTransaction.requiringNew().run(() -> firstFetch.responses().flush());
+
+        // Then
+        assertThat(countLogs("FIRST")).isEqualTo(2);
+        assertThat(countLogs("SECOND")).isZero();
+
+        // When: the second one writes after all
+        QuarkusTransaction.requiringNew().run(() -> secondFetch.responses().flush());
+
+        // Then
+        assertThat(countLogs("FIRST")).isEqualTo(2);
+        assertThat(countLogs("SECOND")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A rolled back flush is persisted by the retry, a committed one is not repeated")
+    void restoresResponsesOnRollback() {
+        // Given
+        Fetched<String> fetched = responseLogBuffer.capture(() -> {
+            responseLogBuffer.record(() -> new AlphaVantageResponseLog(TICKER, "RETRY", "{}"));
+            return TICKER;
+        });
+
+        // When
+        assertThatThrownBy(() -> QuarkusTransaction.requiringNew().run(() -> {
+            fetched.responses().flush();
+            throw new IllegalStateException("Report write failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(countLogs("RETRY")).isZero();
+
+        // When
+        QuarkusTransaction.requiringNew().run(() -> fetched.responses().flush());
+        QuarkusTransaction.requiringNew().run(() -> fetched.responses().flush());
+
+        // Then
+        assertThat(countLogs("RETRY")).isEqualTo(1);
+    }
+
+    /**
+     * Records one response on the fetching thread and one in a forked subtask, like the collectors do.
+     */
+    private String fetch(CyclicBarrier bothFetching, String functionName) {
+        await(bothFetching);
+        Runnable receiveResponse = () -> responseLogBuffer.record(
+                () -> new AlphaVantageResponseLog(TICKER, functionName, "{}"));
+        receiveResponse.run();
+        try (var scope = StructuredTaskScope.open()) {
+            scope.fork(receiveResponse);
+            scope.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return functionName;
+    }
+
+    private long countLogs(String functionName) {
+        return QuarkusTransaction.requiringNew().call(() -> AlphaVantageResponseLog.count(
+                "ticker = ?1 and functionName = ?2", TICKER, functionName));
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
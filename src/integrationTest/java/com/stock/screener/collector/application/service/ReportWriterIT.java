@@ -0,0 +1,95 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.IntegrationTestProfile;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+@TestProfile(IntegrationTestProfile.class)
+@DisplayName("Report writer — group commit of the write stage")
+class ReportWriterIT {
+
+    private static final String PREFIX = "RW";
+
+    @Inject
+    ReportWriter reportWriter;
+
+    @AfterEach
+    void deleteReports() {
+        QuarkusTransaction.requiringNew().run(() -> MonthlyReport.delete("ticker like ?1", PREFIX + "%"));
+    }
+
+    @Test
+    @DisplayName("Concurrent batched writes are all committed before their callers return")
+    void commitsConcurrentWrites() throws Exception {
+        // When
+        List<Future<?>> writes;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            writes = IntStream.range(0, 40)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> reportWriter.writeBatched(() -> persist(i))))
+                    .toList();
+        }
+
+        // Then
+        for (Future<?> write : writes) {
+            write.get();
+        }
+        assertThat(countReports()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("A failing write fails only its own caller, the rest of its batch is committed")
+    void isolatesFailingWrite() throws Exception {
+        // When
+        List<Future<?>> writes;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            writes = IntStream.range(0, 20)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> reportWriter.writeBatched(() -> {
+                        persist(i);
+                        if (i == 7) {
+                            throw new IllegalStateException("Unwritable report " + i);
+                        }
+                    })))
+                    .toList();
+        }
+
+        // Then
+        for (int i = 0; i < writes.size(); i++) {
+            if (i == 7) {
+                assertThatThrownBy(writes.get(i)::get).isInstanceOf(ExecutionException.class)
+                        .hasRootCauseMessage("Unwritable report 7");
+            } else {
+                writes.get(i).get();
+            }
+        }
+        assertThat(countReports()).isEqualTo(19);
+        assertThat(QuarkusTransaction.requiringNew().call(() -> MonthlyReport.count("ticker", PREFIX + 7)))
+                .isZero();
+    }
+
+    private static void persist(int i) {
+        var report = new MonthlyReport();
+        report.ticker = PREFIX + i;
+        report.persist();
+    }
+
+    private static long countReports() {
+        return QuarkusTransaction.requiringNew().call(() -> MonthlyReport.count("ticker like ?1", PREFIX + "%"));
+    }
+}
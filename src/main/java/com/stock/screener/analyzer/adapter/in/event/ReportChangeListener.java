@@ -0,0 +1,26 @@
+package com.stock.screener.analyzer.adapter.in.event;
+
+import com.stock.screener.analyzer.application.port.in.InvalidateAnalysisCacheUseCase;
+import com.stock.screener.analyzer.application.port.in.RescoreTickersUseCase;
+import com.stock.screener.collector.domain.event.ReportsChanged;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Invalidates cached analyses and rescores tickers once the transaction that changed their reports has committed,
+ * so the next read sees the new rows and a rolled back write triggers nothing.
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+class ReportChangeListener {
+
+    private final InvalidateAnalysisCacheUseCase invalidateAnalysisCacheUseCase;
+    private final RescoreTickersUseCase rescoreTickersUseCase;
+
+    void onReportsChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) ReportsChanged event) {
+        invalidateAnalysisCacheUseCase.invalidate(event.tickers());
+        rescoreTickersUseCase.requestRescore(event.tickers());
+    }
+}
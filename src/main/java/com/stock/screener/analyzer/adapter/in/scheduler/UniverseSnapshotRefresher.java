@@ -0,0 +1,29 @@
+package com.stock.screener.analyzer.adapter.in.scheduler;
+
+import com.stock.screener.analyzer.application.port.in.RefreshUniverseSnapshotUseCase;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Rebuilds the screening snapshot on startup and periodically. Reports written by this instance are rescored as
+ * they change; the periodic rebuild picks up writes made by other instances.
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+class UniverseSnapshotRefresher {
+
+    private final RefreshUniverseSnapshotUseCase refreshUniverseSnapshotUseCase;
+
+    void onStart(@Observes StartupEvent event) {
+        refreshUniverseSnapshotUseCase.requestRefresh();
+    }
+
+    @Scheduled(every = "{analyzer.snapshot.refresh-every}", identity = "universe-snapshot-refresh",
+            delayed = "{analyzer.snapshot.refresh-every}")
+    void refresh() {
+        refreshUniverseSnapshotUseCase.requestRefresh();
+    }
+}
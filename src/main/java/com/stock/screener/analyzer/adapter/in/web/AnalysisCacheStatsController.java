@@ -0,0 +1,23 @@
+package com.stock.screener.analyzer.adapter.in.web;
+
+import com.stock.screener.analyzer.application.port.in.GetAnalysisCacheStatsUseCase;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.RequiredArgsConstructor;
+
+@Path("/api/analyzer/cache")
+@RequiredArgsConstructor
+class AnalysisCacheStatsController {
+
+    private final GetAnalysisCacheStatsUseCase getAnalysisCacheStatsUseCase;
+
+    @GET
+    @Path("/stats")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response stats() {
+        return Response.ok(getAnalysisCacheStatsUseCase.getCacheStats()).build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.stock.screener.analyzer.adapter.in.web;
+
+import com.stock.screener.analyzer.application.port.in.InvalidScreenQueryException;
+import com.stock.screener.analyzer.application.port.in.ScreenQuery;
+import com.stock.screener.analyzer.application.port.in.ScreenUniverseUseCase;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+@Path("/api/screener")
+@RequiredArgsConstructor
+class ScreenerController {
+
+    private final ScreenUniverseUseCase screenUniverseUseCase;
+
+    /**
+     * Screens the latest scored universe, e.g.
+     * {@code ?filter=sector not in (FINANCE, REAL_ESTATE) and marketCap > 3e9 and altmanZScore > 1.8}.
+     */
+    @GET
+    @Path("/query")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response query(
+            @QueryParam("filter") String filter,
+            @QueryParam("sort") @DefaultValue("score") String sort,
+            @QueryParam("order") @DefaultValue("desc") String order,
+            @QueryParam("page") @DefaultValue("0") int page,
+            @QueryParam("size") @DefaultValue("50") int size) {
+        try {
+            var query = new ScreenQuery(filter, sort, "asc".equalsIgnoreCase(order), page, size);
+            return Response.ok(screenUniverseUseCase.screen(query)).build();
+        } catch (InvalidScreenQueryException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(Map.of("error", e.getMessage()))
+                    .build();
+        }
+    }
+}
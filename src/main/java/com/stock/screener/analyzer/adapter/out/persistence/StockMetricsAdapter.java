@@ -0,0 +1,228 @@
+package com.stock.screener.analyzer.adapter.out.persistence;
+
+import com.stock.screener.analyzer.application.port.out.StockMetrics;
+import com.stock.screener.analyzer.application.port.out.StockMetricsPort;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+import com.stock.screener.collector.domain.kernel.ReportError;
+import com.stock.screener.collector.domain.valueobject.AnalystRatings;
+import com.stock.screener.common.Sector;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.TypedQuery;
+import jakarta.transaction.Transactional;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads scoring inputs with three scalar queries instead of one lookup per ticker.
+ * <p>
+ * Rows are read as projections rather than entities, so nothing ends up in the persistence context. The
+ * monthly query reads each ticker's latest collection day. The quarterly query reads the last four years ordered
+ * newest first per ticker: the first row is the latest quarter and the first row at least three years older
+ * provides the base for the revenue growth.
+ * </p>
+ * <p>
+ * The history query reads the P/S ratio and target price of the last four years of collection days, newest first
+ * per ticker. The median P/S needs at least a year of history, so that it is not just the current P/S; the target
+ * price three months ago is taken from the first day at least three months before the latest one, unless that day
+ * is more than a month further back.
+ * </p>
+ */
+@ApplicationScoped
+class StockMetricsAdapter implements StockMetricsPort {
+
+    private static final int HISTORY_YEARS = 4;
+    private static final int GROWTH_YEARS = 3;
+    // 52/53-week fiscal years end a few days off the calendar quarter
+    private static final int QUARTER_END_TOLERANCE_DAYS = 15;
+    private static final int PS_HISTORY_MIN_YEARS = 1;
+    private static final int TARGET_HISTORY_MONTHS = 3;
+    private static final int TARGET_HISTORY_TOLERANCE_DAYS = 31;
+
+    private static final String MONTHLY_QUERY = """
+            select m.ticker, m.sector, m.marketCap, m.psRatio.value, m.forwardPegRatio.value,
+                   m.upsidePotential.value, m.forwardRevenueGrowth, m.forwardEpsGrowth, m.targetPrice,
+                   m.analystRatings, m.calculationErrors
+            from MonthlyReport m
+            where m.forecastDate = (select max(l.forecastDate) from MonthlyReport l where l.ticker = m.ticker)""";
+
+    private static final String QUARTERLY_QUERY = """
+            select q.ticker, q.fiscalDateEnding, q.sector, q.revenueTTM, q.quickRatio.value, q.totalDebt,
+                   q.totalAssets, q.interestCoverageRatio.value, q.altmanZScore.value, q.operatingCashFlow,
+                   q.netIncome, q.calculationErrors
+            from QuarterlyReport q
+            where q.fiscalDateEnding >= :since""";
+
+    private static final String QUARTERLY_ORDER = " order by q.ticker, q.fiscalDateEnding desc";
+
+    private static final String HISTORY_QUERY = """
+            select m.ticker, m.forecastDate, m.psRatio.value, m.targetPrice
+            from MonthlyReport m
+            where m.forecastDate >= :since""";
+
+    private static final String HISTORY_ORDER = " order by m.ticker, m.forecastDate desc";
+
+    @Override
+    @Transactional
+    public List<StockMetrics> loadAll() {
+        List<Object[]> monthly = MonthlyReport.getEntityManager()
+                .createQuery(MONTHLY_QUERY, Object[].class)
+                .getResultList();
+        TypedQuery<Object[]> quarterly = QuarterlyReport.getEntityManager()
+                .createQuery(QUARTERLY_QUERY + QUARTERLY_ORDER, Object[].class);
+        TypedQuery<Object[]> history = MonthlyReport.getEntityManager()
+                .createQuery(HISTORY_QUERY + HISTORY_ORDER, Object[].class);
+        return assemble(monthly, quarterly, history);
+    }
+
+    @Override
+    @Transactional
+    public List<StockMetrics> load(Collection<String> tickers) {
+        if (tickers.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> monthly = MonthlyReport.getEntityManager()
+                .createQuery(MONTHLY_QUERY + " and m.ticker in :tickers", Object[].class)
+                .setParameter("tickers", tickers)
+                .getResultList();
+        TypedQuery<Object[]> quarterly = QuarterlyReport.getEntityManager()
+                .createQuery(QUARTERLY_QUERY + " and q.ticker in :tickers" + QUARTERLY_ORDER, Object[].class)
+                .setParameter("tickers", tickers);
+        TypedQuery<Object[]> history = MonthlyReport.getEntityManager()
+                .createQuery(HISTORY_QUERY + " and m.ticker in :tickers" + HISTORY_ORDER, Object[].class)
+                .setParameter("tickers", tickers);
+        return assemble(monthly, quarterly, history);
+    }
+
+    private List<StockMetrics> assemble(List<Object[]> monthlyRows, TypedQuery<Object[]> quarterlyQuery,
+            TypedQuery<Object[]> historyQuery) {
+        Map<String, Object[]> latestQuarters = new HashMap<>();
+        Map<String, BigDecimal> pastRevenues = new HashMap<>();
+        quarterlyQuery.setParameter("since", LocalDate.now().minusYears(HISTORY_YEARS))
+                .getResultStream()
+                .forEach(row -> {
+                    String ticker = (String) row[0];
+                    Object[] latest = latestQuarters.putIfAbsent(ticker, row);
+                    if (latest != null && !pastRevenues.containsKey(ticker) && isGrowthBase(latest, row)) {
+                        pastRevenues.put(ticker, (BigDecimal) row[3]);
+                    }
+                });
+
+        Map<String, History> histories = new HashMap<>();
+        historyQuery.setParameter("since", LocalDate.now().minusYears(HISTORY_YEARS))
+                .getResultStream()
+                .forEach(row -> histories.computeIfAbsent((String) row[0], ticker -> new History((LocalDate) row[1]))
+                        .add((LocalDate) row[1], (BigDecimal) row[2], (BigDecimal) row[3]));
+
+        List<StockMetrics> metrics = new ArrayList<>(monthlyRows.size());
+        for (Object[] month : monthlyRows) {
+            String ticker = (String) month[0];
+            Object[] quarter = latestQuarters.get(ticker);
+            metrics.add(toMetrics(month, quarter, pastRevenues.get(ticker), histories.get(ticker)));
+        }
+        return metrics;
+    }
+
+    private static boolean isGrowthBase(Object[] latest, Object[] candidate) {
+        LocalDate cutoff = ((LocalDate) latest[1]).minusYears(GROWTH_YEARS).plusDays(QUARTER_END_TOLERANCE_DAYS);
+        return !((LocalDate) candidate[1]).isAfter(cutoff);
+    }
+
+    private static StockMetrics toMetrics(Object[] month, Object[] quarter, BigDecimal revenueTTM3YearsAgo,
+            History history) {
+        Set<ReportError> errors = new HashSet<>();
+        addErrors(errors, month[10]);
+
+        var builder = StockMetrics.builder()
+                .ticker((String) month[0])
+                .sector((Sector) month[1])
+                .marketCap((BigDecimal) month[2])
+                .psRatio((BigDecimal) month[3])
+                .forwardPegRatio((BigDecimal) month[4])
+                .upsidePotential((BigDecimal) month[5])
+                .forwardRevenueGrowth((BigDecimal) month[6])
+                .forwardEpsGrowth((BigDecimal) month[7])
+                .targetPrice((BigDecimal) month[8])
+                .analystRatings((AnalystRatings) month[9]);
+
+        if (history != null) {
+            builder.medianPsRatio4Y(history.medianPsRatio())
+                    .targetPrice3MonthsAgo(history.targetPrice3MonthsAgo);
+        }
+
+        if (quarter != null) {
+            if (month[1] == null) {
+                builder.sector((Sector) quarter[2]);
+            }
+            builder.revenueTTM((BigDecimal) quarter[3])
+                    .quickRatio((BigDecimal) quarter[4])
+                    .totalDebt((BigDecimal) quarter[5])
+                    .totalAssets((BigDecimal) quarter[6])
+                    .interestCoverageRatio((BigDecimal) quarter[7])
+                    .altmanZScore((BigDecimal) quarter[8])
+                    .operatingCashFlow((BigDecimal) quarter[9])
+                    .netIncome((BigDecimal) quarter[10])
+                    .revenueTTM3YearsAgo(revenueTTM3YearsAgo);
+            addErrors(errors, quarter[11]);
+        }
+        return builder.metricErrors(errors).build();
+    }
+
+    /**
+     * Collection days of one ticker, fed newest first.
+     */
+    private static final class History {
+
+        private final LocalDate latest;
+        private final List<BigDecimal> psRatios = new ArrayList<>();
+        private LocalDate oldestPsRatio;
+        private BigDecimal targetPrice3MonthsAgo;
+        private boolean targetPriceLookedUp;
+
+        private History(LocalDate latest) {
+            this.latest = latest;
+        }
+
+        private void add(LocalDate day, BigDecimal psRatio, BigDecimal targetPrice) {
+            if (psRatio != null) {
+                psRatios.add(psRatio);
+                oldestPsRatio = day;
+            }
+            LocalDate targetDay = latest.minusMonths(TARGET_HISTORY_MONTHS);
+            if (!targetPriceLookedUp && targetPrice != null && !day.isAfter(targetDay)) {
+                targetPriceLookedUp = true;
+                if (!day.isBefore(targetDay.minusDays(TARGET_HISTORY_TOLERANCE_DAYS))) {
+                    targetPrice3MonthsAgo = targetPrice;
+                }
+            }
+        }
+
+        private BigDecimal medianPsRatio() {
+            if (oldestPsRatio == null || oldestPsRatio.isAfter(latest.minusYears(PS_HISTORY_MIN_YEARS))) {
+                return null;
+            }
+            List<BigDecimal> sorted = psRatios.stream().sorted().toList();
+            int middle = sorted.size() / 2;
+            return sorted.size() % 2 == 1
+                    ? sorted.get(middle)
+                    : sorted.get(middle - 1).add(sorted.get(middle))
+                            .divide(BigDecimal.valueOf(2), MathContext.DECIMAL64);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addErrors(Set<ReportError> errors, Object column) {
+        if (column != null) {
+            errors.addAll((Set<ReportError>) column);
+        }
+    }
+}
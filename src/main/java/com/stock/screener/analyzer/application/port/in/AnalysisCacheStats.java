@@ -0,0 +1,14 @@
+package com.stock.screener.analyzer.application.port.in;
+
+/**
+ * Counters of one analyzer cache since application start. A miss is a read that went to PostgreSQL; evictions
+ * count entries dropped for size or age, not the ones invalidated because their reports changed.
+ */
+public record AnalysisCacheStats(String cache, long size, long hits, long misses, long evictions,
+        double averageLoadMillis) {
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
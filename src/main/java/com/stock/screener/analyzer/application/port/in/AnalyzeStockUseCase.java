@@ -2,6 +2,15 @@ package com.stock.screener.analyzer.application.port.in;
 
 import com.stock.screener.analyzer.application.service.AnalysisReport;
 
+import java.util.List;
+
 public interface AnalyzeStockUseCase {
     AnalysisReport analyzeStock(String ticker);
+
+    /**
+     * Scores every collected ticker in one pass.
+     *
+     * @return reports sorted by score, rejected tickers last
+     */
+    List<AnalysisReport> analyzeAll();
 }
@@ -0,0 +1,7 @@
+package com.stock.screener.analyzer.application.port.in;
+
+import java.util.List;
+
+public interface GetAnalysisCacheStatsUseCase {
+    List<AnalysisCacheStats> getCacheStats();
+}
@@ -0,0 +1,11 @@
+package com.stock.screener.analyzer.application.port.in;
+
+/**
+ * The screen filter could not be parsed or names an unknown metric or sector.
+ */
+public class InvalidScreenQueryException extends RuntimeException {
+
+    public InvalidScreenQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.stock.screener.analyzer.application.port.in;
+
+import java.util.Collection;
+
+public interface InvalidateAnalysisCacheUseCase {
+
+    /**
+     * Drops every cached entry of the given tickers; the next read loads them from the committed reports.
+     */
+    void invalidate(Collection<String> tickers);
+}
@@ -0,0 +1,10 @@
+package com.stock.screener.analyzer.application.port.in;
+
+public interface RefreshUniverseSnapshotUseCase {
+
+    /**
+     * Rebuilds the screening snapshot in the background. Requests arriving while a rebuild is queued are
+     * merged into it.
+     */
+    void requestRefresh();
+}
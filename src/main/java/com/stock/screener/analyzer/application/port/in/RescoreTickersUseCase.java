@@ -0,0 +1,12 @@
+package com.stock.screener.analyzer.application.port.in;
+
+import java.util.Set;
+
+public interface RescoreTickersUseCase {
+
+    /**
+     * Rescores the given tickers in the background and swaps them into the screening snapshot. Requests arriving
+     * within the debounce window are merged into one pass.
+     */
+    void requestRescore(Set<String> tickers);
+}
@@ -0,0 +1,10 @@
+package com.stock.screener.analyzer.application.port.in;
+
+/**
+ * @param filter    screen filter, e.g. {@code sector not in (FINANCE) and marketCap > 3e9}; blank selects all
+ * @param sort      metric key to order by
+ * @param ascending false lists the highest values first
+ * @param page      zero-based
+ */
+public record ScreenQuery(String filter, String sort, boolean ascending, int page, int size) {
+}
@@ -0,0 +1,32 @@
+package com.stock.screener.analyzer.application.port.in;
+
+import com.stock.screener.common.Sector;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of a screen.
+ *
+ * @param total           tickers matching the filter across all pages
+ * @param plan            operators the filter was executed with, children indented under their parent
+ * @param snapshotBuiltAt when the screened data was loaded
+ */
+public record ScreenResult(
+        String filter,
+        int total,
+        int page,
+        int size,
+        List<Stock> stocks,
+        List<String> plan,
+        long executionMicros,
+        Instant snapshotBuiltAt
+) {
+
+    /**
+     * @param metrics values by metric key; metrics without a value are left out
+     */
+    public record Stock(String ticker, Sector sector, boolean rejected, Map<String, Double> metrics) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.stock.screener.analyzer.application.port.in;
+
+public interface ScreenUniverseUseCase {
+
+    /**
+     * @throws InvalidScreenQueryException when the filter or sort key cannot be parsed
+     */
+    ScreenResult screen(ScreenQuery query);
+}
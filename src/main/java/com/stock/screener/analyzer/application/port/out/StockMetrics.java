@@ -0,0 +1,51 @@
+package com.stock.screener.analyzer.application.port.out;
+
+import com.stock.screener.collector.domain.kernel.ReportError;
+import com.stock.screener.collector.domain.valueobject.AnalystRatings;
+import com.stock.screener.common.Sector;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * Everything the scoring engine reads for one ticker: the monthly report and the latest stored quarter.
+ * Any field may be null when it was not collected or could not be calculated.
+ *
+ * @param revenueTTM3YearsAgo revenue TTM of the quarter three years before the latest one, null on shorter history
+ * @param medianPsRatio4Y     median P/S of the stored collection days of the last four years, null on less than a
+ *                            year of history
+ * @param targetPrice3MonthsAgo analyst target price of the collection day about three months before the latest one,
+ *                            null when no such day is stored
+ */
+@Builder
+public record StockMetrics(
+        String ticker,
+        Sector sector,
+        BigDecimal marketCap,
+
+        // --- latest quarter ---
+        BigDecimal quickRatio,
+        BigDecimal totalDebt,
+        BigDecimal totalAssets,
+        BigDecimal interestCoverageRatio,
+        BigDecimal altmanZScore,
+        BigDecimal operatingCashFlow,
+        BigDecimal netIncome,
+        BigDecimal revenueTTM,
+        BigDecimal revenueTTM3YearsAgo,
+
+        // --- monthly report ---
+        BigDecimal forwardRevenueGrowth,
+        BigDecimal forwardEpsGrowth,
+        BigDecimal psRatio,
+        BigDecimal medianPsRatio4Y,
+        BigDecimal forwardPegRatio,
+        BigDecimal upsidePotential,
+        BigDecimal targetPrice,
+        BigDecimal targetPrice3MonthsAgo,
+        AnalystRatings analystRatings,
+
+        Set<ReportError> metricErrors
+) {
+}
@@ -0,0 +1,24 @@
+package com.stock.screener.analyzer.application.port.out;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface StockMetricsPort {
+
+    /**
+     * Loads the metrics of every ticker with a monthly report in a fixed number of queries.
+     */
+    List<StockMetrics> loadAll();
+
+    /**
+     * Same queries as {@link #loadAll()}, restricted to the given tickers. Tickers without a monthly report are
+     * missing from the result.
+     */
+    List<StockMetrics> load(Collection<String> tickers);
+
+    default Optional<StockMetrics> load(String ticker) {
+        return load(Set.of(ticker)).stream().findFirst();
+    }
+}
@@ -0,0 +1,81 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.stock.screener.analyzer.application.port.in.AnalysisCacheStats;
+import com.stock.screener.analyzer.application.port.in.GetAnalysisCacheStatsUseCase;
+import com.stock.screener.analyzer.application.port.in.InvalidateAnalysisCacheUseCase;
+import com.stock.screener.analyzer.application.port.out.StockMetrics;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Per-ticker caches in front of the analyzer's PostgreSQL reads: the latest reports of a ticker and the analysis
+ * scored from them.
+ * <p>
+ * Both are bounded Caffeine caches, so under pressure the W-TinyLFU policy keeps the tickers that are read often
+ * rather than the ones read last. Entries are invalidated per ticker once a write to its reports commits;
+ * {@code analyzer.cache.expire-after-write} bounds how long writes made by other instances stay unseen. An
+ * invalidation waits for a load of the same ticker that is in flight, so a load started before the commit cannot
+ * put stale reports back.
+ * </p>
+ */
+@ApplicationScoped
+class AnalysisCache implements GetAnalysisCacheStatsUseCase, InvalidateAnalysisCacheUseCase {
+
+    static final String REPORTS = "latest-reports";
+    static final String ANALYSES = "analysis-reports";
+
+    private final Cache<String, Optional<StockMetrics>> reports;
+    private final Cache<String, AnalysisReport> analyses;
+
+    @Inject
+    AnalysisCache(
+            @ConfigProperty(name = "analyzer.cache.maximum-size", defaultValue = "10000") long maximumSize,
+            @ConfigProperty(name = "analyzer.cache.expire-after-write", defaultValue = "15m")
+            Duration expireAfterWrite) {
+        this.reports = newCache(maximumSize, expireAfterWrite);
+        this.analyses = newCache(maximumSize, expireAfterWrite);
+    }
+
+    Optional<StockMetrics> latestReports(String ticker, Function<String, Optional<StockMetrics>> loader) {
+        return reports.get(ticker, loader);
+    }
+
+    AnalysisReport analysis(String ticker, Function<String, AnalysisReport> loader) {
+        return analyses.get(ticker, loader);
+    }
+
+    @Override
+    public void invalidate(Collection<String> tickers) {
+        reports.invalidateAll(tickers);
+        analyses.invalidateAll(tickers);
+    }
+
+    @Override
+    public List<AnalysisCacheStats> getCacheStats() {
+        return List.of(stats(REPORTS, reports), stats(ANALYSES, analyses));
+    }
+
+    private static <V> Cache<String, V> newCache(long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    private static AnalysisCacheStats stats(String name, Cache<String, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new AnalysisCacheStats(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.evictionCount(), stats.averageLoadPenalty() / 1_000_000);
+    }
+}
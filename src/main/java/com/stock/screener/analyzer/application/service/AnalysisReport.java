@@ -22,6 +22,9 @@ public class AnalysisReport {
     // Max possible points taking into account missing missing metrics
     private final int maxPossibleScore;
 
+    // Points per section
+    private final ScoreBreakdown breakdown;
+
     // Reason for immediate rejection (e.g. low Altman Z-score or bad quick ratio)
     private final String rejectReason;
 
@@ -0,0 +1,42 @@
+package com.stock.screener.analyzer.application.service;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Numeric columns of the {@link UniverseSnapshot}, named as in work_plan.md.
+ */
+public enum Metric {
+
+    MARKET_CAP("marketCap"),
+    QUICK_RATIO("quickRatio"),
+    DEBT_TO_ASSETS("debtToAssets"),
+    INTEREST_COVERAGE_RATIO("interestCoverageRatio"),
+    ALTMAN_Z_SCORE("altmanZScore"),
+    REVENUE_GROWTH_3Y("revenueGrowth3Y"),
+    FORWARD_REVENUE_GROWTH("forwardRevenueGrowth"),
+    FORWARD_EPS_GROWTH("forwardEpsGrowth"),
+    PS_RATIO("psRatio"),
+    FORWARD_PEG("forwardPeg"),
+    UPSIDE_POTENTIAL("upsidePotential"),
+    SCORE("score"),
+    MAX_POSSIBLE_SCORE("maxPossibleScore");
+
+    private static final Metric[] VALUES = values();
+
+    private final String key;
+
+    Metric(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Optional<Metric> fromKey(String key) {
+        return Arrays.stream(VALUES)
+                .filter(metric -> metric.key.equalsIgnoreCase(key))
+                .findFirst();
+    }
+}
@@ -0,0 +1,11 @@
+package com.stock.screener.analyzer.application.service;
+
+/**
+ * Points scored per section of the scoring engine.
+ */
+public record ScoreBreakdown(int safety, int growth, int valuation, int analyst) {
+
+    public int total() {
+        return safety + growth + valuation + analyst;
+    }
+}
@@ -0,0 +1,254 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.stock.screener.analyzer.application.port.out.StockMetrics;
+import com.stock.screener.collector.domain.service.AltmanScoreCalculator;
+import com.stock.screener.common.Sector;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static com.stock.screener.common.Sector.*;
+
+/**
+ * Scoring rules from work_plan.md: safety (max 12), growth (max 28), valuation (max 30) and analysts (max 25).
+ * <p>
+ * A criterion without data scores 0, lowers {@code maxPossibleScore} by its points and adds a {@code MISSING_*}
+ * anomaly. Reject rules (excluded sector, small cap, quick ratio, Altman Z, shrinking revenue) end the scoring
+ * with 0 points. The engine is stateless and only reads its input, so it can run on any number of threads.
+ * </p>
+ */
+class ScoringEngine {
+
+    static final int MAX_SCORE = 95;
+
+    static final String POSSIBLE_SPECULATION_BUBBLE = "POSSIBLE_SPECULATION_BUBBLE";
+    static final String CASH_FLOW_LESS_THAN_NET_INCOME = "CASH_FLOW_LESS_THAN_NET_INCOME";
+    static final String NEGATIVE_ANALYST_OUTLOOK = "NEGATIVE_ANALYST_OUTLOOK";
+    static final String SHORT_HISTORY = "SHORT_HISTORY";
+
+    private static final Set<Sector> EXCLUDED_SECTORS = Set.of(FINANCE, REAL_ESTATE, ENERGY, UTILITIES, MINING, OTHER);
+    // sectors scored with the original Z (see AltmanScoreCalculator), all others with Z''
+    private static final Set<Sector> MANUFACTURING_SECTORS = Set.of(INDUSTRIALS, MINING, CONSUMER_DISCRETIONARY);
+    private static final double MIN_MARKET_CAP = 3_000_000_000d;
+
+    AnalysisReport score(StockMetrics stock) {
+        var card = new Scorecard();
+        if (passesBaseFilter(stock, card)
+                && scoreSafety(stock, card)
+                && scoreGrowth(stock, card)) {
+            scoreValuation(stock, card);
+            scoreAnalysts(stock, card);
+        }
+        return card.toReport(stock);
+    }
+
+    private boolean passesBaseFilter(StockMetrics stock, Scorecard card) {
+        if (stock.sector() == null || EXCLUDED_SECTORS.contains(stock.sector())) {
+            return card.reject("Excluded sector: " + stock.sector());
+        }
+        if (stock.marketCap() != null && stock.marketCap().doubleValue() < MIN_MARKET_CAP) {
+            return card.reject("Market cap %s below 3 bln USD".formatted(stock.marketCap()));
+        }
+        return true;
+    }
+
+    private boolean scoreSafety(StockMetrics stock, Scorecard card) {
+        Double quickRatio = value(stock.quickRatio());
+        if (quickRatio == null) {
+            card.missing(3, "MISSING_QUICK_RATIO");
+        } else if (quickRatio < 0.8) {
+            return card.reject("Quick ratio %.2f below 0.8".formatted(quickRatio));
+        } else if (quickRatio >= 1.0 && quickRatio <= 2.5) {
+            card.safety += scale(quickRatio, 1.0, 2.5, 3, 1);
+        }
+
+        Double debtToAssets = ratio(stock.totalDebt(), stock.totalAssets());
+        if (debtToAssets == null) {
+            card.missing(3, "MISSING_DEBT_TO_ASSETS");
+        } else if (debtToAssets < 0.5) {
+            card.safety += 3;
+        }
+
+        Double interestCoverage = value(stock.interestCoverageRatio());
+        if (interestCoverage == null) {
+            card.missing(3, "MISSING_INTEREST_COVERAGE_RATIO");
+        } else if (interestCoverage >= 3.0) {
+            card.safety += scale(interestCoverage, 3.0, 10.0, 1, 3);
+        }
+
+        if (!AltmanScoreCalculator.isApplicable(stock.sector())) {
+            card.maxPossible -= 3;
+            return true;
+        }
+        Double altman = value(stock.altmanZScore());
+        boolean manufacturing = MANUFACTURING_SECTORS.contains(stock.sector());
+        double distress = manufacturing ? 1.8 : 1.1;
+        double safe = manufacturing ? 3.0 : 2.6;
+        if (altman == null) {
+            card.missing(3, "MISSING_ALTMAN_Z_SCORE");
+        } else if (altman < distress) {
+            return card.reject("Altman Z-Score %.2f below %.1f".formatted(altman, distress));
+        } else {
+            card.safety += scale(altman, distress, safe, 0, 3);
+        }
+        return true;
+    }
+
+    private boolean scoreGrowth(StockMetrics stock, Scorecard card) {
+        Double growth = revenueGrowth3Y(stock);
+        if (growth == null) {
+            card.missing(20, SHORT_HISTORY);
+        } else if (growth < 0) {
+            return card.reject("Revenue shrinking by %.1f%% a year".formatted(-growth));
+        } else if (growth <= 10) {
+            card.growth += scale(growth, 0, 10, 0, 10);
+        } else if (growth <= 50) {
+            card.growth += scale(growth, 10, 50, 10, 20);
+        } else {
+            card.growth += 20;
+            card.anomalies.add(POSSIBLE_SPECULATION_BUBBLE);
+        }
+
+        Double forwardRevenueGrowth = value(stock.forwardRevenueGrowth());
+        if (forwardRevenueGrowth == null) {
+            card.missing(5, "MISSING_FORWARD_REVENUE_GROWTH");
+        } else if (forwardRevenueGrowth > 0.10) {
+            card.growth += 5;
+        }
+
+        Double forwardEpsGrowth = value(stock.forwardEpsGrowth());
+        if (forwardEpsGrowth == null) {
+            card.missing(10, "MISSING_FORWARD_EPS_GROWTH");
+        } else if (forwardEpsGrowth > 0.10) {
+            card.growth += 10;
+        }
+
+        if (stock.operatingCashFlow() == null || stock.netIncome() == null) {
+            card.missing(3, "MISSING_CASH_FLOW");
+        } else if (stock.operatingCashFlow().compareTo(stock.netIncome()) >= 0) {
+            card.growth += 3;
+        } else {
+            card.anomalies.add(CASH_FLOW_LESS_THAN_NET_INCOME);
+        }
+        return true;
+    }
+
+    private void scoreValuation(StockMetrics stock, Scorecard card) {
+        Double psToMedian = ratio(stock.psRatio(), stock.medianPsRatio4Y());
+        if (psToMedian == null) {
+            card.missing(20, "MISSING_PS_HISTORY");
+        } else if (psToMedian < 0.9) {
+            card.valuation += 20;
+        } else if (psToMedian <= 1.1) {
+            card.valuation += 10;
+        } else if (psToMedian <= 1.3) {
+            card.valuation += 5;
+        } else if (psToMedian > 2.0) {
+            card.anomalies.add(POSSIBLE_SPECULATION_BUBBLE);
+        }
+
+        Double peg = value(stock.forwardPegRatio());
+        if (peg == null) {
+            card.missing(10, "MISSING_FORWARD_PEG");
+        } else if (peg > 0 && peg < 1.5) {
+            card.valuation += 10;
+        } else if (peg >= 1.5 && peg <= 2.0) {
+            card.valuation += 5;
+        }
+    }
+
+    private void scoreAnalysts(StockMetrics stock, Scorecard card) {
+        Double upside = value(stock.upsidePotential());
+        if (upside == null) {
+            card.missing(20, "MISSING_UPSIDE_POTENTIAL");
+        } else if (upside > 30) {
+            card.analyst += 20;
+        } else if (upside >= 15) {
+            card.analyst += scale(upside, 15, 30, 5, 15);
+        } else if (upside >= 0) {
+            card.analyst += scale(upside, 0, 15, 0, 5);
+        } else {
+            card.anomalies.add(NEGATIVE_ANALYST_OUTLOOK);
+        }
+
+        Double targetTrend = ratio(stock.targetPrice(), stock.targetPrice3MonthsAgo());
+        if (targetTrend == null) {
+            card.missing(5, "MISSING_PRICE_TARGET_HISTORY");
+        } else if (targetTrend > 1.02) {
+            card.analyst += 5;
+        } else if (targetTrend >= 0.98) {
+            card.analyst += 2;
+        } else {
+            card.anomalies.add(NEGATIVE_ANALYST_OUTLOOK);
+        }
+    }
+
+    /**
+     * @return mean yearly revenue growth in percent over the last three years, null without three years of history
+     */
+    static Double revenueGrowth3Y(StockMetrics stock) {
+        Double revenueRatio = ratio(stock.revenueTTM(), stock.revenueTTM3YearsAgo());
+        if (revenueRatio == null || stock.revenueTTM3YearsAgo().signum() <= 0 || revenueRatio < 0) {
+            return null;
+        }
+        return (Math.pow(revenueRatio, 1.0 / 3) - 1) * 100;
+    }
+
+    /**
+     * Linear interpolation between two point values, clamped to the range.
+     */
+    private static int scale(double value, double from, double to, int fromPoints, int toPoints) {
+        double position = Math.max(0, Math.min(1, (value - from) / (to - from)));
+        return (int) Math.round(fromPoints + position * (toPoints - fromPoints));
+    }
+
+    private static Double value(BigDecimal value) {
+        return value != null ? value.doubleValue() : null;
+    }
+
+    static Double ratio(BigDecimal numerator, BigDecimal denominator) {
+        if (numerator == null || denominator == null || denominator.signum() == 0) {
+            return null;
+        }
+        return numerator.doubleValue() / denominator.doubleValue();
+    }
+
+    private static final class Scorecard {
+
+        private int safety;
+        private int growth;
+        private int valuation;
+        private int analyst;
+        private int maxPossible = MAX_SCORE;
+        private String rejectReason;
+        private final Set<String> anomalies = new LinkedHashSet<>();
+
+        private void missing(int points, String anomaly) {
+            maxPossible -= points;
+            anomalies.add(anomaly);
+        }
+
+        private boolean reject(String reason) {
+            rejectReason = reason;
+            return false;
+        }
+
+        private AnalysisReport toReport(StockMetrics stock) {
+            var breakdown = rejectReason == null
+                    ? new ScoreBreakdown(safety, growth, valuation, analyst)
+                    : new ScoreBreakdown(0, 0, 0, 0);
+            return AnalysisReport.builder()
+                    .ticker(stock.ticker())
+                    .totalScore(breakdown.total())
+                    .maxPossibleScore(maxPossible)
+                    .breakdown(breakdown)
+                    .rejectReason(rejectReason)
+                    .analystRecommendation(stock.analystRatings())
+                    .anomalies(new ArrayList<>(anomalies))
+                    .metricErrors(stock.metricErrors() != null ? stock.metricErrors() : Set.of())
+                    .build();
+        }
+    }
+}
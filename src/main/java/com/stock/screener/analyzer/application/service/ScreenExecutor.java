@@ -0,0 +1,183 @@
+package com.stock.screener.analyzer.application.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates a {@link ScreenFilter} against one {@link UniverseSnapshot} and records the plan it chose.
+ * <p>
+ * Leaves are answered from indexes: a range is a binary search plus a walk over that slice of the metric's
+ * sorted index, a sector set is the union of per-sector bitmaps. Conjunctions evaluate their most selective
+ * condition first (estimated from the same indexes) and intersect the others into it — either as another index
+ * scan plus bitmap AND, or, once fewer rows survive than the next scan would touch, by checking the survivors'
+ * values directly.
+ * </p>
+ * <p>
+ * Comparisons with a missing value are unknown rather than false, as in SQL: {@code not} selects the rows its
+ * operand is false for, so a ticker without the metric matches neither a range nor its negation.
+ * </p>
+ */
+final class ScreenExecutor {
+
+    private final UniverseSnapshot snapshot;
+    private final List<String> plan = new ArrayList<>();
+
+    ScreenExecutor(UniverseSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    List<String> plan() {
+        return plan;
+    }
+
+    /**
+     * @param filter null selects every row
+     */
+    long[] execute(ScreenFilter filter) {
+        if (filter == null) {
+            long[] rows = snapshot.allRows();
+            plan.add("FULL_SCAN -> %d rows".formatted(snapshot.size()));
+            return rows;
+        }
+        return evaluate(filter, 0);
+    }
+
+    private long[] evaluate(ScreenFilter filter, int depth) {
+        return switch (filter) {
+            case ScreenFilter.Range range -> {
+                long[] rows = snapshot.noRows();
+                snapshot.scanRange(rows, range.metric(), range.min(), range.max());
+                yield step(depth, "INDEX_RANGE_SCAN " + range.text(), rows);
+            }
+            case ScreenFilter.SectorIn in -> {
+                long[] rows = snapshot.noRows();
+                snapshot.scanSectors(rows, in.sectors());
+                yield step(depth, "SECTOR_BITMAP " + in.sectors(), rows);
+            }
+            case ScreenFilter.Rejected rejected -> {
+                long[] rows = snapshot.noRows();
+                snapshot.scanRejected(rows);
+                yield step(depth, "REJECTED_BITMAP", rows);
+            }
+            case ScreenFilter.Not not -> {
+                int at = reserve(depth);
+                long[] rows = evaluateFalse(not.filter(), depth + 1);
+                yield fill(at, depth, "BITMAP_NOT", rows);
+            }
+            case ScreenFilter.Or or -> {
+                int at = reserve(depth);
+                long[] rows = snapshot.noRows();
+                for (ScreenFilter alternative : or.filters()) {
+                    UniverseSnapshot.or(rows, evaluate(alternative, depth + 1));
+                }
+                yield fill(at, depth, "BITMAP_OR", rows);
+            }
+            case ScreenFilter.And and -> evaluateAnd(and, depth);
+        };
+    }
+
+    /**
+     * Rows for which the filter is false, as opposed to unknown: a range over a metric the row has no value for is
+     * neither, so its negation does not select the row either. Negations are pushed down by De Morgan's laws.
+     */
+    private long[] evaluateFalse(ScreenFilter filter, int depth) {
+        return switch (filter) {
+            case ScreenFilter.Range range -> {
+                long[] matching = snapshot.noRows();
+                snapshot.scanRange(matching, range.metric(), range.min(), range.max());
+                long[] rows = snapshot.allRows();
+                snapshot.retainPresent(rows, range.metric());
+                UniverseSnapshot.andNot(rows, matching);
+                yield step(depth, "INDEX_RANGE_SCAN %s, complement within %s present"
+                        .formatted(range.text(), range.metric()), rows);
+            }
+            case ScreenFilter.Not not -> evaluate(not.filter(), depth);
+            case ScreenFilter.And and -> {
+                int at = reserve(depth);
+                long[] rows = snapshot.noRows();
+                for (ScreenFilter condition : and.filters()) {
+                    UniverseSnapshot.or(rows, evaluateFalse(condition, depth + 1));
+                }
+                yield fill(at, depth, "BITMAP_OR", rows);
+            }
+            case ScreenFilter.Or or -> {
+                int at = reserve(depth);
+                long[] rows = snapshot.allRows();
+                for (ScreenFilter alternative : or.filters()) {
+                    UniverseSnapshot.and(rows, evaluateFalse(alternative, depth + 1));
+                }
+                yield fill(at, depth, "BITMAP_AND", rows);
+            }
+            case ScreenFilter.SectorIn in -> complement(evaluate(in, depth));
+            case ScreenFilter.Rejected rejected -> complement(evaluate(rejected, depth));
+        };
+    }
+
+    private long[] complement(long[] rows) {
+        long[] complement = snapshot.allRows();
+        UniverseSnapshot.andNot(complement, rows);
+        return complement;
+    }
+
+    private long[] evaluateAnd(ScreenFilter.And and, int depth) {
+        List<ScreenFilter> bySelectivity = and.filters().stream()
+                .sorted(Comparator.comparingInt(this::estimate))
+                .toList();
+        int at = reserve(depth);
+        long[] rows = evaluate(bySelectivity.getFirst(), depth + 1);
+        for (ScreenFilter condition : bySelectivity.subList(1, bySelectivity.size())) {
+            int survivors = UniverseSnapshot.count(rows);
+            if (survivors == 0) {
+                plan.add(indent(depth + 1) + "SHORT_CIRCUIT -> 0 rows");
+                break;
+            }
+            if (condition instanceof ScreenFilter.Range range && survivors < estimate(range)) {
+                snapshot.retainRange(rows, range.metric(), range.min(), range.max());
+                step(depth + 1, "FILTER %s on %d rows".formatted(range.text(), survivors), rows);
+            } else {
+                UniverseSnapshot.and(rows, evaluate(condition, depth + 1));
+            }
+        }
+        return fill(at, depth, "BITMAP_AND (order: %s)".formatted(bySelectivity.stream()
+                .map(condition -> String.valueOf(estimate(condition)))
+                .collect(Collectors.joining(" < "))), rows);
+    }
+
+    /**
+     * Upper bound of the rows a filter selects, without evaluating it.
+     */
+    private int estimate(ScreenFilter filter) {
+        return switch (filter) {
+            case ScreenFilter.Range range -> snapshot.countRange(range.metric(), range.min(), range.max());
+            case ScreenFilter.SectorIn in -> snapshot.countSectors(in.sectors());
+            case ScreenFilter.Rejected rejected -> snapshot.size();
+            case ScreenFilter.Not not -> snapshot.size();
+            case ScreenFilter.Or or -> Math.min(snapshot.size(), or.filters().stream().mapToInt(this::estimate).sum());
+            case ScreenFilter.And and -> and.filters().stream().mapToInt(this::estimate).min().orElse(0);
+        };
+    }
+
+    private long[] step(int depth, String description, long[] rows) {
+        plan.add("%s%s -> %d rows".formatted(indent(depth), description, UniverseSnapshot.count(rows)));
+        return rows;
+    }
+
+    /**
+     * Keeps a slot for an operator whose row count is only known after its children ran.
+     */
+    private int reserve(int depth) {
+        plan.add(indent(depth));
+        return plan.size() - 1;
+    }
+
+    private long[] fill(int at, int depth, String description, long[] rows) {
+        plan.set(at, "%s%s -> %d rows".formatted(indent(depth), description, UniverseSnapshot.count(rows)));
+        return rows;
+    }
+
+    private static String indent(int depth) {
+        return "  ".repeat(depth);
+    }
+}
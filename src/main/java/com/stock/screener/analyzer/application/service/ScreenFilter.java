@@ -0,0 +1,33 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.stock.screener.common.Sector;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parsed screen filter, see {@link ScreenFilterParser}.
+ */
+sealed interface ScreenFilter {
+
+    /**
+     * Rows with a value in {@code [min, max]}; strict bounds are stored as the adjacent double.
+     */
+    record Range(Metric metric, double min, double max, String text) implements ScreenFilter {
+    }
+
+    record SectorIn(Set<Sector> sectors) implements ScreenFilter {
+    }
+
+    record Rejected() implements ScreenFilter {
+    }
+
+    record Not(ScreenFilter filter) implements ScreenFilter {
+    }
+
+    record And(List<ScreenFilter> filters) implements ScreenFilter {
+    }
+
+    record Or(List<ScreenFilter> filters) implements ScreenFilter {
+    }
+}
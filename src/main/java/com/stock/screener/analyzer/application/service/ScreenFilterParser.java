@@ -0,0 +1,275 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.stock.screener.analyzer.application.port.in.InvalidScreenQueryException;
+import com.stock.screener.common.Sector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Recursive descent parser of the screen filter language:
+ * <pre>
+ * filter    := and ("or" and)*
+ * and       := unary ("and" unary)*
+ * unary     := "not" unary | "(" filter ")" | predicate
+ * predicate := metric (">" | ">=" | "<" | "<=" | "=") number
+ *            | metric "between" number "and" number
+ *            | "sector" ["not"] "in" "(" SECTOR ("," SECTOR)* ")"
+ *            | "sector" ("=" | "!=") SECTOR
+ *            | "rejected"
+ * </pre>
+ * Keywords, metrics and sectors are case-insensitive; metrics use the keys of {@link Metric}, numbers may use
+ * exponents ({@code 3e9}). Example: {@code sector not in (FINANCE, REAL_ESTATE) and marketCap > 3e9 and
+ * quickRatio between 1.0 and 2.5}.
+ */
+final class ScreenFilterParser {
+
+    private final String source;
+    private final List<Token> tokens;
+    private int position;
+
+    private ScreenFilterParser(String source) {
+        this.source = source;
+        this.tokens = tokenize(source);
+    }
+
+    /**
+     * @return the parsed filter, or null for a blank source
+     */
+    static ScreenFilter parse(String source) {
+        if (source == null || source.isBlank()) {
+            return null;
+        }
+        var parser = new ScreenFilterParser(source);
+        ScreenFilter filter = parser.filter();
+        if (!parser.atEnd()) {
+            throw parser.error("Unexpected '%s'".formatted(parser.peek().text()));
+        }
+        return filter;
+    }
+
+    private ScreenFilter filter() {
+        List<ScreenFilter> alternatives = new ArrayList<>(List.of(and()));
+        while (acceptKeyword("or")) {
+            alternatives.add(and());
+        }
+        return alternatives.size() == 1 ? alternatives.getFirst() : new ScreenFilter.Or(alternatives);
+    }
+
+    private ScreenFilter and() {
+        List<ScreenFilter> conditions = new ArrayList<>(List.of(unary()));
+        while (acceptKeyword("and")) {
+            conditions.add(unary());
+        }
+        return conditions.size() == 1 ? conditions.getFirst() : new ScreenFilter.And(conditions);
+    }
+
+    private ScreenFilter unary() {
+        if (acceptKeyword("not")) {
+            return new ScreenFilter.Not(unary());
+        }
+        if (accept("(")) {
+            ScreenFilter inner = filter();
+            expect(")");
+            return inner;
+        }
+        return predicate();
+    }
+
+    private ScreenFilter predicate() {
+        Token name = next("metric, 'sector' or 'rejected'");
+        if (name.type() != TokenType.WORD) {
+            throw error("Expected a metric, 'sector' or 'rejected' but found '%s'".formatted(name.text()), name);
+        }
+        if (name.is("rejected")) {
+            return new ScreenFilter.Rejected();
+        }
+        if (name.is("sector")) {
+            return sectorPredicate();
+        }
+
+        Metric metric = Metric.fromKey(name.text())
+                .orElseThrow(() -> error("Unknown metric '%s', expected one of %s".formatted(name.text(),
+                        Arrays.stream(Metric.values()).map(Metric::key).toList()), name));
+        if (acceptKeyword("between")) {
+            double min = number();
+            expectKeyword("and");
+            double max = number();
+            return new ScreenFilter.Range(metric, min, max, "%s between %s and %s".formatted(metric.key(), min, max));
+        }
+
+        Token operator = next("comparison operator");
+        double value = number();
+        String text = "%s %s %s".formatted(metric.key(), operator.text(), value);
+        return switch (operator.text()) {
+            case ">" -> new ScreenFilter.Range(metric, Math.nextUp(value), Double.POSITIVE_INFINITY, text);
+            case ">=" -> new ScreenFilter.Range(metric, value, Double.POSITIVE_INFINITY, text);
+            case "<" -> new ScreenFilter.Range(metric, Double.NEGATIVE_INFINITY, Math.nextDown(value), text);
+            case "<=" -> new ScreenFilter.Range(metric, Double.NEGATIVE_INFINITY, value, text);
+            case "=" -> new ScreenFilter.Range(metric, value, value, text);
+            default -> throw error("Expected a comparison operator but found '%s'".formatted(operator.text()),
+                    operator);
+        };
+    }
+
+    private ScreenFilter sectorPredicate() {
+        if (accept("=")) {
+            return new ScreenFilter.SectorIn(EnumSet.of(sector()));
+        }
+        if (accept("!=")) {
+            return new ScreenFilter.Not(new ScreenFilter.SectorIn(EnumSet.of(sector())));
+        }
+        boolean negated = acceptKeyword("not");
+        expectKeyword("in");
+        expect("(");
+        Set<Sector> sectors = EnumSet.of(sector());
+        while (accept(",")) {
+            sectors.add(sector());
+        }
+        expect(")");
+        ScreenFilter in = new ScreenFilter.SectorIn(sectors);
+        return negated ? new ScreenFilter.Not(in) : in;
+    }
+
+    private Sector sector() {
+        Token token = next("sector");
+        try {
+            return Sector.valueOf(token.text().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw error("Unknown sector '%s', expected one of %s".formatted(token.text(),
+                    Arrays.stream(Sector.values()).map(Sector::name).collect(Collectors.joining(", "))), token);
+        }
+    }
+
+    private double number() {
+        Token token = next("number");
+        if (token.type() != TokenType.NUMBER) {
+            throw error("Expected a number but found '%s'".formatted(token.text()), token);
+        }
+        return Double.parseDouble(token.text());
+    }
+
+    // --- token stream ---
+
+    private boolean atEnd() {
+        return position >= tokens.size();
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private Token next(String expected) {
+        if (atEnd()) {
+            throw error("Expected %s but the filter ended".formatted(expected));
+        }
+        return tokens.get(position++);
+    }
+
+    private boolean accept(String symbol) {
+        if (!atEnd() && peek().type() == TokenType.SYMBOL && peek().text().equals(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        if (!atEnd() && peek().is(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String symbol) {
+        if (!accept(symbol)) {
+            throw error("Expected '%s'".formatted(symbol));
+        }
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!acceptKeyword(keyword)) {
+            throw error("Expected '%s'".formatted(keyword));
+        }
+    }
+
+    private InvalidScreenQueryException error(String message) {
+        return error(message, atEnd() ? source.length() : peek().offset());
+    }
+
+    private static InvalidScreenQueryException error(String message, Token at) {
+        return error(message, at.offset());
+    }
+
+    private static InvalidScreenQueryException error(String message, int offset) {
+        return new InvalidScreenQueryException("%s at position %d".formatted(message, offset));
+    }
+
+    private static List<Token> tokenize(String source) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            int start = i;
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            if (Character.isLetter(c) || c == '_') {
+                while (i < source.length() && isWordPart(source.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.WORD, source.substring(start, i), start));
+            } else if (Character.isDigit(c) || c == '-' || c == '.') {
+                i++;
+                while (i < source.length() && isNumberPart(source, i)) {
+                    i++;
+                }
+                String text = source.substring(start, i);
+                try {
+                    Double.parseDouble(text);
+                } catch (NumberFormatException e) {
+                    throw error("Invalid number '%s'".formatted(text), start);
+                }
+                tokens.add(new Token(TokenType.NUMBER, text, start));
+            } else if ((c == '>' || c == '<' || c == '!') && i + 1 < source.length() && source.charAt(i + 1) == '=') {
+                i += 2;
+                tokens.add(new Token(TokenType.SYMBOL, source.substring(start, i), start));
+            } else if ("()<>=,".indexOf(c) >= 0) {
+                i++;
+                tokens.add(new Token(TokenType.SYMBOL, String.valueOf(c), start));
+            } else {
+                throw error("Unexpected character '%c'".formatted(c), start);
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isWordPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static boolean isNumberPart(String source, int i) {
+        char c = source.charAt(i);
+        if (Character.isDigit(c) || c == '.' || c == 'e' || c == 'E') {
+            return true;
+        }
+        char previous = source.charAt(i - 1);
+        return (c == '-' || c == '+') && (previous == 'e' || previous == 'E');
+    }
+
+    private enum TokenType { WORD, NUMBER, SYMBOL }
+
+    private record Token(TokenType type, String text, int offset) {
+
+        boolean is(String keyword) {
+            return type == TokenType.WORD && text.equalsIgnoreCase(keyword);
+        }
+    }
+}
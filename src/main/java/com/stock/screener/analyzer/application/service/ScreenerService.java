@@ -0,0 +1,66 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.stock.screener.analyzer.application.port.in.InvalidScreenQueryException;
+import com.stock.screener.analyzer.application.port.in.ScreenQuery;
+import com.stock.screener.analyzer.application.port.in.ScreenResult;
+import com.stock.screener.analyzer.application.port.in.ScreenUniverseUseCase;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs screens against the current {@link UniverseSnapshot}; the database is never queried.
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+public class ScreenerService implements ScreenUniverseUseCase {
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    private static final Metric[] METRICS = Metric.values();
+
+    private final UniverseSnapshotService universeSnapshotService;
+
+    @Override
+    public ScreenResult screen(ScreenQuery query) {
+        if (query.page() < 0 || query.size() < 1 || query.size() > MAX_PAGE_SIZE) {
+            throw new InvalidScreenQueryException(
+                    "Page must be >= 0 and size between 1 and %d".formatted(MAX_PAGE_SIZE));
+        }
+        Metric sort = Metric.fromKey(query.sort())
+                .orElseThrow(() -> new InvalidScreenQueryException("Unknown sort metric '%s'".formatted(query.sort())));
+        UniverseSnapshot snapshot = universeSnapshotService.current();
+
+        long start = System.nanoTime();
+        ScreenFilter filter = ScreenFilterParser.parse(query.filter());
+        var executor = new ScreenExecutor(snapshot);
+        long[] rows = executor.execute(filter);
+        int total = UniverseSnapshot.count(rows);
+
+        long offset = (long) query.page() * query.size();
+        int[] page = new int[query.size()];
+        int count = offset < total ? snapshot.ordered(rows, sort, query.ascending(), (int) offset, page) : 0;
+        long executionMicros = (System.nanoTime() - start) / 1_000;
+
+        List<ScreenResult.Stock> stocks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            stocks.add(toStock(snapshot, page[i]));
+        }
+        return new ScreenResult(query.filter(), total, query.page(), query.size(), stocks, executor.plan(),
+                executionMicros, snapshot.builtAt());
+    }
+
+    private static ScreenResult.Stock toStock(UniverseSnapshot snapshot, int row) {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        for (Metric metric : METRICS) {
+            if (snapshot.has(metric, row)) {
+                metrics.put(metric.key(), snapshot.value(metric, row));
+            }
+        }
+        return new ScreenResult.Stock(snapshot.ticker(row), snapshot.sector(row), snapshot.isRejected(row), metrics);
+    }
+}
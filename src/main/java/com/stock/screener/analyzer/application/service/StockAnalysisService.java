@@ -1,35 +1,69 @@
 package com.stock.screener.analyzer.application.service;
 
 import com.stock.screener.analyzer.application.port.in.AnalyzeStockUseCase;
+import com.stock.screener.analyzer.application.port.out.StockMetricsPort;
 import jakarta.enterprise.context.ApplicationScoped;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @ApplicationScoped
 @RequiredArgsConstructor
 public class StockAnalysisService implements AnalyzeStockUseCase {
 
+    static final Comparator<AnalysisReport> BY_SCORE = Comparator
+            .comparing(AnalysisReport::isRejected)
+            .thenComparing(Comparator.comparingInt(AnalysisReport::getTotalScore).reversed())
+            .thenComparing(AnalysisReport::getTicker);
+
+    private final StockMetricsPort stockMetricsPort;
+    private final AnalysisCache analysisCache;
+    private final ScoringEngine scoringEngine = new ScoringEngine();
+
+    /**
+     * Served from {@link AnalysisCache}; only the first read of a ticker after its reports changed goes to the
+     * database.
+     */
     @Override
     public AnalysisReport analyzeStock(String ticker) {
+        return analysisCache.analysis(ticker, this::analyze);
+    }
+
+    /**
+     * Loads all tickers with the port's set-based queries, then scores them on the common fork-join pool — the
+     * rules are pure CPU work on already loaded rows.
+     */
+    @Override
+    public List<AnalysisReport> analyzeAll() {
+        long start = System.nanoTime();
+        var metrics = stockMetricsPort.loadAll();
+        long loaded = System.nanoTime();
+
+        List<AnalysisReport> reports = metrics.parallelStream()
+                .map(scoringEngine::score)
+                .sorted(BY_SCORE)
+                .toList();
+
+        log.info("Scored {} tickers: load {} ms, scoring {} ms", reports.size(),
+                (loaded - start) / 1_000_000, (System.nanoTime() - loaded) / 1_000_000);
+        return reports;
+    }
+
+    private AnalysisReport analyze(String ticker) {
         log.info("Starting analysis and scoring for: {}", ticker);
 
-        List<String> anomalies = new ArrayList<>();
-        int score = 0;
-        int maxPossible = 95;
-        String rejectReason = null;
-
-        return AnalysisReport.builder()
-                .ticker(ticker)
-                .totalScore(score)
-                .maxPossibleScore(maxPossible)
-                .rejectReason(rejectReason)
-                .anomalies(anomalies)
-                .metricErrors(new HashSet<>())
-                .build();
+        return analysisCache.latestReports(ticker, stockMetricsPort::load)
+                .map(scoringEngine::score)
+                .orElseGet(() -> AnalysisReport.builder()
+                        .ticker(ticker)
+                        .maxPossibleScore(ScoringEngine.MAX_SCORE)
+                        .rejectReason("No monthly report collected")
+                        .anomalies(List.of("MISSING_DATA"))
+                        .metricErrors(Set.of())
+                        .build());
     }
 }
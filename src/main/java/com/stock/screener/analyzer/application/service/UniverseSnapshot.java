@@ -0,0 +1,397 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.stock.screener.analyzer.application.port.out.StockMetrics;
+import com.stock.screener.common.Sector;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable column store of the latest metrics and score of every ticker.
+ * <p>
+ * Every {@link Metric} is a {@code double[]} with one slot per row, next to a null bitmap of {@code long} words
+ * marking the rows that have a value — missing values are stored as {@code NaN} as well, so range checks fail on
+ * them without looking at the bitmap. Sectors are dictionary-encoded as the ordinal in {@link Sector#values()}.
+ * </p>
+ * <p>
+ * Row sets are bitmaps too: {@link #allRows()} allocates one, the {@code retain*} methods narrow it in place
+ * without allocating, so a screen costs one array no matter how many predicates it has.
+ * </p>
+ * <p>
+ * Each metric also has a sorted index (rows with a value, ordered by it) for range scans and ordered output,
+ * and each sector a bitmap of its rows.
+ * </p>
+ */
+public final class UniverseSnapshot {
+
+    private static final Sector[] SECTORS = Sector.values();
+    private static final byte NO_SECTOR = -1;
+    private static final Metric[] METRICS = Metric.values();
+
+    static final UniverseSnapshot EMPTY = build(List.of(), List.of());
+
+    private final int size;
+    private final String[] tickers;
+    private final Map<String, Integer> rowsByTicker;
+    private final byte[] sectors;
+    private final double[][] columns;
+    private final long[][] present;
+    private final long[] rejected;
+    private final int[][] sortedRows;
+    private final double[][] sortedValues;
+    private final long[][] sectorRows;
+    private final Instant builtAt;
+
+    private UniverseSnapshot(int size) {
+        this.size = size;
+        this.tickers = new String[size];
+        this.rowsByTicker = new HashMap<>(size * 2);
+        this.sectors = new byte[size];
+        this.columns = new double[METRICS.length][size];
+        this.present = new long[METRICS.length][words(size)];
+        this.rejected = new long[words(size)];
+        this.sortedRows = new int[METRICS.length][];
+        this.sortedValues = new double[METRICS.length][];
+        this.sectorRows = new long[SECTORS.length][words(size)];
+        this.builtAt = Instant.now();
+    }
+
+    /**
+     * @param reports scoring result of each entry in {@code metrics}, in the same order
+     */
+    static UniverseSnapshot build(List<StockMetrics> metrics, List<AnalysisReport> reports) {
+        if (metrics.size() != reports.size()) {
+            throw new IllegalArgumentException("Every ticker needs its report: %d metrics, %d reports"
+                    .formatted(metrics.size(), reports.size()));
+        }
+        var snapshot = new UniverseSnapshot(metrics.size());
+        for (int row = 0; row < metrics.size(); row++) {
+            StockMetrics stock = metrics.get(row);
+            AnalysisReport report = reports.get(row);
+            snapshot.tickers[row] = stock.ticker();
+            snapshot.rowsByTicker.put(stock.ticker(), row);
+            snapshot.sectors[row] = stock.sector() != null ? (byte) stock.sector().ordinal() : NO_SECTOR;
+            if (stock.sector() != null) {
+                set(snapshot.sectorRows[stock.sector().ordinal()], row);
+            }
+            if (report.isRejected()) {
+                set(snapshot.rejected, row);
+            }
+            for (Metric metric : METRICS) {
+                Double value = extract(metric, stock, report);
+                boolean has = value != null && !value.isNaN();
+                snapshot.columns[metric.ordinal()][row] = has ? value : Double.NaN;
+                if (has) {
+                    set(snapshot.present[metric.ordinal()], row);
+                }
+            }
+        }
+        for (Metric metric : METRICS) {
+            snapshot.index(metric);
+        }
+        return snapshot;
+    }
+
+    private void index(Metric metric) {
+        double[] column = columns[metric.ordinal()];
+        int[] rows = IntStream.range(0, size)
+                .filter(row -> isSet(present[metric.ordinal()], row))
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer row) -> column[row]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        double[] values = new double[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            values[i] = column[rows[i]];
+        }
+        sortedRows[metric.ordinal()] = rows;
+        sortedValues[metric.ordinal()] = values;
+    }
+
+    private static Double extract(Metric metric, StockMetrics stock, AnalysisReport report) {
+        return switch (metric) {
+            case MARKET_CAP -> value(stock.marketCap());
+            case QUICK_RATIO -> value(stock.quickRatio());
+            case DEBT_TO_ASSETS -> ScoringEngine.ratio(stock.totalDebt(), stock.totalAssets());
+            case INTEREST_COVERAGE_RATIO -> value(stock.interestCoverageRatio());
+            case ALTMAN_Z_SCORE -> value(stock.altmanZScore());
+            case REVENUE_GROWTH_3Y -> ScoringEngine.revenueGrowth3Y(stock);
+            case FORWARD_REVENUE_GROWTH -> value(stock.forwardRevenueGrowth());
+            case FORWARD_EPS_GROWTH -> value(stock.forwardEpsGrowth());
+            case PS_RATIO -> value(stock.psRatio());
+            case FORWARD_PEG -> value(stock.forwardPegRatio());
+            case UPSIDE_POTENTIAL -> value(stock.upsidePotential());
+            case SCORE -> (double) report.getTotalScore();
+            case MAX_POSSIBLE_SCORE -> (double) report.getMaxPossibleScore();
+        };
+    }
+
+    private static Double value(BigDecimal value) {
+        return value != null ? value.doubleValue() : null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Instant builtAt() {
+        return builtAt;
+    }
+
+    public String ticker(int row) {
+        return tickers[row];
+    }
+
+    /**
+     * @return row of the ticker, or -1 when it is not in the snapshot
+     */
+    public int row(String ticker) {
+        Integer row = rowsByTicker.get(ticker);
+        return row != null ? row : -1;
+    }
+
+    public Sector sector(int row) {
+        byte code = sectors[row];
+        return code == NO_SECTOR ? null : SECTORS[code];
+    }
+
+    public boolean has(Metric metric, int row) {
+        return isSet(present[metric.ordinal()], row);
+    }
+
+    /**
+     * @return the value, or {@code NaN} when the ticker has none
+     */
+    public double value(Metric metric, int row) {
+        return columns[metric.ordinal()][row];
+    }
+
+    public boolean isRejected(int row) {
+        return isSet(rejected, row);
+    }
+
+    // --- row sets ---
+
+    /**
+     * @return a new bitmap with no row set
+     */
+    public long[] noRows() {
+        return new long[words(size)];
+    }
+
+    /**
+     * @return a new bitmap with every row set
+     */
+    public long[] allRows() {
+        long[] rows = new long[words(size)];
+        Arrays.fill(rows, -1L);
+        if (size % 64 != 0) {
+            rows[rows.length - 1] = (1L << size) - 1;
+        }
+        return rows;
+    }
+
+    /**
+     * Keeps the rows whose value lies in {@code [min, max]}; rows without a value are dropped.
+     */
+    public void retainRange(long[] rows, Metric metric, double min, double max) {
+        double[] column = columns[metric.ordinal()];
+        for (int row = nextRow(rows, 0); row >= 0; row = nextRow(rows, row + 1)) {
+            double value = column[row];
+            if (!(value >= min && value <= max)) {
+                clear(rows, row);
+            }
+        }
+    }
+
+    public void retainPresent(long[] rows, Metric metric) {
+        and(rows, present[metric.ordinal()]);
+    }
+
+    /**
+     * Keeps the rows whose sector is (or, with {@code include == false}, is not) one of {@code sectors}. Rows
+     * without a sector only match an exclusion.
+     */
+    public void retainSectors(long[] rows, Set<Sector> sectors, boolean include) {
+        for (int row = nextRow(rows, 0); row >= 0; row = nextRow(rows, row + 1)) {
+            byte code = this.sectors[row];
+            boolean member = code != NO_SECTOR && sectors.contains(SECTORS[code]);
+            if (member != include) {
+                clear(rows, row);
+            }
+        }
+    }
+
+    public void retainNotRejected(long[] rows) {
+        andNot(rows, rejected);
+    }
+
+    // --- indexes ---
+
+    /**
+     * @return number of rows with a value in {@code [min, max]}, from two binary searches
+     */
+    public int countRange(Metric metric, double min, double max) {
+        double[] values = sortedValues[metric.ordinal()];
+        return Math.max(0, upperBound(values, max) - lowerBound(values, min));
+    }
+
+    /**
+     * Sets the rows with a value in {@code [min, max]} by walking that slice of the metric's index.
+     */
+    public void scanRange(long[] rows, Metric metric, double min, double max) {
+        double[] values = sortedValues[metric.ordinal()];
+        int[] index = sortedRows[metric.ordinal()];
+        for (int i = lowerBound(values, min), end = upperBound(values, max); i < end; i++) {
+            set(rows, index[i]);
+        }
+    }
+
+    public int countSectors(Set<Sector> sectors) {
+        int count = 0;
+        for (Sector sector : sectors) {
+            count += count(sectorRows[sector.ordinal()]);
+        }
+        return count;
+    }
+
+    /**
+     * Sets the rows of the given sectors.
+     */
+    public void scanSectors(long[] rows, Set<Sector> sectors) {
+        for (Sector sector : sectors) {
+            or(rows, sectorRows[sector.ordinal()]);
+        }
+    }
+
+    /**
+     * Sets the rejected rows.
+     */
+    public void scanRejected(long[] rows) {
+        or(rows, rejected);
+    }
+
+    /**
+     * Writes the rows of {@code rows} in the order of {@code sort} to {@code out}, skipping the first
+     * {@code offset}. Rows without a value for {@code sort} come last, in row order.
+     *
+     * @return number of rows written, at most {@code out.length}
+     */
+    public int ordered(long[] rows, Metric sort, boolean ascending, int offset, int[] out) {
+        int[] index = sortedRows[sort.ordinal()];
+        int skipped = 0;
+        int written = 0;
+        for (int i = 0; i < index.length && written < out.length; i++) {
+            int row = index[ascending ? i : index.length - 1 - i];
+            if (isSet(rows, row) && skipped++ >= offset) {
+                out[written++] = row;
+            }
+        }
+        long[] withValue = present[sort.ordinal()];
+        for (int row = nextRow(rows, 0); row >= 0 && written < out.length; row = nextRow(rows, row + 1)) {
+            if (!isSet(withValue, row) && skipped++ >= offset) {
+                out[written++] = row;
+            }
+        }
+        return written;
+    }
+
+    private static int lowerBound(double[] values, double min) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < min) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int upperBound(double[] values, double max) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= max) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // --- bitmap operations ---
+
+    static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    static void set(long[] bitmap, int bit) {
+        bitmap[bit >>> 6] |= 1L << bit;
+    }
+
+    static void clear(long[] bitmap, int bit) {
+        bitmap[bit >>> 6] &= ~(1L << bit);
+    }
+
+    static boolean isSet(long[] bitmap, int bit) {
+        return (bitmap[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    static void and(long[] target, long[] other) {
+        for (int word = 0; word < target.length; word++) {
+            target[word] &= other[word];
+        }
+    }
+
+    static void or(long[] target, long[] other) {
+        for (int word = 0; word < target.length; word++) {
+            target[word] |= other[word];
+        }
+    }
+
+    static void andNot(long[] target, long[] other) {
+        for (int word = 0; word < target.length; word++) {
+            target[word] &= ~other[word];
+        }
+    }
+
+    /**
+     * @return first set bit at or after {@code from}, or -1
+     */
+    public static int nextRow(long[] bitmap, int from) {
+        int word = from >>> 6;
+        if (word >= bitmap.length) {
+            return -1;
+        }
+        long bits = bitmap[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == bitmap.length) {
+                return -1;
+            }
+            bits = bitmap[word];
+        }
+    }
+
+    public static int count(long[] bitmap) {
+        int count = 0;
+        for (long word : bitmap) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
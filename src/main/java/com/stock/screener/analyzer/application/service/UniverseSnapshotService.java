@@ -0,0 +1,160 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.stock.screener.analyzer.application.port.in.RefreshUniverseSnapshotUseCase;
+import com.stock.screener.analyzer.application.port.in.RescoreTickersUseCase;
+import com.stock.screener.analyzer.application.port.out.StockMetrics;
+import com.stock.screener.analyzer.application.port.out.StockMetricsPort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Owns the current {@link UniverseSnapshot} and the scored reports it is built from.
+ * <p>
+ * A full rebuild loads and scores the whole universe. A rescore loads and scores only the tickers whose reports
+ * changed, replaces their entries and rebuilds the snapshot from memory — during a bulk collection, changes
+ * arriving within {@code analyzer.rescore.debounce} are merged into one pass. Either way the new snapshot is
+ * published through one volatile write, so readers keep the snapshot they started with and never see a
+ * half-built one. Rebuilds and rescores are serialised on one lock.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+public class UniverseSnapshotService implements RefreshUniverseSnapshotUseCase, RescoreTickersUseCase {
+
+    private final StockMetricsPort stockMetricsPort;
+    private final Duration rescoreDebounce;
+    private final ScoringEngine scoringEngine = new ScoringEngine();
+    private final Map<String, Scored> scored = new ConcurrentHashMap<>();
+    private final Set<String> pendingRescore = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+    private final AtomicBoolean rescoreQueued = new AtomicBoolean();
+    private final Object refreshLock = new Object();
+
+    private volatile UniverseSnapshot current = UniverseSnapshot.EMPTY;
+
+    @Inject
+    public UniverseSnapshotService(
+            StockMetricsPort stockMetricsPort,
+            @ConfigProperty(name = "analyzer.rescore.debounce", defaultValue = "2s") Duration rescoreDebounce) {
+        this.stockMetricsPort = stockMetricsPort;
+        this.rescoreDebounce = rescoreDebounce;
+    }
+
+    UniverseSnapshot current() {
+        return current;
+    }
+
+    @Override
+    public void requestRefresh() {
+        if (refreshQueued.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("universe-snapshot-refresh").start(() -> {
+                synchronized (refreshLock) {
+                    refreshQueued.set(false);
+                    try {
+                        refresh();
+                    } catch (RuntimeException e) {
+                        log.error("Universe snapshot refresh failed, keeping the snapshot from {}",
+                                current.builtAt(), e);
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public void requestRescore(Set<String> tickers) {
+        if (tickers.isEmpty()) {
+            return;
+        }
+        pendingRescore.addAll(tickers);
+        if (rescoreQueued.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("universe-snapshot-rescore").start(this::rescorePending);
+        }
+    }
+
+    void refresh() {
+        long start = System.nanoTime();
+        List<StockMetrics> metrics = stockMetricsPort.loadAll();
+        Map<String, Scored> entries = new ConcurrentHashMap<>();
+        metrics.parallelStream().forEach(stock -> entries.put(stock.ticker(), score(stock)));
+
+        scored.clear();
+        scored.putAll(entries);
+        publish();
+        log.info("Universe snapshot rebuilt with {} tickers in {} ms", entries.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Falls back to a full {@link #refresh()} when more than half of the universe changed, or when there is no
+     * universe yet — one pass over everything is then cheaper than an {@code in} list of that size.
+     */
+    void rescore(Set<String> tickers) {
+        if (tickers.isEmpty()) {
+            return;
+        }
+        if (tickers.size() > scored.size() / 2) {
+            refresh();
+            return;
+        }
+        long start = System.nanoTime();
+        Set<String> removed = new HashSet<>(tickers);
+        for (StockMetrics stock : stockMetricsPort.load(tickers)) {
+            scored.put(stock.ticker(), score(stock));
+            removed.remove(stock.ticker());
+        }
+        removed.forEach(scored::remove);
+        publish();
+        log.info("Rescored {} tickers in {} ms", tickers.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void rescorePending() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(rescoreDebounce.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (refreshLock) {
+            rescoreQueued.set(false);
+            Set<String> tickers = new HashSet<>();
+            for (String ticker : pendingRescore) {
+                if (pendingRescore.remove(ticker)) {
+                    tickers.add(ticker);
+                }
+            }
+            try {
+                rescore(tickers);
+            } catch (RuntimeException e) {
+                log.error("Rescoring {} tickers failed, the next refresh picks them up", tickers.size(), e);
+            }
+        }
+    }
+
+    private Scored score(StockMetrics stock) {
+        return new Scored(stock, scoringEngine.score(stock));
+    }
+
+    private void publish() {
+        List<Scored> entries = scored.values().stream()
+                .sorted(Comparator.comparing(entry -> entry.metrics().ticker()))
+                .toList();
+        current = UniverseSnapshot.build(
+                entries.stream().map(Scored::metrics).toList(),
+                entries.stream().map(Scored::report).toList());
+    }
+
+    private record Scored(StockMetrics metrics, AnalysisReport report) {
+    }
+}
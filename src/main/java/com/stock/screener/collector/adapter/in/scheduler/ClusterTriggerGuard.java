@@ -0,0 +1,65 @@
+package com.stock.screener.collector.adapter.in.scheduler;
+
+import com.stock.screener.collector.application.port.out.job.SchedulerLeasePort;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.ScheduledExecution;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Lets each fire of a guarded {@code @Scheduled} method run on one instance of the cluster only.
+ * <p>
+ * Every instance fires at the same scheduled time; the first one to claim that fire time in
+ * {@code scheduler_lease} runs it, the others skip. When the claim cannot be made at all (database down),
+ * the execution is skipped as well — running it unguarded could multiply API usage.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+class ClusterTriggerGuard implements Scheduled.SkipPredicate {
+
+    private final SchedulerLeasePort schedulerLeasePort;
+    private final boolean schedulerEnabled;
+    private final String owner = System.getenv().getOrDefault("HOSTNAME", "local") + "-"
+            + UUID.randomUUID().toString().substring(0, 8);
+
+    @Inject
+    ClusterTriggerGuard(
+            SchedulerLeasePort schedulerLeasePort,
+            @ConfigProperty(name = "quarkus.scheduler.enabled", defaultValue = "true") boolean schedulerEnabled) {
+        this.schedulerLeasePort = schedulerLeasePort;
+        this.schedulerEnabled = schedulerEnabled;
+    }
+
+    @Override
+    public boolean test(ScheduledExecution execution) {
+        String identity = execution.getTrigger().getId();
+        try {
+            if (schedulerLeasePort.tryClaim(identity, execution.getScheduledFireTime(),
+                    execution.getTrigger().getNextFireTime(), owner)) {
+                return false;
+            }
+            log.info("Skipping {} fired at {}: another instance runs it", identity, execution.getScheduledFireTime());
+        } catch (RuntimeException e) {
+            log.error("Skipping {} fired at {}: could not claim the trigger", identity,
+                    execution.getScheduledFireTime(), e);
+        }
+        return true;
+    }
+
+    /**
+     * Claims the last fire of the trigger that no instance ran, so the caller can catch up on it once.
+     */
+    Optional<Instant> claimMissedFire(String identity) {
+        if (!schedulerEnabled) {
+            return Optional.empty();
+        }
+        return schedulerLeasePort.claimMissedFire(identity, Instant.now(), owner);
+    }
+}
@@ -0,0 +1,50 @@
+package com.stock.screener.collector.adapter.in.scheduler;
+
+import com.stock.screener.collector.application.port.in.SubmitCollectionJobUseCase;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+@Slf4j
+@ApplicationScoped
+class CollectionJobResumer {
+
+    private final SubmitCollectionJobUseCase submitCollectionJobUseCase;
+    private final boolean resumeOnStartup;
+
+    @Inject
+    CollectionJobResumer(
+            SubmitCollectionJobUseCase submitCollectionJobUseCase,
+            @ConfigProperty(name = "collector.jobs.resume-on-startup", defaultValue = "true") boolean resumeOnStartup) {
+        this.submitCollectionJobUseCase = submitCollectionJobUseCase;
+        this.resumeOnStartup = resumeOnStartup;
+    }
+
+    /**
+     * Runs interrupted by a shutdown continue where their checkpoints left off.
+     */
+    void onStart(@Observes StartupEvent event) {
+        if (resumeOnStartup) {
+            submitCollectionJobUseCase.resumeUnfinishedJobs();
+        } else {
+            log.info("Resuming and joining unfinished collection runs is disabled");
+        }
+    }
+
+    /**
+     * Scheduled runs are submitted by one instance only; every other instance picks them up here and works on
+     * the same queue. Runs whose worker died are continued the same way. Resuming them is what joining does, so
+     * it is off together with resuming on startup.
+     */
+    @Scheduled(every = "{collector.jobs.queue.join-every}", identity = "collection-run-joiner",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void joinUnfinishedJobs() {
+        if (resumeOnStartup) {
+            submitCollectionJobUseCase.resumeUnfinishedJobs();
+        }
+    }
+}
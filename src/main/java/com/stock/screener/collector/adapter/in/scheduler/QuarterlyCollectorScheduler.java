@@ -1,34 +1,65 @@
 package com.stock.screener.collector.adapter.in.scheduler;
 
-import com.stock.screener.collector.application.port.in.CollectQuarterlyDataUseCase;
-import com.stock.screener.collector.application.port.out.file.TickerReaderPort;
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.PlanCollectionUseCase;
+import com.stock.screener.collector.application.port.in.SubmitCollectionJobUseCase;
+import io.quarkus.runtime.StartupEvent;
 import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.ScheduledExecution;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
 @Slf4j
 @ApplicationScoped
 @RequiredArgsConstructor
 class QuarterlyCollectorScheduler {
 
-    private final CollectQuarterlyDataUseCase collectQuarterlyDataUseCase;
-    private final TickerReaderPort tickerReaderPort;
+    private static final String IDENTITY = "quarterly-collector";
+
+    private final SubmitCollectionJobUseCase submitCollectionJobUseCase;
+    private final PlanCollectionUseCase planCollectionUseCase;
+    private final ClusterTriggerGuard clusterTriggerGuard;
 
-//    TODO: this should not run just every 3 months, but rather search for stocks with updatedAt > 3 months....
-//     its time to solve this one
-    @Scheduled(cron = "{collector.scheduler.quarterly.cron}", identity = "quarterly-collector")
-    void run() {
+    /**
+     * Fires several times a day and submits the next wave of the collection plan, so the daily budget is spent
+     * evenly. Runs on one instance per fire; the others join the run as workers through
+     * {@link CollectionJobResumer}.
+     */
+    @Scheduled(cron = "{collector.scheduler.quarterly.cron}", identity = IDENTITY,
+            skipExecutionIf = ClusterTriggerGuard.class)
+    void run(ScheduledExecution execution) {
         log.info("Quarterly collector scheduler triggered");
+        submit(execution.getScheduledFireTime());
+    }
 
-        tickerReaderPort.readTickers().forEach(ticker -> {
-            try {
-                collectQuarterlyDataUseCase.collectQuarterlyData(ticker);
-            } catch (Exception ex) {
-                log.error("Quarterly collection failed for ticker: {}", ticker, ex);
-            }
+    /**
+     * A fire missed while no instance was up is caught up on once. If its run is still unfinished from before,
+     * that run is continued rather than started over.
+     */
+    void onStart(@Observes StartupEvent event) {
+        clusterTriggerGuard.claimMissedFire(IDENTITY).ifPresent(fireTime -> {
+            log.info("Catching up on quarterly collection missed at {}", fireTime);
+            submit(fireTime);
         });
+    }
+
+    private void submit(Instant fireTime) {
+        List<String> wave = planCollectionUseCase.nextWave(CollectionJobType.QUARTERLY);
+        if (wave.isEmpty()) {
+            log.info("Quarterly collector scheduler: no tickers due");
+            return;
+        }
+
+        String triggerKey = IDENTITY + "@" + fireTime.truncatedTo(ChronoUnit.SECONDS);
+        var job = submitCollectionJobUseCase.submit(CollectionJobType.QUARTERLY, wave, triggerKey);
 
-        log.info("Quarterly collector scheduler finished");
+        log.info("Quarterly collector scheduler submitted collection job {} ({} of {} tickers done)",
+                job.id(), job.done(), job.total());
     }
 }
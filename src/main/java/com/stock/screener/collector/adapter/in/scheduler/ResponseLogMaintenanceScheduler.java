@@ -0,0 +1,32 @@
+package com.stock.screener.collector.adapter.in.scheduler;
+
+import com.stock.screener.collector.application.port.in.MaintainResponseLogsUseCase;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@ApplicationScoped
+@RequiredArgsConstructor
+class ResponseLogMaintenanceScheduler {
+
+    private final MaintainResponseLogsUseCase maintainResponseLogsUseCase;
+
+    /**
+     * Partitions must exist before the first log row of a month arrives, even when schedulers are disabled —
+     * otherwise rows land in the default partition.
+     */
+    void onStart(@Observes StartupEvent event) {
+        maintainResponseLogsUseCase.preparePartitions();
+    }
+
+    @Scheduled(cron = "{collector.scheduler.response-log-maintenance.cron}", identity = "response-log-maintenance",
+            skipExecutionIf = ClusterTriggerGuard.class)
+    void run() {
+        log.info("Response log maintenance scheduler triggered");
+        maintainResponseLogsUseCase.maintainResponseLogs();
+    }
+}
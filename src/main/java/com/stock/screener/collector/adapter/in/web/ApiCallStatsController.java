@@ -0,0 +1,23 @@
+package com.stock.screener.collector.adapter.in.web;
+
+import com.stock.screener.collector.application.port.in.GetApiCallStatsUseCase;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.RequiredArgsConstructor;
+
+@Path("/api/collector/api-calls")
+@RequiredArgsConstructor
+class ApiCallStatsController {
+
+    private final GetApiCallStatsUseCase getApiCallStatsUseCase;
+
+    @GET
+    @Path("/stats")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response stats() {
+        return Response.ok(getApiCallStatsUseCase.getApiCallStats()).build();
+    }
+}
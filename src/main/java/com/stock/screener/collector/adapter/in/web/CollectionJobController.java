@@ -0,0 +1,62 @@
+package com.stock.screener.collector.adapter.in.web;
+
+import com.stock.screener.collector.application.port.in.CollectionProgressEvent;
+import com.stock.screener.collector.application.port.in.GetCollectionJobUseCase;
+import com.stock.screener.collector.application.port.in.WatchCollectionJobsUseCase;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import lombok.RequiredArgsConstructor;
+
+@Path("/api/collector/jobs")
+@RequiredArgsConstructor
+class CollectionJobController {
+
+    private final GetCollectionJobUseCase getCollectionJobUseCase;
+    private final WatchCollectionJobsUseCase watchCollectionJobsUseCase;
+
+    @GET
+    @Path("/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response job(@PathParam("id") long id) {
+        return getCollectionJobUseCase.findJob(id)
+                .map(job -> Response.ok(job).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    /**
+     * Streams {@code ticker} events for every finished ticker and {@code throughput} events every few tickers,
+     * optionally for a single job. Events a slow client has not requested yet are dropped, not buffered.
+     */
+    @GET
+    @Path("/progress")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public Multi<OutboundSseEvent> progress(@QueryParam("jobId") Long jobId, @Context Sse sse) {
+        return Multi.createFrom().<CollectionProgressEvent>emitter(emitter -> {
+                    Runnable unsubscribe = watchCollectionJobsUseCase.subscribe(event -> {
+                        if (jobId == null || event.jobId() == jobId) {
+                            emitter.emit(event);
+                        }
+                    });
+                    emitter.onTermination(unsubscribe);
+                }, BackPressureStrategy.DROP)
+                .map(event -> sse.newEventBuilder()
+                        .name(switch (event) {
+                            case CollectionProgressEvent.TickerCompleted ticker -> "ticker";
+                            case CollectionProgressEvent.Throughput throughput -> "throughput";
+                            case CollectionProgressEvent.JobFinished finished -> "finished";
+                        })
+                        .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                        .data(event)
+                        .build());
+    }
+}
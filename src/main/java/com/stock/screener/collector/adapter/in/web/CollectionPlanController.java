@@ -0,0 +1,25 @@
+package com.stock.screener.collector.adapter.in.web;
+
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.PlanCollectionUseCase;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.RequiredArgsConstructor;
+
+@Path("/api/collector/plan")
+@RequiredArgsConstructor
+class CollectionPlanController {
+
+    private final PlanCollectionUseCase planCollectionUseCase;
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response plan(@QueryParam("type") @DefaultValue("QUARTERLY") CollectionJobType type) {
+        return Response.ok(planCollectionUseCase.plan(type)).build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.stock.screener.collector.adapter.in.web;
+
+import com.stock.screener.collector.application.port.in.GetFreshnessStatsUseCase;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.RequiredArgsConstructor;
+
+@Path("/api/collector/freshness")
+@RequiredArgsConstructor
+class FreshnessStatsController {
+
+    private final GetFreshnessStatsUseCase getFreshnessStatsUseCase;
+
+    @GET
+    @Path("/stats")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response stats() {
+        return Response.ok(getFreshnessStatsUseCase.getFreshnessStats()).build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.stock.screener.collector.adapter.in.web;
+
+import com.stock.screener.collector.application.port.in.RecomputeMetricsUseCase;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Path("/api/collector/metrics")
+@RequiredArgsConstructor
+class MetricRecomputationController {
+
+    private final RecomputeMetricsUseCase recomputeMetricsUseCase;
+
+    @POST
+    @Path("/recompute")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response recompute() {
+        log.info("Metric recomputation triggered");
+        return Response.ok(recomputeMetricsUseCase.recomputeMetrics()).build();
+    }
+}
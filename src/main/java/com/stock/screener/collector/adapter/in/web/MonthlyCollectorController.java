@@ -1,6 +1,8 @@
 package com.stock.screener.collector.adapter.in.web;
 
 import com.stock.screener.collector.application.port.in.CollectMonthlyDataUseCase;
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.SubmitCollectionJobUseCase;
 import com.stock.screener.collector.application.port.out.file.TickerReaderPort;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
@@ -14,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 class MonthlyCollectorController {
 
     private final CollectMonthlyDataUseCase collectMonthlyDataUseCase;
+    private final SubmitCollectionJobUseCase submitCollectionJobUseCase;
     private final TickerReaderPort tickerReaderPort;
 
     @POST
@@ -35,22 +38,7 @@ class MonthlyCollectorController {
     @Produces(MediaType.APPLICATION_JSON)
     public Response collectAll() {
         log.info("Manual monthly collection triggered for all tickers");
-        var tickers = tickerReaderPort.readTickers();
-        int success = 0;
-        int failed = 0;
-
-        for (String ticker : tickers) {
-            try {
-                collectMonthlyDataUseCase.collectMonthlyData(ticker);
-                success++;
-            } catch (Exception ex) {
-                log.error("Monthly collection failed for ticker: {}", ticker, ex);
-                failed++;
-            }
-        }
-
-        return Response.ok()
-                .entity("{\"success\":" + success + ",\"failed\":" + failed + "}")
-                .build();
+        var job = submitCollectionJobUseCase.submit(CollectionJobType.MONTHLY, tickerReaderPort.readTickers());
+        return Response.accepted(job).build();
     }
 }
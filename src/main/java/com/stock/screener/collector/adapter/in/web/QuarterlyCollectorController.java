@@ -1,6 +1,8 @@
 package com.stock.screener.collector.adapter.in.web;
 
 import com.stock.screener.collector.application.port.in.CollectQuarterlyDataUseCase;
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.SubmitCollectionJobUseCase;
 import com.stock.screener.collector.application.port.out.file.TickerReaderPort;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
@@ -14,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 class QuarterlyCollectorController {
 
     private final CollectQuarterlyDataUseCase collectQuarterlyDataUseCase;
+    private final SubmitCollectionJobUseCase submitCollectionJobUseCase;
     private final TickerReaderPort tickerReaderPort;
 
     @POST
@@ -35,22 +38,31 @@ class QuarterlyCollectorController {
     @Produces(MediaType.APPLICATION_JSON)
     public Response collectAll() {
         log.info("Manual quarterly collection triggered for all tickers");
-        var tickers = tickerReaderPort.readTickers();
-        int success = 0;
-        int failed = 0;
+        var job = submitCollectionJobUseCase.submit(CollectionJobType.QUARTERLY, tickerReaderPort.readTickers());
+        return Response.accepted(job).build();
+    }
 
-        for (String ticker : tickers) {
-            try {
-                collectQuarterlyDataUseCase.collectQuarterlyData(ticker);
-                success++;
-            } catch (Exception ex) {
-                log.error("Quarterly collection failed for ticker: {}", ticker, ex);
-                failed++;
-            }
+    @POST
+    @Path("/{ticker}/history")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response collectHistoryForTicker(@PathParam("ticker") String ticker) {
+        log.info("Quarterly history backfill triggered for: {}", ticker);
+        try {
+            int quarters = collectQuarterlyDataUseCase.collectQuarterlyHistory(ticker.toUpperCase());
+            return Response.ok(quarters).build();
+        } catch (Exception ex) {
+            log.error("Quarterly history backfill failed for ticker: {}", ticker, ex);
+            return Response.serverError().entity(ex.getMessage()).build();
         }
+    }
 
-        return Response.ok()
-                .entity("{\"success\":" + success + ",\"failed\":" + failed + "}")
-                .build();
+    @POST
+    @Path("/history/all")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response collectHistoryForAll() {
+        log.info("Quarterly history backfill triggered for all tickers");
+        var job = submitCollectionJobUseCase.submit(CollectionJobType.QUARTERLY_HISTORY,
+                tickerReaderPort.readTickers());
+        return Response.accepted(job).build();
     }
 }
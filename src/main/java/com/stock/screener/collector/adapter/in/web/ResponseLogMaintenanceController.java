@@ -0,0 +1,26 @@
+package com.stock.screener.collector.adapter.in.web;
+
+import com.stock.screener.collector.application.port.in.MaintainResponseLogsUseCase;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Path("/api/collector/response-log")
+@RequiredArgsConstructor
+class ResponseLogMaintenanceController {
+
+    private final MaintainResponseLogsUseCase maintainResponseLogsUseCase;
+
+    @POST
+    @Path("/maintenance")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response maintain() {
+        log.info("Manual response log maintenance triggered");
+        return Response.ok(maintainResponseLogsUseCase.maintainResponseLogs()).build();
+    }
+}
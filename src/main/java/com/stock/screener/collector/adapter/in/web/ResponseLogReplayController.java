@@ -0,0 +1,38 @@
+package com.stock.screener.collector.adapter.in.web;
+
+import com.stock.screener.collector.application.port.in.ReplayResponseLogsUseCase;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Path("/api/collector/replay")
+@RequiredArgsConstructor
+class ResponseLogReplayController {
+
+    private final ReplayResponseLogsUseCase replayResponseLogsUseCase;
+
+    @POST
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response startReplay() {
+        log.info("Response log replay triggered");
+        try {
+            return Response.accepted(replayResponseLogsUseCase.startReplay()).build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT).entity(e.getMessage()).build();
+        }
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response progress() {
+        return replayResponseLogsUseCase.replayProgress()
+                .map(progress -> Response.ok(progress).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+}
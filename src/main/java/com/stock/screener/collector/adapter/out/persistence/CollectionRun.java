@@ -0,0 +1,41 @@
+package com.stock.screener.collector.adapter.out.persistence;
+
+import com.stock.screener.collector.application.port.in.CollectionJobStatus;
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "collection_run")
+class CollectionRun extends PanacheEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    public CollectionJobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    public CollectionJobStatus status;
+
+    @Column(nullable = false)
+    public int totalTickers;
+
+    @Column(nullable = false)
+    public LocalDateTime createdAt;
+
+    /**
+     * Time of the latest (re)start, so throughput only counts the current attempt.
+     */
+    public LocalDateTime startedAt;
+
+    public LocalDateTime finishedAt;
+
+    @Column(length = 100)
+    public String triggerKey;
+}
@@ -0,0 +1,279 @@
+package com.stock.screener.collector.adapter.out.persistence;
+
+import com.stock.screener.collector.application.port.in.CollectionJobStatus;
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.TickerOutcome;
+import com.stock.screener.collector.application.port.out.job.CollectionFailurePort;
+import com.stock.screener.collector.application.port.out.job.CollectionFailures;
+import com.stock.screener.collector.application.port.out.job.CollectionRunPort;
+import com.stock.screener.collector.application.port.out.job.CollectionRunState;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Panache implementation of {@link CollectionRunPort} and {@link CollectionFailurePort}. Items are bulk-inserted
+ * through {@link BulkEntityWriter}; every outcome is its own short transaction, which is what makes it a checkpoint.
+ * <p>
+ * Lease timestamps are written and compared with the database clock only, so instances with skewed clocks
+ * agree on when a lease has expired. Run creation is serialized by a transaction-scoped advisory lock per job
+ * type.
+ * </p>
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+class CollectionRunAdapter implements CollectionRunPort, CollectionFailurePort {
+
+    private final BulkEntityWriter bulkEntityWriter;
+
+    @Override
+    @Transactional
+    public long joinOrCreateRun(CollectionJobType type, List<String> tickers, String triggerKey) {
+        CollectionRun.getEntityManager()
+                .createNativeQuery("SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext(:key))) AS run_lock")
+                .setParameter("key", "collection_run:" + type.name())
+                .getSingleResult();
+
+        Optional<CollectionRun> existing = triggerKey != null
+                ? CollectionRun.<CollectionRun>find("jobType = ?1 and triggerKey = ?2", type, triggerKey)
+                        .firstResultOptional()
+                : findRunningOver(type, tickers);
+        return existing
+                .map(run -> run.id)
+                .orElseGet(() -> createRun(type, tickers, triggerKey));
+    }
+
+    /**
+     * A submission without a trigger key, e.g. the same request sent again, joins an unfinished run over exactly
+     * its tickers; any other submission is work of its own.
+     */
+    private static Optional<CollectionRun> findRunningOver(CollectionJobType type, List<String> tickers) {
+        Set<String> requested = Set.copyOf(tickers);
+        return CollectionRun.<CollectionRun>find("jobType = ?1 and status = ?2 and totalTickers = ?3",
+                        Sort.ascending("id"), type, CollectionJobStatus.RUNNING, requested.size())
+                .stream()
+                .filter(run -> requested.equals(Set.copyOf(CollectionRunItem.getEntityManager()
+                        .createQuery("select i.ticker from CollectionRunItem i where i.runId = :runId", String.class)
+                        .setParameter("runId", run.id)
+                        .getResultList())))
+                .findFirst();
+    }
+
+    @Override
+    @Transactional
+    public Optional<CollectionRunState> findRun(long runId) {
+        return CollectionRun.<CollectionRun>findByIdOptional(runId).map(this::toState);
+    }
+
+    @Override
+    @Transactional
+    public List<CollectionRunState> findUnfinishedRuns() {
+        return CollectionRun.<CollectionRun>list("status", Sort.ascending("id"), CollectionJobStatus.RUNNING)
+                .stream()
+                .map(this::toState)
+                .toList();
+    }
+
+    /**
+     * Tickers whose lease expired on their last attempt are given up on first, so they cannot keep the run open.
+     */
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<String> claimTickers(long runId, String workerId, int limit, Duration lease, int maxAttempts) {
+        var entityManager = CollectionRunItem.getEntityManager();
+        entityManager.createNativeQuery("""
+                        UPDATE collection_run_item
+                        SET status = 'FAILED', error = 'Lease expired', lease_owner = NULL, lease_expires_at = NULL,
+                            finished_at = LOCALTIMESTAMP
+                        WHERE run_id = :runId AND status = 'CLAIMED' AND lease_expires_at < LOCALTIMESTAMP
+                          AND attempts >= :maxAttempts
+                        """)
+                .setParameter("runId", runId)
+                .setParameter("maxAttempts", maxAttempts)
+                .executeUpdate();
+
+        return entityManager.createNativeQuery("""
+                        UPDATE collection_run_item
+                        SET status = 'CLAIMED', attempts = attempts + 1, lease_owner = :workerId,
+                            lease_expires_at = LOCALTIMESTAMP + :leaseSeconds * INTERVAL '1 second'
+                        WHERE id IN (
+                            SELECT id FROM collection_run_item
+                            WHERE run_id = :runId
+                              AND attempts < :maxAttempts
+                              AND (status = 'PENDING'
+                                   OR (status = 'FAILED' AND next_attempt_at <= LOCALTIMESTAMP)
+                                   OR (status = 'CLAIMED' AND lease_expires_at < LOCALTIMESTAMP))
+                            ORDER BY attempts, id
+                            LIMIT :limit
+                            FOR UPDATE SKIP LOCKED)
+                        RETURNING ticker
+                        """)
+                .setParameter("workerId", workerId)
+                .setParameter("leaseSeconds", lease.toSeconds())
+                .setParameter("runId", runId)
+                .setParameter("maxAttempts", maxAttempts)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public void renewLeases(long runId, String workerId, Duration lease) {
+        CollectionRunItem.getEntityManager().createNativeQuery("""
+                        UPDATE collection_run_item
+                        SET lease_expires_at = LOCALTIMESTAMP + :leaseSeconds * INTERVAL '1 second'
+                        WHERE run_id = :runId AND lease_owner = :workerId AND status = 'CLAIMED'
+                        """)
+                .setParameter("leaseSeconds", lease.toSeconds())
+                .setParameter("runId", runId)
+                .setParameter("workerId", workerId)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public boolean hasOpenTickers(long runId, int maxAttempts) {
+        return CollectionRunItem.count("runId = ?1 and (status = ?2 or status = ?3 and attempts < ?4)", runId,
+                CollectionRunItem.Status.CLAIMED, CollectionRunItem.Status.FAILED, maxAttempts) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void markStarted(long runId) {
+        CollectionRun.getEntityManager().createNativeQuery("""
+                        UPDATE collection_run
+                        SET status = 'RUNNING', finished_at = NULL,
+                            started_at = CASE WHEN EXISTS (
+                                    SELECT 1 FROM collection_run_item
+                                    WHERE run_id = :runId AND status = 'CLAIMED'
+                                      AND lease_expires_at >= LOCALTIMESTAMP)
+                                THEN started_at ELSE :now END
+                        WHERE id = :runId
+                        """)
+                .setParameter("runId", runId)
+                .setParameter("now", LocalDateTime.now())
+                .executeUpdate();
+    }
+
+    /**
+     * The retry time is set first, while the lease still identifies the worker, and from the database clock like
+     * the leases it is compared with.
+     */
+    @Override
+    @Transactional
+    public boolean recordOutcome(long runId, String workerId, TickerOutcome outcome, Duration retryBackoff) {
+        if (!outcome.isSuccess()) {
+            CollectionRunItem.getEntityManager().createNativeQuery("""
+                            UPDATE collection_run_item
+                            SET next_attempt_at = LOCALTIMESTAMP
+                                + :backoffSeconds * POWER(2, GREATEST(attempts - 1, 0)) * INTERVAL '1 second'
+                            WHERE run_id = :runId AND ticker = :ticker AND lease_owner = :workerId
+                            """)
+                    .setParameter("backoffSeconds", retryBackoff.toSeconds())
+                    .setParameter("runId", runId)
+                    .setParameter("ticker", outcome.ticker())
+                    .setParameter("workerId", workerId)
+                    .executeUpdate();
+        }
+        return CollectionRunItem.update("""
+                        status = ?1, durationMs = ?2, error = ?3, finishedAt = ?4,
+                        leaseOwner = null, leaseExpiresAt = null
+                        where runId = ?5 and ticker = ?6 and leaseOwner = ?7""",
+                outcome.isSuccess() ? CollectionRunItem.Status.DONE : CollectionRunItem.Status.FAILED,
+                outcome.durationMs(), outcome.error(), LocalDateTime.now(), runId, outcome.ticker(), workerId) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void finishRun(long runId, CollectionJobStatus status) {
+        CollectionRun.update("status = ?1, finishedAt = ?2 where id = ?3 and status = ?4",
+                status, LocalDateTime.now(), runId, CollectionJobStatus.RUNNING);
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public Map<String, CollectionFailures> recentFailures(CollectionJobType type) {
+        List<Object[]> rows = CollectionRunItem.getEntityManager().createNativeQuery("""
+                        SELECT ticker, COUNT(*), MAX(finished_at)
+                        FROM (
+                            SELECT i.ticker, i.status, i.finished_at,
+                                   MAX(i.finished_at) FILTER (WHERE i.status = 'DONE')
+                                       OVER (PARTITION BY i.ticker) AS last_success
+                            FROM collection_run_item i
+                            JOIN collection_run r ON r.id = i.run_id
+                            WHERE r.job_type = :jobType AND i.status IN ('DONE', 'FAILED')) items
+                        WHERE status = 'FAILED' AND (last_success IS NULL OR finished_at > last_success)
+                        GROUP BY ticker
+                        """)
+                .setParameter("jobType", type.name())
+                .getResultList();
+        return rows.stream().collect(Collectors.toMap(row -> (String) row[0], row -> new CollectionFailures(
+                ((Number) row[1]).intValue(), toLocalDateTime(row[2]))));
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    private long createRun(CollectionJobType type, List<String> tickers, String triggerKey) {
+        List<String> distinct = tickers.stream().distinct().toList();
+
+        var run = new CollectionRun();
+        run.jobType = type;
+        run.status = CollectionJobStatus.RUNNING;
+        run.totalTickers = distinct.size();
+        run.createdAt = LocalDateTime.now();
+        run.triggerKey = triggerKey;
+        run.persistAndFlush();
+
+        bulkEntityWriter.insertAll(distinct.stream()
+                .map(ticker -> new CollectionRunItem(run.id, ticker))
+                .toList());
+        return run.id;
+    }
+
+    private CollectionRunState toState(CollectionRun run) {
+        Map<CollectionRunItem.Status, Long> counts = CollectionRunItem.getEntityManager()
+                .createQuery("select i.status, count(i) from CollectionRunItem i where i.runId = :runId"
+                        + " group by i.status", Object[].class)
+                .setParameter("runId", run.id)
+                .getResultStream()
+                .collect(Collectors.toMap(row -> (CollectionRunItem.Status) row[0], row -> (Long) row[1]));
+
+        long processedSinceStart = run.startedAt == null ? 0 : CollectionRunItem.count(
+                "runId = ?1 and status <> ?2 and finishedAt >= ?3",
+                run.id, CollectionRunItem.Status.PENDING, run.startedAt);
+
+        List<TickerOutcome> failures = CollectionRunItem.<CollectionRunItem>list("runId = ?1 and status = ?2",
+                        Sort.ascending("ticker"), run.id, CollectionRunItem.Status.FAILED)
+                .stream()
+                .map(item -> TickerOutcome.failed(item.ticker,
+                        item.durationMs != null ? item.durationMs : 0, item.error))
+                .toList();
+
+        return new CollectionRunState(
+                run.id,
+                run.jobType,
+                run.status,
+                run.totalTickers,
+                counts.getOrDefault(CollectionRunItem.Status.DONE, 0L).intValue(),
+                counts.getOrDefault(CollectionRunItem.Status.FAILED, 0L).intValue(),
+                (int) processedSinceStart,
+                run.createdAt,
+                run.startedAt,
+                run.finishedAt,
+                failures);
+    }
+}
@@ -0,0 +1,57 @@
+package com.stock.screener.collector.adapter.out.persistence;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "collection_run_item")
+class CollectionRunItem extends PanacheEntity {
+
+    enum Status {
+        PENDING,
+        CLAIMED,
+        DONE,
+        FAILED
+    }
+
+    @Column(nullable = false)
+    public Long runId;
+
+    @Column(nullable = false, length = 10)
+    public String ticker;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    public Status status;
+
+    @Column(nullable = false)
+    public int attempts;
+
+    public Long durationMs;
+
+    @Column(columnDefinition = "text")
+    public String error;
+
+    public LocalDateTime finishedAt;
+
+    @Column(length = 100)
+    public String leaseOwner;
+
+    public LocalDateTime leaseExpiresAt;
+
+    public LocalDateTime nextAttemptAt;
+
+    public CollectionRunItem() {}
+
+    CollectionRunItem(Long runId, String ticker) {
+        this.runId = runId;
+        this.ticker = ticker;
+        this.status = Status.PENDING;
+    }
+}
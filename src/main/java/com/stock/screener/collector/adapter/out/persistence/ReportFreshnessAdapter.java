@@ -0,0 +1,48 @@
+package com.stock.screener.collector.adapter.out.persistence;
+
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.out.ReportDates;
+import com.stock.screener.collector.application.port.out.ReportFreshnessPort;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.HashMap;
+import java.util.Map;
+
+@ApplicationScoped
+class ReportFreshnessAdapter implements ReportFreshnessPort {
+
+    @Override
+    @Transactional
+    public Map<String, ReportDates> reportDates(CollectionJobType type) {
+        Map<String, Month> fiscalYearEnds = new HashMap<>();
+        Map<String, ReportDates> dates = new HashMap<>();
+        MonthlyReport.getEntityManager()
+                .createQuery("select m.ticker, m.updatedAt, m.fiscalYearEnd from MonthlyReport m"
+                        + " where m.forecastDate = (select max(l.forecastDate) from MonthlyReport l"
+                        + " where l.ticker = m.ticker)", Object[].class)
+                .getResultStream()
+                .forEach(row -> {
+                    fiscalYearEnds.put((String) row[0], (Month) row[2]);
+                    if (type == CollectionJobType.MONTHLY && row[1] != null) {
+                        dates.put((String) row[0], new ReportDates((LocalDateTime) row[1], null, (Month) row[2]));
+                    }
+                });
+        if (type == CollectionJobType.MONTHLY) {
+            return dates;
+        }
+
+        QuarterlyReport.getEntityManager()
+                .createQuery("select q.ticker, max(q.updatedAt), max(q.fiscalDateEnding) from QuarterlyReport q"
+                        + " group by q.ticker", Object[].class)
+                .getResultStream()
+                .forEach(row -> dates.put((String) row[0], new ReportDates(
+                        (LocalDateTime) row[1], (LocalDate) row[2], fiscalYearEnds.get((String) row[0]))));
+        return dates;
+    }
+}
@@ -0,0 +1,289 @@
+package com.stock.screener.collector.adapter.out.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.screener.collector.application.port.out.ReportUpsertPort;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+import com.stock.screener.collector.domain.event.ReportsChanged;
+import com.stock.screener.collector.domain.kernel.ReportError;
+import com.stock.screener.collector.domain.valueobject.AltmanZScore;
+import com.stock.screener.collector.domain.valueobject.ForwardPeg;
+import com.stock.screener.collector.domain.valueobject.InterestCoverageRatio;
+import com.stock.screener.collector.domain.valueobject.PsRatio;
+import com.stock.screener.collector.domain.valueobject.QuickRatio;
+import com.stock.screener.collector.domain.valueobject.UpsidePotential;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Session;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL {@code INSERT ... ON CONFLICT DO UPDATE} writer for the report tables.
+ * <p>
+ * Replaces the find-then-persist pair the collectors used to do: one statement per report instead of two round
+ * trips, sent as a JDBC batch, and no duplicate-key failures when two runs write the same key concurrently —
+ * the database resolves the conflict instead of the second INSERT failing. The statements bypass the persistence
+ * context, so callers hand over freshly computed entities rather than managed ones.
+ * </p>
+ * <p>
+ * The report is written as given, inputs and metrics alike, so a stored metric always sits next to the inputs it
+ * was computed from. Inputs a response lacks are kept by the collectors, which start from the stored report and
+ * merge the response over it before computing. Only the monthly sector and fiscal year end, which no metric
+ * depends on, keep their stored values when the new report lacks them.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+class ReportUpsertAdapter implements ReportUpsertPort {
+
+    private static final String INSERT_QUARTERLY = """
+            INSERT INTO quarterly_report (id, stock_ticker, sector, fiscal_date_ending, integrity_status,
+                    total_revenue, revenuettm, net_income, total_debt, total_assets, operating_cash_flow,
+                    total_current_assets, total_current_liabilities, total_liabilities, retained_earnings,
+                    total_shareholder_equity, inventory, ebit, interest_expense,
+                    quick_ratio, interest_coverage_ratio, altman_z_score, calculation_errors, created_at, updated_at)
+            VALUES (nextval('quarterly_report_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?,
+                    ?::jsonb, ?, ?)
+            ON CONFLICT (stock_ticker, fiscal_date_ending) DO UPDATE SET
+                    sector = EXCLUDED.sector,
+                    integrity_status = EXCLUDED.integrity_status,
+                    total_revenue = EXCLUDED.total_revenue,
+                    revenuettm = EXCLUDED.revenuettm,
+                    net_income = EXCLUDED.net_income,
+                    total_debt = EXCLUDED.total_debt,
+                    total_assets = EXCLUDED.total_assets,
+                    operating_cash_flow = EXCLUDED.operating_cash_flow,
+                    total_current_assets = EXCLUDED.total_current_assets,
+                    total_current_liabilities = EXCLUDED.total_current_liabilities,
+                    total_liabilities = EXCLUDED.total_liabilities,
+                    retained_earnings = EXCLUDED.retained_earnings,
+                    total_shareholder_equity = EXCLUDED.total_shareholder_equity,
+                    inventory = EXCLUDED.inventory,
+                    ebit = EXCLUDED.ebit,
+                    interest_expense = EXCLUDED.interest_expense,
+                    quick_ratio = EXCLUDED.quick_ratio,
+                    interest_coverage_ratio = EXCLUDED.interest_coverage_ratio,
+                    altman_z_score = EXCLUDED.altman_z_score,
+                    calculation_errors = EXCLUDED.calculation_errors,
+                    updated_at = %s
+            """;
+
+    private static final String UPSERT_QUARTERLY = INSERT_QUARTERLY.formatted("EXCLUDED.updated_at");
+
+    /**
+     * A replayed quarter keeps its stored timestamps: nothing was fetched, so it must not look freshly collected.
+     */
+    private static final String REPLAY_QUARTERLY = INSERT_QUARTERLY.formatted("quarterly_report.updated_at");
+
+    private static final String UPSERT_MONTHLY = """
+            INSERT INTO monthly_report (id, stock_ticker, sector, forward_revenue_growth, forward_eps_growth,
+                    target_price, current_price, market_cap, revenuettm, ps_ratio, forward_pe_ratio,
+                    forward_peg_ratio, upside_potential, strong_buy, buy, hold, sell, strong_sell, integrity_status,
+                    calculation_errors, forecast_date, updated_at, fiscal_year_end)
+            VALUES (nextval('monthly_report_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?::jsonb,
+                    ?, ?, ?)
+            ON CONFLICT (stock_ticker, forecast_date) DO UPDATE SET
+                    sector = COALESCE(EXCLUDED.sector, monthly_report.sector),
+                    fiscal_year_end = COALESCE(EXCLUDED.fiscal_year_end, monthly_report.fiscal_year_end),
+                    forward_revenue_growth = EXCLUDED.forward_revenue_growth,
+                    forward_eps_growth = EXCLUDED.forward_eps_growth,
+                    target_price = EXCLUDED.target_price,
+                    current_price = EXCLUDED.current_price,
+                    market_cap = EXCLUDED.market_cap,
+                    revenuettm = EXCLUDED.revenuettm,
+                    forward_pe_ratio = EXCLUDED.forward_pe_ratio,
+                    strong_buy = EXCLUDED.strong_buy,
+                    buy = EXCLUDED.buy,
+                    hold = EXCLUDED.hold,
+                    sell = EXCLUDED.sell,
+                    strong_sell = EXCLUDED.strong_sell,
+                    ps_ratio = EXCLUDED.ps_ratio,
+                    forward_peg_ratio = EXCLUDED.forward_peg_ratio,
+                    upside_potential = EXCLUDED.upside_potential,
+                    integrity_status = EXCLUDED.integrity_status,
+                    calculation_errors = EXCLUDED.calculation_errors,
+                    updated_at = EXCLUDED.updated_at
+            """;
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Event<ReportsChanged> reportsChanged;
+
+    @Inject
+    ReportUpsertAdapter(
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            @ConfigProperty(name = "quarkus.hibernate-orm.jdbc.statement-batch-size", defaultValue = "50")
+            int batchSize,
+            Event<ReportsChanged> reportsChanged) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.reportsChanged = reportsChanged;
+    }
+
+    @Override
+    @Transactional
+    public void upsertQuarterly(List<QuarterlyReport> reports) {
+        var now = LocalDateTime.now();
+        writeQuarterly(UPSERT_QUARTERLY, reports, report -> now);
+    }
+
+    @Override
+    @Transactional
+    public void replayQuarterly(List<QuarterlyReport> reports) {
+        writeQuarterly(REPLAY_QUARTERLY, reports, report -> report.updatedAt);
+    }
+
+    private void writeQuarterly(String sql, List<QuarterlyReport> reports,
+            Function<QuarterlyReport, LocalDateTime> writtenAt) {
+        executeBatched(sql, reports, (statement, report) -> {
+            var at = writtenAt.apply(report);
+            statement.setString(1, report.ticker);
+            statement.setString(2, name(report.sector));
+            statement.setObject(3, report.fiscalDateEnding);
+            statement.setString(4, name(report.integrityStatus));
+            setDecimal(statement, 5, report.totalRevenue);
+            setDecimal(statement, 6, report.revenueTTM);
+            setDecimal(statement, 7, report.netIncome);
+            setDecimal(statement, 8, report.totalDebt);
+            setDecimal(statement, 9, report.totalAssets);
+            setDecimal(statement, 10, report.operatingCashFlow);
+            setDecimal(statement, 11, report.totalCurrentAssets);
+            setDecimal(statement, 12, report.totalCurrentLiabilities);
+            setDecimal(statement, 13, report.totalLiabilities);
+            setDecimal(statement, 14, report.retainedEarnings);
+            setDecimal(statement, 15, report.totalShareholderEquity);
+            setDecimal(statement, 16, report.inventory);
+            setDecimal(statement, 17, report.ebit);
+            setDecimal(statement, 18, report.interestExpense);
+            setDecimal(statement, 19, valueOf(report.quickRatio, QuickRatio::value));
+            setDecimal(statement, 20, valueOf(report.interestCoverageRatio, InterestCoverageRatio::value));
+            setDecimal(statement, 21, valueOf(report.altmanZScore, AltmanZScore::value));
+            statement.setString(22, toJson(report.calculationErrors));
+            statement.setObject(23, at);
+            statement.setObject(24, at);
+        });
+        fireChanged(ReportsChanged.Table.QUARTERLY, reports, report -> report.ticker);
+    }
+
+    @Override
+    @Transactional
+    public void upsertMonthly(List<MonthlyReport> reports) {
+        var now = LocalDateTime.now();
+        writeMonthly(reports, report -> now);
+    }
+
+    @Override
+    @Transactional
+    public void replayMonthly(List<MonthlyReport> reports) {
+        writeMonthly(reports, report -> report.updatedAt);
+    }
+
+    /**
+     * @param writtenAt the collection time of a report; its date is the forecast date the upsert conflicts on
+     */
+    private void writeMonthly(List<MonthlyReport> reports, Function<MonthlyReport, LocalDateTime> writtenAt) {
+        executeBatched(UPSERT_MONTHLY, reports, (statement, report) -> {
+            var at = writtenAt.apply(report);
+            var ratings = report.analystRatings;
+            statement.setString(1, report.ticker);
+            statement.setString(2, name(report.sector));
+            setDecimal(statement, 3, report.forwardRevenueGrowth);
+            setDecimal(statement, 4, report.forwardEpsGrowth);
+            setDecimal(statement, 5, report.targetPrice);
+            setDecimal(statement, 6, report.currentPrice);
+            setDecimal(statement, 7, report.marketCap);
+            setDecimal(statement, 8, report.revenueTTM);
+            setDecimal(statement, 9, valueOf(report.psRatio, PsRatio::value));
+            setDecimal(statement, 10, report.forwardPeRatio);
+            setDecimal(statement, 11, valueOf(report.forwardPegRatio, ForwardPeg::value));
+            setDecimal(statement, 12, valueOf(report.upsidePotential, UpsidePotential::value));
+            setInteger(statement, 13, ratings != null ? ratings.strongBuy() : null);
+            setInteger(statement, 14, ratings != null ? ratings.buy() : null);
+            setInteger(statement, 15, ratings != null ? ratings.hold() : null);
+            setInteger(statement, 16, ratings != null ? ratings.sell() : null);
+            setInteger(statement, 17, ratings != null ? ratings.strongSell() : null);
+            statement.setString(18, name(report.integrityStatus));
+            statement.setString(19, toJson(report.calculationErrors));
+            statement.setObject(20, at.toLocalDate());
+            statement.setObject(21, at);
+            statement.setString(22, name(report.fiscalYearEnd));
+        });
+        fireChanged(ReportsChanged.Table.MONTHLY, reports, report -> report.ticker);
+    }
+
+    private <T> void executeBatched(String sql, List<T> rows, Binder<T> binder) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (T row : rows) {
+                    binder.bind(statement, row);
+                    statement.addBatch();
+                    if (++pending == batchSize) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+        log.debug("Upserted {} rows", rows.size());
+    }
+
+    private <T> void fireChanged(ReportsChanged.Table table, List<T> reports, Function<T, String> ticker) {
+        if (!reports.isEmpty()) {
+            reportsChanged.fire(new ReportsChanged(table, reports.stream().map(ticker).collect(Collectors.toSet())));
+        }
+    }
+
+    private String toJson(Set<ReportError> errors) {
+        try {
+            return objectMapper.writeValueAsString(errors);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize calculation errors", e);
+        }
+    }
+
+    private static <T> BigDecimal valueOf(T metric, Function<T, BigDecimal> value) {
+        return metric != null ? value.apply(metric) : null;
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private static void setDecimal(PreparedStatement statement, int index, BigDecimal value) throws SQLException {
+        statement.setObject(index, value, Types.NUMERIC);
+    }
+
+    private static void setInteger(PreparedStatement statement, int index, Integer value) throws SQLException {
+        statement.setObject(index, value, Types.INTEGER);
+    }
+
+    @FunctionalInterface
+    private interface Binder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+}
@@ -0,0 +1,200 @@
+package com.stock.screener.collector.adapter.out.persistence;
+
+import com.stock.screener.collector.application.port.out.log.ResponseLogStoragePort;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.jdbc.Work;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Partition maintenance for {@code alpha_vantage_response_log} and {@code yh_finance_response_log} (see V12).
+ * <p>
+ * Partitions are named {@code <table>_pYYYY_MM} and created through the {@code create_monthly_partition}
+ * SQL function. Compression rewrites a partition in chunks of {@value #COMPRESS_CHUNK} rows, each in its own
+ * short transaction, so a large backlog never holds locks for long.
+ * </p>
+ * <p>
+ * The updates leave the uncompressed row versions behind as dead tuples, and (auto)vacuum only marks their space
+ * reusable within the partition, which is never written again. A partition that had payloads compressed is
+ * therefore rewritten with {@code VACUUM FULL} afterwards, which returns the space to the operating system. It
+ * locks that partition only, and only for the rewrite of an already compressed, no longer written month.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+@RequiredArgsConstructor
+class ResponseLogPartitionAdapter implements ResponseLogStoragePort {
+
+    private static final List<String> LOG_TABLES = List.of("alpha_vantage_response_log", "yh_finance_response_log");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("_p(\\d{4})_(\\d{2})$");
+    private static final int COMPRESS_CHUNK = 500;
+
+    private static final String LIST_PARTITIONS = """
+            SELECT child.relname
+            FROM pg_inherits
+            JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+            JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+            WHERE parent.relname = ?
+            """;
+
+    private final EntityManager entityManager;
+    private final DataSource dataSource;
+
+    @Override
+    public void createMonthlyPartitions(YearMonth from, YearMonth to) {
+        QuarkusTransaction.requiringNew().run(() -> doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT create_monthly_partition(?, ?)")) {
+                for (String table : LOG_TABLES) {
+                    for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                        statement.setString(1, table);
+                        statement.setObject(2, month.atDay(1));
+                        statement.execute();
+                    }
+                }
+            }
+        }));
+    }
+
+    @Override
+    public long compressPartitionsBefore(YearMonth cutoff) {
+        long compressed = 0;
+        for (Partition partition : partitionsBefore(cutoff)) {
+            long partitionCompressed = 0;
+            int chunk;
+            do {
+                chunk = QuarkusTransaction.requiringNew().call(() -> compressChunk(partition.name()));
+                partitionCompressed += chunk;
+            } while (chunk == COMPRESS_CHUNK);
+
+            if (partitionCompressed > 0) {
+                QuarkusTransaction.suspendingExisting().run(() -> rewrite(partition.name()));
+                log.info("Compressed {} payloads of response log partition {}", partitionCompressed,
+                        partition.name());
+            }
+            compressed += partitionCompressed;
+        }
+        return compressed;
+    }
+
+    @Override
+    public List<String> expirePartitionsBefore(YearMonth cutoff, boolean archive) {
+        List<String> expired = new ArrayList<>();
+        for (Partition partition : partitionsBefore(cutoff)) {
+            QuarkusTransaction.requiringNew().run(() -> doWork(connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(archive
+                            ? "ALTER TABLE %s DETACH PARTITION %s".formatted(
+                                    quote(partition.parent()), quote(partition.name()))
+                            : "DROP TABLE %s".formatted(quote(partition.name())));
+                }
+            }));
+            log.info("{} response log partition {}", archive ? "Detached" : "Dropped", partition.name());
+            expired.add(partition.name());
+        }
+        return expired;
+    }
+
+    private int compressChunk(String partition) {
+        var rows = new ArrayList<StoredPayload>();
+        doWork(connection -> {
+            try (PreparedStatement select = connection.prepareStatement(
+                    "SELECT id, request_timestamp, raw_response::text FROM %s WHERE raw_response IS NOT NULL LIMIT ?"
+                            .formatted(quote(partition)))) {
+                select.setInt(1, COMPRESS_CHUNK);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        rows.add(new StoredPayload(resultSet.getLong(1), resultSet.getTimestamp(2),
+                                resultSet.getString(3)));
+                    }
+                }
+            }
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE %s SET raw_response_gz = ?, raw_response = NULL WHERE id = ? AND request_timestamp = ?"
+                            .formatted(quote(partition)))) {
+                for (StoredPayload row : rows) {
+                    update.setBytes(1, PayloadCompression.gzip(row.json()));
+                    update.setLong(2, row.id());
+                    update.setTimestamp(3, row.requestTimestamp());
+                    update.addBatch();
+                }
+                update.executeBatch();
+            }
+        });
+        return rows.size();
+    }
+
+    /**
+     * {@code VACUUM} cannot run inside a transaction block, so it gets an auto-commit connection of its own.
+     */
+    private void rewrite(String partition) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM FULL " + quote(partition));
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot rewrite response log partition " + partition, e);
+        }
+    }
+
+    private List<Partition> partitionsBefore(YearMonth cutoff) {
+        List<Partition> partitions = new ArrayList<>();
+        QuarkusTransaction.requiringNew().run(() -> doWork(connection -> {
+            for (String table : LOG_TABLES) {
+                for (String name : partitionNames(connection, table)) {
+                    Matcher matcher = MONTHLY_PARTITION.matcher(name);
+                    if (matcher.find()) {
+                        var month = YearMonth.of(Integer.parseInt(matcher.group(1)),
+                                Integer.parseInt(matcher.group(2)));
+                        if (month.isBefore(cutoff)) {
+                            partitions.add(new Partition(table, name));
+                        }
+                    }
+                }
+            }
+        }));
+        return partitions;
+    }
+
+    private static List<String> partitionNames(Connection connection, String table) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(LIST_PARTITIONS)) {
+            statement.setString(1, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    names.add(resultSet.getString(1));
+                }
+            }
+        }
+        return names;
+    }
+
+    private void doWork(Work work) {
+        entityManager.unwrap(Session.class).doWork(work);
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+
+    private record Partition(String parent, String name) {
+    }
+
+    private record StoredPayload(long id, Timestamp requestTimestamp, String json) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.stock.screener.collector.adapter.out.persistence;
+
+import com.stock.screener.collector.application.port.out.job.SchedulerLeasePort;
+import io.quarkus.hibernate.orm.panache.Panache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static jakarta.transaction.Transactional.TxType.REQUIRES_NEW;
+
+/**
+ * {@link SchedulerLeasePort} on {@code scheduler_lease}. Both claims are a single conditional statement, so
+ * concurrent instances serialize on the row lock and exactly one of them sees its update applied. Times are
+ * stored as UTC.
+ */
+@ApplicationScoped
+class SchedulerLeaseAdapter implements SchedulerLeasePort {
+
+    @Override
+    @Transactional(REQUIRES_NEW)
+    public boolean tryClaim(String identity, Instant fireTime, Instant nextFireTime, String owner) {
+        return Panache.getEntityManager().createNativeQuery("""
+                        INSERT INTO scheduler_lease (identity, fire_time, next_fire_time, owner, acquired_at)
+                        VALUES (:identity, :fireTime, CAST(:nextFireTime AS TIMESTAMP), :owner, :now)
+                        ON CONFLICT (identity) DO UPDATE
+                        SET fire_time = EXCLUDED.fire_time, next_fire_time = EXCLUDED.next_fire_time,
+                            owner = EXCLUDED.owner, acquired_at = EXCLUDED.acquired_at
+                        WHERE scheduler_lease.fire_time < EXCLUDED.fire_time
+                        """)
+                .setParameter("identity", identity)
+                .setParameter("fireTime", utc(fireTime))
+                .setParameter("nextFireTime", nextFireTime != null ? utc(nextFireTime) : null)
+                .setParameter("owner", owner)
+                .setParameter("now", utc(Instant.now()))
+                .executeUpdate() == 1;
+    }
+
+    @Override
+    @Transactional(REQUIRES_NEW)
+    @SuppressWarnings("unchecked")
+    public Optional<Instant> claimMissedFire(String identity, Instant now, String owner) {
+        return Panache.getEntityManager().createNativeQuery("""
+                        UPDATE scheduler_lease
+                        SET fire_time = next_fire_time, next_fire_time = NULL, owner = :owner, acquired_at = :now
+                        WHERE identity = :identity AND next_fire_time <= :now
+                        RETURNING fire_time
+                        """, LocalDateTime.class)
+                .setParameter("identity", identity)
+                .setParameter("owner", owner)
+                .setParameter("now", utc(now))
+                .getResultStream()
+                .findFirst()
+                .map(fireTime -> ((LocalDateTime) fireTime).toInstant(ZoneOffset.UTC));
+    }
+
+    private static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
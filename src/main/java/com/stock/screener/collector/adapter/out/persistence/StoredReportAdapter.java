@@ -0,0 +1,193 @@
+package com.stock.screener.collector.adapter.out.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.screener.collector.application.port.out.StoredReportPort;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+import com.stock.screener.collector.domain.event.ReportsChanged;
+import com.stock.screener.collector.domain.kernel.ReportError;
+import com.stock.screener.collector.domain.valueobject.AltmanZScore;
+import com.stock.screener.collector.domain.valueobject.ForwardPeg;
+import com.stock.screener.collector.domain.valueobject.InterestCoverageRatio;
+import com.stock.screener.collector.domain.valueobject.PsRatio;
+import com.stock.screener.collector.domain.valueobject.QuickRatio;
+import com.stock.screener.collector.domain.valueobject.UpsidePotential;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.StatelessSession;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link StatelessSession} implementation of {@link StoredReportPort}.
+ * <p>
+ * Reading scrolls a forward-only cursor with a fetch size equal to the chunk size, inside one read transaction
+ * bounded by {@code collector.recompute.scan-timeout}. Nothing is attached to a persistence context, so rows
+ * become garbage as soon as their chunk is processed. Writes are plain JDBC batches of
+ * {@code quarkus.hibernate-orm.jdbc.statement-batch-size}, one transaction per chunk.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+class StoredReportAdapter implements StoredReportPort {
+
+    private static final String UPDATE_QUARTERLY_METRICS = """
+            UPDATE quarterly_report
+            SET quick_ratio = ?, interest_coverage_ratio = ?, altman_z_score = ?,
+                integrity_status = ?, calculation_errors = ?::jsonb
+            WHERE id = ?
+            """;
+
+    private static final String UPDATE_MONTHLY_METRICS = """
+            UPDATE monthly_report
+            SET ps_ratio = ?, forward_peg_ratio = ?, upside_potential = ?,
+                integrity_status = ?, calculation_errors = ?::jsonb
+            WHERE id = ?
+            """;
+
+    private final StatelessSession statelessSession;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration scanTimeout;
+    private final Event<ReportsChanged> reportsChanged;
+
+    @Inject
+    StoredReportAdapter(
+            StatelessSession statelessSession,
+            ObjectMapper objectMapper,
+            @ConfigProperty(name = "quarkus.hibernate-orm.jdbc.statement-batch-size", defaultValue = "50")
+            int batchSize,
+            @ConfigProperty(name = "collector.recompute.scan-timeout", defaultValue = "1h") Duration scanTimeout,
+            Event<ReportsChanged> reportsChanged) {
+        this.statelessSession = statelessSession;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.scanTimeout = scanTimeout;
+        this.reportsChanged = reportsChanged;
+    }
+
+    @Override
+    public void streamQuarterly(int chunkSize, Consumer<List<QuarterlyReport>> chunkConsumer) {
+        stream("from QuarterlyReport order by id", QuarterlyReport.class, chunkSize, chunkConsumer);
+    }
+
+    @Override
+    public void streamMonthly(int chunkSize, Consumer<List<MonthlyReport>> chunkConsumer) {
+        stream("from MonthlyReport order by id", MonthlyReport.class, chunkSize, chunkConsumer);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void updateQuarterlyMetrics(List<QuarterlyReport> reports) {
+        executeBatched(UPDATE_QUARTERLY_METRICS, reports, (statement, report) -> {
+            setDecimal(statement, 1, valueOf(report.quickRatio, QuickRatio::value));
+            setDecimal(statement, 2, valueOf(report.interestCoverageRatio, InterestCoverageRatio::value));
+            setDecimal(statement, 3, valueOf(report.altmanZScore, AltmanZScore::value));
+            statement.setString(4, report.integrityStatus != null ? report.integrityStatus.name() : null);
+            statement.setString(5, toJson(report.calculationErrors));
+            statement.setLong(6, report.id);
+        });
+        fireChanged(ReportsChanged.Table.QUARTERLY, reports, report -> report.ticker);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void updateMonthlyMetrics(List<MonthlyReport> reports) {
+        executeBatched(UPDATE_MONTHLY_METRICS, reports, (statement, report) -> {
+            setDecimal(statement, 1, valueOf(report.psRatio, PsRatio::value));
+            setDecimal(statement, 2, valueOf(report.forwardPegRatio, ForwardPeg::value));
+            setDecimal(statement, 3, valueOf(report.upsidePotential, UpsidePotential::value));
+            statement.setString(4, report.integrityStatus != null ? report.integrityStatus.name() : null);
+            statement.setString(5, toJson(report.calculationErrors));
+            statement.setLong(6, report.id);
+        });
+        fireChanged(ReportsChanged.Table.MONTHLY, reports, report -> report.ticker);
+    }
+
+    private <T> void stream(String query, Class<T> type, int chunkSize, Consumer<List<T>> chunkConsumer) {
+        QuarkusTransaction.requiringNew()
+                .timeout((int) scanTimeout.toSeconds())
+                .run(() -> {
+                    try (ScrollableResults<T> results = statelessSession.createSelectionQuery(query, type)
+                            .setFetchSize(chunkSize)
+                            .scroll(ScrollMode.FORWARD_ONLY)) {
+                        List<T> chunk = new ArrayList<>(chunkSize);
+                        while (results.next()) {
+                            chunk.add(results.get());
+                            if (chunk.size() == chunkSize) {
+                                chunkConsumer.accept(chunk);
+                                chunk = new ArrayList<>(chunkSize);
+                            }
+                        }
+                        if (!chunk.isEmpty()) {
+                            chunkConsumer.accept(chunk);
+                        }
+                    }
+                });
+    }
+
+    private <T> void executeBatched(String sql, List<T> rows, Binder<T> binder) {
+        statelessSession.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (T row : rows) {
+                    binder.bind(statement, row);
+                    statement.addBatch();
+                    if (++pending == batchSize) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+        log.debug("Updated metrics of {} rows", rows.size());
+    }
+
+    private <T> void fireChanged(ReportsChanged.Table table, List<T> reports, Function<T, String> ticker) {
+        if (!reports.isEmpty()) {
+            reportsChanged.fire(new ReportsChanged(table, reports.stream().map(ticker).collect(Collectors.toSet())));
+        }
+    }
+
+    private String toJson(Set<ReportError> errors) {
+        try {
+            return objectMapper.writeValueAsString(errors);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize calculation errors", e);
+        }
+    }
+
+    private static <T> BigDecimal valueOf(T metric, Function<T, BigDecimal> value) {
+        return metric != null ? value.apply(metric) : null;
+    }
+
+    private static void setDecimal(PreparedStatement statement, int index, BigDecimal value) throws SQLException {
+        statement.setObject(index, value, Types.NUMERIC);
+    }
+
+    @FunctionalInterface
+    private interface Binder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+}
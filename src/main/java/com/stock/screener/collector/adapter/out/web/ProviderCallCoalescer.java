@@ -0,0 +1,85 @@
+package com.stock.screener.collector.adapter.out.web;
+
+import com.stock.screener.collector.application.port.out.ApiCallMetricsPort;
+import com.stock.screener.collector.application.port.out.ApiCallStats;
+import com.stock.screener.collector.application.port.out.ApiProvider;
+import com.stock.screener.common.concurrent.SingleFlight;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Counts the HTTP calls of the provider gateways and coalesces those no other layer does.
+ * <p>
+ * Yahoo Finance requests go through {@link #execute}: identical concurrent requests — same function and symbol —
+ * share one HTTP call and one rate limit permit. This happens when the monthly and quarterly runs overlap, or
+ * when a ticker is listed twice in the ticker file. The response is logged once, by the caller that made the
+ * call; the callers that joined it do not log it again. Alpha Vantage requests are already coalesced by the
+ * read-through cache in front of the gateway, so they only pass through {@link #call} to be counted.
+ * </p>
+ */
+@ApplicationScoped
+public class ProviderCallCoalescer implements ApiCallMetricsPort {
+
+    private record CallKey(String function, String symbol) {
+    }
+
+    private static final ScopedValue<AtomicInteger> CALLS = ScopedValue.newInstance();
+
+    private final Map<ApiProvider, SingleFlight<CallKey, Object>> flights = new EnumMap<>(ApiProvider.class);
+    private final Map<ApiProvider, LongAdder> executed = new EnumMap<>(ApiProvider.class);
+
+    public ProviderCallCoalescer() {
+        for (ApiProvider provider : ApiProvider.values()) {
+            flights.put(provider, new SingleFlight<>());
+            executed.put(provider, new LongAdder());
+        }
+    }
+
+    /**
+     * Joins an identical call that is in flight, or makes it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(ApiProvider provider, String function, String symbol, Supplier<T> call) {
+        return (T) flights.get(provider).execute(new CallKey(function, symbol), () -> call(provider, call));
+    }
+
+    /**
+     * Makes the call without coalescing, for callers that are coalesced upstream.
+     */
+    public <T> T call(ApiProvider provider, Supplier<T> call) {
+        executed.get(provider).increment();
+        if (CALLS.isBound()) {
+            CALLS.get().incrementAndGet();
+        }
+        return call.get();
+    }
+
+    /**
+     * Calls deduplicated upstream are not seen here and count as zero.
+     */
+    @Override
+    public List<ApiCallStats> callStats() {
+        return Arrays.stream(ApiProvider.values())
+                .map(provider -> new ApiCallStats(provider,
+                        executed.get(provider).sum(),
+                        flights.get(provider).sharedCount()))
+                .toList();
+    }
+
+    /**
+     * The counter is bound to the work through a {@link ScopedValue}, which subtasks forked in a
+     * {@link java.util.concurrent.StructuredTaskScope} inherit. Only the leader of a flight counts — followers did
+     * not cost a call.
+     */
+    @Override
+    public void countCalls(AtomicInteger calls, Runnable work) {
+        ScopedValue.where(CALLS, calls).run(work);
+    }
+}
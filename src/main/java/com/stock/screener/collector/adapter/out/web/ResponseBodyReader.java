@@ -27,4 +27,13 @@ public class ResponseBodyReader {
             return "Unable to read response body";
         }
     }
+
+    /**
+     * Reads the body exactly as the provider sent it, so it can be logged verbatim before being deserialized.
+     */
+    public static byte[] readResponseBytes(Response response) {
+        try (response) {
+            return response.readEntity(byte[].class);
+        }
+    }
 }
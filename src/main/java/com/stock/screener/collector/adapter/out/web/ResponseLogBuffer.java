@@ -0,0 +1,83 @@
+package com.stock.screener.collector.adapter.out.web;
+
+import com.stock.screener.collector.adapter.out.persistence.BulkEntityWriter;
+import com.stock.screener.collector.application.port.out.log.CapturedResponses;
+import com.stock.screener.collector.application.port.out.log.ResponseLogPort;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * In-memory holding area for response logs produced by the gateways.
+ * <p>
+ * Gateways run without a transaction, so they {@link #record} log entries here instead of persisting
+ * them. Each collection's fetch stage gets its own capture, bound to the fetching threads through a
+ * {@link ScopedValue}; the collector's write stage then flushes it in the same transaction as the report.
+ * Entries are kept as factories so that every flush persists fresh entities — a rolled back transaction
+ * leaves its entities detached and unusable for a retry. Responses received outside a fetch stage are written
+ * right away in their own transaction.
+ * </p>
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+public class ResponseLogBuffer implements ResponseLogPort {
+
+    private static final ScopedValue<Capture> CURRENT = ScopedValue.newInstance();
+
+    private final BulkEntityWriter bulkEntityWriter;
+    private final TransactionSynchronizationRegistry transactions;
+
+    @Override
+    public <T> Fetched<T> capture(Supplier<T> fetch) {
+        var capture = new Capture();
+        T value = ScopedValue.where(CURRENT, capture).call(fetch::get);
+        return new Fetched<>(value, capture);
+    }
+
+    public void record(Supplier<? extends PanacheEntityBase> logEntry) {
+        if (CURRENT.isBound()) {
+            CURRENT.get().entries.add(logEntry);
+        } else {
+            QuarkusTransaction.requiringNew().run(() -> bulkEntityWriter.insertAll(List.of(logEntry.get())));
+        }
+    }
+
+    private final class Capture implements CapturedResponses {
+
+        private final Queue<Supplier<? extends PanacheEntityBase>> entries = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void flush() {
+            List<Supplier<? extends PanacheEntityBase>> drained = new ArrayList<>();
+            for (var entry = entries.poll(); entry != null; entry = entries.poll()) {
+                drained.add(entry);
+            }
+            if (drained.isEmpty()) {
+                return;
+            }
+            transactions.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != Status.STATUS_COMMITTED) {
+                        entries.addAll(drained);
+                    }
+                }
+            });
+            bulkEntityWriter.insertAll(drained.stream().map(Supplier::get).toList());
+        }
+    }
+}
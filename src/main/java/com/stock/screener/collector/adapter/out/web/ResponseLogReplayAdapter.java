@@ -0,0 +1,47 @@
+package com.stock.screener.collector.adapter.out.web;
+
+import com.stock.screener.collector.adapter.out.web.alphavantage.AlphaVantageResponseLogStore;
+import com.stock.screener.collector.adapter.out.web.yhfinance.YhFinanceResponseLogStore;
+import com.stock.screener.collector.application.port.out.log.LoggedPayloads;
+import com.stock.screener.collector.application.port.out.log.ResponseLogReplayPort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Reads both provider logs for a replay. A ticker may appear in only one of them, so ticker pages are the
+ * first {@code limit} entries of the merged, sorted ticker sets.
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+class ResponseLogReplayAdapter implements ResponseLogReplayPort {
+
+    private final AlphaVantageResponseLogStore alphaVantageStore;
+    private final YhFinanceResponseLogStore yhFinanceStore;
+
+    @Override
+    @Transactional
+    public List<String> findLoggedTickers(String afterTicker, int limit) {
+        var tickers = new TreeSet<>(alphaVantageStore.loggedTickers(afterTicker, limit));
+        tickers.addAll(yhFinanceStore.loggedTickers(afterTicker, limit));
+        return tickers.stream().limit(limit).toList();
+    }
+
+    @Override
+    @Transactional
+    public List<LoggedPayloads> findLatestPayloads(List<String> tickers) {
+        Map<String, LoggedPayloads.LoggedPayloadsBuilder> payloads = new LinkedHashMap<>();
+        tickers.forEach(ticker -> payloads.put(ticker, LoggedPayloads.builder().ticker(ticker)));
+
+        alphaVantageStore.fillLatest(payloads);
+        yhFinanceStore.fillLatest(payloads);
+        return payloads.values().stream()
+                .map(LoggedPayloads.LoggedPayloadsBuilder::build)
+                .toList();
+    }
+}
@@ -1,13 +1,10 @@
 package com.stock.screener.collector.adapter.out.web.alphavantage;
 
 import com.stock.screener.collector.adapter.out.web.alphavantage.exception.AlphaVantageExceptionMapper;
-import com.stock.screener.collector.adapter.out.web.alphavantage.model.BalanceSheetResponse;
-import com.stock.screener.collector.adapter.out.web.alphavantage.model.CashFlowResponse;
-import com.stock.screener.collector.adapter.out.web.alphavantage.model.IncomeStatementResponse;
-import com.stock.screener.collector.adapter.out.web.alphavantage.model.OverviewResponse;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
 import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
@@ -16,25 +13,26 @@ import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 @RegisterRestClient(configKey = "alphavantage-api")
 @RegisterProvider(AlphaVantageExceptionMapper.class)
 @ClientHeaderParam(name = "x-rapidapi-key", value = "${alphavantage.api.key}")
+// Raw Response so the gateway can log the body verbatim and deserialize it only once
 interface AlphaVantageApiClient {
 
         @GET
-        OverviewResponse getOverview(
+        Response getOverview(
                         @QueryParam("function") String function,
                         @QueryParam("symbol") String symbol);
 
         @GET
-        BalanceSheetResponse getBalanceSheet(
+        Response getBalanceSheet(
                         @QueryParam("function") String function,
                         @QueryParam("symbol") String symbol);
 
         @GET
-        IncomeStatementResponse getIncomeStatement(
+        Response getIncomeStatement(
                         @QueryParam("function") String function,
                         @QueryParam("symbol") String symbol);
 
         @GET
-        CashFlowResponse getCashFlow(
+        Response getCashFlow(
                         @QueryParam("function") String function,
                         @QueryParam("symbol") String symbol);
 }
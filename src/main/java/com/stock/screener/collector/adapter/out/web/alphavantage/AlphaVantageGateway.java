@@ -1,11 +1,14 @@
 package com.stock.screener.collector.adapter.out.web.alphavantage;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.screener.collector.adapter.out.web.alphavantage.exception.ClientException;
 import com.stock.screener.collector.adapter.out.web.alphavantage.model.BalanceSheetResponse;
 import com.stock.screener.collector.adapter.out.web.alphavantage.model.CashFlowResponse;
 import com.stock.screener.collector.adapter.out.web.alphavantage.model.IncomeStatementResponse;
 import com.stock.screener.collector.adapter.out.web.alphavantage.model.OverviewResponse;
+import com.stock.screener.collector.adapter.out.web.ProviderCallCoalescer;
+import com.stock.screener.collector.adapter.out.web.ResponseLogBuffer;
+import com.stock.screener.collector.adapter.out.web.ratelimit.RateLimiter;
 import com.stock.screener.collector.application.port.out.alphavantage.AlphaVantageClient;
 import com.stock.screener.collector.application.port.out.alphavantage.RawBalanceSheet;
 import com.stock.screener.collector.application.port.out.alphavantage.RawCashFlow;
@@ -14,10 +17,15 @@ import com.stock.screener.collector.application.port.out.alphavantage.RawOvervie
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static com.stock.screener.collector.adapter.out.web.ResponseBodyReader.readResponseBytes;
+import static com.stock.screener.collector.application.port.out.ApiProvider.ALPHA_VANTAGE;
+
 @Slf4j
 @ApplicationScoped
 class AlphaVantageGateway implements AlphaVantageClient {
@@ -29,54 +37,79 @@ class AlphaVantageGateway implements AlphaVantageClient {
 
     private final AlphaVantageApiClient client;
     private final ObjectMapper objectMapper;
+    private final RateLimiter rateLimiter;
+    private final ResponseLogBuffer responseLogBuffer;
+    private final ProviderCallCoalescer callCoalescer;
 
     @Inject
     public AlphaVantageGateway(
             @RestClient AlphaVantageApiClient client,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            RateLimiter rateLimiter,
+            ResponseLogBuffer responseLogBuffer,
+            ProviderCallCoalescer callCoalescer) {
         this.client = client;
         this.objectMapper = objectMapper;
+        this.rateLimiter = rateLimiter;
+        this.responseLogBuffer = responseLogBuffer;
+        this.callCoalescer = callCoalescer;
     }
 
-    @Transactional
     public RawOverview fetchOverview(String ticker) {
-        OverviewResponse response = client.getOverview(OVERVIEW, ticker);
-        AlphaVantageResponseValidator.validateOverview(ticker, response);
-        persistLog(ticker, OVERVIEW, response);
-        return AlphaVantageResponseMapper.toRawOverview(response);
+        return callCoalescer.call(ALPHA_VANTAGE, () -> {
+            rateLimiter.acquire(ALPHA_VANTAGE);
+            byte[] body = readResponseBytes(client.getOverview(OVERVIEW, ticker));
+            OverviewResponse response = parse(ticker, OVERVIEW, body, OverviewResponse.class);
+            AlphaVantageResponseValidator.validateOverview(ticker, response);
+            persistLog(ticker, OVERVIEW, body);
+            return AlphaVantageResponseMapper.toRawOverview(response);
+        });
     }
 
-    @Transactional
     public RawBalanceSheet fetchBalanceSheet(String ticker) {
-        BalanceSheetResponse response = client.getBalanceSheet(BALANCE_SHEET, ticker);
-        AlphaVantageResponseValidator.validateReports(ticker, BALANCE_SHEET, response);
-        persistLog(ticker, BALANCE_SHEET, response);
-        return AlphaVantageResponseMapper.toRawBalanceSheet(response);
+        return callCoalescer.call(ALPHA_VANTAGE, () -> {
+            rateLimiter.acquire(ALPHA_VANTAGE);
+            byte[] body = readResponseBytes(client.getBalanceSheet(BALANCE_SHEET, ticker));
+            BalanceSheetResponse response = parse(ticker, BALANCE_SHEET, body, BalanceSheetResponse.class);
+            AlphaVantageResponseValidator.validateReports(ticker, BALANCE_SHEET, response);
+            persistLog(ticker, BALANCE_SHEET, body);
+            return AlphaVantageResponseMapper.toRawBalanceSheet(response);
+        });
     }
 
-    @Transactional
     public RawIncomeStatement fetchIncomeStatement(String ticker) {
-        IncomeStatementResponse response = client.getIncomeStatement(INCOME_STATEMENT, ticker);
-        AlphaVantageResponseValidator.validateReports(ticker, INCOME_STATEMENT, response);
-        persistLog(ticker, INCOME_STATEMENT, response);
-        return AlphaVantageResponseMapper.toRawIncomeStatement(response);
+        return callCoalescer.call(ALPHA_VANTAGE, () -> {
+            rateLimiter.acquire(ALPHA_VANTAGE);
+            byte[] body = readResponseBytes(client.getIncomeStatement(INCOME_STATEMENT, ticker));
+            IncomeStatementResponse response = parse(ticker, INCOME_STATEMENT, body, IncomeStatementResponse.class);
+            AlphaVantageResponseValidator.validateReports(ticker, INCOME_STATEMENT, response);
+            persistLog(ticker, INCOME_STATEMENT, body);
+            return AlphaVantageResponseMapper.toRawIncomeStatement(response);
+        });
     }
 
-    @Transactional
     public RawCashFlow fetchCashFlow(String ticker) {
-        CashFlowResponse response = client.getCashFlow(CASH_FLOW, ticker);
-        AlphaVantageResponseValidator.validateReports(ticker, CASH_FLOW, response);
-        persistLog(ticker, CASH_FLOW, response);
-        return AlphaVantageResponseMapper.toRawCashFlow(response);
+        return callCoalescer.call(ALPHA_VANTAGE, () -> {
+            rateLimiter.acquire(ALPHA_VANTAGE);
+            byte[] body = readResponseBytes(client.getCashFlow(CASH_FLOW, ticker));
+            CashFlowResponse response = parse(ticker, CASH_FLOW, body, CashFlowResponse.class);
+            AlphaVantageResponseValidator.validateReports(ticker, CASH_FLOW, response);
+            persistLog(ticker, CASH_FLOW, body);
+            return AlphaVantageResponseMapper.toRawCashFlow(response);
+        });
     }
 
-    private void persistLog(String ticker, String functionName, Object response) {
+    private <T> T parse(String ticker, String functionName, byte[] body, Class<T> type) {
         try {
-            String rawJson = objectMapper.writeValueAsString(response);
-            var logEntry = new AlphaVantageResponseLog(ticker, functionName, rawJson);
-            logEntry.persist();
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize Alpha Vantage response for ticker={}, function={}", ticker, functionName, e);
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            log.error("Failed to parse Alpha Vantage response for ticker={}, function={}", ticker, functionName, e);
+            throw new ClientException("Unreadable Alpha Vantage %s response for symbol: %s", functionName, ticker);
         }
     }
+
+    private void persistLog(String ticker, String functionName, byte[] body) {
+        String rawJson = new String(body, StandardCharsets.UTF_8);
+        responseLogBuffer.record(() -> new AlphaVantageResponseLog(ticker, functionName, rawJson));
+    }
 }
@@ -1,5 +1,6 @@
 package com.stock.screener.collector.adapter.out.web.alphavantage;
 
+import com.stock.screener.collector.adapter.out.persistence.PayloadCompression;
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -24,10 +25,16 @@ class AlphaVantageResponseLog extends PanacheEntity {
     @Column(nullable = false, updatable = false)
     public LocalDateTime requestTimestamp;
 
+    /**
+     * Null once the row's partition has been compressed (V12), the payload then lives in raw_response_gz.
+     */
     @JdbcTypeCode(SqlTypes.JSON)
-    @Column(columnDefinition = "jsonb", nullable = false)
+    @Column(columnDefinition = "jsonb")
     public String rawResponse;
 
+    @Column(name = "raw_response_gz")
+    public byte[] compressedResponse;
+
     public AlphaVantageResponseLog() {}
 
     AlphaVantageResponseLog(String ticker, String functionName, String rawResponse) {
@@ -35,4 +42,11 @@ class AlphaVantageResponseLog extends PanacheEntity {
         this.functionName = functionName;
         this.rawResponse = rawResponse;
     }
+
+    /**
+     * @return the JSON payload, decompressed when the row has already been compressed
+     */
+    String payload() {
+        return rawResponse != null ? rawResponse : PayloadCompression.gunzip(compressedResponse);
+    }
 }
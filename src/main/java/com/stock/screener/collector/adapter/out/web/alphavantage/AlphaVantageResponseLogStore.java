@@ -0,0 +1,158 @@
+package com.stock.screener.collector.adapter.out.web.alphavantage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.screener.collector.adapter.out.web.alphavantage.model.BalanceSheetResponse;
+import com.stock.screener.collector.adapter.out.web.alphavantage.model.CashFlowResponse;
+import com.stock.screener.collector.adapter.out.web.alphavantage.model.IncomeStatementResponse;
+import com.stock.screener.collector.adapter.out.web.alphavantage.model.OverviewResponse;
+import com.stock.screener.collector.application.port.out.alphavantage.AlphaVantageResponseStore;
+import com.stock.screener.collector.application.port.out.alphavantage.RawBalanceSheet;
+import com.stock.screener.collector.application.port.out.alphavantage.RawCashFlow;
+import com.stock.screener.collector.application.port.out.alphavantage.RawIncomeStatement;
+import com.stock.screener.collector.application.port.out.alphavantage.RawOverview;
+import com.stock.screener.collector.application.port.out.log.LoggedPayloads;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Serves Alpha Vantage data from {@code alpha_vantage_response_log}.
+ * <p>
+ * Only responses that passed validation are ever logged, so a stored payload is always usable.
+ * A payload that no longer deserializes (e.g. after a DTO change) is treated as absent.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+@RequiredArgsConstructor
+public class AlphaVantageResponseLogStore implements AlphaVantageResponseStore {
+
+    private static final String OVERVIEW = "OVERVIEW";
+    private static final String BALANCE_SHEET = "BALANCE_SHEET";
+    private static final String INCOME_STATEMENT = "INCOME_STATEMENT";
+    private static final String CASH_FLOW = "CASH_FLOW";
+
+    private static final String LATEST_PER_FUNCTION = """
+            from AlphaVantageResponseLog l
+            where l.ticker in :tickers
+              and l.requestTimestamp = (select max(m.requestTimestamp) from AlphaVantageResponseLog m
+                                        where m.ticker = l.ticker and m.functionName = l.functionName)
+            order by l.ticker, l.functionName, l.id desc
+            """;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional
+    public Optional<RawOverview> findOverview(String ticker, LocalDateTime notBefore) {
+        return find(ticker, OVERVIEW, notBefore, OverviewResponse.class, AlphaVantageResponseMapper::toRawOverview);
+    }
+
+    @Override
+    @Transactional
+    public Optional<RawBalanceSheet> findBalanceSheet(String ticker, LocalDateTime notBefore) {
+        return find(ticker, BALANCE_SHEET, notBefore, BalanceSheetResponse.class,
+                AlphaVantageResponseMapper::toRawBalanceSheet);
+    }
+
+    @Override
+    @Transactional
+    public Optional<RawIncomeStatement> findIncomeStatement(String ticker, LocalDateTime notBefore) {
+        return find(ticker, INCOME_STATEMENT, notBefore, IncomeStatementResponse.class,
+                AlphaVantageResponseMapper::toRawIncomeStatement);
+    }
+
+    @Override
+    @Transactional
+    public Optional<RawCashFlow> findCashFlow(String ticker, LocalDateTime notBefore) {
+        return find(ticker, CASH_FLOW, notBefore, CashFlowResponse.class, AlphaVantageResponseMapper::toRawCashFlow);
+    }
+
+    private <R, T> Optional<T> find(String ticker, String functionName, LocalDateTime notBefore,
+            Class<R> responseType, Function<R, T> mapper) {
+        Optional<AlphaVantageResponseLog> latest = AlphaVantageResponseLog.<AlphaVantageResponseLog>find(
+                        "ticker = ?1 and functionName = ?2 and requestTimestamp >= ?3 and rawResponse is not null",
+                        Sort.descending("requestTimestamp", "id"), ticker, functionName, notBefore)
+                .firstResultOptional();
+
+        return latest.flatMap(entry -> read(entry, responseType, mapper));
+    }
+
+    /**
+     * Keyset page over the tickers with at least one logged response, in ascending order.
+     */
+    @Transactional
+    public List<String> loggedTickers(String afterTicker, int limit) {
+        return AlphaVantageResponseLog.getEntityManager()
+                .createQuery("select distinct l.ticker from AlphaVantageResponseLog l where l.ticker > :after"
+                        + " order by l.ticker", String.class)
+                .setParameter("after", afterTicker != null ? afterTicker : "")
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Sets the newest payload of every function on the builder of its ticker. Compressed rows are read too,
+     * and on equal timestamps the row with the highest id wins. The overview carries its request timestamp, the
+     * statements the newest of theirs.
+     */
+    @Transactional
+    public void fillLatest(Map<String, LoggedPayloads.LoggedPayloadsBuilder> payloads) {
+        List<AlphaVantageResponseLog> latest = AlphaVantageResponseLog.list(LATEST_PER_FUNCTION,
+                Parameters.with("tickers", payloads.keySet()));
+
+        Set<String> seen = new HashSet<>();
+        Map<String, LocalDateTime> statementsFetchedAt = new HashMap<>();
+        for (AlphaVantageResponseLog entry : latest) {
+            if (!seen.add(entry.ticker + '/' + entry.functionName)) {
+                continue;
+            }
+            var builder = payloads.get(entry.ticker);
+            switch (entry.functionName) {
+                case OVERVIEW -> read(entry, OverviewResponse.class, AlphaVantageResponseMapper::toRawOverview)
+                        .ifPresent(overview -> builder.overview(overview).overviewFetchedAt(entry.requestTimestamp));
+                case BALANCE_SHEET -> read(entry, BalanceSheetResponse.class,
+                        AlphaVantageResponseMapper::toRawBalanceSheet)
+                        .map(builder::balanceSheet)
+                        .ifPresent(filled -> fetched(statementsFetchedAt, entry));
+                case INCOME_STATEMENT -> read(entry, IncomeStatementResponse.class,
+                        AlphaVantageResponseMapper::toRawIncomeStatement)
+                        .map(builder::incomeStatement)
+                        .ifPresent(filled -> fetched(statementsFetchedAt, entry));
+                case CASH_FLOW -> read(entry, CashFlowResponse.class, AlphaVantageResponseMapper::toRawCashFlow)
+                        .map(builder::cashFlow)
+                        .ifPresent(filled -> fetched(statementsFetchedAt, entry));
+                default -> log.debug("Skipping logged Alpha Vantage function {}", entry.functionName);
+            }
+        }
+        statementsFetchedAt.forEach((ticker, fetchedAt) -> payloads.get(ticker).statementsFetchedAt(fetchedAt));
+    }
+
+    private static void fetched(Map<String, LocalDateTime> fetchedAt, AlphaVantageResponseLog entry) {
+        fetchedAt.merge(entry.ticker, entry.requestTimestamp, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    private <R, T> Optional<T> read(AlphaVantageResponseLog entry, Class<R> responseType, Function<R, T> mapper) {
+        try {
+            return Optional.of(mapper.apply(objectMapper.readValue(entry.payload(), responseType)));
+        } catch (JsonProcessingException | UncheckedIOException e) {
+            log.warn("Stored Alpha Vantage response is unreadable for ticker={}, function={}, id={}",
+                    entry.ticker, entry.functionName, entry.id, e);
+            return Optional.empty();
+        }
+    }
+}
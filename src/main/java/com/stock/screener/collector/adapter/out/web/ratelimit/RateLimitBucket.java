@@ -0,0 +1,83 @@
+package com.stock.screener.collector.adapter.out.web.ratelimit;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Persistent token bucket for one provider and one {@link RateLimitWindow}.
+ * <p>
+ * Capacity is not stored — it always comes from configuration, so changing a limit takes effect
+ * on the next refill without a migration. All timestamps are UTC.
+ * </p>
+ */
+@Entity
+@Table(name = "api_rate_limit_bucket")
+class RateLimitBucket extends PanacheEntity {
+
+    @Column(nullable = false, length = 30)
+    public String provider;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    public RateLimitWindow timeWindow;
+
+    @Column(nullable = false)
+    public double tokens;
+
+    @Column(nullable = false)
+    public LocalDateTime refilledAt;
+
+    public RateLimitBucket() {}
+
+    RateLimitBucket(String provider, RateLimitWindow timeWindow, double tokens, LocalDateTime refilledAt) {
+        this.provider = provider;
+        this.timeWindow = timeWindow;
+        this.tokens = tokens;
+        this.refilledAt = refilledAt;
+    }
+
+    void refill(int capacity, LocalDateTime now) {
+        if (!now.isAfter(refilledAt)) {
+            tokens = Math.min(tokens, capacity);
+            return;
+        }
+
+        tokens = switch (timeWindow) {
+            case MINUTE -> {
+                double elapsed = Duration.between(refilledAt, now).toNanos();
+                double earned = elapsed / timeWindow.length().toNanos() * capacity;
+                yield Math.min(capacity, tokens + earned);
+            }
+            case DAY -> now.toLocalDate().isAfter(refilledAt.toLocalDate())
+                    ? capacity
+                    : Math.min(tokens, capacity);
+        };
+        refilledAt = now;
+    }
+
+    /**
+     * @return how long until at least one token is available, {@link Duration#ZERO} if one is available now.
+     */
+    Duration timeUntilAvailable(int capacity, LocalDateTime now) {
+        if (tokens >= 1) {
+            return Duration.ZERO;
+        }
+
+        return switch (timeWindow) {
+            case MINUTE -> Duration.ofNanos((long) Math.ceil(
+                    (1 - tokens) * timeWindow.length().toNanos() / capacity));
+            case DAY -> Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay());
+        };
+    }
+
+    void take() {
+        tokens -= 1;
+    }
+}
@@ -0,0 +1,93 @@
+package com.stock.screener.collector.adapter.out.web.ratelimit;
+
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static jakarta.transaction.Transactional.TxType.REQUIRES_NEW;
+
+/**
+ * Consumes tokens from the provider's buckets in a short, separate transaction.
+ * <p>
+ * The row locks are held only for the refill-and-decrement, never while the caller waits or
+ * talks to the API, so concurrent callers on any instance serialize on the bucket rows briefly.
+ * </p>
+ */
+@ApplicationScoped
+class RateLimitBucketStore {
+
+    /**
+     * Takes one token from every window of the provider, or none at all.
+     *
+     * @return {@link Duration#ZERO} when the permit was granted, otherwise how long to wait before retrying
+     */
+    @Transactional(REQUIRES_NEW)
+    Duration tryConsume(String provider, Map<RateLimitWindow, Integer> capacities) {
+        var now = LocalDateTime.now(ZoneOffset.UTC);
+        var buckets = lockBuckets(provider);
+        if (buckets.size() < capacities.size()) {
+            capacities.forEach((window, capacity) -> insertIfAbsent(provider, window, capacity, now));
+            buckets = lockBuckets(provider);
+        }
+
+        Duration wait = Duration.ZERO;
+        for (RateLimitBucket bucket : buckets) {
+            int capacity = capacities.get(bucket.timeWindow);
+            bucket.refill(capacity, now);
+            Duration bucketWait = bucket.timeUntilAvailable(capacity, now);
+            if (bucketWait.compareTo(wait) > 0) {
+                wait = bucketWait;
+            }
+        }
+
+        if (wait.isZero()) {
+            buckets.forEach(RateLimitBucket::take);
+        }
+        return wait;
+    }
+
+    /**
+     * Tokens available per window right now, without locking or consuming anything. Buckets that were never
+     * used are reported at full capacity.
+     */
+    @Transactional
+    Map<RateLimitWindow, Integer> peek(String provider, Map<RateLimitWindow, Integer> capacities) {
+        var now = LocalDateTime.now(ZoneOffset.UTC);
+        var available = new EnumMap<>(capacities);
+        RateLimitBucket.<RateLimitBucket>list("provider", provider).forEach(stored -> {
+            int capacity = capacities.get(stored.timeWindow);
+            var copy = new RateLimitBucket(stored.provider, stored.timeWindow, stored.tokens, stored.refilledAt);
+            copy.refill(capacity, now);
+            available.put(stored.timeWindow, (int) copy.tokens);
+        });
+        return available;
+    }
+
+    private static List<RateLimitBucket> lockBuckets(String provider) {
+        return RateLimitBucket.<RateLimitBucket>find("provider", Sort.by("timeWindow"), provider)
+                .withLock(LockModeType.PESSIMISTIC_WRITE)
+                .list();
+    }
+
+    private static void insertIfAbsent(String provider, RateLimitWindow window, int capacity, LocalDateTime now) {
+        Panache.getEntityManager().createNativeQuery("""
+                        INSERT INTO api_rate_limit_bucket (id, provider, time_window, tokens, refilled_at)
+                        VALUES (nextval('api_rate_limit_bucket_seq'), :provider, :window, :tokens, :now)
+                        ON CONFLICT (provider, time_window) DO NOTHING
+                        """)
+                .setParameter("provider", provider)
+                .setParameter("window", window.name())
+                .setParameter("tokens", (double) capacity)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+}
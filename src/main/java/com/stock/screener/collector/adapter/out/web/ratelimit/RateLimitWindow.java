@@ -0,0 +1,26 @@
+package com.stock.screener.collector.adapter.out.web.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Quota windows tracked per provider.
+ * <p>
+ * {@link #MINUTE} refills continuously, {@link #DAY} resets at UTC midnight — daily quotas are
+ * counted per calendar day on the provider side, so a continuous refill could overshoot them.
+ * </p>
+ */
+enum RateLimitWindow {
+
+    MINUTE(Duration.ofMinutes(1)),
+    DAY(Duration.ofDays(1));
+
+    private final Duration length;
+
+    RateLimitWindow(Duration length) {
+        this.length = length;
+    }
+
+    Duration length() {
+        return length;
+    }
+}
@@ -0,0 +1,93 @@
+package com.stock.screener.collector.adapter.out.web.ratelimit;
+
+import com.stock.screener.collector.application.port.out.ApiProvider;
+import com.stock.screener.collector.application.port.out.ProviderQuota;
+import com.stock.screener.collector.application.port.out.QuotaPort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Blocking, cluster-wide rate limiter backed by {@code api_rate_limit_bucket}.
+ * <p>
+ * {@link #acquire(ApiProvider)} waits until both the per-minute and the per-day bucket of the provider
+ * have a token. Waiting is a plain sleep, which is cheap on virtual threads, so bulk runs simply queue
+ * up on the quota instead of failing. Sleeps are capped so that a long daily wait still re-checks the
+ * bucket periodically (another instance may have been reconfigured).
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+public class RateLimiter implements QuotaPort {
+
+    private static final Duration MAX_SLEEP = Duration.ofMinutes(1);
+    private static final Duration MIN_SLEEP = Duration.ofMillis(50);
+
+    private final RateLimitBucketStore bucketStore;
+    private final Map<ApiProvider, Map<RateLimitWindow, Integer>> capacities = new EnumMap<>(ApiProvider.class);
+
+    @Inject
+    RateLimiter(
+            RateLimitBucketStore bucketStore,
+            @ConfigProperty(name = "collector.rate-limit.alphavantage-api.per-minute") int alphaVantagePerMinute,
+            @ConfigProperty(name = "collector.rate-limit.alphavantage-api.per-day") int alphaVantagePerDay,
+            @ConfigProperty(name = "collector.rate-limit.yhfinance-api.per-minute") int yhFinancePerMinute,
+            @ConfigProperty(name = "collector.rate-limit.yhfinance-api.per-day") int yhFinancePerDay) {
+        this.bucketStore = bucketStore;
+        capacities.put(ApiProvider.ALPHA_VANTAGE, windows(alphaVantagePerMinute, alphaVantagePerDay));
+        capacities.put(ApiProvider.YH_FINANCE, windows(yhFinancePerMinute, yhFinancePerDay));
+    }
+
+    public void acquire(ApiProvider provider) {
+        Duration wait;
+        while (!(wait = bucketStore.tryConsume(provider.configKey(), capacities.get(provider))).isZero()) {
+            Duration sleep = withJitter(wait);
+            log.debug("Rate limit reached for {}, waiting {} ms", provider.configKey(), sleep.toMillis());
+            try {
+                Thread.sleep(sleep);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(
+                        "Interrupted while waiting for %s rate limit permit".formatted(provider.configKey()), ex);
+            }
+        }
+    }
+
+    @Override
+    public List<ProviderQuota> remainingQuota() {
+        return Arrays.stream(ApiProvider.values())
+                .map(provider -> {
+                    var available = bucketStore.peek(provider.configKey(), capacities.get(provider));
+                    return new ProviderQuota(provider, available.get(RateLimitWindow.MINUTE),
+                            available.get(RateLimitWindow.DAY), capacities.get(provider).get(RateLimitWindow.DAY));
+                })
+                .toList();
+    }
+
+    private static Map<RateLimitWindow, Integer> windows(int perMinute, int perDay) {
+        if (perMinute < 1 || perDay < 1) {
+            throw new IllegalArgumentException("Rate limits must be positive, got perMinute=%d, perDay=%d"
+                    .formatted(perMinute, perDay));
+        }
+        var windows = new EnumMap<RateLimitWindow, Integer>(RateLimitWindow.class);
+        windows.put(RateLimitWindow.MINUTE, perMinute);
+        windows.put(RateLimitWindow.DAY, perDay);
+        return windows;
+    }
+
+    /**
+     * Spreads waiters out a little so that they don't all hit the bucket rows at the same instant.
+     */
+    private static Duration withJitter(Duration wait) {
+        long base = Math.max(Math.min(wait.toMillis(), MAX_SLEEP.toMillis()), MIN_SLEEP.toMillis());
+        return Duration.ofMillis(base + ThreadLocalRandom.current().nextLong(MIN_SLEEP.toMillis()));
+    }
+}
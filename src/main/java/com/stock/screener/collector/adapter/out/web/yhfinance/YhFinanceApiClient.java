@@ -1,12 +1,12 @@
 package com.stock.screener.collector.adapter.out.web.yhfinance;
 
 import com.stock.screener.collector.adapter.out.web.yhfinance.exception.YhFinanceExceptionMapper;
-import com.stock.screener.collector.adapter.out.web.yhfinance.model.QuoteSummaryResponse;
 import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
 import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
@@ -20,7 +20,7 @@ interface YhFinanceApiClient {
     @GET
     @Path("/quoteSummary/{symbol}")
     @RunOnVirtualThread
-    QuoteSummaryResponse getQuoteSummary(
+    Response getQuoteSummary(
             @PathParam("symbol") String symbol,
             @QueryParam("modules") String modules,
             @QueryParam("lang") String lang,
@@ -28,8 +28,4 @@ interface YhFinanceApiClient {
     );
 }
 
-//TODO: zaimplementuj rateLimiter-y dla yhFinance i alphaVantage. dla pewności sprawdź dokłądnie wartości na rapid api i yhFinance.api
-// być może nie będą mogły być in-memory. Jeśli aplikacja będzie uruchamiana 'z zewnątrz' przez endpoint,
-// to rate limit musi być zapisany na twardo - w pliku/bazie danych.
-// next:
-// Przygotuj spójny obiekt który analyzer przyjmie do filtrowania. wszystkie wymagania powinny być w pliku work_plan.md
+//TODO: przygotuj spójny obiekt który analyzer przyjmie do filtrowania. wszystkie wymagania powinny być w pliku work_plan.md
@@ -1,7 +1,9 @@
 package com.stock.screener.collector.adapter.out.web.yhfinance;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.screener.collector.adapter.out.web.ProviderCallCoalescer;
+import com.stock.screener.collector.adapter.out.web.ResponseLogBuffer;
+import com.stock.screener.collector.adapter.out.web.ratelimit.RateLimiter;
 import com.stock.screener.collector.adapter.out.web.yhfinance.exception.ClientException;
 import com.stock.screener.collector.adapter.out.web.yhfinance.model.QuoteSummaryResponse;
 import com.stock.screener.collector.adapter.out.web.yhfinance.model.QuoteSummaryResult;
@@ -12,9 +14,14 @@ import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.jspecify.annotations.NonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static com.stock.screener.collector.adapter.out.web.ResponseBodyReader.readResponseBytes;
 import static com.stock.screener.collector.adapter.out.web.yhfinance.YhFinanceClientMapper.toCommand;
+import static com.stock.screener.collector.application.port.out.ApiProvider.YH_FINANCE;
 
 @Slf4j
 @ApplicationScoped
@@ -22,25 +29,36 @@ class YhFinanceGateway implements YahooFinanceClient {
 
     private final YhFinanceApiClient apiClient;
     private final ObjectMapper objectMapper;
+    private final RateLimiter rateLimiter;
+    private final ResponseLogBuffer responseLogBuffer;
+    private final ProviderCallCoalescer callCoalescer;
 
     private static final String DEFAULT_MODULES = "earningsTrend,recommendationTrend,price";
     private static final String DEFAULT_LANG = "en";
     private static final String DEFAULT_REGION = "US";
 
     @Inject
-    public YhFinanceGateway(@RestClient YhFinanceApiClient apiClient, ObjectMapper objectMapper) {
+    public YhFinanceGateway(@RestClient YhFinanceApiClient apiClient, ObjectMapper objectMapper,
+            RateLimiter rateLimiter, ResponseLogBuffer responseLogBuffer, ProviderCallCoalescer callCoalescer) {
         this.apiClient = apiClient;
         this.objectMapper = objectMapper;
+        this.rateLimiter = rateLimiter;
+        this.responseLogBuffer = responseLogBuffer;
+        this.callCoalescer = callCoalescer;
     }
 
     @Override
     public YhFinanceResponse getQuoteSummary(@NonNull String ticker) {
-        QuoteSummaryResponse response = apiClient.getQuoteSummary(ticker, DEFAULT_MODULES, DEFAULT_LANG,
-                DEFAULT_REGION);
-        validateClientResponse(ticker, response);
-        persistLog(ticker, response);
-        List<QuoteSummaryResult> results = response.quoteSummary().result();
-        return toCommand(ticker, results.getFirst());
+        return callCoalescer.execute(YH_FINANCE, DEFAULT_MODULES, ticker, () -> {
+            rateLimiter.acquire(YH_FINANCE);
+            byte[] body = readResponseBytes(apiClient.getQuoteSummary(ticker, DEFAULT_MODULES, DEFAULT_LANG,
+                    DEFAULT_REGION));
+            QuoteSummaryResponse response = parse(ticker, body);
+            validateClientResponse(ticker, response);
+            persistLog(ticker, body);
+            List<QuoteSummaryResult> results = response.quoteSummary().result();
+            return toCommand(ticker, results.getFirst());
+        });
     }
 
     private static void validateClientResponse(String symbol, QuoteSummaryResponse response) {
@@ -59,13 +77,18 @@ class YhFinanceGateway implements YahooFinanceClient {
         }
     }
 
-    private void persistLog(String ticker, Object response) {
+    private QuoteSummaryResponse parse(String ticker, byte[] body) {
         try {
-            String rawJson = objectMapper.writeValueAsString(response);
-            new YhFinanceResponseLog(ticker, rawJson).persist();
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize YH Finance response for ticker={}, function={}", ticker,
+            return objectMapper.readValue(body, QuoteSummaryResponse.class);
+        } catch (IOException e) {
+            log.error("Failed to parse YH Finance response for ticker={}, function={}", ticker,
                     YhFinanceGateway.DEFAULT_MODULES, e);
+            throw new ClientException("Unreadable YH Finance response for symbol: %s", ticker);
         }
     }
+
+    private void persistLog(String ticker, byte[] body) {
+        String rawJson = new String(body, StandardCharsets.UTF_8);
+        responseLogBuffer.record(() -> new YhFinanceResponseLog(ticker, rawJson));
+    }
 }
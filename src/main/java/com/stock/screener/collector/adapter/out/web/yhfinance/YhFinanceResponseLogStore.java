@@ -0,0 +1,100 @@
+package com.stock.screener.collector.adapter.out.web.yhfinance;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.screener.collector.adapter.out.web.yhfinance.model.QuoteSummaryResponse;
+import com.stock.screener.collector.application.port.out.log.LoggedPayloads;
+import com.stock.screener.collector.application.port.out.yhfinance.YhFinanceResponseStore;
+import com.stock.screener.collector.application.port.out.yhfinance.response.YhFinanceResponse;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.stock.screener.collector.adapter.out.web.yhfinance.YhFinanceClientMapper.toCommand;
+
+/**
+ * Serves YH Finance quote summaries from {@code yh_finance_response_log}.
+ */
+@Slf4j
+@ApplicationScoped
+@RequiredArgsConstructor
+public class YhFinanceResponseLogStore implements YhFinanceResponseStore {
+
+    private static final String LATEST_PER_TICKER = """
+            from YhFinanceResponseLog l
+            where l.ticker in :tickers
+              and l.requestTimestamp = (select max(m.requestTimestamp) from YhFinanceResponseLog m
+                                        where m.ticker = l.ticker)
+            order by l.ticker, l.id desc
+            """;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional
+    public Optional<YhFinanceResponse> findQuoteSummary(String ticker, LocalDateTime notBefore) {
+        Optional<YhFinanceResponseLog> latest = YhFinanceResponseLog.<YhFinanceResponseLog>find(
+                        "ticker = ?1 and requestTimestamp >= ?2 and rawResponse is not null",
+                        Sort.descending("requestTimestamp", "id"), ticker, notBefore)
+                .firstResultOptional();
+
+        return latest.flatMap(this::read);
+    }
+
+    /**
+     * Keyset page over the tickers with at least one logged response, in ascending order.
+     */
+    @Transactional
+    public List<String> loggedTickers(String afterTicker, int limit) {
+        return YhFinanceResponseLog.getEntityManager()
+                .createQuery("select distinct l.ticker from YhFinanceResponseLog l where l.ticker > :after"
+                        + " order by l.ticker", String.class)
+                .setParameter("after", afterTicker != null ? afterTicker : "")
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Sets the newest quote summary and its request timestamp on the builder of its ticker, compressed rows
+     * included.
+     */
+    @Transactional
+    public void fillLatest(Map<String, LoggedPayloads.LoggedPayloadsBuilder> payloads) {
+        List<YhFinanceResponseLog> latest = YhFinanceResponseLog.list(LATEST_PER_TICKER,
+                Parameters.with("tickers", payloads.keySet()));
+
+        Set<String> seen = new HashSet<>();
+        for (YhFinanceResponseLog entry : latest) {
+            if (seen.add(entry.ticker)) {
+                var builder = payloads.get(entry.ticker);
+                read(entry).ifPresent(quoteSummary -> builder.quoteSummary(quoteSummary)
+                        .quoteSummaryFetchedAt(entry.requestTimestamp));
+            }
+        }
+    }
+
+    private Optional<YhFinanceResponse> read(YhFinanceResponseLog entry) {
+        try {
+            var response = objectMapper.readValue(entry.payload(), QuoteSummaryResponse.class);
+            if (response.quoteSummary() == null || response.quoteSummary().result() == null
+                    || response.quoteSummary().result().isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(toCommand(entry.ticker, response.quoteSummary().result().getFirst()));
+        } catch (JsonProcessingException | UncheckedIOException e) {
+            log.warn("Stored YH Finance response is unreadable for ticker={}, id={}", entry.ticker, entry.id, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.stock.screener.collector.application.port.in;
+
+import java.util.List;
+
+/**
+ * Summary of a bulk collection run with one {@link TickerOutcome} per requested ticker,
+ * in the order the tickers were submitted.
+ */
+public record BulkCollectionResult(
+        int total,
+        int succeeded,
+        int failed,
+        long durationMs,
+        List<TickerOutcome> outcomes
+) {
+
+    public static BulkCollectionResult of(List<TickerOutcome> outcomes, long durationMs) {
+        int succeeded = (int) outcomes.stream().filter(TickerOutcome::isSuccess).count();
+        return new BulkCollectionResult(
+                outcomes.size(),
+                succeeded,
+                outcomes.size() - succeeded,
+                durationMs,
+                List.copyOf(outcomes));
+    }
+}
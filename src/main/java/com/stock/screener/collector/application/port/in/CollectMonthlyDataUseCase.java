@@ -1,5 +1,15 @@
 package com.stock.screener.collector.application.port.in;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface CollectMonthlyDataUseCase {
     void collectMonthlyData(String ticker);
+
+    BulkCollectionResult collectMonthlyData(List<String> tickers);
+
+    /**
+     * Bulk collection that reports each ticker's outcome as soon as it is known.
+     */
+    BulkCollectionResult collectMonthlyData(List<String> tickers, Consumer<TickerOutcome> outcomeListener);
 }
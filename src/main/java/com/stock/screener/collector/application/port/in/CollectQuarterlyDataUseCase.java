@@ -1,5 +1,26 @@
 package com.stock.screener.collector.application.port.in;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface CollectQuarterlyDataUseCase {
     void collectQuarterlyData(String ticker);
+
+    BulkCollectionResult collectQuarterlyData(List<String> tickers);
+
+    /**
+     * Bulk collection that reports each ticker's outcome as soon as it is known.
+     */
+    BulkCollectionResult collectQuarterlyData(List<String> tickers, Consumer<TickerOutcome> outcomeListener);
+
+    /**
+     * Stores every quarter returned by the statement endpoints, not just the latest one.
+     *
+     * @return number of quarters written
+     */
+    int collectQuarterlyHistory(String ticker);
+
+    BulkCollectionResult collectQuarterlyHistory(List<String> tickers);
+
+    BulkCollectionResult collectQuarterlyHistory(List<String> tickers, Consumer<TickerOutcome> outcomeListener);
 }
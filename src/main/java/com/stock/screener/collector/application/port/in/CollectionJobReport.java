@@ -0,0 +1,28 @@
+package com.stock.screener.collector.application.port.in;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * State of an asynchronous bulk collection.
+ *
+ * @param tickersPerMinute throughput since the run was last (re)started
+ * @param etaSeconds       estimated time to finish at the current throughput, null when unknown or finished
+ * @param failures         outcome of every ticker that failed in its last attempt
+ */
+public record CollectionJobReport(
+        long id,
+        CollectionJobType type,
+        CollectionJobStatus status,
+        int total,
+        int done,
+        int failed,
+        int pending,
+        double tickersPerMinute,
+        Long etaSeconds,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        List<TickerOutcome> failures
+) {
+}
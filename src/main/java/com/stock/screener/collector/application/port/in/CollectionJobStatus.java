@@ -0,0 +1,10 @@
+package com.stock.screener.collector.application.port.in;
+
+public enum CollectionJobStatus {
+    /**
+     * Submitted and not finished; a run left in this state by a restart is resumed.
+     */
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.stock.screener.collector.application.port.in;
+
+public enum CollectionJobType {
+    MONTHLY,
+    QUARTERLY,
+    QUARTERLY_HISTORY
+}
@@ -0,0 +1,40 @@
+package com.stock.screener.collector.application.port.in;
+
+import com.stock.screener.collector.application.port.out.ApiProvider;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multi-day schedule that collects every due ticker of a job type within the daily API budgets, stalest first.
+ *
+ * @param dueTickers    tickers never collected or due for new data
+ * @param tickersPerDay how many tickers the budget share of the type allows per day
+ * @param callsPerDay   calls per provider a full day of the plan spends
+ */
+public record CollectionPlan(
+        CollectionJobType type,
+        int universe,
+        int dueTickers,
+        int tickersPerDay,
+        Map<ApiProvider, Integer> callsPerDay,
+        List<Day> days
+) {
+
+    /**
+     * @param interval time between two tickers, spreading the day's calls evenly over 24 hours
+     */
+    public record Day(LocalDate date, Duration interval, List<PlannedTicker> tickers) {
+    }
+
+    /**
+     * @param lastUpdated null when the ticker was never collected
+     * @param dueDate     from when a collection is expected to return new data; null when never collected
+     */
+    public record PlannedTicker(String ticker, LocalDateTime lastUpdated, LocalDate dueDate,
+            LocalDateTime scheduledAt) {
+    }
+}
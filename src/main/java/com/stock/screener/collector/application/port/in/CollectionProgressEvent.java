@@ -0,0 +1,51 @@
+package com.stock.screener.collector.application.port.in;
+
+import com.stock.screener.collector.application.port.out.ProviderQuota;
+
+import java.util.List;
+
+/**
+ * Live progress of a running collection job.
+ */
+public sealed interface CollectionProgressEvent {
+
+    long jobId();
+
+    /**
+     * One ticker of the job finished.
+     *
+     * @param providerCalls HTTP calls the ticker cost; calls served from the response log or shared with a
+     *                      concurrent request are not counted
+     */
+    record TickerCompleted(
+            long jobId,
+            CollectionJobType type,
+            String ticker,
+            TickerOutcome.Status status,
+            long latencyMs,
+            String error,
+            int providerCalls,
+            List<ProviderQuota> remainingQuota
+    ) implements CollectionProgressEvent {
+    }
+
+    /**
+     * Throughput over the tickers finished since the previous stats event.
+     */
+    record Throughput(
+            long jobId,
+            CollectionJobType type,
+            int processed,
+            int failed,
+            double tickersPerMinute,
+            double averageLatencyMs,
+            int providerCalls
+    ) implements CollectionProgressEvent {
+    }
+
+    /**
+     * This instance stopped working on the job: the run finished, or the worker was interrupted.
+     */
+    record JobFinished(long jobId, CollectionJobType type) implements CollectionProgressEvent {
+    }
+}
@@ -0,0 +1,13 @@
+package com.stock.screener.collector.application.port.in;
+
+/**
+ * Categories of collected data with their own freshness window (see work_plan.md, step 2).
+ */
+public enum DataCategory {
+    /** Balance sheet, income statement, cash flow — change once a quarter. Default window 90 days. */
+    FUNDAMENTALS,
+    /** Price and price-derived values (market cap, P/S, upside). Default window 1 day. */
+    PRICES,
+    /** Target price, growth estimates, recommendation trend. Default window 30 days. */
+    ANALYST_ESTIMATES
+}
@@ -0,0 +1,13 @@
+package com.stock.screener.collector.application.port.in;
+
+/**
+ * Hit/miss counters of the freshness check for one {@link DataCategory} since application start.
+ * A hit is a read served from stored data, a miss is a call to the external API.
+ */
+public record FreshnessStats(DataCategory category, long hits, long misses) {
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,9 @@
+package com.stock.screener.collector.application.port.in;
+
+import com.stock.screener.collector.application.port.out.ApiCallStats;
+
+import java.util.List;
+
+public interface GetApiCallStatsUseCase {
+    List<ApiCallStats> getApiCallStats();
+}
@@ -0,0 +1,8 @@
+package com.stock.screener.collector.application.port.in;
+
+import java.util.Optional;
+
+public interface GetCollectionJobUseCase {
+
+    Optional<CollectionJobReport> findJob(long id);
+}
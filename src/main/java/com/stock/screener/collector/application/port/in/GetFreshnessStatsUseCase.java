@@ -0,0 +1,7 @@
+package com.stock.screener.collector.application.port.in;
+
+import java.util.List;
+
+public interface GetFreshnessStatsUseCase {
+    List<FreshnessStats> getFreshnessStats();
+}
@@ -0,0 +1,11 @@
+package com.stock.screener.collector.application.port.in;
+
+public interface MaintainResponseLogsUseCase {
+
+    /**
+     * Makes sure partitions exist for the current month and the configured number of months ahead.
+     */
+    void preparePartitions();
+
+    ResponseLogMaintenanceResult maintainResponseLogs();
+}
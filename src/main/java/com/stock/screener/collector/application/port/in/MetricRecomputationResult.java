@@ -0,0 +1,11 @@
+package com.stock.screener.collector.application.port.in;
+
+/**
+ * @param quarterlyReports quarterly reports whose metrics were re-derived and written back
+ * @param monthlyReports   monthly reports whose metrics were re-derived and written back
+ * @param failedReports    reports skipped because recalculating or writing them failed
+ * @param skippedReports   reports stored before their metric inputs were, left untouched until collected again
+ */
+public record MetricRecomputationResult(int quarterlyReports, int monthlyReports, int failedReports,
+        int skippedReports, long durationMs) {
+}
@@ -0,0 +1,15 @@
+package com.stock.screener.collector.application.port.in;
+
+import java.util.List;
+
+public interface PlanCollectionUseCase {
+
+    CollectionPlan plan(CollectionJobType type);
+
+    /**
+     * The stalest due tickers for the current wave of the day — the day's share split exactly over
+     * {@code collector.planner.waves-per-day}, capped by the quota the providers have left today. Planned afresh
+     * every time, so tickers collected in earlier waves have dropped out.
+     */
+    List<String> nextWave(CollectionJobType type);
+}
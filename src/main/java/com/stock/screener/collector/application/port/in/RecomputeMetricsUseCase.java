@@ -0,0 +1,9 @@
+package com.stock.screener.collector.application.port.in;
+
+public interface RecomputeMetricsUseCase {
+
+    /**
+     * Re-derives the metrics of every stored report from its raw columns, without fetching any data.
+     */
+    MetricRecomputationResult recomputeMetrics();
+}
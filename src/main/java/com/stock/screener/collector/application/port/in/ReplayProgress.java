@@ -0,0 +1,28 @@
+package com.stock.screener.collector.application.port.in;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot of a response log replay.
+ *
+ * @param tickersProcessed tickers recomputed so far, failed ones included
+ * @param failedTickers    tickers whose payloads could not be turned into reports
+ * @param error            cause of a {@link Status#FAILED} run, null otherwise
+ */
+public record ReplayProgress(
+        Status status,
+        int tickersProcessed,
+        int failedTickers,
+        int monthlyReports,
+        int quarterlyReports,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,19 @@
+package com.stock.screener.collector.application.port.in;
+
+import java.util.Optional;
+
+public interface ReplayResponseLogsUseCase {
+
+    /**
+     * Starts rebuilding every monthly and quarterly report from the logged provider responses,
+     * without calling any API. The replay runs in the background.
+     *
+     * @throws IllegalStateException when a replay is already running
+     */
+    ReplayProgress startReplay();
+
+    /**
+     * @return progress of the running or last finished replay, empty if none was started
+     */
+    Optional<ReplayProgress> replayProgress();
+}
@@ -0,0 +1,10 @@
+package com.stock.screener.collector.application.port.in;
+
+import java.util.List;
+
+/**
+ * @param compressedRows    payloads moved to compressed storage in this run
+ * @param expiredPartitions partitions dropped or detached in this run
+ */
+public record ResponseLogMaintenanceResult(long compressedRows, List<String> expiredPartitions) {
+}
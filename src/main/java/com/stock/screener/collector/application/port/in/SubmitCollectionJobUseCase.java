@@ -0,0 +1,23 @@
+package com.stock.screener.collector.application.port.in;
+
+import java.util.List;
+
+public interface SubmitCollectionJobUseCase {
+
+    /**
+     * Starts a bulk collection in the background and returns immediately. If a run of the same type is
+     * still unfinished, that run is resumed instead — tickers it already finished are not collected again.
+     */
+    CollectionJobReport submit(CollectionJobType type, List<String> tickers);
+
+    /**
+     * Like {@link #submit(CollectionJobType, List)}, but every instance submitting the same trigger key joins one
+     * run as a worker, even if that run has finished already — a cron firing on all instances collects once.
+     */
+    CollectionJobReport submit(CollectionJobType type, List<String> tickers, String triggerKey);
+
+    /**
+     * Resumes every run left unfinished, e.g. by a restart.
+     */
+    void resumeUnfinishedJobs();
+}
@@ -0,0 +1,38 @@
+package com.stock.screener.collector.application.port.in;
+
+/**
+ * Result of collecting data for a single ticker within a bulk run.
+ */
+public record TickerOutcome(
+        String ticker,
+        Status status,
+        long durationMs,
+        String error,
+        int providerCalls
+) {
+
+    public enum Status {
+        SUCCESS,
+        FAILED
+    }
+
+    public static TickerOutcome success(String ticker, long durationMs) {
+        return new TickerOutcome(ticker, Status.SUCCESS, durationMs, null, 0);
+    }
+
+    public static TickerOutcome failed(String ticker, long durationMs, String error) {
+        return new TickerOutcome(ticker, Status.FAILED, durationMs, error, 0);
+    }
+
+    /**
+     * @param providerCalls HTTP calls the collection of this ticker made, calls it joined or read from a cache
+     *                      excluded
+     */
+    public TickerOutcome withProviderCalls(int providerCalls) {
+        return new TickerOutcome(ticker, status, durationMs, error, providerCalls);
+    }
+
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+}
@@ -0,0 +1,14 @@
+package com.stock.screener.collector.application.port.in;
+
+import java.util.function.Consumer;
+
+public interface WatchCollectionJobsUseCase {
+
+    /**
+     * Registers a listener for the progress of all running jobs. The listener is called on the job's thread and
+     * must not block.
+     *
+     * @return action that unregisters the listener
+     */
+    Runnable subscribe(Consumer<CollectionProgressEvent> listener);
+}
@@ -0,0 +1,15 @@
+package com.stock.screener.collector.application.port.out;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public interface ApiCallMetricsPort {
+    List<ApiCallStats> callStats();
+
+    /**
+     * Runs the work and adds every HTTP call it makes, across providers and on the threads it forks, to
+     * {@code calls}. Counting is per invocation: concurrent work on the same symbol is counted apart, and calls
+     * made outside this method are not counted at all. {@code calls} is complete even when the work throws.
+     */
+    void countCalls(AtomicInteger calls, Runnable work);
+}
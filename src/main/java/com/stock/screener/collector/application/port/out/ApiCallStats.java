@@ -0,0 +1,11 @@
+package com.stock.screener.collector.application.port.out;
+
+/**
+ * Outbound call counters for one provider since application start.
+ *
+ * @param executed     calls that actually went out over HTTP
+ * @param deduplicated calls that joined an identical in-flight call instead; for Alpha Vantage, requests the
+ *                     read-through cache coalesced
+ */
+public record ApiCallStats(ApiProvider provider, long executed, long deduplicated) {
+}
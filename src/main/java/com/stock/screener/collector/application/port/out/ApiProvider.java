@@ -0,0 +1,21 @@
+package com.stock.screener.collector.application.port.out;
+
+/**
+ * External data providers the collector talks to. {@code configKey} matches the
+ * REST client config key, so per-provider settings share one naming scheme.
+ */
+public enum ApiProvider {
+
+    ALPHA_VANTAGE("alphavantage-api"),
+    YH_FINANCE("yhfinance-api");
+
+    private final String configKey;
+
+    ApiProvider(String configKey) {
+        this.configKey = configKey;
+    }
+
+    public String configKey() {
+        return configKey;
+    }
+}
@@ -0,0 +1,9 @@
+package com.stock.screener.collector.application.port.out;
+
+/**
+ * Permits a provider has left right now, across all instances.
+ *
+ * @param dailyLimit configured calls per day, the budget {@code remainingToday} counts down from
+ */
+public record ProviderQuota(ApiProvider provider, int remainingThisMinute, int remainingToday, int dailyLimit) {
+}
@@ -0,0 +1,11 @@
+package com.stock.screener.collector.application.port.out;
+
+import java.util.List;
+
+public interface QuotaPort {
+
+    /**
+     * Reads the quota without consuming or locking anything.
+     */
+    List<ProviderQuota> remainingQuota();
+}
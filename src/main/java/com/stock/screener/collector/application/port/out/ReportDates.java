@@ -0,0 +1,14 @@
+package com.stock.screener.collector.application.port.out;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+
+/**
+ * What the planners need to know about a ticker's stored reports.
+ *
+ * @param fiscalDateEnding newest stored quarter; null for monthly reports
+ * @param fiscalYearEnd    from the monthly report, null until one was collected
+ */
+public record ReportDates(LocalDateTime updatedAt, LocalDate fiscalDateEnding, Month fiscalYearEnd) {
+}
@@ -0,0 +1,14 @@
+package com.stock.screener.collector.application.port.out;
+
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+
+import java.util.Map;
+
+public interface ReportFreshnessPort {
+
+    /**
+     * Dates of each ticker's stored report of the type; tickers without a report are absent. For quarterly types
+     * these are of the newest quarter.
+     */
+    Map<String, ReportDates> reportDates(CollectionJobType type);
+}
@@ -0,0 +1,39 @@
+package com.stock.screener.collector.application.port.out;
+
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+
+import java.util.List;
+
+/**
+ * Writes computed reports with a single round trip per batch, inserting or updating on the natural key.
+ * <p>
+ * A report replaces the stored row as given, so callers merge the stored raw values into a report before computing
+ * its metrics; only a monthly report's sector and fiscal year end keep the stored values when missing.
+ * </p>
+ */
+public interface ReportUpsertPort {
+
+    /**
+     * Upserts on (ticker, fiscalDateEnding).
+     */
+    void upsertQuarterly(List<QuarterlyReport> reports);
+
+    /**
+     * Upserts on (ticker, forecastDate) — a ticker gets one monthly report per collection day, so earlier days are
+     * kept as its history.
+     */
+    void upsertMonthly(List<MonthlyReport> reports);
+
+    /**
+     * Writes quarters rebuilt from the response logs. A new quarter is dated by its {@code updatedAt}, the time its
+     * statements were fetched; a stored one keeps its timestamps, so a replay never makes a quarter look fresh.
+     */
+    void replayQuarterly(List<QuarterlyReport> reports);
+
+    /**
+     * Writes monthly reports rebuilt from the response logs as of their {@code updatedAt} instead of now: the
+     * report replaces the one of that day, so a replay never adds a newer day or makes a ticker look fresh.
+     */
+    void replayMonthly(List<MonthlyReport> reports);
+}
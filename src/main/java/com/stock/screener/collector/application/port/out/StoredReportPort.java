@@ -0,0 +1,32 @@
+package com.stock.screener.collector.application.port.out;
+
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming access to every stored report, for jobs that rework whole tables.
+ * <p>
+ * Reports are handed over as detached chunks read from a cursor, so memory use depends on the chunk size and
+ * not on the table size. The consumer runs on the reading thread and may block to apply backpressure.
+ * </p>
+ */
+public interface StoredReportPort {
+
+    void streamQuarterly(int chunkSize, Consumer<List<QuarterlyReport>> chunkConsumer);
+
+    void streamMonthly(int chunkSize, Consumer<List<MonthlyReport>> chunkConsumer);
+
+    /**
+     * Writes back metrics, integrity status and calculation errors by id. Raw columns and timestamps are
+     * left untouched, so a collection writing the same row concurrently never loses its data.
+     */
+    void updateQuarterlyMetrics(List<QuarterlyReport> reports);
+
+    /**
+     * @see #updateQuarterlyMetrics(List)
+     */
+    void updateMonthlyMetrics(List<MonthlyReport> reports);
+}
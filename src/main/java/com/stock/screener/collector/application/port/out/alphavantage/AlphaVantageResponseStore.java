@@ -0,0 +1,19 @@
+package com.stock.screener.collector.application.port.out.alphavantage;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Read access to previously fetched Alpha Vantage responses.
+ * Each method returns the most recent stored response fetched at or after {@code notBefore}.
+ */
+public interface AlphaVantageResponseStore {
+
+    Optional<RawOverview> findOverview(String ticker, LocalDateTime notBefore);
+
+    Optional<RawBalanceSheet> findBalanceSheet(String ticker, LocalDateTime notBefore);
+
+    Optional<RawIncomeStatement> findIncomeStatement(String ticker, LocalDateTime notBefore);
+
+    Optional<RawCashFlow> findCashFlow(String ticker, LocalDateTime notBefore);
+}
@@ -0,0 +1,14 @@
+package com.stock.screener.collector.application.port.out.job;
+
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+
+import java.util.Map;
+
+public interface CollectionFailurePort {
+
+    /**
+     * Failures of each ticker's collections of the type since its last successful one; tickers that did not fail
+     * since are absent.
+     */
+    Map<String, CollectionFailures> recentFailures(CollectionJobType type);
+}
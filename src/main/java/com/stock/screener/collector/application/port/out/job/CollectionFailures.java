@@ -0,0 +1,10 @@
+package com.stock.screener.collector.application.port.out.job;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param failedRuns   runs the ticker failed in since it was last collected successfully
+ * @param lastFailedAt when the newest of those failures was recorded
+ */
+public record CollectionFailures(int failedRuns, LocalDateTime lastFailedAt) {
+}
@@ -0,0 +1,68 @@
+package com.stock.screener.collector.application.port.out.job;
+
+import com.stock.screener.collector.application.port.in.CollectionJobStatus;
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.TickerOutcome;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persistence of collection runs and their per-ticker checkpoints. The items of a run double as a work queue
+ * that any number of instances can drain concurrently.
+ */
+public interface CollectionRunPort {
+
+    /**
+     * Returns the run to work on for the type, creating a {@link CollectionJobStatus#RUNNING} run with one
+     * pending item per distinct ticker when there is none. Serialized across instances: a run with the same
+     * trigger key is joined instead of creating another one, and without a key an unfinished run of the type over
+     * the same tickers is.
+     *
+     * @param triggerKey identifies one trigger shared by all instances, e.g. a cron fire time; may be null
+     * @return id of the run
+     */
+    long joinOrCreateRun(CollectionJobType type, List<String> tickers, String triggerKey);
+
+    Optional<CollectionRunState> findRun(long runId);
+
+    List<CollectionRunState> findUnfinishedRuns();
+
+    /**
+     * Claims up to {@code limit} tickers for the worker: pending ones, failed ones with attempts left whose retry
+     * backoff has passed and those whose lease expired. Tickers with fewer attempts go first, so retries do not
+     * hold up untried tickers. Rows locked by another worker's claim are skipped, never waited for.
+     */
+    List<String> claimTickers(long runId, String workerId, int limit, Duration lease, int maxAttempts);
+
+    /**
+     * Extends the lease of every ticker the worker still holds in the run.
+     */
+    void renewLeases(long runId, String workerId, Duration lease);
+
+    /**
+     * @return true while any ticker of the run is claimed, by any worker, live or expired, or failed with attempts
+     * left
+     */
+    boolean hasOpenTickers(long runId, int maxAttempts);
+
+    /**
+     * Restarts the throughput clock, unless other workers are already on the run.
+     */
+    void markStarted(long runId);
+
+    /**
+     * Checkpoints the ticker and releases its lease, unless the worker no longer holds it — its lease expired and
+     * the ticker was claimed by another worker. A failed ticker is not retried before {@code retryBackoff}, doubled
+     * for every attempt it already had.
+     *
+     * @return false when the worker did not hold the ticker and nothing was recorded
+     */
+    boolean recordOutcome(long runId, String workerId, TickerOutcome outcome, Duration retryBackoff);
+
+    /**
+     * Finishes a run that is still running; a no-op when another worker already did.
+     */
+    void finishRun(long runId, CollectionJobStatus status);
+}
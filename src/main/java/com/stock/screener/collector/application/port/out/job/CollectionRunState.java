@@ -0,0 +1,28 @@
+package com.stock.screener.collector.application.port.out.job;
+
+import com.stock.screener.collector.application.port.in.CollectionJobStatus;
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.TickerOutcome;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Stored state of a collection run.
+ *
+ * @param processedSinceStart items finished since {@code startedAt}, i.e. in the current attempt of the run
+ */
+public record CollectionRunState(
+        long id,
+        CollectionJobType type,
+        CollectionJobStatus status,
+        int total,
+        int done,
+        int failed,
+        int processedSinceStart,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        List<TickerOutcome> failures
+) {
+}
@@ -0,0 +1,26 @@
+package com.stock.screener.collector.application.port.out.job;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Cluster-wide bookkeeping of scheduled executions, so that every fire of a trigger runs on one instance only.
+ */
+public interface SchedulerLeasePort {
+
+    /**
+     * Claims the fire of the trigger for the owner.
+     *
+     * @param nextFireTime the fire expected after this one, used to detect misfires; may be null
+     * @return true for exactly one caller per identity and fire time, false when the fire was already claimed
+     */
+    boolean tryClaim(String identity, Instant fireTime, Instant nextFireTime, String owner);
+
+    /**
+     * Claims the fire that was expected before {@code now} but never claimed, e.g. because every instance was
+     * down. Several missed fires are coalesced into one.
+     *
+     * @return the missed fire time, if this caller claimed it
+     */
+    Optional<Instant> claimMissedFire(String identity, Instant now, String owner);
+}
@@ -0,0 +1,13 @@
+package com.stock.screener.collector.application.port.out.log;
+
+/**
+ * Responses captured during one {@link ResponseLogPort#capture fetch stage}.
+ */
+public interface CapturedResponses {
+
+    /**
+     * Persists the captured responses in the caller's transaction and drains them, so a second flush inserts
+     * nothing. If that transaction rolls back, they are restored and a retried write persists them again.
+     */
+    void flush();
+}
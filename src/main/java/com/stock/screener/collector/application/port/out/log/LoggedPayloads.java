@@ -0,0 +1,37 @@
+package com.stock.screener.collector.application.port.out.log;
+
+import com.stock.screener.collector.application.port.out.alphavantage.RawBalanceSheet;
+import com.stock.screener.collector.application.port.out.alphavantage.RawCashFlow;
+import com.stock.screener.collector.application.port.out.alphavantage.RawIncomeStatement;
+import com.stock.screener.collector.application.port.out.alphavantage.RawOverview;
+import com.stock.screener.collector.application.port.out.yhfinance.response.YhFinanceResponse;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Latest logged payload of every function for one ticker; a component is null when nothing usable was logged.
+ * The {@code fetchedAt} components hold the request timestamps of those payloads.
+ */
+@Builder
+public record LoggedPayloads(
+        String ticker,
+        RawOverview overview,
+        YhFinanceResponse quoteSummary,
+        RawBalanceSheet balanceSheet,
+        RawIncomeStatement incomeStatement,
+        RawCashFlow cashFlow,
+        LocalDateTime overviewFetchedAt,
+        LocalDateTime quoteSummaryFetchedAt,
+        LocalDateTime statementsFetchedAt) {
+
+    /**
+     * @return when the newer of the overview and the quote summary was fetched, or null when neither was logged
+     */
+    public LocalDateTime marketDataFetchedAt() {
+        if (overviewFetchedAt == null || quoteSummaryFetchedAt == null) {
+            return overviewFetchedAt != null ? overviewFetchedAt : quoteSummaryFetchedAt;
+        }
+        return overviewFetchedAt.isAfter(quoteSummaryFetchedAt) ? overviewFetchedAt : quoteSummaryFetchedAt;
+    }
+}
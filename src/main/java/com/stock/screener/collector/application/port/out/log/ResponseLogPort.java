@@ -0,0 +1,19 @@
+package com.stock.screener.collector.application.port.out.log;
+
+import java.util.function.Supplier;
+
+/**
+ * Raw API responses are captured by the gateways while fetching, but only written together with the
+ * report they produced. This keeps the fetch stage free of database work.
+ */
+public interface ResponseLogPort {
+
+    /**
+     * Runs the fetch stage of one collection. Responses received while it runs, including in subtasks it forks,
+     * are captured for this call only — concurrent collections of the same ticker never see each other's.
+     */
+    <T> Fetched<T> capture(Supplier<T> fetch);
+
+    record Fetched<T>(T value, CapturedResponses responses) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.stock.screener.collector.application.port.out.log;
+
+import java.util.List;
+
+/**
+ * Read side of the response logs used to rebuild reports without calling the providers.
+ */
+public interface ResponseLogReplayPort {
+
+    /**
+     * Keyset page over every ticker present in any response log, in ascending order.
+     *
+     * @param afterTicker last ticker of the previous page, or null for the first page
+     */
+    List<String> findLoggedTickers(String afterTicker, int limit);
+
+    /**
+     * @return one entry per requested ticker, holding the newest payload logged for each function
+     */
+    List<LoggedPayloads> findLatestPayloads(List<String> tickers);
+}
@@ -0,0 +1,31 @@
+package com.stock.screener.collector.application.port.out.log;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Lifecycle of the monthly partitions behind the response log tables.
+ */
+public interface ResponseLogStoragePort {
+
+    /**
+     * Creates the partitions for every month in the range, inclusive, where missing.
+     */
+    void createMonthlyPartitions(YearMonth from, YearMonth to);
+
+    /**
+     * Moves payloads of partitions older than the cutoff from JSONB to gzip-compressed bytes and rewrites the
+     * partitions that changed, so the space of the uncompressed payloads is released.
+     *
+     * @return number of rows compressed
+     */
+    long compressPartitionsBefore(YearMonth cutoff);
+
+    /**
+     * Removes partitions older than the cutoff: detached and left as standalone tables when archiving,
+     * dropped otherwise.
+     *
+     * @return names of the removed partitions
+     */
+    List<String> expirePartitionsBefore(YearMonth cutoff, boolean archive);
+}
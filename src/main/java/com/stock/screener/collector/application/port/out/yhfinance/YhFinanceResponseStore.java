@@ -0,0 +1,17 @@
+package com.stock.screener.collector.application.port.out.yhfinance;
+
+import com.stock.screener.collector.application.port.out.yhfinance.response.YhFinanceResponse;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Read access to previously fetched YH Finance quote summaries.
+ */
+public interface YhFinanceResponseStore {
+
+    /**
+     * @return the most recent stored quote summary fetched at or after {@code notBefore}
+     */
+    Optional<YhFinanceResponse> findQuoteSummary(String ticker, LocalDateTime notBefore);
+}
@@ -0,0 +1,144 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.DataCategory;
+import com.stock.screener.collector.application.port.out.alphavantage.AlphaVantageClient;
+import com.stock.screener.collector.application.port.out.alphavantage.AlphaVantageResponseStore;
+import com.stock.screener.collector.application.port.out.alphavantage.RawBalanceSheet;
+import com.stock.screener.collector.application.port.out.alphavantage.RawCashFlow;
+import com.stock.screener.collector.application.port.out.alphavantage.RawIncomeStatement;
+import com.stock.screener.collector.application.port.out.alphavantage.RawOverview;
+import com.stock.screener.common.concurrent.SingleFlight;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.stock.screener.collector.application.port.in.DataCategory.ANALYST_ESTIMATES;
+import static com.stock.screener.collector.application.port.in.DataCategory.FUNDAMENTALS;
+import static com.stock.screener.collector.application.port.in.DataCategory.PRICES;
+
+/**
+ * Read-through cache over {@code alpha_vantage_response_log}, keyed by (ticker, function).
+ * <p>
+ * Monthly and quarterly collections (and anything else asking for AV data) share one quota, so a payload
+ * logged within its function's TTL is deserialized from the log instead of being fetched again. Concurrent
+ * requests for the same key are coalesced: one caller does the lookup and, if needed, the HTTP call, the others
+ * wait for its result. A coalesced request counts as a hit — it did not cost any quota.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+class AlphaVantageReadThroughCache {
+
+    enum AvFunction {
+        OVERVIEW(Set.of(PRICES, ANALYST_ESTIMATES)),
+        BALANCE_SHEET(Set.of(FUNDAMENTALS)),
+        INCOME_STATEMENT(Set.of(FUNDAMENTALS)),
+        CASH_FLOW(Set.of(FUNDAMENTALS));
+
+        private final Set<DataCategory> categories;
+
+        AvFunction(Set<DataCategory> categories) {
+            this.categories = categories;
+        }
+    }
+
+    private record Key(String ticker, AvFunction function) {
+    }
+
+    private final AlphaVantageClient alphaVantageClient;
+    private final AlphaVantageResponseStore responseStore;
+    private final DataFreshnessMetrics metrics;
+    private final Map<AvFunction, Duration> ttls = new EnumMap<>(AvFunction.class);
+    private final SingleFlight<Key, Object> inFlight = new SingleFlight<>();
+
+    @Inject
+    AlphaVantageReadThroughCache(
+            AlphaVantageClient alphaVantageClient,
+            AlphaVantageResponseStore responseStore,
+            DataFreshnessMetrics metrics,
+            @ConfigProperty(name = "collector.alphavantage.cache-ttl.overview", defaultValue = "1d")
+            Duration overviewTtl,
+            @ConfigProperty(name = "collector.alphavantage.cache-ttl.balance-sheet", defaultValue = "7d")
+            Duration balanceSheetTtl,
+            @ConfigProperty(name = "collector.alphavantage.cache-ttl.income-statement", defaultValue = "7d")
+            Duration incomeStatementTtl,
+            @ConfigProperty(name = "collector.alphavantage.cache-ttl.cash-flow", defaultValue = "7d")
+            Duration cashFlowTtl) {
+        this.alphaVantageClient = alphaVantageClient;
+        this.responseStore = responseStore;
+        this.metrics = metrics;
+        ttls.put(AvFunction.OVERVIEW, overviewTtl);
+        ttls.put(AvFunction.BALANCE_SHEET, balanceSheetTtl);
+        ttls.put(AvFunction.INCOME_STATEMENT, incomeStatementTtl);
+        ttls.put(AvFunction.CASH_FLOW, cashFlowTtl);
+    }
+
+    RawOverview overview(String ticker) {
+        return get(ticker, AvFunction.OVERVIEW,
+                notBefore -> responseStore.findOverview(ticker, notBefore),
+                () -> alphaVantageClient.fetchOverview(ticker));
+    }
+
+    RawBalanceSheet balanceSheet(String ticker) {
+        return get(ticker, AvFunction.BALANCE_SHEET,
+                notBefore -> responseStore.findBalanceSheet(ticker, notBefore),
+                () -> alphaVantageClient.fetchBalanceSheet(ticker));
+    }
+
+    RawIncomeStatement incomeStatement(String ticker) {
+        return get(ticker, AvFunction.INCOME_STATEMENT,
+                notBefore -> responseStore.findIncomeStatement(ticker, notBefore),
+                () -> alphaVantageClient.fetchIncomeStatement(ticker));
+    }
+
+    RawCashFlow cashFlow(String ticker) {
+        return get(ticker, AvFunction.CASH_FLOW,
+                notBefore -> responseStore.findCashFlow(ticker, notBefore),
+                () -> alphaVantageClient.fetchCashFlow(ticker));
+    }
+
+    /**
+     * @return number of requests served by another request's in-flight lookup or call
+     */
+    long coalescedCount() {
+        return inFlight.sharedCount();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String ticker, AvFunction function,
+            Function<LocalDateTime, Optional<T>> stored, Supplier<T> remote) {
+        var leader = new AtomicBoolean();
+        T value = (T) inFlight.execute(new Key(ticker, function), () -> {
+            leader.set(true);
+            return lookupOrFetch(function, stored, remote);
+        });
+
+        if (!leader.get()) {
+            log.debug("Coalesced Alpha Vantage {} request for {}", function, ticker);
+            metrics.recordHit(function.categories);
+        }
+        return value;
+    }
+
+    private <T> T lookupOrFetch(AvFunction function,
+            Function<LocalDateTime, Optional<T>> stored, Supplier<T> remote) {
+        Optional<T> cached = stored.apply(LocalDateTime.now().minus(ttls.get(function)));
+        if (cached.isPresent()) {
+            metrics.recordHit(function.categories);
+            return cached.get();
+        }
+        metrics.recordMiss(function.categories);
+        return remote.get();
+    }
+}
@@ -0,0 +1,32 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.GetApiCallStatsUseCase;
+import com.stock.screener.collector.application.port.out.ApiCallMetricsPort;
+import com.stock.screener.collector.application.port.out.ApiCallStats;
+import com.stock.screener.collector.application.port.out.ApiProvider;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Alpha Vantage requests are coalesced by {@link AlphaVantageReadThroughCache} before they reach the gateway, so
+ * their deduplicated count comes from there.
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+class ApiCallStatsService implements GetApiCallStatsUseCase {
+
+    private final ApiCallMetricsPort apiCallMetricsPort;
+    private final AlphaVantageReadThroughCache alphaVantageReadThroughCache;
+
+    @Override
+    public List<ApiCallStats> getApiCallStats() {
+        return apiCallMetricsPort.callStats().stream()
+                .map(stats -> stats.provider() == ApiProvider.ALPHA_VANTAGE
+                        ? new ApiCallStats(stats.provider(), stats.executed(),
+                                alphaVantageReadThroughCache.coalescedCount())
+                        : stats)
+                .toList();
+    }
+}
@@ -0,0 +1,140 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.BulkCollectionResult;
+import com.stock.screener.collector.application.port.in.TickerOutcome;
+import com.stock.screener.collector.application.port.out.ApiCallMetricsPort;
+import com.stock.screener.collector.application.port.out.ApiProvider;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Fans a ticker list out onto virtual threads, one task per ticker.
+ * <p>
+ * Each provider has its own concurrency ceiling. A task holds a permit for every provider
+ * it talks to for its whole duration, so the effective parallelism of a run is the lowest
+ * ceiling among the providers involved. Permits are always taken in enum order to avoid
+ * deadlocks between runs that share providers.
+ * </p>
+ * <p>
+ * Every outcome carries the provider calls its ticker cost, counted for that task alone.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+class BulkCollectionEngine {
+
+    private final ApiCallMetricsPort apiCallMetricsPort;
+    private final Map<ApiProvider, Semaphore> permits = new EnumMap<>(ApiProvider.class);
+
+    @Inject
+    BulkCollectionEngine(
+            ApiCallMetricsPort apiCallMetricsPort,
+            @ConfigProperty(name = "collector.bulk.max-concurrency.alphavantage-api", defaultValue = "4")
+            int alphaVantageConcurrency,
+            @ConfigProperty(name = "collector.bulk.max-concurrency.yhfinance-api", defaultValue = "4")
+            int yhFinanceConcurrency) {
+        this.apiCallMetricsPort = apiCallMetricsPort;
+        permits.put(ApiProvider.ALPHA_VANTAGE, new Semaphore(alphaVantageConcurrency, true));
+        permits.put(ApiProvider.YH_FINANCE, new Semaphore(yhFinanceConcurrency, true));
+    }
+
+    BulkCollectionResult execute(String runName, List<String> tickers, Set<ApiProvider> providers,
+            Consumer<String> collector) {
+        return execute(runName, tickers, providers, collector, outcome -> {
+        });
+    }
+
+    /**
+     * @param outcomeListener called from the worker as soon as a ticker finishes, e.g. to checkpoint a job
+     */
+    BulkCollectionResult execute(String runName, List<String> tickers, Set<ApiProvider> providers,
+            Consumer<String> collector, Consumer<TickerOutcome> outcomeListener) {
+        log.info("Bulk {} collection started for {} tickers", runName, tickers.size());
+        long start = System.nanoTime();
+
+        List<Semaphore> required = providers.stream()
+                .sorted(Comparator.naturalOrder())
+                .map(permits::get)
+                .toList();
+
+        List<TickerOutcome> outcomes;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<TickerOutcome>> futures = tickers.stream()
+                    .map(ticker -> executor.submit(() -> notify(outcomeListener,
+                            collectOne(runName, ticker, required, collector))))
+                    .toList();
+            executor.shutdown();
+            outcomes = futures.stream().map(BulkCollectionEngine::await).toList();
+        }
+
+        var result = BulkCollectionResult.of(outcomes, elapsedMs(start));
+        log.info("Bulk {} collection finished: {} succeeded, {} failed in {} ms",
+                runName, result.succeeded(), result.failed(), result.durationMs());
+        return result;
+    }
+
+    private TickerOutcome collectOne(String runName, String ticker, List<Semaphore> required,
+            Consumer<String> collector) {
+        int acquired = 0;
+        try {
+            for (Semaphore semaphore : required) {
+                semaphore.acquire();
+                acquired++;
+            }
+            long start = System.nanoTime();
+            var calls = new AtomicInteger();
+            try {
+                apiCallMetricsPort.countCalls(calls, () -> collector.accept(ticker));
+                return TickerOutcome.success(ticker, elapsedMs(start)).withProviderCalls(calls.get());
+            } catch (Exception ex) {
+                log.error("Bulk {} collection failed for ticker: {}", runName, ticker, ex);
+                return TickerOutcome.failed(ticker, elapsedMs(start), ex.getMessage()).withProviderCalls(calls.get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return TickerOutcome.failed(ticker, 0, "Interrupted while waiting for provider permit");
+        } finally {
+            for (int i = 0; i < acquired; i++) {
+                required.get(i).release();
+            }
+        }
+    }
+
+    private static TickerOutcome notify(Consumer<TickerOutcome> outcomeListener, TickerOutcome outcome) {
+        try {
+            outcomeListener.accept(outcome);
+        } catch (RuntimeException ex) {
+            log.warn("Outcome listener failed for ticker: {}", outcome.ticker(), ex);
+        }
+        return outcome;
+    }
+
+    private static TickerOutcome await(Future<TickerOutcome> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while awaiting bulk collection", ex);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Bulk collection task failed unexpectedly", ex);
+        }
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,211 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.CollectMonthlyDataUseCase;
+import com.stock.screener.collector.application.port.in.CollectQuarterlyDataUseCase;
+import com.stock.screener.collector.application.port.in.CollectionJobReport;
+import com.stock.screener.collector.application.port.in.CollectionJobStatus;
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.GetCollectionJobUseCase;
+import com.stock.screener.collector.application.port.in.SubmitCollectionJobUseCase;
+import com.stock.screener.collector.application.port.in.TickerOutcome;
+import com.stock.screener.collector.application.port.out.job.CollectionRunPort;
+import com.stock.screener.collector.application.port.out.job.CollectionRunState;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Runs bulk collections as background jobs backed by {@code collection_run}.
+ * <p>
+ * Every finished ticker is checkpointed right away, so a run interrupted by a restart — or submitted again
+ * while unfinished — continues with the tickers that are not done and does not spend quota twice. Tickers that
+ * failed are retried, up to {@code collector.jobs.queue.max-attempts} attempts per ticker, each after an
+ * exponential backoff starting at {@code collector.jobs.queue.retry-backoff}.
+ * </p>
+ * <p>
+ * The items of a run are a work queue shared by every instance: each instance joins the run as a worker and
+ * claims small batches under a lease, which a heartbeat keeps renewing while the batch is collected. A worker
+ * that dies stops renewing, and its tickers are claimed again by whoever polls after the lease expired. A
+ * worker that finds nothing to claim waits while others still hold tickers or failed ones wait for a retry, so
+ * the run is only finished once every ticker is. The outcome of a ticker whose lease was taken over is dropped.
+ * A worker that fails leaves the run as it is: its leases expire and its tickers are claimed by the others, or by
+ * this instance when it joins again.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+class CollectionJobService implements SubmitCollectionJobUseCase, GetCollectionJobUseCase {
+
+    private final CollectionRunPort collectionRunPort;
+    private final CollectMonthlyDataUseCase collectMonthlyDataUseCase;
+    private final CollectQuarterlyDataUseCase collectQuarterlyDataUseCase;
+    private final CollectionProgressPublisher progressPublisher;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration pollInterval;
+    private final String workerId;
+    private final Set<Long> activeRuns = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    CollectionJobService(
+            CollectionRunPort collectionRunPort,
+            CollectMonthlyDataUseCase collectMonthlyDataUseCase,
+            CollectQuarterlyDataUseCase collectQuarterlyDataUseCase,
+            CollectionProgressPublisher progressPublisher,
+            @ConfigProperty(name = "collector.jobs.queue.batch-size", defaultValue = "20") int batchSize,
+            @ConfigProperty(name = "collector.jobs.queue.lease", defaultValue = "5m") Duration lease,
+            @ConfigProperty(name = "collector.jobs.queue.max-attempts", defaultValue = "3") int maxAttempts,
+            @ConfigProperty(name = "collector.jobs.queue.retry-backoff", defaultValue = "30s") Duration retryBackoff,
+            @ConfigProperty(name = "collector.jobs.queue.poll-interval", defaultValue = "30s") Duration pollInterval) {
+        if (batchSize < 1 || maxAttempts < 1 || lease.toSeconds() < 3 || retryBackoff.isNegative()) {
+            throw new IllegalArgumentException(
+                    "Invalid collection queue settings: batchSize=%d, lease=%s, maxAttempts=%d, retryBackoff=%s"
+                            .formatted(batchSize, lease, maxAttempts, retryBackoff));
+        }
+        this.collectionRunPort = collectionRunPort;
+        this.collectMonthlyDataUseCase = collectMonthlyDataUseCase;
+        this.collectQuarterlyDataUseCase = collectQuarterlyDataUseCase;
+        this.progressPublisher = progressPublisher;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.pollInterval = pollInterval;
+        this.workerId = System.getenv().getOrDefault("HOSTNAME", "local") + "-"
+                + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Override
+    public CollectionJobReport submit(CollectionJobType type, List<String> tickers) {
+        return submit(type, tickers, null);
+    }
+
+    @Override
+    public CollectionJobReport submit(CollectionJobType type, List<String> tickers, String triggerKey) {
+        long runId = collectionRunPort.joinOrCreateRun(type, tickers, triggerKey);
+        CollectionJobReport job = findJob(runId).orElseThrow();
+        if (job.status() != CollectionJobStatus.RUNNING) {
+            log.info("{} collection run {} for trigger {} is already {}", type, runId, triggerKey, job.status());
+            return job;
+        }
+
+        start(runId, type);
+        return findJob(runId).orElseThrow();
+    }
+
+    @Override
+    public void resumeUnfinishedJobs() {
+        collectionRunPort.findUnfinishedRuns().stream()
+                .filter(run -> !activeRuns.contains(run.id()))
+                .forEach(run -> {
+                    log.info("Resuming {} collection run {}: {} of {} tickers done",
+                            run.type(), run.id(), run.done(), run.total());
+                    start(run.id(), run.type());
+                });
+    }
+
+    @Override
+    public Optional<CollectionJobReport> findJob(long id) {
+        return collectionRunPort.findRun(id).map(CollectionJobService::toReport);
+    }
+
+    private void start(long runId, CollectionJobType type) {
+        if (!activeRuns.add(runId)) {
+            log.info("Collection run {} is already running", runId);
+            return;
+        }
+        collectionRunPort.markStarted(runId);
+        Thread.ofVirtual().name("collection-run-" + runId).start(() -> run(runId, type));
+    }
+
+    private void run(long runId, CollectionJobType type) {
+        Thread heartbeat = Thread.ofVirtual().name("collection-run-" + runId + "-heartbeat")
+                .start(() -> renewLeases(runId));
+        try {
+            log.info("{} collection run {} joined by worker {}", type, runId, workerId);
+            Consumer<TickerOutcome> checkpoint = outcome -> {
+                if (collectionRunPort.recordOutcome(runId, workerId, outcome, retryBackoff)) {
+                    progressPublisher.tickerCompleted(runId, type, outcome);
+                } else {
+                    log.warn("Lease of {} in collection run {} was taken over, outcome dropped",
+                            outcome.ticker(), runId);
+                }
+            };
+
+            while (true) {
+                List<String> batch = collectionRunPort.claimTickers(runId, workerId, batchSize, lease, maxAttempts);
+                if (!batch.isEmpty()) {
+                    collect(type, batch, checkpoint);
+                } else if (collectionRunPort.hasOpenTickers(runId, maxAttempts)) {
+                    Thread.sleep(pollInterval);
+                } else {
+                    break;
+                }
+            }
+            collectionRunPort.finishRun(runId, CollectionJobStatus.COMPLETED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Worker of {} collection run {} interrupted, the run stays resumable", type, runId);
+        } catch (RuntimeException e) {
+            log.error("Worker {} of {} collection run {} failed, the run stays with the other workers",
+                    workerId, type, runId, e);
+        } finally {
+            heartbeat.interrupt();
+            progressPublisher.jobFinished(runId, type);
+            activeRuns.remove(runId);
+        }
+    }
+
+    private void collect(CollectionJobType type, List<String> tickers, Consumer<TickerOutcome> checkpoint) {
+        switch (type) {
+            case MONTHLY -> collectMonthlyDataUseCase.collectMonthlyData(tickers, checkpoint);
+            case QUARTERLY -> collectQuarterlyDataUseCase.collectQuarterlyData(tickers, checkpoint);
+            case QUARTERLY_HISTORY -> collectQuarterlyDataUseCase.collectQuarterlyHistory(tickers, checkpoint);
+        }
+    }
+
+    /**
+     * Renews three times per lease, so a single failed renewal does not let the lease lapse.
+     */
+    private void renewLeases(long runId) {
+        Duration every = lease.dividedBy(3);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(every);
+                collectionRunPort.renewLeases(runId, workerId, lease);
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Could not renew leases of collection run {}: {}", runId, e.getMessage());
+            }
+        }
+    }
+
+    static CollectionJobReport toReport(CollectionRunState run) {
+        int pending = run.total() - run.done() - run.failed();
+        LocalDateTime end = run.finishedAt() != null ? run.finishedAt() : LocalDateTime.now();
+        double minutes = run.startedAt() != null
+                ? Duration.between(run.startedAt(), end).toMillis() / 60_000.0
+                : 0;
+        double tickersPerMinute = minutes > 0 ? run.processedSinceStart() / minutes : 0;
+        Long etaSeconds = run.status() == CollectionJobStatus.RUNNING && tickersPerMinute > 0
+                ? Math.round(pending / tickersPerMinute * 60)
+                : null;
+
+        return new CollectionJobReport(run.id(), run.type(), run.status(), run.total(), run.done(), run.failed(),
+                pending, tickersPerMinute, etaSeconds, run.createdAt(), run.startedAt(), run.finishedAt(),
+                run.failures());
+    }
+}
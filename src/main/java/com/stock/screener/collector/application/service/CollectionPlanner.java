@@ -0,0 +1,262 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.CollectionPlan;
+import com.stock.screener.collector.application.port.in.CollectionPlan.Day;
+import com.stock.screener.collector.application.port.in.CollectionPlan.PlannedTicker;
+import com.stock.screener.collector.application.port.in.PlanCollectionUseCase;
+import com.stock.screener.collector.application.port.out.ApiProvider;
+import com.stock.screener.collector.application.port.out.QuotaPort;
+import com.stock.screener.collector.application.port.out.ReportDates;
+import com.stock.screener.collector.application.port.out.ReportFreshnessPort;
+import com.stock.screener.collector.application.port.out.file.TickerReaderPort;
+import com.stock.screener.collector.application.port.out.job.CollectionFailurePort;
+import com.stock.screener.collector.application.port.out.job.CollectionFailures;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static com.stock.screener.collector.application.port.out.ApiProvider.ALPHA_VANTAGE;
+import static com.stock.screener.collector.application.port.out.ApiProvider.YH_FINANCE;
+
+/**
+ * Plans collections against the daily API budgets instead of trying the whole universe at once.
+ * <p>
+ * A ticker is due when it was never collected or new data is expected: for monthly reports once they are older
+ * than the refresh window, for quarterly reports once the next quarter should have been filed (see
+ * {@link FilingDatePredictor}); quarterly history is only due for tickers without any quarter.
+ * A ticker whose collections keep failing backs off exponentially from its last failure, so it cannot head every
+ * wave and spend the budget of tickers that would succeed. Due tickers are ordered most overdue first and cut
+ * into days of as many tickers as the type's share of every provider's daily limit pays for. Each type gets a
+ * share, since monthly and quarterly collections spend the same Alpha Vantage quota; shares below 1 in total
+ * leave room for manual collections. Days follow the UTC calendar, like the providers' daily quotas.
+ * </p>
+ * <p>
+ * Waves split what is left of the day's share: each wave takes the tickers not yet attempted today, divided by
+ * the waves left, so the remainder of an uneven split is carried over instead of being rounded up in every wave,
+ * and a wave that fell short or was skipped is made up by the later ones. A ticker counts as attempted once its
+ * report was stored or its collection failed today. No wave asks for more than a provider has left today.
+ * </p>
+ * <p>
+ * The plan is not stored: it is derived from report timestamps, so every wave re-plans and simply continues
+ * with whatever is still stale.
+ * </p>
+ */
+@ApplicationScoped
+class CollectionPlanner implements PlanCollectionUseCase {
+
+    /**
+     * Worst case per ticker — calls served from the response log are not subtracted.
+     */
+    private static final Map<CollectionJobType, Map<ApiProvider, Integer>> CALLS_PER_TICKER = Map.of(
+            CollectionJobType.MONTHLY, Map.of(ALPHA_VANTAGE, 1, YH_FINANCE, 1),
+            CollectionJobType.QUARTERLY, Map.of(ALPHA_VANTAGE, 3),
+            CollectionJobType.QUARTERLY_HISTORY, Map.of(ALPHA_VANTAGE, 3));
+
+    private final TickerReaderPort tickerReaderPort;
+    private final ReportFreshnessPort reportFreshnessPort;
+    private final QuotaPort quotaPort;
+    private final FilingDatePredictor filingDatePredictor;
+    private final CollectionFailurePort collectionFailurePort;
+    private final int wavesPerDay;
+    private final Duration monthlyRefreshAfter;
+    private final Duration initialFailureBackoff;
+    private final Duration maxFailureBackoff;
+    private final Map<CollectionJobType, Double> budgetShares = new EnumMap<>(CollectionJobType.class);
+
+    @Inject
+    CollectionPlanner(
+            TickerReaderPort tickerReaderPort,
+            ReportFreshnessPort reportFreshnessPort,
+            QuotaPort quotaPort,
+            FilingDatePredictor filingDatePredictor,
+            CollectionFailurePort collectionFailurePort,
+            @ConfigProperty(name = "collector.planner.waves-per-day", defaultValue = "24") int wavesPerDay,
+            @ConfigProperty(name = "collector.planner.monthly.budget-share", defaultValue = "0.3")
+            double monthlyShare,
+            @ConfigProperty(name = "collector.planner.monthly.refresh-after", defaultValue = "30d")
+            Duration monthlyRefreshAfter,
+            @ConfigProperty(name = "collector.planner.quarterly.budget-share", defaultValue = "0.6")
+            double quarterlyShare,
+            @ConfigProperty(name = "collector.planner.failure-backoff.initial", defaultValue = "1h")
+            Duration initialFailureBackoff,
+            @ConfigProperty(name = "collector.planner.failure-backoff.max", defaultValue = "7d")
+            Duration maxFailureBackoff) {
+        if (wavesPerDay < 1 || monthlyShare < 0 || quarterlyShare < 0 || monthlyShare + quarterlyShare > 1
+                || initialFailureBackoff.isNegative() || maxFailureBackoff.compareTo(initialFailureBackoff) < 0) {
+            throw new IllegalArgumentException(("Invalid planner settings: wavesPerDay=%d, monthly share=%s,"
+                    + " quarterly share=%s, failure backoff=%s..%s")
+                    .formatted(wavesPerDay, monthlyShare, quarterlyShare, initialFailureBackoff, maxFailureBackoff));
+        }
+        this.tickerReaderPort = tickerReaderPort;
+        this.reportFreshnessPort = reportFreshnessPort;
+        this.quotaPort = quotaPort;
+        this.filingDatePredictor = filingDatePredictor;
+        this.collectionFailurePort = collectionFailurePort;
+        this.wavesPerDay = wavesPerDay;
+        this.monthlyRefreshAfter = monthlyRefreshAfter;
+        this.initialFailureBackoff = initialFailureBackoff;
+        this.maxFailureBackoff = maxFailureBackoff;
+        budgetShares.put(CollectionJobType.MONTHLY, monthlyShare);
+        budgetShares.put(CollectionJobType.QUARTERLY, quarterlyShare);
+        budgetShares.put(CollectionJobType.QUARTERLY_HISTORY, quarterlyShare);
+    }
+
+    @Override
+    public CollectionPlan plan(CollectionJobType type) {
+        List<String> universe = tickerReaderPort.readTickers().stream().distinct().toList();
+        List<PlannedTicker> due = dueTickers(type, universe, reportFreshnessPort.reportDates(type),
+                collectionFailurePort.recentFailures(type));
+        int perDay = tickersPerDay(type);
+
+        Map<ApiProvider, Integer> callsPerDay = new EnumMap<>(ApiProvider.class);
+        CALLS_PER_TICKER.get(type).forEach((provider, calls) -> callsPerDay.put(provider, calls * perDay));
+
+        List<Day> days = new ArrayList<>();
+        if (perDay > 0) {
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            Duration interval = Duration.ofDays(1).dividedBy(perDay);
+            for (int from = 0; from < due.size(); from += perDay) {
+                LocalDateTime dayStart = today.plusDays(from / perDay).atStartOfDay();
+                List<PlannedTicker> slice = due.subList(from, Math.min(from + perDay, due.size()));
+                days.add(new Day(dayStart.toLocalDate(), interval, IntStream.range(0, slice.size())
+                        .mapToObj(i -> new PlannedTicker(slice.get(i).ticker(), slice.get(i).lastUpdated(),
+                                slice.get(i).dueDate(), dayStart.plus(interval.multipliedBy(i))))
+                        .toList()));
+            }
+        }
+        return new CollectionPlan(type, universe.size(), due.size(), perDay, callsPerDay, days);
+    }
+
+    @Override
+    public List<String> nextWave(CollectionJobType type) {
+        return nextWave(type, LocalTime.now(ZoneOffset.UTC));
+    }
+
+    List<String> nextWave(CollectionJobType type, LocalTime now) {
+        Map<String, ReportDates> reportDates = reportFreshnessPort.reportDates(type);
+        Map<String, CollectionFailures> failures = collectionFailurePort.recentFailures(type);
+        int wave = (int) ((long) now.toSecondOfDay() * wavesPerDay / Duration.ofDays(1).toSeconds());
+        int left = Math.max(tickersPerDay(type) - attemptedToday(reportDates, failures), 0);
+        int waveSize = Math.min(left / (wavesPerDay - wave), affordableToday(type));
+        return dueTickers(type, tickerReaderPort.readTickers().stream().distinct().toList(), reportDates, failures)
+                .stream()
+                .limit(Math.max(waveSize, 0))
+                .map(PlannedTicker::ticker)
+                .toList();
+    }
+
+    /**
+     * Stored timestamps are wall clock times of the JVM zone, the day is the UTC day of the providers' quotas.
+     *
+     * @return how many tickers were stored or failed today
+     */
+    private static int attemptedToday(Map<String, ReportDates> reportDates, Map<String, CollectionFailures> failures) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        int stored = (int) reportDates.values().stream()
+                .filter(dates -> isOn(dates.updatedAt(), today))
+                .count();
+        int failed = (int) failures.entrySet().stream()
+                .filter(failure -> isOn(failure.getValue().lastFailedAt(), today))
+                .filter(failure -> {
+                    ReportDates dates = reportDates.get(failure.getKey());
+                    return dates == null || !isOn(dates.updatedAt(), today);
+                })
+                .count();
+        return stored + failed;
+    }
+
+    private static boolean isOn(LocalDateTime storedAt, LocalDate utcDay) {
+        return storedAt != null
+                && storedAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).toLocalDate()
+                .equals(utcDay);
+    }
+
+    /**
+     * Never-collected tickers come first, the rest by due date. Tickers backing off from failed collections are
+     * left out until their backoff has passed.
+     */
+    private List<PlannedTicker> dueTickers(CollectionJobType type, List<String> universe,
+            Map<String, ReportDates> reportDates, Map<String, CollectionFailures> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        return universe.stream()
+                .filter(ticker -> !isBackingOff(failures.get(ticker), now))
+                .map(ticker -> {
+                    ReportDates dates = reportDates.get(ticker);
+                    return dates == null
+                            ? new PlannedTicker(ticker, null, null, null)
+                            : new PlannedTicker(ticker, dates.updatedAt(), dueDate(type, dates), null);
+                })
+                .filter(ticker -> ticker.lastUpdated() == null
+                        || ticker.dueDate() != null && !ticker.dueDate().isAfter(today))
+                .sorted(Comparator.comparing(PlannedTicker::dueDate,
+                        Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    /**
+     * @return null when a stored report never becomes due again (quarterly history)
+     */
+    private LocalDate dueDate(CollectionJobType type, ReportDates dates) {
+        return switch (type) {
+            case MONTHLY -> dates.updatedAt().plus(monthlyRefreshAfter).toLocalDate();
+            case QUARTERLY -> filingDatePredictor.nextRefresh(
+                    dates.fiscalDateEnding(), dates.fiscalYearEnd(), dates.updatedAt());
+            case QUARTERLY_HISTORY -> null;
+        };
+    }
+
+    /**
+     * The backoff doubles with every failed run since the last success, from the initial delay up to the maximum.
+     */
+    private boolean isBackingOff(CollectionFailures failures, LocalDateTime now) {
+        if (failures == null || failures.failedRuns() < 1) {
+            return false;
+        }
+        int doublings = Math.min(failures.failedRuns() - 1, 30);
+        Duration backoff = initialFailureBackoff.multipliedBy(1L << doublings);
+        if (backoff.compareTo(maxFailureBackoff) > 0) {
+            backoff = maxFailureBackoff;
+        }
+        return failures.lastFailedAt().plus(backoff).isAfter(now);
+    }
+
+    /**
+     * @return how many tickers of the type the providers' remaining daily quota still pays for
+     */
+    private int affordableToday(CollectionJobType type) {
+        Map<ApiProvider, Integer> remaining = new EnumMap<>(ApiProvider.class);
+        quotaPort.remainingQuota().forEach(quota -> remaining.put(quota.provider(), quota.remainingToday()));
+
+        return CALLS_PER_TICKER.get(type).entrySet().stream()
+                .mapToInt(calls -> remaining.getOrDefault(calls.getKey(), 0) / calls.getValue())
+                .min()
+                .orElse(0);
+    }
+
+    private int tickersPerDay(CollectionJobType type) {
+        Map<ApiProvider, Integer> dailyLimits = new EnumMap<>(ApiProvider.class);
+        quotaPort.remainingQuota().forEach(quota -> dailyLimits.put(quota.provider(), quota.dailyLimit()));
+
+        double share = budgetShares.get(type);
+        return CALLS_PER_TICKER.get(type).entrySet().stream()
+                .mapToInt(calls -> (int) (dailyLimits.getOrDefault(calls.getKey(), 0) * share / calls.getValue()))
+                .min()
+                .orElse(0);
+    }
+}
@@ -0,0 +1,127 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.CollectionProgressEvent;
+import com.stock.screener.collector.application.port.in.CollectionProgressEvent.JobFinished;
+import com.stock.screener.collector.application.port.in.CollectionProgressEvent.Throughput;
+import com.stock.screener.collector.application.port.in.CollectionProgressEvent.TickerCompleted;
+import com.stock.screener.collector.application.port.in.TickerOutcome;
+import com.stock.screener.collector.application.port.in.WatchCollectionJobsUseCase;
+import com.stock.screener.collector.application.port.out.ProviderQuota;
+import com.stock.screener.collector.application.port.out.QuotaPort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Fans out per-ticker progress of collection jobs to live subscribers.
+ * <p>
+ * Nothing is kept for late subscribers — events are delivered synchronously and dropped when nobody listens.
+ * Provider calls come with each outcome; the quota is only read when somebody is listening, since it costs a
+ * query per ticker.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+class CollectionProgressPublisher implements WatchCollectionJobsUseCase {
+
+    private final QuotaPort quotaPort;
+    private final int statsEvery;
+    private final List<Consumer<CollectionProgressEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+
+    @Inject
+    CollectionProgressPublisher(
+            QuotaPort quotaPort,
+            @ConfigProperty(name = "collector.jobs.progress.stats-every", defaultValue = "25") int statsEvery) {
+        if (statsEvery < 1) {
+            throw new IllegalArgumentException("collector.jobs.progress.stats-every must be positive");
+        }
+        this.quotaPort = quotaPort;
+        this.statsEvery = statsEvery;
+    }
+
+    @Override
+    public Runnable subscribe(Consumer<CollectionProgressEvent> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    void tickerCompleted(long jobId, CollectionJobType type, TickerOutcome outcome) {
+        int providerCalls = outcome.providerCalls();
+        Optional<Throughput> throughput = windows.computeIfAbsent(jobId, id -> new Window())
+                .add(jobId, type, outcome, providerCalls, statsEvery);
+        if (listeners.isEmpty()) {
+            return;
+        }
+
+        List<ProviderQuota> quota = quotaPort.remainingQuota();
+        publish(new TickerCompleted(jobId, type, outcome.ticker(), outcome.status(), outcome.durationMs(),
+                outcome.error(), providerCalls, quota));
+        throughput.ifPresent(this::publish);
+    }
+
+    /**
+     * Flushes the stats of the tickers finished since the last stats event.
+     */
+    void jobFinished(long jobId, CollectionJobType type) {
+        Window window = windows.remove(jobId);
+        if (window != null) {
+            window.flush(jobId, type).ifPresent(this::publish);
+        }
+        publish(new JobFinished(jobId, type));
+    }
+
+    private void publish(CollectionProgressEvent event) {
+        for (Consumer<CollectionProgressEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                log.warn("Progress listener failed for job {}: {}", event.jobId(), e.getMessage());
+            }
+        }
+    }
+
+    private static final class Window {
+
+        private long startedAt = System.nanoTime();
+        private int processed;
+        private int failed;
+        private int providerCalls;
+        private long latencyMs;
+
+        synchronized Optional<Throughput> add(long jobId, CollectionJobType type, TickerOutcome outcome,
+                int calls, int statsEvery) {
+            processed++;
+            failed += outcome.isSuccess() ? 0 : 1;
+            providerCalls += calls;
+            latencyMs += outcome.durationMs();
+            return processed >= statsEvery ? flush(jobId, type) : Optional.empty();
+        }
+
+        synchronized Optional<Throughput> flush(long jobId, CollectionJobType type) {
+            if (processed == 0) {
+                return Optional.empty();
+            }
+            long now = System.nanoTime();
+            double minutes = (now - startedAt) / 60_000_000_000.0;
+            var throughput = new Throughput(jobId, type, processed, failed,
+                    minutes > 0 ? processed / minutes : 0, (double) latencyMs / processed, providerCalls);
+
+            startedAt = now;
+            processed = 0;
+            failed = 0;
+            providerCalls = 0;
+            latencyMs = 0;
+            return Optional.of(throughput);
+        }
+    }
+}
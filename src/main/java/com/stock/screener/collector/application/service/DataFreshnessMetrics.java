@@ -0,0 +1,42 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.DataCategory;
+import com.stock.screener.collector.application.port.in.FreshnessStats;
+import com.stock.screener.collector.application.port.in.GetFreshnessStatsUseCase;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+@ApplicationScoped
+class DataFreshnessMetrics implements GetFreshnessStatsUseCase {
+
+    private final Map<DataCategory, LongAdder> hits = new EnumMap<>(DataCategory.class);
+    private final Map<DataCategory, LongAdder> misses = new EnumMap<>(DataCategory.class);
+
+    DataFreshnessMetrics() {
+        for (DataCategory category : DataCategory.values()) {
+            hits.put(category, new LongAdder());
+            misses.put(category, new LongAdder());
+        }
+    }
+
+    void recordHit(Set<DataCategory> categories) {
+        categories.forEach(category -> hits.get(category).increment());
+    }
+
+    void recordMiss(Set<DataCategory> categories) {
+        categories.forEach(category -> misses.get(category).increment());
+    }
+
+    @Override
+    public List<FreshnessStats> getFreshnessStats() {
+        return Arrays.stream(DataCategory.values())
+                .map(category -> new FreshnessStats(category, hits.get(category).sum(), misses.get(category).sum()))
+                .toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.stock.screener.collector.application.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.Locale;
+
+/**
+ * Estimates when the statements of a ticker's next quarter become available, so quarterly collections are not
+ * spent on tickers that have not filed yet.
+ * <p>
+ * The next quarter ends three months after the last stored {@code fiscalDateEnding}. It is filed as a 10-Q
+ * within {@code collector.filing.quarterly-lag}, or as a 10-K within {@code collector.filing.annual-lag} when
+ * it closes the fiscal year. If a collection after that date still returned the old quarter (a late filer),
+ * the ticker is checked again every {@code collector.filing.recheck-after}.
+ * </p>
+ */
+@ApplicationScoped
+class FilingDatePredictor {
+
+    private final Duration quarterlyLag;
+    private final Duration annualLag;
+    private final Duration recheckAfter;
+
+    @Inject
+    FilingDatePredictor(
+            @ConfigProperty(name = "collector.filing.quarterly-lag", defaultValue = "45d") Duration quarterlyLag,
+            @ConfigProperty(name = "collector.filing.annual-lag", defaultValue = "75d") Duration annualLag,
+            @ConfigProperty(name = "collector.filing.recheck-after", defaultValue = "7d") Duration recheckAfter) {
+        this.quarterlyLag = quarterlyLag;
+        this.annualLag = annualLag;
+        this.recheckAfter = recheckAfter;
+    }
+
+    /**
+     * @param fiscalYearEnd may be null, the quarter is then assumed to be a 10-Q
+     * @return first day a collection is expected to return a new quarter, or null when nothing is stored yet
+     */
+    LocalDate nextRefresh(LocalDate lastFiscalDateEnding, Month fiscalYearEnd, LocalDateTime lastUpdated) {
+        if (lastFiscalDateEnding == null) {
+            return null;
+        }
+        LocalDate nextQuarterEnd = YearMonth.from(lastFiscalDateEnding).plusMonths(3).atEndOfMonth();
+        Duration lag = nextQuarterEnd.getMonth() == fiscalYearEnd ? annualLag : quarterlyLag;
+        LocalDate expectedFiling = nextQuarterEnd.plusDays(lag.toDays());
+
+        if (lastUpdated != null && !lastUpdated.toLocalDate().isBefore(expectedFiling)) {
+            return lastUpdated.toLocalDate().plusDays(recheckAfter.toDays());
+        }
+        return expectedFiling;
+    }
+
+    /**
+     * @param fiscalYearEnd month name as Alpha Vantage reports it, e.g. "September"
+     */
+    static Month parseFiscalYearEnd(String fiscalYearEnd) {
+        if (fiscalYearEnd == null || fiscalYearEnd.isBlank()) {
+            return null;
+        }
+        try {
+            return Month.valueOf(fiscalYearEnd.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
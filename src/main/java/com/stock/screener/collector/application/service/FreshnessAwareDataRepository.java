@@ -0,0 +1,198 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.DataCategory;
+import com.stock.screener.collector.application.port.out.alphavantage.RawBalanceSheet;
+import com.stock.screener.collector.application.port.out.alphavantage.RawCashFlow;
+import com.stock.screener.collector.application.port.out.alphavantage.RawIncomeStatement;
+import com.stock.screener.collector.application.port.out.alphavantage.RawOverview;
+import com.stock.screener.collector.application.port.out.yhfinance.YahooFinanceClient;
+import com.stock.screener.collector.application.port.out.yhfinance.YhFinanceResponseStore;
+import com.stock.screener.collector.application.port.out.yhfinance.response.YhFinanceResponse;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.stock.screener.collector.application.port.in.DataCategory.ANALYST_ESTIMATES;
+import static com.stock.screener.collector.application.port.in.DataCategory.FUNDAMENTALS;
+import static com.stock.screener.collector.application.port.in.DataCategory.PRICES;
+
+/**
+ * Repository in front of the API clients, implementing the freshness rules from work_plan.md.
+ * <p>
+ * Every payload feeds one or more {@link DataCategory categories} and is only as fresh as the shortest window
+ * among them: OVERVIEW and the YH quote summary carry prices and analyst data (1 day), the AV statements carry
+ * fundamentals (90 days). A payload fetched within its window is served from the response log, anything older
+ * goes to the API — for Alpha Vantage through {@link AlphaVantageReadThroughCache}, which has a TTL per function.
+ * On top of that, whole collections can be skipped when the stored report itself is fresh — for quarterly
+ * reports, until the next quarter is expected to be filed.
+ * </p>
+ * <p>
+ * Every check reads one UTC {@link Clock}, so the day a quarterly report becomes stale starts at the same instant
+ * as the rate limiter's quota day. Stored timestamps are wall-clock times written in the JVM zone and are
+ * converted to instants before they are compared.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+class FreshnessAwareDataRepository {
+
+    private static final Set<DataCategory> MARKET_DATA = Set.of(PRICES, ANALYST_ESTIMATES);
+    private static final Set<DataCategory> FINANCIAL_DATA = Set.of(FUNDAMENTALS);
+    private static final ZoneId STORED_ZONE = ZoneId.systemDefault();
+
+    private final AlphaVantageReadThroughCache alphaVantageCache;
+    private final YahooFinanceClient yahooFinanceClient;
+    private final YhFinanceResponseStore yhFinanceResponseStore;
+    private final DataFreshnessMetrics metrics;
+    private final FilingDatePredictor filingDatePredictor;
+    private final Clock clock;
+    private final Map<DataCategory, Duration> windows = new EnumMap<>(DataCategory.class);
+
+    @Inject
+    FreshnessAwareDataRepository(
+            AlphaVantageReadThroughCache alphaVantageCache,
+            YahooFinanceClient yahooFinanceClient,
+            YhFinanceResponseStore yhFinanceResponseStore,
+            DataFreshnessMetrics metrics,
+            FilingDatePredictor filingDatePredictor,
+            @ConfigProperty(name = "collector.freshness.fundamentals", defaultValue = "90d") Duration fundamentals,
+            @ConfigProperty(name = "collector.freshness.prices", defaultValue = "1d") Duration prices,
+            @ConfigProperty(name = "collector.freshness.analyst-estimates", defaultValue = "30d")
+            Duration analystEstimates) {
+        this(alphaVantageCache, yahooFinanceClient, yhFinanceResponseStore, metrics, filingDatePredictor,
+                fundamentals, prices, analystEstimates, Clock.systemUTC());
+    }
+
+    FreshnessAwareDataRepository(
+            AlphaVantageReadThroughCache alphaVantageCache,
+            YahooFinanceClient yahooFinanceClient,
+            YhFinanceResponseStore yhFinanceResponseStore,
+            DataFreshnessMetrics metrics,
+            FilingDatePredictor filingDatePredictor,
+            Duration fundamentals,
+            Duration prices,
+            Duration analystEstimates,
+            Clock clock) {
+        this.alphaVantageCache = alphaVantageCache;
+        this.yahooFinanceClient = yahooFinanceClient;
+        this.yhFinanceResponseStore = yhFinanceResponseStore;
+        this.metrics = metrics;
+        this.filingDatePredictor = filingDatePredictor;
+        this.clock = clock;
+        windows.put(FUNDAMENTALS, fundamentals);
+        windows.put(PRICES, prices);
+        windows.put(ANALYST_ESTIMATES, analystEstimates);
+    }
+
+    RawOverview fetchOverview(String ticker) {
+        return alphaVantageCache.overview(ticker);
+    }
+
+    YhFinanceResponse fetchQuoteSummary(String ticker) {
+        return readThrough(MARKET_DATA,
+                notBefore -> yhFinanceResponseStore.findQuoteSummary(ticker, notBefore),
+                () -> yahooFinanceClient.getQuoteSummary(ticker));
+    }
+
+    RawBalanceSheet fetchBalanceSheet(String ticker) {
+        return alphaVantageCache.balanceSheet(ticker);
+    }
+
+    RawIncomeStatement fetchIncomeStatement(String ticker) {
+        return alphaVantageCache.incomeStatement(ticker);
+    }
+
+    RawCashFlow fetchCashFlow(String ticker) {
+        return alphaVantageCache.cashFlow(ticker);
+    }
+
+    /**
+     * @return true when the stored monthly report is recent enough that a collection would not change it
+     */
+    boolean isMonthlyReportFresh(String ticker) {
+        LocalDateTime updatedAt = QuarkusTransaction.joiningExisting().call(() -> MonthlyReport
+                .findLatest(ticker)
+                .map(report -> report.updatedAt)
+                .orElse(null));
+        return isFresh(updatedAt, MARKET_DATA);
+    }
+
+    /**
+     * @return true while the ticker's next quarter is not expected to be filed yet, so a collection would only
+     * return the quarter already stored
+     */
+    boolean isQuarterlyReportFresh(String ticker) {
+        Object[] latest = QuarkusTransaction.joiningExisting().call(() -> QuarterlyReport
+                .getEntityManager()
+                .createQuery("select max(q.fiscalDateEnding), max(q.updatedAt) from QuarterlyReport q"
+                        + " where q.ticker = :ticker", Object[].class)
+                .setParameter("ticker", ticker)
+                .getSingleResult());
+        Month fiscalYearEnd = QuarkusTransaction.joiningExisting().call(() -> MonthlyReport
+                .findLatest(ticker)
+                .map(report -> report.fiscalYearEnd)
+                .orElse(null));
+
+        LocalDate nextRefresh = filingDatePredictor.nextRefresh(
+                (LocalDate) latest[0], fiscalYearEnd, (LocalDateTime) latest[1]);
+        if (nextRefresh == null || !LocalDate.now(clock).isBefore(nextRefresh)) {
+            metrics.recordMiss(FINANCIAL_DATA);
+            return false;
+        }
+        metrics.recordHit(FINANCIAL_DATA);
+        return true;
+    }
+
+    boolean isFresh(LocalDateTime updatedAt, Set<DataCategory> categories) {
+        if (updatedAt == null || updatedAt.atZone(STORED_ZONE).toInstant().isBefore(windowStart(categories))) {
+            metrics.recordMiss(categories);
+            return false;
+        }
+        metrics.recordHit(categories);
+        return true;
+    }
+
+    private <T> T readThrough(Set<DataCategory> categories, Function<LocalDateTime, Optional<T>> stored,
+            Supplier<T> remote) {
+        Optional<T> cached = stored.apply(notBefore(categories));
+        if (cached.isPresent()) {
+            metrics.recordHit(categories);
+            return cached.get();
+        }
+        metrics.recordMiss(categories);
+        return remote.get();
+    }
+
+    /**
+     * @return start of the window in the wall-clock time of the stored timestamps, for queries against them
+     */
+    private LocalDateTime notBefore(Set<DataCategory> categories) {
+        return LocalDateTime.ofInstant(windowStart(categories), STORED_ZONE);
+    }
+
+    private Instant windowStart(Set<DataCategory> categories) {
+        Duration window = categories.stream()
+                .map(windows::get)
+                .min(Duration::compareTo)
+                .orElseThrow();
+        return clock.instant().minus(window);
+    }
+}
@@ -0,0 +1,111 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.MetricRecomputationResult;
+import com.stock.screener.collector.application.port.in.RecomputeMetricsUseCase;
+import com.stock.screener.collector.application.port.out.StoredReportPort;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Re-derives quick ratio, interest coverage, Altman Z-Score, P/S, forward PEG and upside potential of every
+ * stored report, e.g. after a formula change.
+ * <p>
+ * The tables are streamed in chunks of {@code collector.recompute.chunk-size}. Each chunk is recalculated and
+ * written back on its own task while the next one is read; at most {@code collector.recompute.parallelism}
+ * chunks are in flight, and the reader blocks until one finishes. Memory therefore stays at
+ * (parallelism + 1) chunks whatever the table size.
+ * </p>
+ * <p>
+ * Rows written before the metric inputs were stored are skipped: recalculating them would null their metrics
+ * and mark them MISSING_DATA. The next collection of the ticker stores the inputs.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+class MetricRecomputationService implements RecomputeMetricsUseCase {
+
+    private final StoredReportPort storedReportPort;
+    private final int chunkSize;
+    private final int parallelism;
+
+    @Inject
+    MetricRecomputationService(
+            StoredReportPort storedReportPort,
+            @ConfigProperty(name = "collector.recompute.chunk-size", defaultValue = "500") int chunkSize,
+            @ConfigProperty(name = "collector.recompute.parallelism", defaultValue = "4") int parallelism) {
+        this.storedReportPort = storedReportPort;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public MetricRecomputationResult recomputeMetrics() {
+        long start = System.nanoTime();
+        var failed = new AtomicInteger();
+        var skipped = new AtomicInteger();
+
+        int quarterly = recompute("quarterly", storedReportPort::streamQuarterly, QuarterlyReport::hasMetricInputs,
+                QuarterlyReport::recalculateMetrics, storedReportPort::updateQuarterlyMetrics, failed, skipped);
+        int monthly = recompute("monthly", storedReportPort::streamMonthly, MonthlyReport::hasMetricInputs,
+                MonthlyReport::recalculateMetrics, storedReportPort::updateMonthlyMetrics, failed, skipped);
+
+        var result = new MetricRecomputationResult(quarterly, monthly, failed.get(), skipped.get(),
+                (System.nanoTime() - start) / 1_000_000);
+        log.info("Metric recomputation finished: {}", result);
+        return result;
+    }
+
+    private <T> int recompute(String table, BiConsumer<Integer, Consumer<List<T>>> stream, Predicate<T> hasInputs,
+            Consumer<T> recalculate, Consumer<List<T>> write, AtomicInteger failed, AtomicInteger skipped) {
+        var written = new AtomicInteger();
+        var inFlight = new Semaphore(parallelism);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            stream.accept(chunkSize, rows -> {
+                List<T> chunk = rows.stream().filter(hasInputs).toList();
+                skipped.addAndGet(rows.size() - chunk.size());
+                if (chunk.isEmpty()) {
+                    return;
+                }
+                acquire(inFlight);
+                executor.submit(() -> {
+                    try {
+                        chunk.forEach(recalculate);
+                        write.accept(chunk);
+                        written.addAndGet(chunk.size());
+                    } catch (RuntimeException e) {
+                        log.error("Recomputing a chunk of {} {} reports failed", chunk.size(), table, e);
+                        failed.addAndGet(chunk.size());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            });
+        }
+
+        log.info("Recomputed metrics of {} {} reports", written.get(), table);
+        return written.get();
+    }
+
+    private static void acquire(Semaphore inFlight) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a recompute slot", e);
+        }
+    }
+}
@@ -1,45 +1,123 @@
 package com.stock.screener.collector.application.service;
 
+import com.stock.screener.collector.application.port.in.BulkCollectionResult;
 import com.stock.screener.collector.application.port.in.CollectMonthlyDataUseCase;
-import com.stock.screener.collector.application.port.out.alphavantage.AlphaVantageClient;
-import com.stock.screener.collector.application.port.out.yhfinance.YahooFinanceClient;
+import com.stock.screener.collector.application.port.in.TickerOutcome;
+import com.stock.screener.collector.application.port.out.ReportUpsertPort;
+import com.stock.screener.collector.application.port.out.alphavantage.RawOverview;
+import com.stock.screener.collector.application.port.out.log.CapturedResponses;
+import com.stock.screener.collector.application.port.out.log.ResponseLogPort;
+import com.stock.screener.collector.application.port.out.log.ResponseLogPort.Fetched;
+import com.stock.screener.collector.application.port.out.yhfinance.response.YhFinanceResponse;
 import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.valueobject.snapshot.MarketDataSnapshot;
 import com.stock.screener.common.Sector;
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Month;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.function.Consumer;
+
+import static com.stock.screener.collector.application.port.out.ApiProvider.ALPHA_VANTAGE;
+import static com.stock.screener.collector.application.port.out.ApiProvider.YH_FINANCE;
+
 @Slf4j
 @ApplicationScoped
 @RequiredArgsConstructor
 class MonthlyDataCollectorService implements CollectMonthlyDataUseCase {
 
-    private final AlphaVantageClient alphaVantageClient;
-    private final YahooFinanceClient yahooFinanceClient;
+    private final FreshnessAwareDataRepository dataRepository;
     private final StockDataMapper stockDataMapper;
+    private final BulkCollectionEngine bulkCollectionEngine;
+    private final ReportWriter reportWriter;
+    private final ResponseLogPort responseLogPort;
+    private final ReportUpsertPort reportUpsertPort;
 
     @Override
-    @Transactional
     public void collectMonthlyData(String ticker) {
+        collect(ticker, reportWriter::write);
+    }
+
+    @Override
+    public BulkCollectionResult collectMonthlyData(List<String> tickers) {
+        return collectMonthlyData(tickers, outcome -> {
+        });
+    }
+
+    @Override
+    public BulkCollectionResult collectMonthlyData(List<String> tickers, Consumer<TickerOutcome> outcomeListener) {
+        return bulkCollectionEngine.execute("monthly", tickers, EnumSet.of(ALPHA_VANTAGE, YH_FINANCE),
+                ticker -> {
+                    if (dataRepository.isMonthlyReportFresh(ticker)) {
+                        log.info("Monthly report for {} is fresh, skipping", ticker);
+                        return;
+                    }
+                    collect(ticker, reportWriter::writeBatched);
+                }, outcomeListener);
+    }
+
+    private void collect(String ticker, Consumer<Runnable> writeStage) {
         log.info("Monthly collection for: {}", ticker);
 
-        var rawOverview = alphaVantageClient.fetchOverview(ticker);
-        var yhResponse = yahooFinanceClient.getQuoteSummary(ticker);
+        Fetched<MarketData> fetched = responseLogPort.capture(() -> fetchMarketData(ticker));
+        RawOverview rawOverview = fetched.value().overview();
+        var snapshot = stockDataMapper.toMarketDataSnapshot(rawOverview, fetched.value().quoteSummary());
+        Sector sector = rawOverview != null && rawOverview.sector() != null
+                ? Sector.fromString(rawOverview.sector())
+                : null;
+
+        Month fiscalYearEnd = FilingDatePredictor.parseFiscalYearEnd(
+                rawOverview != null ? rawOverview.fiscalYearEnd() : null);
 
-        var snapshot = stockDataMapper.toMarketDataSnapshot(rawOverview, yhResponse);
+        writeStage.accept(() -> store(ticker, sector, fiscalYearEnd, snapshot, fetched.responses()));
+    }
 
-        MonthlyReport report = MonthlyReport.find("ticker", ticker).firstResult();
-        if (report == null) {
-            report = new MonthlyReport();
-            report.ticker = ticker;
+    private MarketData fetchMarketData(String ticker) {
+        try (var scope = StructuredTaskScope.open()) {
+            var overviewTask = scope.fork(() -> dataRepository.fetchOverview(ticker));
+            var quoteSummaryTask = scope.fork(() -> dataRepository.fetchQuoteSummary(ticker));
+            StructuredFetch.joinAll(scope);
+            return new MarketData(overviewTask.get(), quoteSummaryTask.get());
         }
+    }
 
-        if (rawOverview != null && rawOverview.sector() != null) {
-            report.sector = Sector.fromString(rawOverview.sector());
+    private void store(String ticker, Sector sector, Month fiscalYearEnd, MarketDataSnapshot snapshot,
+            CapturedResponses responses) {
+        MonthlyReport report = latestOrNew(ticker);
+        if (sector != null) {
+            report.sector = sector;
+        }
+        if (fiscalYearEnd != null) {
+            report.fiscalYearEnd = fiscalYearEnd;
         }
 
         report.updateMetrics(snapshot);
-        report.persist();
+        reportUpsertPort.upsertMonthly(List.of(report));
+        responses.flush();
+    }
+
+    /**
+     * Starts from the ticker's latest stored report, so that inputs missing from this response keep their stored
+     * values and the metrics are computed from the inputs that are written next to them. The report is detached:
+     * only the upsert writes it, as a report of today.
+     */
+    private static MonthlyReport latestOrNew(String ticker) {
+        return MonthlyReport.findLatest(ticker)
+                .map(stored -> {
+                    MonthlyReport.getEntityManager().detach(stored);
+                    return stored;
+                })
+                .orElseGet(() -> {
+                    MonthlyReport report = new MonthlyReport();
+                    report.ticker = ticker;
+                    return report;
+                });
+    }
+
+    private record MarketData(RawOverview overview, YhFinanceResponse quoteSummary) {
     }
 }
@@ -1,57 +1,181 @@
 package com.stock.screener.collector.application.service;
 
+import com.stock.screener.collector.application.port.in.BulkCollectionResult;
 import com.stock.screener.collector.application.port.in.CollectQuarterlyDataUseCase;
-import com.stock.screener.collector.application.port.out.alphavantage.AlphaVantageClient;
+import com.stock.screener.collector.application.port.in.TickerOutcome;
+import com.stock.screener.collector.application.port.out.ReportUpsertPort;
 import com.stock.screener.collector.application.port.out.alphavantage.RawBalanceSheet;
+import com.stock.screener.collector.application.port.out.alphavantage.RawCashFlow;
+import com.stock.screener.collector.application.port.out.alphavantage.RawIncomeStatement;
+import com.stock.screener.collector.application.port.out.log.CapturedResponses;
+import com.stock.screener.collector.application.port.out.log.ResponseLogPort;
+import com.stock.screener.collector.application.port.out.log.ResponseLogPort.Fetched;
 import com.stock.screener.collector.domain.entity.MonthlyReport;
 import com.stock.screener.collector.domain.entity.QuarterlyReport;
+import com.stock.screener.collector.domain.valueobject.snapshot.FinancialDataSnapshot;
 import com.stock.screener.common.Sector;
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.stock.screener.collector.application.port.out.ApiProvider.ALPHA_VANTAGE;
 
 @Slf4j
 @ApplicationScoped
 @RequiredArgsConstructor
 class QuarterlyDataCollectorService implements CollectQuarterlyDataUseCase {
 
-    private final AlphaVantageClient alphaVantageClient;
+    private final FreshnessAwareDataRepository dataRepository;
     private final StockDataMapper stockDataMapper;
+    private final BulkCollectionEngine bulkCollectionEngine;
+    private final ReportWriter reportWriter;
+    private final ResponseLogPort responseLogPort;
+    private final ReportUpsertPort reportUpsertPort;
 
     @Override
-    @Transactional
     public void collectQuarterlyData(String ticker) {
+        collect(ticker, reportWriter::write);
+    }
+
+    @Override
+    public BulkCollectionResult collectQuarterlyData(List<String> tickers) {
+        return collectQuarterlyData(tickers, outcome -> {
+        });
+    }
+
+    @Override
+    public BulkCollectionResult collectQuarterlyData(List<String> tickers, Consumer<TickerOutcome> outcomeListener) {
+        return bulkCollectionEngine.execute("quarterly", tickers, EnumSet.of(ALPHA_VANTAGE),
+                ticker -> {
+                    if (dataRepository.isQuarterlyReportFresh(ticker)) {
+                        log.info("Quarterly report for {} is fresh, skipping", ticker);
+                        return;
+                    }
+                    collect(ticker, reportWriter::writeBatched);
+                }, outcomeListener);
+    }
+
+    @Override
+    public int collectQuarterlyHistory(String ticker) {
+        return collectHistory(ticker, reportWriter::write);
+    }
+
+    @Override
+    public BulkCollectionResult collectQuarterlyHistory(List<String> tickers) {
+        return collectQuarterlyHistory(tickers, outcome -> {
+        });
+    }
+
+    @Override
+    public BulkCollectionResult collectQuarterlyHistory(List<String> tickers,
+            Consumer<TickerOutcome> outcomeListener) {
+        return bulkCollectionEngine.execute("quarterly-history", tickers, EnumSet.of(ALPHA_VANTAGE),
+                ticker -> collectHistory(ticker, reportWriter::writeBatched), outcomeListener);
+    }
+
+    private void collect(String ticker, Consumer<Runnable> writeStage) {
         log.info("Quarterly collection for: {}", ticker);
 
-        var rawBalance = alphaVantageClient.fetchBalanceSheet(ticker);
-        var rawIncome = alphaVantageClient.fetchIncomeStatement(ticker);
-        var rawCash = alphaVantageClient.fetchCashFlow(ticker);
+        Fetched<Statements> fetched = responseLogPort.capture(() -> fetchStatements(ticker));
+        Statements statements = fetched.value();
+        var financialSnapshot = stockDataMapper.toFinancialDataSnapshot(
+                statements.balanceSheet(), statements.incomeStatement(), statements.cashFlow());
+        LocalDate fiscalDate = resolveFiscalDate(statements.balanceSheet());
+
+        writeStage.accept(() -> store(ticker, fiscalDate, financialSnapshot, fetched.responses()));
+    }
 
-        var financialSnapshot = stockDataMapper.toFinancialDataSnapshot(rawBalance, rawIncome, rawCash);
+    /**
+     * Each statement response carries ~20 quarters, so one set of three calls backfills the whole history.
+     */
+    private int collectHistory(String ticker, Consumer<Runnable> writeStage) {
+        log.info("Quarterly history collection for: {}", ticker);
 
-        Sector sector = resolveSector(ticker);
-        LocalDate fiscalDate = resolveFiscalDate(rawBalance);
-
-        QuarterlyReport qReport = QuarterlyReport
-                .find("ticker = ?1 and fiscalDateEnding = ?2", ticker, fiscalDate)
-                .firstResult();
-        if (qReport == null) {
-            qReport = new QuarterlyReport();
-            qReport.ticker = ticker;
-            qReport.fiscalDateEnding = fiscalDate;
+        Fetched<Statements> fetched = responseLogPort.capture(() -> fetchStatements(ticker));
+        Statements statements = fetched.value();
+        Map<LocalDate, FinancialDataSnapshot> history = stockDataMapper.toQuarterlyHistory(
+                statements.balanceSheet(), statements.incomeStatement(), statements.cashFlow());
+        if (history.isEmpty()) {
+            log.warn("No quarterly reports returned for {}", ticker);
+            return 0;
+        }
+
+        writeStage.accept(() -> storeHistory(ticker, history, fetched.responses()));
+        log.info("Stored {} quarters for {}", history.size(), ticker);
+        return history.size();
+    }
+
+    private Statements fetchStatements(String ticker) {
+        try (var scope = StructuredTaskScope.open()) {
+            var balanceTask = scope.fork(() -> dataRepository.fetchBalanceSheet(ticker));
+            var incomeTask = scope.fork(() -> dataRepository.fetchIncomeStatement(ticker));
+            var cashFlowTask = scope.fork(() -> dataRepository.fetchCashFlow(ticker));
+            StructuredFetch.joinAll(scope);
+            return new Statements(balanceTask.get(), incomeTask.get(), cashFlowTask.get());
         }
+    }
 
-        qReport.sector = sector;
+    private void store(String ticker, LocalDate fiscalDate, FinancialDataSnapshot financialSnapshot,
+            CapturedResponses responses) {
+        Sector sector = resolveSector(ticker);
+
+        QuarterlyReport qReport = storedReports(ticker).getOrDefault(fiscalDate, newReport(ticker, fiscalDate));
         qReport.updateMetrics(financialSnapshot, sector);
-        qReport.persist();
+        reportUpsertPort.upsertQuarterly(List.of(qReport));
+        responses.flush();
+    }
+
+    /**
+     * Computes one report per quarter and upserts them in a single batch on (ticker, fiscalDateEnding).
+     */
+    private void storeHistory(String ticker, Map<LocalDate, FinancialDataSnapshot> history,
+            CapturedResponses responses) {
+        Sector sector = resolveSector(ticker);
+        Map<LocalDate, QuarterlyReport> stored = storedReports(ticker);
+
+        List<QuarterlyReport> reports = history.entrySet().stream()
+                .map(quarter -> {
+                    QuarterlyReport qReport = stored.getOrDefault(quarter.getKey(),
+                            newReport(ticker, quarter.getKey()));
+                    qReport.updateMetrics(quarter.getValue(), sector);
+                    return qReport;
+                })
+                .toList();
+        reportUpsertPort.upsertQuarterly(reports);
+        responses.flush();
+    }
+
+    /**
+     * Loads the ticker's stored quarters, so that inputs missing from this response keep their stored values and
+     * the metrics are computed from the inputs that are written next to them. The reports are detached: only the
+     * upsert writes them.
+     */
+    private static Map<LocalDate, QuarterlyReport> storedReports(String ticker) {
+        return QuarterlyReport.<QuarterlyReport>list("ticker", ticker).stream()
+                .peek(stored -> QuarterlyReport.getEntityManager().detach(stored))
+                .collect(Collectors.toMap(stored -> stored.fiscalDateEnding, Function.identity()));
+    }
+
+    private static QuarterlyReport newReport(String ticker, LocalDate fiscalDate) {
+        QuarterlyReport qReport = new QuarterlyReport();
+        qReport.ticker = ticker;
+        qReport.fiscalDateEnding = fiscalDate;
+        return qReport;
     }
 
     private Sector resolveSector(String ticker) {
-        MonthlyReport monthly = MonthlyReport.find("ticker", ticker).firstResult();
-        return monthly != null && monthly.sector != null ? monthly.sector : Sector.OTHER;
+        return MonthlyReport.findLatest(ticker)
+                .map(monthly -> monthly.sector)
+                .orElse(Sector.OTHER);
     }
 
     private LocalDate resolveFiscalDate(RawBalanceSheet rawBalance) {
@@ -63,4 +187,7 @@ class QuarterlyDataCollectorService implements CollectQuarterlyDataUseCase {
         }
         return LocalDate.now();
     }
+
+    private record Statements(RawBalanceSheet balanceSheet, RawIncomeStatement incomeStatement, RawCashFlow cashFlow) {
+    }
 }
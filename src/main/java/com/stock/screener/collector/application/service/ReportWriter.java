@@ -0,0 +1,124 @@
+package com.stock.screener.collector.application.service;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write stage of a collection: the only place where a collection holds a database connection.
+ * <p>
+ * Fetching and mapping happen before, with no transaction open, so the number of concurrent collections is
+ * no longer capped by the connection pool. {@link #writeBatched} additionally group-commits: whichever caller
+ * finds the writer idle becomes the leader and commits everything queued so far in one transaction, while the
+ * others wait for their write to be committed. If a batch fails, its writes are retried one by one so that one
+ * bad report can't take the others down with it.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+class ReportWriter {
+
+    private static final long FOLLOWER_POLL_MS = 5;
+
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final ReentrantLock leader = new ReentrantLock();
+
+    @Inject
+    ReportWriter(@ConfigProperty(name = "collector.bulk.write-batch-size", defaultValue = "50") int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Runs the write right away, joining the caller's transaction if there is one.
+     */
+    void write(Runnable work) {
+        QuarkusTransaction.joiningExisting().run(work);
+    }
+
+    /**
+     * Queues the write and blocks until it has been committed, possibly together with writes of other callers.
+     */
+    void writeBatched(Runnable work) {
+        var pending = new PendingWrite(work, new CompletableFuture<>());
+        queue.add(pending);
+
+        while (!pending.result().isDone()) {
+            if (leader.tryLock()) {
+                try {
+                    commitBatch();
+                } finally {
+                    leader.unlock();
+                }
+            } else {
+                awaitFollower(pending.result());
+            }
+        }
+
+        try {
+            pending.result().join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private void commitBatch() {
+        List<PendingWrite> batch = new ArrayList<>();
+        queue.drainTo(batch, maxBatchSize);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            QuarkusTransaction.requiringNew().run(() -> batch.forEach(write -> write.work().run()));
+            batch.forEach(write -> write.result().complete(null));
+            log.debug("Committed {} report writes in one transaction", batch.size());
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                batch.getFirst().result().completeExceptionally(ex);
+                return;
+            }
+            log.warn("Batched write of {} reports failed, retrying one by one", batch.size(), ex);
+            batch.forEach(this::commitSingle);
+        }
+    }
+
+    private void commitSingle(PendingWrite write) {
+        try {
+            QuarkusTransaction.requiringNew().run(write.work());
+            write.result().complete(null);
+        } catch (RuntimeException ex) {
+            write.result().completeExceptionally(ex);
+        }
+    }
+
+    private static void awaitFollower(CompletableFuture<Void> result) {
+        try {
+            result.get(FOLLOWER_POLL_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException ignored) {
+            // either still queued (re-check leadership) or done (loop exits and rethrows)
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for report write", ex);
+        }
+    }
+
+    private record PendingWrite(Runnable work, CompletableFuture<Void> result) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.MaintainResponseLogsUseCase;
+import com.stock.screener.collector.application.port.in.ResponseLogMaintenanceResult;
+import com.stock.screener.collector.application.port.out.log.ResponseLogStoragePort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Keeps the response log bounded: partitions are created ahead of time, payloads older than
+ * {@code compress-after-months} are compressed and partitions past {@code retention-months} are dropped,
+ * or detached when {@code archive-expired} is set.
+ * <p>
+ * Compressed payloads are no longer served by the read-through lookups, so {@code compress-after-months} has to
+ * stay above the longest freshness window.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+class ResponseLogMaintenanceService implements MaintainResponseLogsUseCase {
+
+    private final ResponseLogStoragePort storagePort;
+    private final int partitionsAhead;
+    private final int compressAfterMonths;
+    private final int retentionMonths;
+    private final boolean archiveExpired;
+
+    @Inject
+    ResponseLogMaintenanceService(
+            ResponseLogStoragePort storagePort,
+            @ConfigProperty(name = "collector.response-log.partitions-ahead", defaultValue = "2")
+            int partitionsAhead,
+            @ConfigProperty(name = "collector.response-log.compress-after-months", defaultValue = "6")
+            int compressAfterMonths,
+            @ConfigProperty(name = "collector.response-log.retention-months", defaultValue = "36")
+            int retentionMonths,
+            @ConfigProperty(name = "collector.response-log.archive-expired", defaultValue = "false")
+            boolean archiveExpired) {
+        this.storagePort = storagePort;
+        this.partitionsAhead = partitionsAhead;
+        this.compressAfterMonths = compressAfterMonths;
+        this.retentionMonths = retentionMonths;
+        this.archiveExpired = archiveExpired;
+    }
+
+    @Override
+    public void preparePartitions() {
+        YearMonth current = YearMonth.now();
+        storagePort.createMonthlyPartitions(current, current.plusMonths(partitionsAhead));
+    }
+
+    @Override
+    public ResponseLogMaintenanceResult maintainResponseLogs() {
+        preparePartitions();
+
+        YearMonth current = YearMonth.now();
+        long compressed = storagePort.compressPartitionsBefore(current.minusMonths(compressAfterMonths));
+        List<String> expired = storagePort.expirePartitionsBefore(current.minusMonths(retentionMonths),
+                archiveExpired);
+
+        log.info("Response log maintenance finished: {} payloads compressed, {} partitions {}",
+                compressed, expired.size(), archiveExpired ? "detached" : "dropped");
+        return new ResponseLogMaintenanceResult(compressed, expired);
+    }
+}
@@ -0,0 +1,218 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.ReplayProgress;
+import com.stock.screener.collector.application.port.in.ReplayResponseLogsUseCase;
+import com.stock.screener.collector.application.port.out.ReportUpsertPort;
+import com.stock.screener.collector.application.port.out.log.LoggedPayloads;
+import com.stock.screener.collector.application.port.out.log.ResponseLogReplayPort;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+import com.stock.screener.collector.domain.valueobject.snapshot.FinancialDataSnapshot;
+import com.stock.screener.common.Sector;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Rebuilds every report from the response logs with zero API calls, e.g. after a fix to a metric formula.
+ * <p>
+ * Tickers are walked in keyset pages of {@code collector.replay.chunk-size}. For each page the newest payload
+ * of every function is loaded at once, the reports are recomputed in parallel across the available cores
+ * (the mappers and domain calculations are stateless) and the page is written in one transaction. A ticker
+ * whose payloads cannot be mapped is counted as failed and does not stop the replay.
+ * </p>
+ * <p>
+ * The rebuilt metrics replace the stored ones, but nothing was fetched: the reports keep the stored timestamps, or
+ * take the request timestamps of the logged responses, so a replayed ticker is not taken for freshly collected.
+ * </p>
+ */
+@Slf4j
+@ApplicationScoped
+class ResponseLogReplayService implements ReplayResponseLogsUseCase {
+
+    private final ResponseLogReplayPort replayPort;
+    private final StockDataMapper stockDataMapper;
+    private final ReportUpsertPort reportUpsertPort;
+    private final int chunkSize;
+    private final AtomicReference<ReplayRun> currentRun = new AtomicReference<>();
+
+    @Inject
+    ResponseLogReplayService(
+            ResponseLogReplayPort replayPort,
+            StockDataMapper stockDataMapper,
+            ReportUpsertPort reportUpsertPort,
+            @ConfigProperty(name = "collector.replay.chunk-size", defaultValue = "100") int chunkSize) {
+        this.replayPort = replayPort;
+        this.stockDataMapper = stockDataMapper;
+        this.reportUpsertPort = reportUpsertPort;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ReplayProgress startReplay() {
+        ReplayRun previous = currentRun.get();
+        var run = new ReplayRun();
+        if ((previous != null && previous.status == ReplayProgress.Status.RUNNING)
+                || !currentRun.compareAndSet(previous, run)) {
+            throw new IllegalStateException("A response log replay is already running");
+        }
+
+        Thread.ofVirtual().name("response-log-replay").start(() -> replay(run));
+        return run.progress();
+    }
+
+    @Override
+    public Optional<ReplayProgress> replayProgress() {
+        return Optional.ofNullable(currentRun.get()).map(ReplayRun::progress);
+    }
+
+    private void replay(ReplayRun run) {
+        log.info("Response log replay started, chunk size {}", chunkSize);
+        try {
+            String afterTicker = null;
+            List<String> tickers;
+            while (!(tickers = replayPort.findLoggedTickers(afterTicker, chunkSize)).isEmpty()) {
+                replayChunk(tickers, run);
+                afterTicker = tickers.getLast();
+                log.info("Replayed {} tickers (up to {})", run.tickersProcessed.get(), afterTicker);
+            }
+            run.finish(ReplayProgress.Status.COMPLETED, null);
+            log.info("Response log replay finished: {}", run.progress());
+        } catch (RuntimeException e) {
+            log.error("Response log replay failed after {} tickers", run.tickersProcessed.get(), e);
+            run.finish(ReplayProgress.Status.FAILED, e.getMessage());
+        }
+    }
+
+    private void replayChunk(List<String> tickers, ReplayRun run) {
+        List<LoggedPayloads> payloads = replayPort.findLatestPayloads(tickers);
+        Map<String, MonthlyReport> stored = loadLatestMonthly(tickers);
+
+        List<Rebuilt> rebuilt = payloads.parallelStream()
+                .map(logged -> rebuild(logged, stored.get(logged.ticker()), run))
+                .filter(Objects::nonNull)
+                .toList();
+
+        List<MonthlyReport> monthly = rebuilt.stream()
+                .map(Rebuilt::monthly)
+                .filter(Objects::nonNull)
+                .toList();
+        List<QuarterlyReport> quarterly = rebuilt.stream()
+                .flatMap(reports -> reports.quarterly().stream())
+                .toList();
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            reportUpsertPort.replayMonthly(monthly);
+            reportUpsertPort.replayQuarterly(quarterly);
+        });
+        run.tickersProcessed.addAndGet(payloads.size());
+        run.monthlyReports.addAndGet(monthly.size());
+        run.quarterlyReports.addAndGet(quarterly.size());
+    }
+
+    /**
+     * @param stored the ticker's latest monthly report, or null when none is stored
+     */
+    private Rebuilt rebuild(LoggedPayloads payloads, MonthlyReport stored, ReplayRun run) {
+        try {
+            Sector overviewSector = payloads.overview() != null && payloads.overview().sector() != null
+                    ? Sector.fromString(payloads.overview().sector())
+                    : null;
+
+            MonthlyReport monthly = null;
+            if (payloads.overview() != null || payloads.quoteSummary() != null) {
+                monthly = new MonthlyReport();
+                monthly.ticker = payloads.ticker();
+                monthly.sector = overviewSector;
+                monthly.fiscalYearEnd = FilingDatePredictor.parseFiscalYearEnd(
+                        payloads.overview() != null ? payloads.overview().fiscalYearEnd() : null);
+                monthly.updateMetrics(stockDataMapper.toMarketDataSnapshot(
+                        payloads.overview(), payloads.quoteSummary()));
+                monthly.updatedAt = replayedAt(payloads.marketDataFetchedAt(), stored);
+            }
+
+            Sector sector = overviewSector != null
+                    ? overviewSector
+                    : stored != null && stored.sector != null ? stored.sector : Sector.OTHER;
+            Map<LocalDate, FinancialDataSnapshot> history = stockDataMapper.toQuarterlyHistory(
+                    payloads.balanceSheet(), payloads.incomeStatement(), payloads.cashFlow());
+            List<QuarterlyReport> quarterly = history.entrySet().stream()
+                    .map(quarter -> {
+                        QuarterlyReport qReport = new QuarterlyReport();
+                        qReport.ticker = payloads.ticker();
+                        qReport.fiscalDateEnding = quarter.getKey();
+                        qReport.updateMetrics(quarter.getValue(), sector);
+                        qReport.updatedAt = payloads.statementsFetchedAt();
+                        return qReport;
+                    })
+                    .toList();
+
+            return new Rebuilt(monthly, quarterly);
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild reports of {} from the response logs", payloads.ticker(), e);
+            run.failedTickers.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * The report replaces the stored latest day with that day's timestamps, unless the logged responses are newer:
+     * then it becomes the report of the day they were fetched.
+     */
+    private static LocalDateTime replayedAt(LocalDateTime fetchedAt, MonthlyReport stored) {
+        return stored != null && stored.updatedAt != null && !stored.updatedAt.isBefore(fetchedAt)
+                ? stored.updatedAt
+                : fetchedAt;
+    }
+
+    private Map<String, MonthlyReport> loadLatestMonthly(List<String> tickers) {
+        return QuarkusTransaction.requiringNew().call(() -> MonthlyReport
+                .<MonthlyReport>list("""
+                        from MonthlyReport m
+                        where m.ticker in ?1
+                          and m.forecastDate = (select max(l.forecastDate) from MonthlyReport l
+                                                where l.ticker = m.ticker)
+                        """, tickers)
+                .stream()
+                .collect(Collectors.toMap(report -> report.ticker, Function.identity())));
+    }
+
+    private record Rebuilt(MonthlyReport monthly, List<QuarterlyReport> quarterly) {
+    }
+
+    private static final class ReplayRun {
+
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger tickersProcessed = new AtomicInteger();
+        private final AtomicInteger failedTickers = new AtomicInteger();
+        private final AtomicInteger monthlyReports = new AtomicInteger();
+        private final AtomicInteger quarterlyReports = new AtomicInteger();
+        private volatile ReplayProgress.Status status = ReplayProgress.Status.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private void finish(ReplayProgress.Status status, String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private ReplayProgress progress() {
+            return new ReplayProgress(status, tickersProcessed.get(), failedTickers.get(), monthlyReports.get(),
+                    quarterlyReports.get(), startedAt, finishedAt, error);
+        }
+    }
+}
@@ -10,11 +10,25 @@ import com.stock.screener.collector.domain.valueobject.snapshot.MarketDataSnapsh
 import jakarta.enterprise.context.ApplicationScoped;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
 
 @ApplicationScoped
 class StockDataMapper {
 
+    private static final int TTM_QUARTERS = 4;
+    // 52/53-week fiscal years end a few days off the calendar quarter
+    private static final int QUARTER_END_TOLERANCE_DAYS = 15;
+
     public MarketDataSnapshot toMarketDataSnapshot(RawOverview overview, YhFinanceResponse yhResponse) {
         var builder = MarketDataSnapshot.builder();
 
@@ -44,6 +58,45 @@ class StockDataMapper {
         var latestCash = getLatestReportOrNull(
                 cashFlow != null ? cashFlow.quarterlyReports() : null);
 
+        return toFinancialDataSnapshot(latestBalance, latestIncome, latestCash,
+                calculateRevenueTTM(incomeStatement));
+    }
+
+    /**
+     * Maps every quarter present in the statements to its own snapshot, newest first.
+     * <p>
+     * Reports are matched across the three statements by fiscalDateEnding; a quarter missing from one statement
+     * simply lacks those fields. Revenue TTM of a quarter sums that quarter and the three before it, and stays
+     * null where fewer than four consecutive quarters with a revenue are available.
+     * </p>
+     */
+    public Map<LocalDate, FinancialDataSnapshot> toQuarterlyHistory(RawBalanceSheet balanceSheet,
+            RawIncomeStatement incomeStatement, RawCashFlow cashFlow) {
+        var balances = byFiscalDate(balanceSheet != null ? balanceSheet.quarterlyReports() : null,
+                RawBalanceSheet.Report::fiscalDateEnding);
+        var incomes = byFiscalDate(incomeStatement != null ? incomeStatement.quarterlyReports() : null,
+                RawIncomeStatement.Report::fiscalDateEnding);
+        var cashFlows = byFiscalDate(cashFlow != null ? cashFlow.quarterlyReports() : null,
+                RawCashFlow.Report::fiscalDateEnding);
+
+        var fiscalDates = new TreeSet<LocalDate>(Comparator.reverseOrder());
+        fiscalDates.addAll(balances.keySet());
+        fiscalDates.addAll(incomes.keySet());
+        fiscalDates.addAll(cashFlows.keySet());
+
+        Map<LocalDate, FinancialDataSnapshot> history = new LinkedHashMap<>();
+        for (LocalDate fiscalDate : fiscalDates) {
+            history.put(fiscalDate, toFinancialDataSnapshot(
+                    balances.get(fiscalDate),
+                    incomes.get(fiscalDate),
+                    cashFlows.get(fiscalDate),
+                    calculateTrailingRevenue(incomes, fiscalDate)));
+        }
+        return history;
+    }
+
+    private FinancialDataSnapshot toFinancialDataSnapshot(RawBalanceSheet.Report latestBalance,
+            RawIncomeStatement.Report latestIncome, RawCashFlow.Report latestCash, BigDecimal revenueTTM) {
         var builder = FinancialDataSnapshot.builder()
                 .retainedEarnings(resolveRetainedEarnings(latestBalance))
                 .ebit(resolveEbit(latestIncome))
@@ -61,7 +114,7 @@ class StockDataMapper {
         if (latestIncome != null) {
             builder.interestExpense(latestIncome.interestExpense())
                     .totalRevenue(latestIncome.totalRevenue())
-                    .revenueTTM(calculateRevenueTTM(incomeStatement))
+                    .revenueTTM(revenueTTM)
                     .netIncome(latestIncome.netIncome());
         }
 
@@ -137,16 +190,71 @@ class StockDataMapper {
     /**
      * Calculates Revenue TTM by summing totalRevenue from the 4 most recent quarterly reports.
      */
+    /**
+     * Revenue TTM of the latest quarter, under the same rules as {@link #calculateTrailingRevenue}.
+     */
     private BigDecimal calculateRevenueTTM(RawIncomeStatement income) {
-        if (income == null || income.quarterlyReports() == null || income.quarterlyReports().isEmpty()) {
+        if (income == null) {
+            return null;
+        }
+        var incomes = byFiscalDate(income.quarterlyReports(), RawIncomeStatement.Report::fiscalDateEnding);
+        return incomes.isEmpty() ? null : calculateTrailingRevenue(incomes, incomes.firstKey());
+    }
+
+    /**
+     * Sums totalRevenue of the given quarter and the three preceding ones. Null unless all four are present with
+     * a revenue and each follows the next without a gap: a sum over fewer quarters is not a trailing year.
+     */
+    private BigDecimal calculateTrailingRevenue(NavigableMap<LocalDate, RawIncomeStatement.Report> incomes,
+            LocalDate fiscalDate) {
+        if (!incomes.containsKey(fiscalDate)) {
             return null;
         }
-        
-        return income.quarterlyReports().stream()
-                .limit(4)
-                .map(RawIncomeStatement.Report::totalRevenue)
-                .filter(java.util.Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        List<Map.Entry<LocalDate, RawIncomeStatement.Report>> window = incomes.tailMap(fiscalDate, true)
+                .entrySet().stream()
+                .limit(TTM_QUARTERS)
+                .toList();
+        if (window.size() < TTM_QUARTERS) {
+            return null;
+        }
+
+        BigDecimal sum = BigDecimal.ZERO;
+        LocalDate later = null;
+        for (var quarter : window) {
+            BigDecimal revenue = quarter.getValue().totalRevenue();
+            if (revenue == null || (later != null && !isQuarterBefore(quarter.getKey(), later))) {
+                return null;
+            }
+            sum = sum.add(revenue);
+            later = quarter.getKey();
+        }
+        return sum;
+    }
+
+    private static boolean isQuarterBefore(LocalDate earlier, LocalDate later) {
+        return Math.abs(ChronoUnit.DAYS.between(later.minusMonths(3), earlier)) <= QUARTER_END_TOLERANCE_DAYS;
+    }
+
+    /**
+     * Indexes reports by fiscal date, newest first. Reports without a parsable date are dropped.
+     */
+    private <T> NavigableMap<LocalDate, T> byFiscalDate(List<T> reports, Function<T, String> fiscalDate) {
+        NavigableMap<LocalDate, T> indexed = new TreeMap<>(Comparator.reverseOrder());
+        if (reports == null) {
+            return indexed;
+        }
+        for (T report : reports) {
+            String date = fiscalDate.apply(report);
+            if (date == null) {
+                continue;
+            }
+            try {
+                indexed.putIfAbsent(LocalDate.parse(date), report);
+            } catch (DateTimeParseException ignored) {
+                // AV sends "None" for missing values
+            }
+        }
+        return indexed;
     }
 
     /**
@@ -0,0 +1,33 @@
+package com.stock.screener.collector.application.service;
+
+import java.util.concurrent.StructuredTaskScope;
+
+/**
+ * Joins a fetch fan-out opened with {@link StructuredTaskScope#open()}.
+ * <p>
+ * With the default joiner the first failing subtask cancels its siblings. The original exception is rethrown
+ * as-is so that callers (and the REST error body) see the API error rather than a scope wrapper.
+ * </p>
+ */
+final class StructuredFetch {
+
+    private StructuredFetch() {
+    }
+
+    static void joinAll(StructuredTaskScope<?, ?> scope) {
+        try {
+            scope.join();
+        } catch (StructuredTaskScope.FailedException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching data", ex);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.stock.screener.common.Sector;
 import com.stock.screener.collector.domain.valueobject.UpsidePotential;
 import com.stock.screener.collector.domain.valueobject.snapshot.MarketDataSnapshot;
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import io.quarkus.panache.common.Sort;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -18,7 +19,9 @@ import org.hibernate.type.SqlTypes;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.stock.screener.collector.domain.kernel.MetricType.*;
@@ -35,9 +38,16 @@ public class MonthlyReport extends PanacheEntity {
     @Column(length = 30)
     public Sector sector;
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    public Month fiscalYearEnd;
+
     public BigDecimal forwardRevenueGrowth;
     public BigDecimal forwardEpsGrowth;
     public BigDecimal targetPrice;
+    public BigDecimal currentPrice;
+    public BigDecimal marketCap;
+    public BigDecimal revenueTTM;
 
     @Embedded
     @AttributeOverride(name = "value", column = @Column(name = "ps_ratio"))
@@ -69,16 +79,24 @@ public class MonthlyReport extends PanacheEntity {
     @UpdateTimestamp
     public LocalDateTime updatedAt;
 
+    /**
+     * @return the report of the ticker's latest collection day; earlier days are kept as history
+     */
+    public static Optional<MonthlyReport> findLatest(String ticker) {
+        return find("ticker", Sort.descending("forecastDate"), ticker).firstResultOptional();
+    }
+
     public void updateMetrics(MarketDataSnapshot snapshot) {
         this.calculationErrors.clear();
 
         // Step 1: Update raw fields from snapshot (Source of Truth)
         updateRawFields(snapshot);
 
-        // Step 2: Recalculate complex Value Objects
-        recalculatePsRatio(snapshot);
-        recalculateForwardPeg(snapshot);
-        recalculateUpsidePotential(snapshot);
+        // Step 2: Recalculate complex Value Objects from the merged raw fields
+        MarketDataSnapshot inputs = metricInputs();
+        recalculatePsRatio(inputs);
+        recalculateForwardPeg(inputs);
+        recalculateUpsidePotential(inputs);
 
         // Step 3: Determine integrity status
         updateIntegrityStatus();
@@ -95,6 +113,44 @@ public class MonthlyReport extends PanacheEntity {
             this.targetPrice = snapshot.targetPrice();
         if (snapshot.analystRatings() != null)
             this.analystRatings = snapshot.analystRatings();
+        if (snapshot.currentPrice() != null)
+            this.currentPrice = snapshot.currentPrice();
+        if (snapshot.marketCap() != null)
+            this.marketCap = snapshot.marketCap();
+        if (snapshot.revenueTTM() != null)
+            this.revenueTTM = snapshot.revenueTTM();
+    }
+
+    /**
+     * Re-derives every metric from the stored raw columns alone, e.g. after a formula change. Only meaningful
+     * when {@link #hasMetricInputs()}.
+     */
+    public void recalculateMetrics() {
+        updateMetrics(metricInputs());
+    }
+
+    /**
+     * @return the stored raw fields, which hold the values of the last snapshot merged over the earlier ones
+     */
+    private MarketDataSnapshot metricInputs() {
+        return MarketDataSnapshot.builder()
+                .currentPrice(currentPrice)
+                .marketCap(marketCap)
+                .revenueTTM(revenueTTM)
+                .forwardPeRatio(forwardPeRatio)
+                .targetPrice(targetPrice)
+                .forwardEpsGrowth(forwardEpsGrowth)
+                .forwardRevenueGrowth(forwardRevenueGrowth)
+                .analystRatings(analystRatings)
+                .build();
+    }
+
+    /**
+     * @return false for rows written before the metric inputs were stored (V13): they keep their metrics, but a
+     * recalculation would only find the inputs missing
+     */
+    public boolean hasMetricInputs() {
+        return currentPrice != null || marketCap != null || revenueTTM != null;
     }
 
     void recalculatePsRatio(MarketDataSnapshot snapshot) {
@@ -158,10 +214,3 @@ public class MonthlyReport extends PanacheEntity {
                 && upsidePotential != null;
     }
 }
-
-//TODO: new problem to think of:
-// think about how to merge alpha vantage & yhFinance api calls in monthlyReport - to now waste requests from api's
-// MonthlyReportsnapshot requires some data from YhFinance & some from alphaVAntage.
-// It's data will be fetched once a month.
-// but alphaVantage api's data also needs to be fetched once every three months - for quaterly report.
-// Maybe the solution will be to gave data from persist log if current data was already fettched
\ No newline at end of file
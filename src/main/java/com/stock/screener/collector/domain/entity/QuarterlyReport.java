@@ -45,10 +45,18 @@ public class QuarterlyReport extends PanacheEntity {
     public BigDecimal totalRevenue;
     public BigDecimal revenueTTM;
     public BigDecimal netIncome;
+    public BigDecimal ebit;
+    public BigDecimal interestExpense;
 
     // --- Balance Sheet ---
     public BigDecimal totalDebt;
     public BigDecimal totalAssets;
+    public BigDecimal totalCurrentAssets;
+    public BigDecimal totalCurrentLiabilities;
+    public BigDecimal totalLiabilities;
+    public BigDecimal retainedEarnings;
+    public BigDecimal totalShareholderEquity;
+    public BigDecimal inventory;
 
     // --- Cash Flow ---
     public BigDecimal operatingCashFlow;
@@ -95,6 +103,22 @@ public class QuarterlyReport extends PanacheEntity {
             this.totalAssets = snapshot.totalAssets();
         if (snapshot.operatingCashFlow() != null)
             this.operatingCashFlow = snapshot.operatingCashFlow();
+        if (snapshot.ebit() != null)
+            this.ebit = snapshot.ebit();
+        if (snapshot.interestExpense() != null)
+            this.interestExpense = snapshot.interestExpense();
+        if (snapshot.totalCurrentAssets() != null)
+            this.totalCurrentAssets = snapshot.totalCurrentAssets();
+        if (snapshot.totalCurrentLiabilities() != null)
+            this.totalCurrentLiabilities = snapshot.totalCurrentLiabilities();
+        if (snapshot.totalLiabilities() != null)
+            this.totalLiabilities = snapshot.totalLiabilities();
+        if (snapshot.retainedEarnings() != null)
+            this.retainedEarnings = snapshot.retainedEarnings();
+        if (snapshot.totalShareholderEquity() != null)
+            this.totalShareholderEquity = snapshot.totalShareholderEquity();
+        if (snapshot.inventory() != null)
+            this.inventory = snapshot.inventory();
 
         recalculateQuickRatio(enrichedSnapshot);
         recalculateInterestCoverageRatio(enrichedSnapshot);
@@ -103,17 +127,41 @@ public class QuarterlyReport extends PanacheEntity {
         updateIntegrityStatus();
     }
 
+    /**
+     * Re-derives every metric from the stored raw columns alone, e.g. after a formula change. Only meaningful
+     * when {@link #hasMetricInputs()}.
+     */
+    public void recalculateMetrics() {
+        updateMetrics(FinancialDataSnapshot.builder().build(), this.sector);
+    }
+
+    /**
+     * @return false for rows written before the metric inputs were stored (V13): they keep their metrics, but a
+     * recalculation would only find the inputs missing
+     */
+    public boolean hasMetricInputs() {
+        return totalCurrentAssets != null || totalCurrentLiabilities != null || totalLiabilities != null
+                || retainedEarnings != null || totalShareholderEquity != null || inventory != null
+                || ebit != null || interestExpense != null;
+    }
+
     private FinancialDataSnapshot enrichWithEntityData(FinancialDataSnapshot snapshot) {
         return FinancialDataSnapshot.builder()
-                .totalCurrentAssets(snapshot.totalCurrentAssets())
-                .totalCurrentLiabilities(snapshot.totalCurrentLiabilities())
+                .totalCurrentAssets(snapshot.totalCurrentAssets() != null
+                        ? snapshot.totalCurrentAssets() : this.totalCurrentAssets)
+                .totalCurrentLiabilities(snapshot.totalCurrentLiabilities() != null
+                        ? snapshot.totalCurrentLiabilities() : this.totalCurrentLiabilities)
                 .totalAssets(snapshot.totalAssets() != null ? snapshot.totalAssets() : this.totalAssets)
-                .totalLiabilities(snapshot.totalLiabilities())
-                .retainedEarnings(snapshot.retainedEarnings())
-                .ebit(snapshot.ebit())
-                .interestExpense(snapshot.interestExpense())
-                .totalShareholderEquity(snapshot.totalShareholderEquity())
-                .inventory(snapshot.inventory())
+                .totalLiabilities(
+                        snapshot.totalLiabilities() != null ? snapshot.totalLiabilities() : this.totalLiabilities)
+                .retainedEarnings(
+                        snapshot.retainedEarnings() != null ? snapshot.retainedEarnings() : this.retainedEarnings)
+                .ebit(snapshot.ebit() != null ? snapshot.ebit() : this.ebit)
+                .interestExpense(
+                        snapshot.interestExpense() != null ? snapshot.interestExpense() : this.interestExpense)
+                .totalShareholderEquity(snapshot.totalShareholderEquity() != null
+                        ? snapshot.totalShareholderEquity() : this.totalShareholderEquity)
+                .inventory(snapshot.inventory() != null ? snapshot.inventory() : this.inventory)
                 .totalRevenue(snapshot.totalRevenue() != null ? snapshot.totalRevenue() : this.totalRevenue)
                 .revenueTTM(snapshot.revenueTTM() != null ? snapshot.revenueTTM() : this.revenueTTM)
                 .totalDebt(snapshot.totalDebt() != null ? snapshot.totalDebt() : this.totalDebt)
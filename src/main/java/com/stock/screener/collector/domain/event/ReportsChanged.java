@@ -0,0 +1,13 @@
+package com.stock.screener.collector.domain.event;
+
+import java.util.Set;
+
+/**
+ * CDI event fired inside the transaction that wrote reports of the given tickers. Observers interested in the
+ * stored state use {@code @Observes(during = TransactionPhase.AFTER_SUCCESS)}; the event is not fired for writes
+ * made by other instances.
+ */
+public record ReportsChanged(Table table, Set<String> tickers) {
+
+    public enum Table { MONTHLY, QUARTERLY }
+}
@@ -0,0 +1,72 @@
+package com.stock.screener.common.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one execution.
+ * <p>
+ * The first caller for a key runs the call on its own thread; callers arriving while it is in flight block on
+ * the same {@link CompletableFuture} and receive its result, or the same exception. Nothing is cached — once
+ * the call completes, the next caller for that key starts a new one.
+ * </p>
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    public V execute(K key, Supplier<V> call) {
+        var own = new CompletableFuture<V>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            shared.increment();
+            return await(existing);
+        }
+
+        executed.increment();
+        try {
+            V value = call.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            own.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * @return number of calls that actually ran
+     */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * @return number of callers that were served by another caller's in-flight call
+     */
+    public long sharedCount() {
+        return shared.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+-- =============================================================================
+-- V10: Create api_rate_limit_bucket table
+-- =============================================================================
+-- Purpose: Shared token buckets for external API quotas. One row per provider
+-- and time window, locked with SELECT ... FOR UPDATE so that every instance
+-- (and every restart) draws from the same quota.
+-- =============================================================================
+
+CREATE SEQUENCE IF NOT EXISTS api_rate_limit_bucket_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS api_rate_limit_bucket (
+    id              BIGINT PRIMARY KEY,
+    provider        VARCHAR(30) NOT NULL,
+    time_window     VARCHAR(10) NOT NULL,
+    tokens          DOUBLE PRECISION NOT NULL,
+    refilled_at     TIMESTAMP NOT NULL,
+
+    CONSTRAINT uq_api_rate_limit_bucket_provider_window UNIQUE (provider, time_window)
+);
@@ -0,0 +1,7 @@
+-- Monthly reports are upserted on (stock_ticker, forecast_date), one row per ticker and collection day.
+-- NULLs never conflict in a unique constraint, so the date has to be set for the upsert to find its row.
+UPDATE monthly_report
+SET forecast_date = COALESCE(updated_at::date, CURRENT_DATE)
+WHERE forecast_date IS NULL;
+
+ALTER TABLE monthly_report ALTER COLUMN forecast_date SET NOT NULL;
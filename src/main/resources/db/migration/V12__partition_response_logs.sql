@@ -0,0 +1,107 @@
+-- =============================================================================
+-- V12: Monthly range partitioning of the response log tables
+-- =============================================================================
+-- Purpose: Keep the inbox tables bounded. Lookups for recent payloads prune to
+-- the latest partitions, old partitions are compressed (raw_response_gz, gzip)
+-- and eventually dropped or detached by ResponseLogMaintenanceService.
+-- The primary key has to include the partition key.
+-- =============================================================================
+
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent TEXT, month DATE) RETURNS VOID AS $$
+DECLARE
+    lower_bound    DATE := date_trunc('month', month)::date;
+    partition_name TEXT := format('%s_p%s', parent, to_char(lower_bound, 'YYYY_MM'));
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, parent, lower_bound, (lower_bound + INTERVAL '1 month')::date);
+END;
+$$ LANGUAGE plpgsql;
+
+-- --- alpha_vantage_response_log ---
+
+ALTER TABLE alpha_vantage_response_log RENAME TO alpha_vantage_response_log_legacy;
+
+CREATE TABLE alpha_vantage_response_log (
+    id                  BIGINT NOT NULL,
+    ticker              VARCHAR(10) NOT NULL,
+    function_name       VARCHAR(50) NOT NULL,
+    request_timestamp   TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    raw_response        JSONB,
+    raw_response_gz     BYTEA,
+
+    CONSTRAINT pk_av_log PRIMARY KEY (id, request_timestamp),
+    CONSTRAINT chk_av_log_payload CHECK (raw_response IS NOT NULL OR raw_response_gz IS NOT NULL)
+) PARTITION BY RANGE (request_timestamp);
+
+CREATE TABLE alpha_vantage_response_log_default PARTITION OF alpha_vantage_response_log DEFAULT;
+
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    FOR month IN
+        SELECT generate_series(
+                       date_trunc('month', COALESCE((SELECT min(request_timestamp)
+                                                     FROM alpha_vantage_response_log_legacy), now())),
+                       date_trunc('month', now()) + INTERVAL '2 months',
+                       INTERVAL '1 month')::date
+    LOOP
+        PERFORM create_monthly_partition('alpha_vantage_response_log', month);
+    END LOOP;
+END $$;
+
+INSERT INTO alpha_vantage_response_log (id, ticker, function_name, request_timestamp, raw_response)
+SELECT id, ticker, function_name, request_timestamp, raw_response
+FROM alpha_vantage_response_log_legacy;
+
+DROP TABLE alpha_vantage_response_log_legacy;
+
+CREATE INDEX idx_av_log_function
+    ON alpha_vantage_response_log (ticker, function_name, request_timestamp DESC);
+
+CREATE INDEX idx_av_log_timestamp
+    ON alpha_vantage_response_log (request_timestamp);
+
+-- --- yh_finance_response_log ---
+
+ALTER TABLE yh_finance_response_log RENAME TO yh_finance_response_log_legacy;
+
+CREATE TABLE yh_finance_response_log (
+    id                  BIGINT NOT NULL,
+    ticker              VARCHAR(10) NOT NULL,
+    request_timestamp   TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    raw_response        JSONB,
+    raw_response_gz     BYTEA,
+
+    CONSTRAINT pk_yh_log PRIMARY KEY (id, request_timestamp),
+    CONSTRAINT chk_yh_log_payload CHECK (raw_response IS NOT NULL OR raw_response_gz IS NOT NULL)
+) PARTITION BY RANGE (request_timestamp);
+
+CREATE TABLE yh_finance_response_log_default PARTITION OF yh_finance_response_log DEFAULT;
+
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    FOR month IN
+        SELECT generate_series(
+                       date_trunc('month', COALESCE((SELECT min(request_timestamp)
+                                                     FROM yh_finance_response_log_legacy), now())),
+                       date_trunc('month', now()) + INTERVAL '2 months',
+                       INTERVAL '1 month')::date
+    LOOP
+        PERFORM create_monthly_partition('yh_finance_response_log', month);
+    END LOOP;
+END $$;
+
+INSERT INTO yh_finance_response_log (id, ticker, request_timestamp, raw_response)
+SELECT id, ticker, request_timestamp, raw_response
+FROM yh_finance_response_log_legacy;
+
+DROP TABLE yh_finance_response_log_legacy;
+
+CREATE INDEX idx_yh_log_ticker
+    ON yh_finance_response_log (ticker, request_timestamp DESC);
+
+CREATE INDEX idx_yh_log_timestamp
+    ON yh_finance_response_log (request_timestamp);
@@ -0,0 +1,16 @@
+-- Store every input of the derived metrics, so they can be recomputed from the report rows alone
+-- after a formula change, without fetching or replaying provider data.
+ALTER TABLE quarterly_report
+    ADD COLUMN total_current_assets      DECIMAL(25, 2),
+    ADD COLUMN total_current_liabilities DECIMAL(25, 2),
+    ADD COLUMN total_liabilities         DECIMAL(25, 2),
+    ADD COLUMN retained_earnings         DECIMAL(25, 2),
+    ADD COLUMN total_shareholder_equity  DECIMAL(25, 2),
+    ADD COLUMN inventory                 DECIMAL(25, 2),
+    ADD COLUMN ebit                      DECIMAL(25, 2),
+    ADD COLUMN interest_expense          DECIMAL(25, 2);
+
+ALTER TABLE monthly_report
+    ADD COLUMN current_price DECIMAL(19, 4),
+    ADD COLUMN market_cap    DECIMAL(25, 2),
+    ADD COLUMN revenuettm    DECIMAL(25, 2);
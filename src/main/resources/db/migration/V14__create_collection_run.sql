@@ -0,0 +1,31 @@
+-- Persistent state of asynchronous bulk collections: one run per submitted job, one item per ticker.
+-- Items are checkpointed as soon as a ticker finishes, so a resumed run only processes what is not DONE.
+CREATE SEQUENCE IF NOT EXISTS collection_run_seq START WITH 1 INCREMENT BY 50;
+CREATE TABLE collection_run (
+        id              BIGINT PRIMARY KEY,
+        job_type        VARCHAR(30) NOT NULL,
+        status          VARCHAR(20) NOT NULL,
+        total_tickers   INT NOT NULL,
+        created_at      TIMESTAMP NOT NULL,
+        started_at      TIMESTAMP,
+        finished_at     TIMESTAMP
+);
+
+CREATE INDEX idx_collection_run_status ON collection_run(status, job_type);
+
+CREATE SEQUENCE IF NOT EXISTS collection_run_item_seq START WITH 1 INCREMENT BY 50;
+CREATE TABLE collection_run_item (
+        id              BIGINT PRIMARY KEY,
+        run_id          BIGINT NOT NULL,
+        ticker          VARCHAR(10) NOT NULL,
+        status          VARCHAR(20) NOT NULL,
+        attempts        INT NOT NULL DEFAULT 0,
+        duration_ms     BIGINT,
+        error           TEXT,
+        finished_at     TIMESTAMP,
+
+        CONSTRAINT fk_collection_run_item_run FOREIGN KEY (run_id) REFERENCES collection_run(id) ON DELETE CASCADE,
+        CONSTRAINT uq_collection_run_item UNIQUE (run_id, ticker)
+);
+
+CREATE INDEX idx_collection_run_item_status ON collection_run_item(run_id, status);
@@ -0,0 +1,11 @@
+-- Turns collection_run_item into a work queue shared by all instances.
+-- Workers claim PENDING items with FOR UPDATE SKIP LOCKED and hold them as CLAIMED under a lease that they
+-- renew while working; an item whose lease expired (worker died) can be claimed again.
+ALTER TABLE collection_run_item ADD COLUMN lease_owner VARCHAR(100);
+ALTER TABLE collection_run_item ADD COLUMN lease_expires_at TIMESTAMP;
+
+CREATE INDEX idx_collection_run_item_lease ON collection_run_item(lease_owner) WHERE status = 'CLAIMED';
+
+-- Instances triggered by the same cron fire join one run instead of each creating their own.
+ALTER TABLE collection_run ADD COLUMN trigger_key VARCHAR(100);
+CREATE UNIQUE INDEX uq_collection_run_trigger ON collection_run(job_type, trigger_key);
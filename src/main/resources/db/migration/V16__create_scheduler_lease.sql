@@ -0,0 +1,10 @@
+-- One row per @Scheduled identity, recording the last fire time any instance claimed.
+-- An execution only runs on the instance that moves fire_time forward, so each cron fire runs once per cluster.
+-- next_fire_time is the fire expected after it; when it lies in the past on startup, that fire was missed.
+CREATE TABLE scheduler_lease (
+        identity        VARCHAR(100) PRIMARY KEY,
+        fire_time       TIMESTAMP NOT NULL,
+        next_fire_time  TIMESTAMP,
+        owner           VARCHAR(100) NOT NULL,
+        acquired_at     TIMESTAMP NOT NULL
+);
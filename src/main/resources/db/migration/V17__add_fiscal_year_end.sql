@@ -0,0 +1,3 @@
+-- Month the company's fiscal year ends in (from the Alpha Vantage OVERVIEW), e.g. DECEMBER.
+-- The quarter ending in that month is filed as a 10-K, which has a longer deadline than a 10-Q.
+ALTER TABLE monthly_report ADD COLUMN fiscal_year_end VARCHAR(10);
@@ -0,0 +1,3 @@
+-- A failed item is retried only once its backoff has passed, so a ticker that keeps failing cannot be claimed
+-- again right away and hold up the items that were never tried.
+ALTER TABLE collection_run_item ADD COLUMN next_attempt_at TIMESTAMP;
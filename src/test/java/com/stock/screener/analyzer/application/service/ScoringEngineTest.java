@@ -0,0 +1,158 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.stock.screener.analyzer.application.port.out.StockMetrics;
+import com.stock.screener.common.Sector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScoringEngine Tests")
+class ScoringEngineTest {
+
+    private final ScoringEngine engine = new ScoringEngine();
+
+    @Nested
+    @DisplayName("Rejection")
+    class RejectionTests {
+
+        @Test
+        @DisplayName("Excluded sectors are rejected before scoring")
+        void rejectsExcludedSector() {
+            // When
+            AnalysisReport report = engine.score(aHealthyStock().sector(Sector.FINANCE).build());
+
+            // Then
+            assertThat(report.isRejected()).isTrue();
+            assertThat(report.getTotalScore()).isZero();
+        }
+
+        @Test
+        @DisplayName("Quick ratio below 0.8 rejects the stock")
+        void rejectsLowQuickRatio() {
+            // When
+            AnalysisReport report = engine.score(aHealthyStock().quickRatio(bd("0.7")).build());
+
+            // Then
+            assertThat(report.getRejectReason()).contains("Quick ratio");
+        }
+
+        @Test
+        @DisplayName("Tech uses the Z'' distress zone (1.1), manufacturing the original one (1.8)")
+        void altmanThresholdPerSector() {
+            // When
+            AnalysisReport tech = engine.score(aHealthyStock().altmanZScore(bd("1.5")).build());
+            AnalysisReport industrial = engine.score(aHealthyStock().sector(Sector.INDUSTRIALS)
+                    .altmanZScore(bd("1.5")).build());
+
+            // Then
+            assertThat(tech.isRejected()).isFalse();
+            assertThat(industrial.getRejectReason()).contains("Altman");
+        }
+
+        @Test
+        @DisplayName("Shrinking revenue over three years rejects the stock")
+        void rejectsShrinkingRevenue() {
+            // When
+            AnalysisReport report = engine.score(aHealthyStock().revenueTTM3YearsAgo(bd("500")).build());
+
+            // Then
+            assertThat(report.getRejectReason()).contains("Revenue shrinking");
+        }
+    }
+
+    @Nested
+    @DisplayName("Scoring")
+    class ScoringTests {
+
+        @Test
+        @DisplayName("A stock meeting every rule scores the maximum of 95")
+        void scoresMaximum() {
+            // When
+            AnalysisReport report = engine.score(aHealthyStock().build());
+
+            // Then
+            assertThat(report.getBreakdown()).isEqualTo(new ScoreBreakdown(12, 28, 30, 25));
+            assertThat(report.getTotalScore()).isEqualTo(95);
+            assertThat(report.getMaxPossibleScore()).isEqualTo(95);
+            assertThat(report.getAnomalies()).containsExactly(ScoringEngine.POSSIBLE_SPECULATION_BUBBLE);
+        }
+
+        @Test
+        @DisplayName("Missing data scores zero, lowers the maximum and is reported")
+        void missingDataLowersMaximum() {
+            // When
+            AnalysisReport report = engine.score(aHealthyStock()
+                    .medianPsRatio4Y(null)
+                    .targetPrice3MonthsAgo(null)
+                    .build());
+
+            // Then
+            assertThat(report.getMaxPossibleScore()).isEqualTo(70);
+            assertThat(report.getTotalScore()).isEqualTo(70);
+            assertThat(report.getAnomalies()).contains("MISSING_PS_HISTORY", "MISSING_PRICE_TARGET_HISTORY");
+        }
+
+        @Test
+        @DisplayName("Moderate revenue growth earns points on the 10-20 scale")
+        void scalesRevenueGrowth() {
+            // Given: 100 -> 219.7 over three years is 30% a year
+            StockMetrics stock = aHealthyStock().revenueTTM(bd("219.7")).build();
+
+            // When
+            AnalysisReport report = engine.score(stock);
+
+            // Then
+            assertThat(report.getBreakdown().growth()).isEqualTo(15 + 5 + 10 + 3);
+            assertThat(report.getAnomalies()).doesNotContain(ScoringEngine.POSSIBLE_SPECULATION_BUBBLE);
+        }
+
+        @Test
+        @DisplayName("Flags cash flow below net income and a falling price target")
+        void flagsWarnings() {
+            // When
+            AnalysisReport report = engine.score(aHealthyStock()
+                    .operatingCashFlow(bd("5"))
+                    .targetPrice3MonthsAgo(bd("250"))
+                    .build());
+
+            // Then
+            assertThat(report.getAnomalies()).contains(
+                    ScoringEngine.CASH_FLOW_LESS_THAN_NET_INCOME, ScoringEngine.NEGATIVE_ANALYST_OUTLOOK);
+            assertThat(report.getTotalScore()).isEqualTo(95 - 3 - 5);
+        }
+    }
+
+    static StockMetrics.StockMetricsBuilder aHealthyStock() {
+        return StockMetrics.builder()
+                .ticker("AAPL")
+                .sector(Sector.TECHNOLOGY)
+                .marketCap(bd("3000000000000"))
+                .quickRatio(bd("1.0"))
+                .totalDebt(bd("30"))
+                .totalAssets(bd("100"))
+                .interestCoverageRatio(bd("12"))
+                .altmanZScore(bd("4.2"))
+                .operatingCashFlow(bd("12"))
+                .netIncome(bd("10"))
+                .revenueTTM(bd("400"))
+                .revenueTTM3YearsAgo(bd("100"))
+                .forwardRevenueGrowth(bd("0.15"))
+                .forwardEpsGrowth(bd("0.20"))
+                .psRatio(bd("5"))
+                .medianPsRatio4Y(bd("7"))
+                .forwardPegRatio(bd("1.2"))
+                .upsidePotential(bd("35"))
+                .targetPrice(bd("200"))
+                .targetPrice3MonthsAgo(bd("180"))
+                .metricErrors(Set.of());
+    }
+
+    private static BigDecimal bd(String value) {
+        return new BigDecimal(value);
+    }
+}
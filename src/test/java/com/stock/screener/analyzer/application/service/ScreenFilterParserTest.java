@@ -0,0 +1,91 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.stock.screener.analyzer.application.port.in.InvalidScreenQueryException;
+import com.stock.screener.common.Sector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ScreenFilterParser Tests")
+class ScreenFilterParserTest {
+
+    @Nested
+    @DisplayName("Parsing")
+    class ParsingTests {
+
+        @Test
+        @DisplayName("Parses the work_plan.md base filter into a conjunction")
+        void parsesConjunction() {
+            // When
+            ScreenFilter filter = ScreenFilterParser.parse(
+                    "sector not in (FINANCE, real_estate) and marketCap > 3e9 and quickRatio between 1.0 and 2.5");
+
+            // Then
+            assertThat(filter).isInstanceOf(ScreenFilter.And.class);
+            List<ScreenFilter> conditions = ((ScreenFilter.And) filter).filters();
+            assertThat(conditions.get(0)).isEqualTo(new ScreenFilter.Not(
+                    new ScreenFilter.SectorIn(EnumSet.of(Sector.FINANCE, Sector.REAL_ESTATE))));
+            assertThat(conditions.get(1)).isInstanceOfSatisfying(ScreenFilter.Range.class, range -> {
+                assertThat(range.metric()).isEqualTo(Metric.MARKET_CAP);
+                assertThat(range.min()).isGreaterThan(3e9);
+                assertThat(range.max()).isInfinite();
+            });
+            assertThat(conditions.get(2)).isInstanceOfSatisfying(ScreenFilter.Range.class, range -> {
+                assertThat(range.min()).isEqualTo(1.0);
+                assertThat(range.max()).isEqualTo(2.5);
+            });
+        }
+
+        @Test
+        @DisplayName("'and' binds tighter than 'or', parentheses override it")
+        void respectsPrecedence() {
+            // When
+            ScreenFilter flat = ScreenFilterParser.parse("score >= 60 or score >= 40 and upsidePotential > 30");
+            ScreenFilter grouped = ScreenFilterParser.parse("(score >= 60 or score >= 40) and upsidePotential > 30");
+
+            // Then
+            assertThat(flat).isInstanceOf(ScreenFilter.Or.class);
+            assertThat(grouped).isInstanceOf(ScreenFilter.And.class);
+        }
+
+        @Test
+        @DisplayName("A blank filter selects everything")
+        void blankFilter() {
+            // Then
+            assertThat(ScreenFilterParser.parse("  ")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Errors")
+    class ErrorTests {
+
+        @Test
+        @DisplayName("Unknown metrics are reported with their position")
+        void unknownMetric() {
+            // Then
+            assertThatThrownBy(() -> ScreenFilterParser.parse("marketCap > 1 and foo < 2"))
+                    .isInstanceOf(InvalidScreenQueryException.class)
+                    .hasMessageStartingWith("Unknown metric 'foo'")
+                    .hasMessageEndingWith("at position 18");
+        }
+
+        @Test
+        @DisplayName("Unknown sectors and unfinished filters are rejected")
+        void invalidSyntax() {
+            // Then
+            assertThatThrownBy(() -> ScreenFilterParser.parse("sector in (BANKS)"))
+                    .hasMessageStartingWith("Unknown sector 'BANKS'");
+            assertThatThrownBy(() -> ScreenFilterParser.parse("quickRatio between 1"))
+                    .hasMessageStartingWith("Expected 'and'");
+            assertThatThrownBy(() -> ScreenFilterParser.parse("score > 1 score"))
+                    .hasMessageStartingWith("Unexpected 'score'");
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.stock.screener.analyzer.application.port.in.InvalidScreenQueryException;
+import com.stock.screener.analyzer.application.port.in.ScreenQuery;
+import com.stock.screener.analyzer.application.port.in.ScreenResult;
+import com.stock.screener.analyzer.application.port.out.StockMetrics;
+import com.stock.screener.analyzer.application.port.out.StockMetricsPort;
+import com.stock.screener.common.Sector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.stock.screener.analyzer.application.service.ScoringEngineTest.aHealthyStock;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ScreenerService Tests")
+class ScreenerServiceTest {
+
+    private final List<StockMetrics> universe = new ArrayList<>();
+    private ScreenerService service;
+
+    @BeforeEach
+    void setUp() {
+        // 200 tickers: quick ratio 0.80 .. 2.79, every fourth one in FINANCE, upside 0 .. 49
+        for (int i = 0; i < 200; i++) {
+            universe.add(aHealthyStock()
+                    .ticker("T%03d".formatted(i))
+                    .sector(i % 4 == 0 ? Sector.FINANCE : Sector.TECHNOLOGY)
+                    .quickRatio(BigDecimal.valueOf(80 + i, 2))
+                    .upsidePotential(BigDecimal.valueOf(i % 50))
+                    .build());
+        }
+        var snapshots = new UniverseSnapshotService(new FakeStockMetricsPort(), Duration.ZERO);
+        snapshots.refresh();
+        service = new ScreenerService(snapshots);
+    }
+
+    @Nested
+    @DisplayName("Filtering")
+    class FilteringTests {
+
+        @Test
+        @DisplayName("Matches the same rows as a row-by-row check and reports the plan")
+        void matchesRowByRow() {
+            // When
+            ScreenResult result = service.screen(query(
+                    "sector not in (FINANCE) and quickRatio between 1.0 and 2.5 and upsidePotential >= 40", 0, 500));
+
+            // Then
+            long expected = universe.stream()
+                    .filter(stock -> stock.sector() != Sector.FINANCE)
+                    .filter(stock -> stock.quickRatio().doubleValue() >= 1.0
+                            && stock.quickRatio().doubleValue() <= 2.5)
+                    .filter(stock -> stock.upsidePotential().doubleValue() >= 40)
+                    .count();
+            assertThat(result.total()).isEqualTo(expected);
+            assertThat(result.stocks()).hasSize((int) expected);
+            assertThat(result.plan().getFirst()).startsWith("BITMAP_AND");
+            assertThat(result.plan()).anyMatch(step -> step.contains("INDEX_RANGE_SCAN upsidePotential"));
+        }
+
+        @Test
+        @DisplayName("Ors and excluded rejected tickers are evaluated on bitmaps")
+        void evaluatesBooleanOperators() {
+            // When
+            ScreenResult result = service.screen(query("not rejected and (quickRatio < 0.9 or quickRatio > 2.7)",
+                    0, 500));
+
+            // Then: 0.80 .. 0.89 and 2.71 .. 2.79, without the rejected FINANCE tickers
+            assertThat(result.total()).isEqualTo(14);
+            assertThat(result.stocks()).extracting(ScreenResult.Stock::sector).containsOnly(Sector.TECHNOLOGY);
+            assertThat(result.plan()).anyMatch(step -> step.contains("BITMAP_OR"));
+        }
+
+        @Test
+        @DisplayName("A negated comparison does not select tickers without the metric")
+        void negationSkipsMissingValues() {
+            // Given: T000 .. T009 have no quick ratio
+            for (int i = 0; i < 10; i++) {
+                universe.set(i, aHealthyStock()
+                        .ticker("T%03d".formatted(i))
+                        .sector(i % 4 == 0 ? Sector.FINANCE : Sector.TECHNOLOGY)
+                        .quickRatio(null)
+                        .upsidePotential(BigDecimal.valueOf(i))
+                        .build());
+            }
+            var snapshots = new UniverseSnapshotService(new FakeStockMetricsPort(), Duration.ZERO);
+            snapshots.refresh();
+            service = new ScreenerService(snapshots);
+
+            // When
+            ScreenResult negated = service.screen(query("not quickRatio < 1.0", 0, 500));
+            ScreenResult deMorgan = service.screen(query("not (quickRatio < 1.0 and sector = FINANCE)", 0, 500));
+
+            // Then: 1.00 .. 2.79 only
+            assertThat(negated.total()).isEqualTo(180);
+            assertThat(negated.stocks()).extracting(ScreenResult.Stock::ticker).doesNotContain("T000", "T009");
+            // Then: unknown and false is false, so the seven TECHNOLOGY tickers without a quick ratio match
+            assertThat(deMorgan.total()).isEqualTo(188 + 7);
+            assertThat(deMorgan.stocks()).extracting(ScreenResult.Stock::ticker).contains("T001")
+                    .doesNotContain("T000", "T012");
+        }
+    }
+
+    @Nested
+    @DisplayName("Paging")
+    class PagingTests {
+
+        @Test
+        @DisplayName("Pages follow the sort metric's index")
+        void pagesInSortOrder() {
+            // When
+            ScreenResult first = service.screen(new ScreenQuery("sector = TECHNOLOGY", "quickRatio", true, 0, 10));
+            ScreenResult second = service.screen(new ScreenQuery("sector = TECHNOLOGY", "quickRatio", true, 1, 10));
+
+            // Then
+            assertThat(first.total()).isEqualTo(150);
+            assertThat(first.stocks()).extracting(ScreenResult.Stock::ticker).startsWith("T001", "T002", "T003");
+            assertThat(second.stocks().getFirst().ticker()).isEqualTo("T014");
+            assertThat(first.stocks().getFirst().metrics()).containsEntry("quickRatio", 0.81);
+        }
+
+        @Test
+        @DisplayName("Pages past the end are empty, bad sort keys are rejected")
+        void outOfRange() {
+            // Then
+            assertThat(service.screen(query(null, 10, 50)).stocks()).isEmpty();
+            assertThatThrownBy(() -> service.screen(new ScreenQuery(null, "price", false, 0, 10)))
+                    .isInstanceOf(InvalidScreenQueryException.class);
+        }
+    }
+
+    private static ScreenQuery query(String filter, int page, int size) {
+        return new ScreenQuery(filter, "score", false, page, size);
+    }
+
+    private class FakeStockMetricsPort implements StockMetricsPort {
+
+        @Override
+        public List<StockMetrics> loadAll() {
+            return universe;
+        }
+
+        @Override
+        public List<StockMetrics> load(Collection<String> tickers) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.stock.screener.analyzer.application.port.out.StockMetrics;
+import com.stock.screener.analyzer.application.port.out.StockMetricsPort;
+import com.stock.screener.common.Sector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.stock.screener.analyzer.application.service.ScoringEngineTest.aHealthyStock;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StockAnalysisService Tests")
+class StockAnalysisServiceTest {
+
+    private final List<StockMetrics> universe = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AnalysisCache cache = new AnalysisCache(100, Duration.ofMinutes(15));
+    private final StockAnalysisService service = new StockAnalysisService(new FakeStockMetricsPort(), cache);
+
+    @Test
+    @DisplayName("Scores the whole universe sorted by score, rejected tickers last")
+    void sortsByScore() {
+        // Given
+        universe.add(aHealthyStock().ticker("BANK").sector(Sector.FINANCE).build());
+        universe.add(aHealthyStock().ticker("MID").forwardPegRatio(new BigDecimal("1.8")).build());
+        universe.add(aHealthyStock().ticker("TOP").build());
+
+        // When
+        List<AnalysisReport> reports = service.analyzeAll();
+
+        // Then
+        assertThat(reports).extracting(AnalysisReport::getTicker).containsExactly("TOP", "MID", "BANK");
+        assertThat(reports).extracting(AnalysisReport::getTotalScore).containsExactly(95, 90, 0);
+    }
+
+    @Test
+    @DisplayName("Scores thousands of tickers in parallel")
+    void scoresLargeUniverse() {
+        // Given
+        for (int i = 0; i < 5_000; i++) {
+            universe.add(aHealthyStock().ticker("T" + i).upsidePotential(new BigDecimal(i % 40)).build());
+        }
+
+        // When
+        List<AnalysisReport> reports = service.analyzeAll();
+
+        // Then
+        assertThat(reports).hasSize(5_000);
+        assertThat(reports).isSortedAccordingTo(StockAnalysisService.BY_SCORE);
+    }
+
+    @Test
+    @DisplayName("A ticker without a monthly report is rejected as missing data")
+    void unknownTicker() {
+        // When
+        AnalysisReport report = service.analyzeStock("NONE");
+
+        // Then
+        assertThat(report.isRejected()).isTrue();
+        assertThat(report.getAnomalies()).containsExactly("MISSING_DATA");
+    }
+
+    @Test
+    @DisplayName("Repeated analyses of a ticker are served from the cache")
+    void cachesAnalysis() {
+        // Given
+        universe.add(aHealthyStock().ticker("AAPL").build());
+
+        // When
+        AnalysisReport first = service.analyzeStock("AAPL");
+        AnalysisReport second = service.analyzeStock("AAPL");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getCacheStats())
+                .filteredOn(stats -> stats.cache().equals(AnalysisCache.ANALYSES))
+                .singleElement()
+                .satisfies(stats -> {
+                    assertThat(stats.hits()).isEqualTo(1);
+                    assertThat(stats.misses()).isEqualTo(1);
+                    assertThat(stats.hitRatio()).isEqualTo(0.5);
+                });
+    }
+
+    @Test
+    @DisplayName("Invalidating a ticker reloads only that ticker")
+    void invalidatesPerTicker() {
+        // Given
+        universe.add(aHealthyStock().ticker("AAPL").build());
+        universe.add(aHealthyStock().ticker("MSFT").build());
+        service.analyzeStock("AAPL");
+        service.analyzeStock("MSFT");
+        universe.set(0, aHealthyStock().ticker("AAPL").forwardPegRatio(new BigDecimal("1.8")).build());
+
+        // When
+        cache.invalidate(Set.of("AAPL"));
+        AnalysisReport aapl = service.analyzeStock("AAPL");
+        service.analyzeStock("MSFT");
+
+        // Then
+        assertThat(aapl.getTotalScore()).isEqualTo(90);
+        assertThat(loads).hasValue(3);
+    }
+
+    private class FakeStockMetricsPort implements StockMetricsPort {
+
+        @Override
+        public List<StockMetrics> loadAll() {
+            return universe;
+        }
+
+        @Override
+        public List<StockMetrics> load(Collection<String> tickers) {
+            loads.incrementAndGet();
+            return universe.stream().filter(stock -> tickers.contains(stock.ticker())).toList();
+        }
+    }
+}
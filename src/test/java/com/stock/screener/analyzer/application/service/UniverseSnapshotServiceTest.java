@@ -0,0 +1,108 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.stock.screener.analyzer.application.port.out.StockMetrics;
+import com.stock.screener.analyzer.application.port.out.StockMetricsPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.stock.screener.analyzer.application.service.ScoringEngineTest.aHealthyStock;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UniverseSnapshotService Tests")
+class UniverseSnapshotServiceTest {
+
+    private final List<StockMetrics> universe = new ArrayList<>();
+    private final List<Collection<String>> loadedTickers = new ArrayList<>();
+    private final AtomicInteger fullLoads = new AtomicInteger();
+    private final UniverseSnapshotService service = new UniverseSnapshotService(new FakeStockMetricsPort(),
+            Duration.ZERO);
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 10; i++) {
+            universe.add(aHealthyStock().ticker("T" + i).build());
+        }
+        service.refresh();
+    }
+
+    @Test
+    @DisplayName("Rescoring loads only the changed tickers and swaps them into the snapshot")
+    void rescoresChangedTickers() {
+        // Given
+        universe.set(3, aHealthyStock().ticker("T3").forwardPegRatio(new BigDecimal("1.8")).build());
+
+        // When
+        service.rescore(Set.of("T3"));
+
+        // Then
+        UniverseSnapshot snapshot = service.current();
+        assertThat(fullLoads).hasValue(1);
+        assertThat(loadedTickers).containsExactly(Set.of("T3"));
+        assertThat(snapshot.size()).isEqualTo(10);
+        assertThat(snapshot.value(Metric.SCORE, snapshot.row("T3"))).isEqualTo(90);
+        assertThat(snapshot.value(Metric.SCORE, snapshot.row("T4"))).isEqualTo(95);
+    }
+
+    @Test
+    @DisplayName("A ticker without a monthly report anymore leaves the snapshot")
+    void removesDeletedTickers() {
+        // Given
+        universe.remove(0);
+
+        // When
+        service.rescore(Set.of("T0"));
+
+        // Then
+        assertThat(service.current().size()).isEqualTo(9);
+        assertThat(service.current().row("T0")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("A ticker collected for the first time joins the snapshot")
+    void addsNewTickers() {
+        // Given
+        universe.add(aHealthyStock().ticker("NEW").build());
+
+        // When
+        service.rescore(Set.of("NEW"));
+
+        // Then
+        assertThat(service.current().size()).isEqualTo(11);
+        assertThat(service.current().row("NEW")).isNotNegative();
+    }
+
+    @Test
+    @DisplayName("Falls back to a full rebuild when more than half of the universe changed")
+    void rebuildsOnLargeChange() {
+        // When
+        service.rescore(Set.of("T0", "T1", "T2", "T3", "T4", "T5"));
+
+        // Then
+        assertThat(fullLoads).hasValue(2);
+        assertThat(loadedTickers).isEmpty();
+    }
+
+    private class FakeStockMetricsPort implements StockMetricsPort {
+
+        @Override
+        public List<StockMetrics> loadAll() {
+            fullLoads.incrementAndGet();
+            return List.copyOf(universe);
+        }
+
+        @Override
+        public List<StockMetrics> load(Collection<String> tickers) {
+            loadedTickers.add(tickers);
+            return universe.stream().filter(stock -> tickers.contains(stock.ticker())).toList();
+        }
+    }
+}
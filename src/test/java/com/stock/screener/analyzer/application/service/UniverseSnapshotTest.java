@@ -0,0 +1,106 @@
+package com.stock.screener.analyzer.application.service;
+
+import com.stock.screener.analyzer.application.port.out.StockMetrics;
+import com.stock.screener.common.Sector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.stock.screener.analyzer.application.service.ScoringEngineTest.aHealthyStock;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("UniverseSnapshot Tests")
+class UniverseSnapshotTest {
+
+    private final ScoringEngine engine = new ScoringEngine();
+
+    @Nested
+    @DisplayName("Columns")
+    class ColumnTests {
+
+        @Test
+        @DisplayName("Stores metrics as primitives and marks missing values in the null bitmap")
+        void storesColumns() {
+            // Given
+            UniverseSnapshot snapshot = snapshotOf(List.of(
+                    aHealthyStock().ticker("AAPL").build(),
+                    aHealthyStock().ticker("MSFT").quickRatio(null).sector(null).build()));
+
+            // When
+            int aapl = snapshot.row("AAPL");
+            int msft = snapshot.row("MSFT");
+
+            // Then
+            assertThat(snapshot.value(Metric.QUICK_RATIO, aapl)).isEqualTo(1.0);
+            assertThat(snapshot.value(Metric.DEBT_TO_ASSETS, aapl)).isCloseTo(0.3, within(1e-9));
+            assertThat(snapshot.value(Metric.SCORE, aapl)).isEqualTo(95);
+            assertThat(snapshot.sector(aapl)).isEqualTo(Sector.TECHNOLOGY);
+            assertThat(snapshot.has(Metric.QUICK_RATIO, msft)).isFalse();
+            assertThat(snapshot.value(Metric.QUICK_RATIO, msft)).isNaN();
+            assertThat(snapshot.sector(msft)).isNull();
+            assertThat(snapshot.isRejected(msft)).isTrue();
+            assertThat(snapshot.row("NONE")).isEqualTo(-1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Row sets")
+    class RowSetTests {
+
+        @Test
+        @DisplayName("Range and sector predicates narrow the row bitmap in place")
+        void narrowsRows() {
+            // Given: 150 tickers spanning three bitmap words, quick ratio 1.00 .. 2.49
+            List<StockMetrics> stocks = new ArrayList<>();
+            IntStream.range(0, 150).forEach(i -> stocks.add(aHealthyStock()
+                    .ticker("T%03d".formatted(i))
+                    .sector(i % 2 == 0 ? Sector.TECHNOLOGY : Sector.HEALTHCARE)
+                    .quickRatio(BigDecimal.valueOf(100 + i, 2))
+                    .build()));
+            UniverseSnapshot snapshot = snapshotOf(stocks);
+
+            // When
+            long[] rows = snapshot.allRows();
+            snapshot.retainRange(rows, Metric.QUICK_RATIO, 1.5, 2.0);
+            snapshot.retainSectors(rows, EnumSet.of(Sector.HEALTHCARE), false);
+
+            // Then: 1.50 .. 2.00 are rows 50 .. 100, of which the even ones are tech
+            assertThat(UniverseSnapshot.count(rows)).isEqualTo(26);
+            assertThat(UniverseSnapshot.nextRow(rows, 0)).isEqualTo(50);
+            assertThat(UniverseSnapshot.nextRow(rows, 99)).isEqualTo(100);
+            assertThat(UniverseSnapshot.nextRow(rows, 101)).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("Rows without a value never match a range, rejected rows can be dropped")
+        void skipsMissingValues() {
+            // Given
+            UniverseSnapshot snapshot = snapshotOf(List.of(
+                    aHealthyStock().ticker("AAPL").build(),
+                    aHealthyStock().ticker("BANK").sector(Sector.FINANCE).build(),
+                    aHealthyStock().ticker("NOPEG").forwardPegRatio(null).build()));
+
+            // When
+            long[] cheap = snapshot.allRows();
+            snapshot.retainRange(cheap, Metric.FORWARD_PEG, Double.NEGATIVE_INFINITY, 5);
+            long[] accepted = snapshot.allRows();
+            snapshot.retainNotRejected(accepted);
+
+            // Then
+            assertThat(UniverseSnapshot.count(cheap)).isEqualTo(2);
+            assertThat(UniverseSnapshot.count(accepted)).isEqualTo(2);
+            assertThat(snapshot.ticker(UniverseSnapshot.nextRow(accepted, 0))).isEqualTo("AAPL");
+        }
+    }
+
+    private UniverseSnapshot snapshotOf(List<StockMetrics> stocks) {
+        return UniverseSnapshot.build(stocks, stocks.stream().map(engine::score).toList());
+    }
+}
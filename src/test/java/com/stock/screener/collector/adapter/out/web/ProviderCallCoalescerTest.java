@@ -0,0 +1,154 @@
+package com.stock.screener.collector.adapter.out.web;
+
+import com.stock.screener.collector.application.port.out.ApiCallStats;
+import com.stock.screener.collector.application.port.out.ApiProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProviderCallCoalescer Tests")
+class ProviderCallCoalescerTest {
+
+    private final ProviderCallCoalescer coalescer = new ProviderCallCoalescer();
+
+    @Test
+    @DisplayName("Concurrent identical calls go out once and are counted as deduplicated")
+    void deduplicatesConcurrentCalls() throws Exception {
+        // Given: the call is held open until both other callers have joined it
+        var calls = new AtomicInteger();
+        var started = new CountDownLatch(1);
+
+        // When
+        List<Future<String>> results;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> coalescer.execute(ApiProvider.YH_FINANCE,
+                    "price", "AAPL", () -> {
+                        calls.incrementAndGet();
+                        started.countDown();
+                        awaitJoined(2);
+                        return "payload";
+                    }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            results = IntStream.range(0, 2)
+                    .mapToObj(i -> executor.submit(() -> coalescer.execute(ApiProvider.YH_FINANCE,
+                            "price", "AAPL", () -> {
+                                calls.incrementAndGet();
+                                return "own call";
+                            })))
+                    .collect(Collectors.toCollection(ArrayList::new));
+            results.add(leader);
+        }
+
+        // Then
+        assertThat(calls).hasValue(1);
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("payload");
+        }
+        ApiCallStats stats = stats().get(ApiProvider.YH_FINANCE);
+        assertThat(stats.executed()).isEqualTo(1);
+        assertThat(stats.deduplicated()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Uncoalesced calls are counted but never shared")
+    void countsUncoalescedCalls() {
+        // When
+        coalescer.call(ApiProvider.ALPHA_VANTAGE, () -> 1);
+        coalescer.call(ApiProvider.ALPHA_VANTAGE, () -> 1);
+
+        // Then
+        assertThat(stats().get(ApiProvider.ALPHA_VANTAGE).executed()).isEqualTo(2);
+        assertThat(stats().get(ApiProvider.ALPHA_VANTAGE).deduplicated()).isZero();
+    }
+
+    @Test
+    @DisplayName("Different functions, symbols and providers are not coalesced")
+    void keepsDistinctKeysApart() {
+        // When
+        coalescer.execute(ApiProvider.ALPHA_VANTAGE, "OVERVIEW", "AAPL", () -> 1);
+        coalescer.execute(ApiProvider.ALPHA_VANTAGE, "CASH_FLOW", "AAPL", () -> 1);
+        coalescer.execute(ApiProvider.ALPHA_VANTAGE, "OVERVIEW", "MSFT", () -> 1);
+        coalescer.execute(ApiProvider.YH_FINANCE, "OVERVIEW", "AAPL", () -> 1);
+
+        // Then
+        assertThat(stats().get(ApiProvider.ALPHA_VANTAGE).executed()).isEqualTo(3);
+        assertThat(stats().get(ApiProvider.YH_FINANCE).executed()).isEqualTo(1);
+        assertThat(stats().values()).allSatisfy(s -> assertThat(s.deduplicated()).isZero());
+    }
+
+    @Test
+    @DisplayName("Overlapping collections of one symbol count only their own calls, forked ones included")
+    void countsCallsPerInvocation() throws Exception {
+        // Given: both collections are in flight at the same time
+        var bothCounting = new CountDownLatch(2);
+        var first = new AtomicInteger();
+        var second = new AtomicInteger();
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> coalescer.countCalls(first, () -> {
+                await(bothCounting);
+                coalescer.call(ApiProvider.ALPHA_VANTAGE, () -> 1);
+            }));
+            executor.submit(() -> coalescer.countCalls(second, () -> {
+                await(bothCounting);
+                coalescer.call(ApiProvider.ALPHA_VANTAGE, () -> 1);
+                try (var scope = StructuredTaskScope.open()) {
+                    scope.fork(() -> coalescer.call(ApiProvider.YH_FINANCE, () -> 1));
+                    scope.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        coalescer.call(ApiProvider.ALPHA_VANTAGE, () -> 1);
+
+        // Then
+        assertThat(first).hasValue(1);
+        assertThat(second).hasValue(2);
+    }
+
+    private Map<ApiProvider, ApiCallStats> stats() {
+        return coalescer.callStats().stream()
+                .collect(Collectors.toMap(ApiCallStats::provider, Function.identity()));
+    }
+
+    /**
+     * Followers are counted before they block on the leader's call, so this returns once they are waiting.
+     */
+    private void awaitJoined(int followers) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stats().get(ApiProvider.YH_FINANCE).deduplicated() < followers) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Callers did not join the in-flight call");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
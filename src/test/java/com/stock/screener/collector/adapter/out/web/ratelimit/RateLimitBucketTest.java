@@ -0,0 +1,142 @@
+package com.stock.screener.collector.adapter.out.web.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("RateLimitBucket Tests")
+class RateLimitBucketTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 12, 0, 0);
+
+    @Nested
+    @DisplayName("Minute window")
+    class MinuteWindowTests {
+
+        @Test
+        @DisplayName("Refills proportionally to elapsed time")
+        void refillsProportionally() {
+            // Given: empty bucket with 5 tokens per minute
+            var bucket = new RateLimitBucket("alphavantage-api", RateLimitWindow.MINUTE, 0, NOW);
+
+            // When: 24 seconds pass
+            bucket.refill(5, NOW.plusSeconds(24));
+
+            // Then: 2 tokens earned
+            assertThat(bucket.tokens).isCloseTo(2.0, within(1e-9));
+            assertThat(bucket.refilledAt).isEqualTo(NOW.plusSeconds(24));
+        }
+
+        @Test
+        @DisplayName("Never refills above capacity")
+        void capsAtCapacity() {
+            // Given
+            var bucket = new RateLimitBucket("alphavantage-api", RateLimitWindow.MINUTE, 4, NOW);
+
+            // When
+            bucket.refill(5, NOW.plusMinutes(10));
+
+            // Then
+            assertThat(bucket.tokens).isEqualTo(5.0);
+        }
+
+        @Test
+        @DisplayName("Reports time until the next whole token")
+        void reportsWaitForNextToken() {
+            // Given: half a token left, 5 per minute -> 12s per token
+            var bucket = new RateLimitBucket("alphavantage-api", RateLimitWindow.MINUTE, 0.5, NOW);
+
+            // When
+            Duration wait = bucket.timeUntilAvailable(5, NOW);
+
+            // Then
+            assertThat(wait).isEqualTo(Duration.ofSeconds(6));
+        }
+
+        @Test
+        @DisplayName("Reports zero wait when a token is available")
+        void zeroWaitWhenAvailable() {
+            // Given
+            var bucket = new RateLimitBucket("alphavantage-api", RateLimitWindow.MINUTE, 1, NOW);
+
+            // When / Then
+            assertThat(bucket.timeUntilAvailable(5, NOW)).isZero();
+        }
+
+        @Test
+        @DisplayName("Clamps tokens when capacity was lowered in configuration")
+        void clampsToLoweredCapacity() {
+            // Given
+            var bucket = new RateLimitBucket("alphavantage-api", RateLimitWindow.MINUTE, 60, NOW);
+
+            // When: same instant, capacity reduced
+            bucket.refill(5, NOW);
+
+            // Then
+            assertThat(bucket.tokens).isEqualTo(5.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Day window")
+    class DayWindowTests {
+
+        @Test
+        @DisplayName("Does not refill within the same UTC day")
+        void noRefillWithinSameDay() {
+            // Given
+            var bucket = new RateLimitBucket("yhfinance-api", RateLimitWindow.DAY, 0, NOW);
+
+            // When
+            bucket.refill(100, NOW.plusHours(11));
+
+            // Then
+            assertThat(bucket.tokens).isZero();
+        }
+
+        @Test
+        @DisplayName("Resets to full capacity after UTC midnight")
+        void resetsAfterMidnight() {
+            // Given
+            var bucket = new RateLimitBucket("yhfinance-api", RateLimitWindow.DAY, 0, NOW);
+
+            // When
+            bucket.refill(100, NOW.plusHours(12).plusSeconds(1));
+
+            // Then
+            assertThat(bucket.tokens).isEqualTo(100.0);
+        }
+
+        @Test
+        @DisplayName("Reports wait until UTC midnight when exhausted")
+        void waitsUntilMidnight() {
+            // Given
+            var bucket = new RateLimitBucket("yhfinance-api", RateLimitWindow.DAY, 0, NOW);
+
+            // When
+            Duration wait = bucket.timeUntilAvailable(100, NOW);
+
+            // Then
+            assertThat(wait).isEqualTo(Duration.ofHours(12));
+        }
+    }
+
+    @Test
+    @DisplayName("take() consumes exactly one token")
+    void takeConsumesOneToken() {
+        // Given
+        var bucket = new RateLimitBucket("alphavantage-api", RateLimitWindow.MINUTE, 3, NOW);
+
+        // When
+        bucket.take();
+
+        // Then
+        assertThat(bucket.tokens).isEqualTo(2.0);
+    }
+}
@@ -85,6 +85,11 @@ public final class RawCashFlowFixture {
 
         private ReportFixture() {}
 
+        public ReportFixture withFiscalDateEnding(String value) {
+            this.fiscalDateEnding = value;
+            return this;
+        }
+
         public ReportFixture withOperatingCashflow(String value) {
             this.operatingCashflow = new BigDecimal(value);
             return this;
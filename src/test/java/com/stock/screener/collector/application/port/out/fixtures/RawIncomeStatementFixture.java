@@ -75,6 +75,11 @@ public final class RawIncomeStatementFixture {
 
         private ReportFixture() {}
 
+        public ReportFixture withFiscalDateEnding(String value) {
+            this.fiscalDateEnding = value;
+            return this;
+        }
+
         public ReportFixture withTotalRevenue(String value) {
             this.totalRevenue = new BigDecimal(value);
             return this;
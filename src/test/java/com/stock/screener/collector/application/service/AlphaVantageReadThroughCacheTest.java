@@ -0,0 +1,208 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.DataCategory;
+import com.stock.screener.collector.application.port.in.FreshnessStats;
+import com.stock.screener.collector.application.port.out.alphavantage.AlphaVantageClient;
+import com.stock.screener.collector.application.port.out.alphavantage.AlphaVantageResponseStore;
+import com.stock.screener.collector.application.port.out.alphavantage.RawBalanceSheet;
+import com.stock.screener.collector.application.port.out.alphavantage.RawCashFlow;
+import com.stock.screener.collector.application.port.out.alphavantage.RawIncomeStatement;
+import com.stock.screener.collector.application.port.out.alphavantage.RawOverview;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.stock.screener.collector.application.port.out.fixtures.RawBalanceSheetFixture.aRawBalanceSheet;
+import static com.stock.screener.collector.application.port.out.fixtures.RawOverviewFixture.aRawOverview;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AlphaVantageReadThroughCache Tests")
+class AlphaVantageReadThroughCacheTest {
+
+    private final AtomicInteger apiCalls = new AtomicInteger();
+    private final AtomicReference<LocalDateTime> requestedNotBefore = new AtomicReference<>();
+
+    private RawOverview storedOverview;
+    private RawBalanceSheet storedBalanceSheet;
+    private CountDownLatch apiGate;
+    private DataFreshnessMetrics metrics;
+    private AlphaVantageReadThroughCache cache;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new DataFreshnessMetrics();
+        cache = new AlphaVantageReadThroughCache(new CountingClient(), new FakeStore(), metrics,
+                Duration.ofDays(1), Duration.ofDays(90), Duration.ofDays(90), Duration.ofDays(90));
+    }
+
+    @Nested
+    @DisplayName("Read-through")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("Serves a logged OVERVIEW inside its TTL without calling the API")
+        void servesLoggedOverview() {
+            // Given
+            storedOverview = aRawOverview().build();
+
+            // When
+            RawOverview result = cache.overview("AAPL");
+
+            // Then
+            assertThat(result).isSameAs(storedOverview);
+            assertThat(apiCalls).hasValue(0);
+            assertThat(stats().get(DataCategory.PRICES).hits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Calls the API when nothing is logged inside the TTL")
+        void callsApiOnMiss() {
+            // When
+            cache.balanceSheet("AAPL");
+
+            // Then
+            assertThat(apiCalls).hasValue(1);
+            assertThat(stats().get(DataCategory.FUNDAMENTALS).misses()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Uses the TTL of the requested function")
+        void usesTtlPerFunction() {
+            // Given
+            storedBalanceSheet = aRawBalanceSheet().build();
+
+            // When
+            cache.overview("AAPL");
+            LocalDateTime overviewCutoff = requestedNotBefore.get();
+            cache.balanceSheet("AAPL");
+            LocalDateTime balanceSheetCutoff = requestedNotBefore.get();
+
+            // Then
+            assertThat(Duration.between(overviewCutoff, LocalDateTime.now()).toHours()).isEqualTo(24);
+            assertThat(Duration.between(balanceSheetCutoff, LocalDateTime.now()).toDays()).isEqualTo(90);
+        }
+    }
+
+    @Nested
+    @DisplayName("Coalescing")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("Concurrent requests for the same key share one API call")
+        void coalescesConcurrentRequests() throws Exception {
+            // Given: the API call blocks until released
+            apiGate = new CountDownLatch(1);
+
+            // When
+            List<Future<RawOverview>> results;
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                results = IntStream.range(0, 8)
+                        .mapToObj(i -> executor.submit(() -> cache.overview("AAPL")))
+                        .toList();
+                TimeUnit.MILLISECONDS.sleep(100);
+                apiGate.countDown();
+            }
+
+            // Then
+            assertThat(apiCalls).hasValue(1);
+            RawOverview first = results.getFirst().get();
+            for (Future<RawOverview> result : results) {
+                assertThat(result.get()).isSameAs(first);
+            }
+            assertThat(stats().get(DataCategory.PRICES).misses()).isEqualTo(1);
+            assertThat(stats().get(DataCategory.PRICES).hits()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("Different tickers are not coalesced")
+        void doesNotCoalesceDifferentKeys() {
+            // When
+            cache.overview("AAPL");
+            cache.overview("MSFT");
+
+            // Then
+            assertThat(apiCalls).hasValue(2);
+        }
+    }
+
+    private Map<DataCategory, FreshnessStats> stats() {
+        return metrics.getFreshnessStats().stream()
+                .collect(Collectors.toMap(FreshnessStats::category, Function.identity()));
+    }
+
+    private class CountingClient implements AlphaVantageClient {
+
+        @Override
+        public RawOverview fetchOverview(String ticker) {
+            apiCalls.incrementAndGet();
+            if (apiGate != null) {
+                try {
+                    apiGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return aRawOverview().build();
+        }
+
+        @Override
+        public RawBalanceSheet fetchBalanceSheet(String ticker) {
+            apiCalls.incrementAndGet();
+            return aRawBalanceSheet().build();
+        }
+
+        @Override
+        public RawIncomeStatement fetchIncomeStatement(String ticker) {
+            apiCalls.incrementAndGet();
+            return null;
+        }
+
+        @Override
+        public RawCashFlow fetchCashFlow(String ticker) {
+            apiCalls.incrementAndGet();
+            return null;
+        }
+    }
+
+    private class FakeStore implements AlphaVantageResponseStore {
+
+        @Override
+        public Optional<RawOverview> findOverview(String ticker, LocalDateTime notBefore) {
+            requestedNotBefore.set(notBefore);
+            return Optional.ofNullable(storedOverview);
+        }
+
+        @Override
+        public Optional<RawBalanceSheet> findBalanceSheet(String ticker, LocalDateTime notBefore) {
+            requestedNotBefore.set(notBefore);
+            return Optional.ofNullable(storedBalanceSheet);
+        }
+
+        @Override
+        public Optional<RawIncomeStatement> findIncomeStatement(String ticker, LocalDateTime notBefore) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<RawCashFlow> findCashFlow(String ticker, LocalDateTime notBefore) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.BulkCollectionResult;
+import com.stock.screener.collector.application.port.in.TickerOutcome;
+import com.stock.screener.collector.application.port.out.ApiCallMetricsPort;
+import com.stock.screener.collector.application.port.out.ApiCallStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.stock.screener.collector.application.port.out.ApiProvider.ALPHA_VANTAGE;
+import static com.stock.screener.collector.application.port.out.ApiProvider.YH_FINANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BulkCollectionEngine Tests")
+class BulkCollectionEngineTest {
+
+    private final CountingMetrics metrics = new CountingMetrics();
+
+    @Nested
+    @DisplayName("Outcomes")
+    class OutcomeTests {
+
+        private final BulkCollectionEngine engine = new BulkCollectionEngine(metrics, 4, 4);
+
+        @Test
+        @DisplayName("Returns one outcome per ticker in input order")
+        void returnsOutcomePerTicker() {
+            // Given
+            var tickers = List.of("AAPL", "MSFT", "NVDA");
+
+            // When
+            BulkCollectionResult result = engine.execute("test", tickers, EnumSet.of(ALPHA_VANTAGE), ticker -> {});
+
+            // Then
+            assertThat(result.total()).isEqualTo(3);
+            assertThat(result.succeeded()).isEqualTo(3);
+            assertThat(result.failed()).isZero();
+            assertThat(result.outcomes()).extracting(TickerOutcome::ticker).containsExactly("AAPL", "MSFT", "NVDA");
+        }
+
+        @Test
+        @DisplayName("Records failure with error message without aborting other tickers")
+        void isolatesFailures() {
+            // Given
+            var tickers = List.of("AAPL", "FAIL", "NVDA");
+
+            // When
+            BulkCollectionResult result = engine.execute("test", tickers, EnumSet.of(ALPHA_VANTAGE), ticker -> {
+                if (ticker.equals("FAIL")) {
+                    throw new IllegalStateException("External api throw unknown error");
+                }
+            });
+
+            // Then
+            assertThat(result.succeeded()).isEqualTo(2);
+            assertThat(result.failed()).isEqualTo(1);
+            assertThat(result.outcomes().get(1).status()).isEqualTo(TickerOutcome.Status.FAILED);
+            assertThat(result.outcomes().get(1).error()).isEqualTo("External api throw unknown error");
+        }
+
+        @Test
+        @DisplayName("Counts the provider calls of every ticker, failed ones included")
+        void countsProviderCalls() {
+            // Given
+            var tickers = List.of("AAPL", "FAIL", "MU");
+
+            // When
+            BulkCollectionResult result = engine.execute("test", tickers, EnumSet.of(ALPHA_VANTAGE), ticker -> {
+                IntStream.range(0, ticker.length()).forEach(i -> metrics.call());
+                if (ticker.equals("FAIL")) {
+                    throw new IllegalStateException("External api throw unknown error");
+                }
+            });
+
+            // Then
+            assertThat(result.outcomes()).extracting(TickerOutcome::providerCalls).containsExactly(4, 4, 2);
+        }
+
+        @Test
+        @DisplayName("Returns empty result for empty ticker list")
+        void handlesEmptyList() {
+            // When
+            BulkCollectionResult result = engine.execute("test", List.of(), EnumSet.of(ALPHA_VANTAGE), ticker -> {});
+
+            // Then
+            assertThat(result.total()).isZero();
+            assertThat(result.outcomes()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency ceiling")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Never exceeds the lowest ceiling among required providers")
+        void respectsLowestCeiling() {
+            // Given
+            var engine = new BulkCollectionEngine(metrics, 2, 8);
+            var tickers = IntStream.range(0, 20).mapToObj(i -> "T" + i).toList();
+            var inFlight = new AtomicInteger();
+            var peak = new AtomicInteger();
+
+            // When
+            BulkCollectionResult result = engine.execute("test", tickers, EnumSet.of(ALPHA_VANTAGE, YH_FINANCE), ticker -> {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                sleep(20);
+                inFlight.decrementAndGet();
+            });
+
+            // Then
+            assertThat(result.succeeded()).isEqualTo(20);
+            assertThat(peak.get()).isLessThanOrEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Runs tickers in parallel up to the provider ceiling")
+        void runsInParallel() {
+            // Given
+            var engine = new BulkCollectionEngine(metrics, 4, 4);
+            var tickers = IntStream.range(0, 16).mapToObj(i -> "T" + i).toList();
+            var inFlight = new AtomicInteger();
+            var peak = new AtomicInteger();
+
+            // When
+            engine.execute("test", tickers, EnumSet.of(YH_FINANCE), ticker -> {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                sleep(50);
+                inFlight.decrementAndGet();
+            });
+
+            // Then
+            assertThat(peak.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+        }
+    }
+
+    /**
+     * Counts the calls made through {@link #call()} the way the provider adapters do, per invocation.
+     */
+    private static class CountingMetrics implements ApiCallMetricsPort {
+
+        private static final ScopedValue<AtomicInteger> CALLS = ScopedValue.newInstance();
+
+        void call() {
+            CALLS.get().incrementAndGet();
+        }
+
+        @Override
+        public List<ApiCallStats> callStats() {
+            return List.of();
+        }
+
+        @Override
+        public void countCalls(AtomicInteger calls, Runnable work) {
+            ScopedValue.where(CALLS, calls).run(work);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
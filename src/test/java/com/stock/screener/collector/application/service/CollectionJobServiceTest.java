@@ -0,0 +1,309 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.BulkCollectionResult;
+import com.stock.screener.collector.application.port.in.CollectMonthlyDataUseCase;
+import com.stock.screener.collector.application.port.in.CollectionJobReport;
+import com.stock.screener.collector.application.port.in.CollectionJobStatus;
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.CollectionProgressEvent;
+import com.stock.screener.collector.application.port.in.TickerOutcome;
+import com.stock.screener.collector.application.port.out.job.CollectionRunPort;
+import com.stock.screener.collector.application.port.out.job.CollectionRunState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CollectionJobService Tests")
+class CollectionJobServiceTest {
+
+    private final FakeRunPort runPort = new FakeRunPort();
+    private final RecordingMonthlyCollector monthlyCollector = new RecordingMonthlyCollector();
+    private final CollectionProgressPublisher progressPublisher = new CollectionProgressPublisher(List::of, 25);
+    private final CollectionJobService service = new CollectionJobService(runPort, monthlyCollector, null,
+            progressPublisher,
+            2, Duration.ofSeconds(3), 3, Duration.ZERO, Duration.ofMillis(10));
+
+    @Nested
+    @DisplayName("Checkpoints")
+    class CheckpointTests {
+
+        @Test
+        @DisplayName("A new job records every ticker's outcome and completes")
+        void recordsOutcomes() throws InterruptedException {
+            // When
+            CollectionJobReport job = service.submit(CollectionJobType.MONTHLY, List.of("AAPL", "MSFT"));
+            CollectionJobStatus status = runPort.awaitFinished();
+
+            // Then
+            assertThat(job.total()).isEqualTo(2);
+            assertThat(runPort.items).containsEntry("AAPL", TickerOutcome.Status.SUCCESS)
+                    .containsEntry("MSFT", TickerOutcome.Status.SUCCESS);
+            assertThat(status).isEqualTo(CollectionJobStatus.COMPLETED);
+        }
+
+        @Test
+        @DisplayName("Re-submitting an unfinished job resumes it and skips tickers already done")
+        void resumesUnfinishedRun() throws InterruptedException {
+            // Given: a run interrupted after AAPL was checkpointed
+            runPort.joinOrCreateRun(CollectionJobType.MONTHLY, List.of("AAPL", "MSFT", "NVDA"), null);
+            runPort.items.put("AAPL", TickerOutcome.Status.SUCCESS);
+
+            // When
+            CollectionJobReport job = service.submit(CollectionJobType.MONTHLY, List.of("AAPL", "MSFT", "NVDA"));
+            runPort.awaitFinished();
+
+            // Then
+            assertThat(job.id()).isEqualTo(1);
+            assertThat(monthlyCollector.collected()).containsExactly("MSFT", "NVDA");
+        }
+    }
+
+    @Nested
+    @DisplayName("Work queue")
+    class WorkQueueTests {
+
+        @Test
+        @DisplayName("Tickers are claimed and collected in batches")
+        void collectsInBatches() throws InterruptedException {
+            // When
+            service.submit(CollectionJobType.MONTHLY, List.of("AAPL", "MSFT", "NVDA"));
+            runPort.awaitFinished();
+
+            // Then
+            assertThat(monthlyCollector.batches).containsExactly(List.of("AAPL", "MSFT"), List.of("NVDA"));
+        }
+
+        @Test
+        @DisplayName("A worker waits for tickers held elsewhere and takes them over once their lease expires")
+        void takesOverExpiredLeases() throws InterruptedException {
+            // Given: MSFT is held by a worker that stopped renewing its lease
+            runPort.joinOrCreateRun(CollectionJobType.MONTHLY, List.of("AAPL", "MSFT"), null);
+            runPort.foreignClaims.put("MSFT", 2);
+
+            // When
+            service.submit(CollectionJobType.MONTHLY, List.of("AAPL", "MSFT"));
+            CollectionJobStatus status = runPort.awaitFinished();
+
+            // Then
+            assertThat(monthlyCollector.batches).containsExactly(List.of("AAPL"), List.of("MSFT"));
+            assertThat(status).isEqualTo(CollectionJobStatus.COMPLETED);
+        }
+
+        @Test
+        @DisplayName("A trigger whose run already finished is not collected again")
+        void skipsFinishedTrigger() {
+            // Given
+            runPort.joinOrCreateRun(CollectionJobType.MONTHLY, List.of("AAPL"), "monthly-collector@now");
+            runPort.finishRun(1, CollectionJobStatus.COMPLETED);
+
+            // When
+            CollectionJobReport job = service.submit(CollectionJobType.MONTHLY, List.of("AAPL"),
+                    "monthly-collector@now");
+
+            // Then
+            assertThat(job.status()).isEqualTo(CollectionJobStatus.COMPLETED);
+            assertThat(monthlyCollector.batches).isEmpty();
+        }
+
+        @Test
+        @DisplayName("A worker that fails leaves the run running for the other workers")
+        void leavesRunToOtherWorkers() throws InterruptedException {
+            // Given
+            monthlyCollector.failure = new IllegalStateException("Database unavailable");
+            var workerStopped = new CountDownLatch(1);
+            progressPublisher.subscribe(event -> {
+                if (event instanceof CollectionProgressEvent.JobFinished) {
+                    workerStopped.countDown();
+                }
+            });
+
+            // When
+            service.submit(CollectionJobType.MONTHLY, List.of("AAPL"));
+
+            // Then
+            assertThat(workerStopped.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(runPort.status).isEqualTo(CollectionJobStatus.RUNNING);
+        }
+    }
+
+    @Nested
+    @DisplayName("Report")
+    class ReportTests {
+
+        @Test
+        @DisplayName("Throughput counts the current attempt and ETA covers the remaining tickers")
+        void computesThroughputAndEta() {
+            // Given: 30 tickers processed in the 10 minutes since the run was resumed, 60 left
+            var run = new CollectionRunState(1, CollectionJobType.MONTHLY, CollectionJobStatus.RUNNING, 100, 38, 2,
+                    30, LocalDateTime.now().minusHours(1), LocalDateTime.now().minusMinutes(10), null, List.of());
+
+            // When
+            CollectionJobReport report = CollectionJobService.toReport(run);
+
+            // Then
+            assertThat(report.pending()).isEqualTo(60);
+            assertThat(report.tickersPerMinute()).isBetween(2.9, 3.1);
+            assertThat(report.etaSeconds()).isBetween(1150L, 1250L);
+        }
+
+        @Test
+        @DisplayName("A finished run has no ETA")
+        void noEtaWhenFinished() {
+            // Given
+            LocalDateTime started = LocalDateTime.now().minusMinutes(5);
+            var run = new CollectionRunState(1, CollectionJobType.MONTHLY, CollectionJobStatus.COMPLETED, 10, 10, 0,
+                    10, started, started, started.plusMinutes(5), List.of());
+
+            // When
+            CollectionJobReport report = CollectionJobService.toReport(run);
+
+            // Then
+            assertThat(report.etaSeconds()).isNull();
+            assertThat(report.tickersPerMinute()).isEqualTo(2.0);
+        }
+    }
+
+    private static class RecordingMonthlyCollector implements CollectMonthlyDataUseCase {
+
+        private final List<List<String>> batches = new ArrayList<>();
+        private RuntimeException failure;
+
+        @Override
+        public void collectMonthlyData(String ticker) {
+        }
+
+        @Override
+        public BulkCollectionResult collectMonthlyData(List<String> tickers) {
+            return collectMonthlyData(tickers, outcome -> {
+            });
+        }
+
+        @Override
+        public BulkCollectionResult collectMonthlyData(List<String> tickers, Consumer<TickerOutcome> listener) {
+            if (failure != null) {
+                throw failure;
+            }
+            batches.add(List.copyOf(tickers));
+            List<TickerOutcome> outcomes = new ArrayList<>();
+            for (String ticker : tickers) {
+                var outcome = TickerOutcome.success(ticker, 1);
+                listener.accept(outcome);
+                outcomes.add(outcome);
+            }
+            return BulkCollectionResult.of(outcomes, 1);
+        }
+
+        List<String> collected() {
+            return batches.stream().flatMap(List::stream).toList();
+        }
+    }
+
+    /**
+     * Single-instance queue; {@link #foreignClaims} simulates tickers held by another worker, mapped to the number
+     * of polls until their lease expires.
+     */
+    private static class FakeRunPort implements CollectionRunPort {
+
+        private final Map<String, TickerOutcome.Status> items = new LinkedHashMap<>();
+        private final Map<String, Integer> foreignClaims = new LinkedHashMap<>();
+        private final Set<String> claimed = new HashSet<>();
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private CollectionJobType type;
+        private String triggerKey;
+        private volatile CollectionJobStatus status;
+        private LocalDateTime startedAt;
+
+        @Override
+        public long joinOrCreateRun(CollectionJobType type, List<String> tickers, String triggerKey) {
+            boolean sameTrigger = triggerKey != null && triggerKey.equals(this.triggerKey);
+            boolean sameTickers = triggerKey == null && status == CollectionJobStatus.RUNNING
+                    && items.keySet().equals(Set.copyOf(tickers));
+            if (this.type == type && (sameTrigger || sameTickers)) {
+                return 1;
+            }
+            this.type = type;
+            this.triggerKey = triggerKey;
+            this.status = CollectionJobStatus.RUNNING;
+            tickers.forEach(ticker -> items.put(ticker, null));
+            return 1;
+        }
+
+        @Override
+        public Optional<CollectionRunState> findRun(long runId) {
+            if (type == null) {
+                return Optional.empty();
+            }
+            int done = (int) items.values().stream().filter(TickerOutcome.Status.SUCCESS::equals).count();
+            return Optional.of(new CollectionRunState(1, type, status, items.size(), done, 0, done,
+                    startedAt, startedAt, null, List.of()));
+        }
+
+        @Override
+        public List<CollectionRunState> findUnfinishedRuns() {
+            return findRun(1).filter(run -> run.status() == CollectionJobStatus.RUNNING).stream().toList();
+        }
+
+        @Override
+        public List<String> claimTickers(long runId, String workerId, int limit, Duration lease, int maxAttempts) {
+            foreignClaims.values().removeIf(polls -> polls == 0);
+            List<String> batch = items.entrySet().stream()
+                    .filter(item -> item.getValue() != TickerOutcome.Status.SUCCESS)
+                    .map(Map.Entry::getKey)
+                    .filter(ticker -> !claimed.contains(ticker) && !foreignClaims.containsKey(ticker))
+                    .limit(limit)
+                    .toList();
+            claimed.addAll(batch);
+            return batch;
+        }
+
+        @Override
+        public void renewLeases(long runId, String workerId, Duration lease) {
+        }
+
+        @Override
+        public boolean hasOpenTickers(long runId, int maxAttempts) {
+            foreignClaims.replaceAll((ticker, polls) -> polls - 1);
+            return !claimed.isEmpty() || !foreignClaims.isEmpty();
+        }
+
+        @Override
+        public void markStarted(long runId) {
+            startedAt = LocalDateTime.now();
+        }
+
+        @Override
+        public boolean recordOutcome(long runId, String workerId, TickerOutcome outcome, Duration retryBackoff) {
+            if (!claimed.remove(outcome.ticker())) {
+                return false;
+            }
+            items.put(outcome.ticker(), outcome.status());
+            return true;
+        }
+
+        @Override
+        public void finishRun(long runId, CollectionJobStatus status) {
+            this.status = status;
+            finished.countDown();
+        }
+
+        CollectionJobStatus awaitFinished() throws InterruptedException {
+            assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+            return status;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.CollectionPlan;
+import com.stock.screener.collector.application.port.in.CollectionPlan.PlannedTicker;
+import com.stock.screener.collector.application.port.out.ApiProvider;
+import com.stock.screener.collector.application.port.out.ProviderQuota;
+import com.stock.screener.collector.application.port.out.ReportDates;
+import com.stock.screener.collector.application.port.out.job.CollectionFailures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CollectionPlanner Tests")
+class CollectionPlannerTest {
+
+    private List<String> universe = List.of();
+    private final Map<String, ReportDates> reportDates = new HashMap<>();
+    private final Map<String, CollectionFailures> failures = new HashMap<>();
+    private int alphaVantagePerDay = 100;
+    private int alphaVantageRemaining = 100;
+    private int yhFinancePerDay = 1000;
+
+    private final CollectionPlanner planner = new CollectionPlanner(
+            () -> universe,
+            type -> reportDates,
+            () -> List.of(new ProviderQuota(ApiProvider.ALPHA_VANTAGE, 5, alphaVantageRemaining, alphaVantagePerDay),
+                    new ProviderQuota(ApiProvider.YH_FINANCE, 60, yhFinancePerDay, yhFinancePerDay)),
+            new FilingDatePredictor(Duration.ofDays(45), Duration.ofDays(75), Duration.ofDays(7)),
+            type -> failures,
+            4, 0.3, Duration.ofDays(30), 0.6, Duration.ofHours(1), Duration.ofDays(7));
+
+    @Nested
+    @DisplayName("Due tickers")
+    class DueTickerTests {
+
+        @Test
+        @DisplayName("Never-collected tickers come first, then the stalest; fresh ones are left out")
+        void ordersStalestFirst() {
+            // Given
+            universe = List.of("AAPL", "MSFT", "NVDA", "AMZN");
+            reportDates.put("AAPL", updated(LocalDateTime.now().minusDays(40)));
+            reportDates.put("MSFT", updated(LocalDateTime.now().minusDays(60)));
+            reportDates.put("NVDA", updated(LocalDateTime.now().minusDays(1)));
+
+            // When
+            CollectionPlan plan = planner.plan(CollectionJobType.MONTHLY);
+
+            // Then
+            assertThat(plan.universe()).isEqualTo(4);
+            assertThat(plan.days().getFirst().tickers()).extracting(PlannedTicker::ticker)
+                    .containsExactly("AMZN", "MSFT", "AAPL");
+        }
+
+        @Test
+        @DisplayName("Quarterly reports are due once the next quarter should have been filed")
+        void quarterlyDueAfterExpectedFiling() {
+            // Given: AAPL's next quarter ended three months ago, MSFT's ends in two months
+            universe = List.of("AAPL", "MSFT");
+            LocalDateTime collected = LocalDateTime.now().minusMonths(4);
+            reportDates.put("AAPL", new ReportDates(collected, LocalDate.now().minusMonths(6), Month.DECEMBER));
+            reportDates.put("MSFT", new ReportDates(collected, LocalDate.now().minusMonths(1), Month.DECEMBER));
+
+            // When
+            CollectionPlan plan = planner.plan(CollectionJobType.QUARTERLY);
+
+            // Then
+            assertThat(plan.dueTickers()).isEqualTo(1);
+            assertThat(plan.days().getFirst().tickers()).extracting(PlannedTicker::ticker).containsExactly("AAPL");
+        }
+
+        @Test
+        @DisplayName("Quarterly history is only due for tickers without any quarter")
+        void historyOnlyForNewTickers() {
+            // Given
+            universe = List.of("AAPL", "MSFT");
+            reportDates.put("AAPL", new ReportDates(LocalDateTime.now().minusYears(2),
+                    LocalDate.now().minusYears(2), Month.DECEMBER));
+
+            // When
+            CollectionPlan plan = planner.plan(CollectionJobType.QUARTERLY_HISTORY);
+
+            // Then
+            assertThat(plan.dueTickers()).isEqualTo(1);
+            assertThat(plan.days().getFirst().tickers()).extracting(PlannedTicker::ticker).containsExactly("MSFT");
+        }
+
+        @Test
+        @DisplayName("Tickers that keep failing back off exponentially from their last failure")
+        void backsOffFailingTickers() {
+            // Given: backoff of 1h, 2h, 4h after one, two, three failed runs
+            universe = List.of("AAPL", "MSFT", "NVDA", "AMZN");
+            failures.put("AAPL", new CollectionFailures(1, LocalDateTime.now().minusMinutes(30)));
+            failures.put("MSFT", new CollectionFailures(2, LocalDateTime.now().minusHours(3)));
+            failures.put("NVDA", new CollectionFailures(3, LocalDateTime.now().minusHours(3)));
+
+            // When
+            List<String> wave = planner.nextWave(CollectionJobType.MONTHLY, LocalTime.NOON);
+
+            // Then
+            assertThat(wave).containsExactly("MSFT", "AMZN");
+        }
+    }
+
+    @Nested
+    @DisplayName("Daily budget")
+    class BudgetTests {
+
+        @Test
+        @DisplayName("Days hold as many tickers as the type's share of the daily limit pays for")
+        void splitsIntoDays() {
+            // Given: 60% of 100 Alpha Vantage calls at 3 calls per ticker = 20 tickers per day
+            universe = tickers(50);
+
+            // When
+            CollectionPlan plan = planner.plan(CollectionJobType.QUARTERLY);
+
+            // Then
+            assertThat(plan.tickersPerDay()).isEqualTo(20);
+            assertThat(plan.callsPerDay()).containsEntry(ApiProvider.ALPHA_VANTAGE, 60);
+            assertThat(plan.days()).extracting(day -> day.tickers().size()).containsExactly(20, 20, 10);
+            assertThat(plan.days().get(1).date()).isEqualTo(plan.days().getFirst().date().plusDays(1));
+        }
+
+        @Test
+        @DisplayName("A day's tickers are spread evenly over 24 hours")
+        void spreadsOverTheDay() {
+            // Given
+            universe = tickers(20);
+
+            // When
+            CollectionPlan.Day day = planner.plan(CollectionJobType.QUARTERLY).days().getFirst();
+
+            // Then
+            assertThat(day.interval()).isEqualTo(Duration.ofMinutes(72));
+            assertThat(Duration.between(day.tickers().get(0).scheduledAt(), day.tickers().get(1).scheduledAt()))
+                    .isEqualTo(Duration.ofMinutes(72));
+            assertThat(day.tickers().getFirst().scheduledAt()).isEqualTo(day.date().atStartOfDay());
+        }
+
+        @Test
+        @DisplayName("The tightest provider limits a type that calls several")
+        void limitedByTightestProvider() {
+            // Given: monthly spends one call at each provider; 30% of 50 YH calls = 15
+            universe = tickers(40);
+            yhFinancePerDay = 50;
+
+            // When
+            CollectionPlan plan = planner.plan(CollectionJobType.MONTHLY);
+
+            // Then
+            assertThat(plan.tickersPerDay()).isEqualTo(15);
+        }
+
+        @Test
+        @DisplayName("The first wave is the day's share divided by the waves per day")
+        void nextWave() {
+            // Given: 20 tickers per day in 4 waves
+            universe = tickers(50);
+
+            // When
+            List<String> wave = planner.nextWave(CollectionJobType.QUARTERLY, LocalTime.MIDNIGHT);
+
+            // Then
+            assertThat(wave).containsExactly("T0", "T1", "T2", "T3", "T4");
+        }
+
+        @Test
+        @DisplayName("Waves of an uneven split carry the remainder and add up to the day's share")
+        void carriesRemainderAcrossWaves() {
+            // Given: 60% of 110 Alpha Vantage calls at 3 calls per ticker = 22 tickers per day in 4 waves
+            universe = tickers(50);
+            alphaVantagePerDay = 110;
+            alphaVantageRemaining = 110;
+
+            // When: every wave's tickers are stored before the next one
+            List<Integer> waveSizes = IntStream.range(0, 4)
+                    .mapToObj(wave -> collect(planner.nextWave(CollectionJobType.QUARTERLY, LocalTime.of(wave * 6, 0))))
+                    .map(List::size)
+                    .toList();
+
+            // Then
+            assertThat(waveSizes).containsExactly(5, 5, 6, 6);
+        }
+
+        @Test
+        @DisplayName("A wave takes what is left of the day's share after the tickers attempted today")
+        void sizedFromWhatIsLeft() {
+            // Given: 20 tickers per day; 8 stored and 2 failed today, 1 stored yesterday, 2 waves left
+            universe = tickers(50);
+            collect(tickers(8));
+            failures.put("F0", new CollectionFailures(1, LocalDateTime.now().minusDays(1)));
+            failures.put("F1", new CollectionFailures(1, LocalDateTime.now()));
+            failures.put("F2", new CollectionFailures(1, LocalDateTime.now()));
+            reportDates.put("OLD", updated(LocalDateTime.now().minusDays(2)));
+
+            // When
+            List<String> wave = planner.nextWave(CollectionJobType.QUARTERLY, LocalTime.NOON);
+
+            // Then: (20 - 10) / 2
+            assertThat(wave).containsExactly("T8", "T9", "T10", "T11", "T12");
+        }
+
+        @Test
+        @DisplayName("A wave that was skipped is made up by the next one")
+        void makesUpSkippedWave() {
+            // Given: 20 tickers per day in 4 waves, nothing collected in the first two
+            universe = tickers(50);
+
+            // When
+            List<String> wave = planner.nextWave(CollectionJobType.QUARTERLY, LocalTime.NOON);
+
+            // Then
+            assertThat(wave).hasSize(10);
+        }
+
+        @Test
+        @DisplayName("A wave asks for no more tickers than the quota left today pays for")
+        void cappedByRemainingQuota() {
+            // Given: 7 Alpha Vantage calls left, 3 per ticker
+            universe = tickers(50);
+            alphaVantageRemaining = 7;
+
+            // When
+            List<String> wave = planner.nextWave(CollectionJobType.QUARTERLY, LocalTime.NOON);
+
+            // Then
+            assertThat(wave).containsExactly("T0", "T1");
+        }
+    }
+
+    private List<String> collect(List<String> tickers) {
+        tickers.forEach(ticker -> reportDates.put(ticker, updated(LocalDateTime.now())));
+        return tickers;
+    }
+
+    private static ReportDates updated(LocalDateTime updatedAt) {
+        return new ReportDates(updatedAt, null, null);
+    }
+
+    private static List<String> tickers(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "T" + i).toList();
+    }
+}
@@ -0,0 +1,95 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.CollectionJobType;
+import com.stock.screener.collector.application.port.in.CollectionProgressEvent;
+import com.stock.screener.collector.application.port.in.CollectionProgressEvent.JobFinished;
+import com.stock.screener.collector.application.port.in.CollectionProgressEvent.Throughput;
+import com.stock.screener.collector.application.port.in.CollectionProgressEvent.TickerCompleted;
+import com.stock.screener.collector.application.port.in.TickerOutcome;
+import com.stock.screener.collector.application.port.out.ApiProvider;
+import com.stock.screener.collector.application.port.out.ProviderQuota;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CollectionProgressPublisher Tests")
+class CollectionProgressPublisherTest {
+
+    private static final ProviderQuota QUOTA = new ProviderQuota(ApiProvider.ALPHA_VANTAGE, 4, 20, 500);
+
+    private final AtomicInteger quotaReads = new AtomicInteger();
+    private final List<CollectionProgressEvent> events = new ArrayList<>();
+    private final CollectionProgressPublisher publisher = new CollectionProgressPublisher(() -> {
+        quotaReads.incrementAndGet();
+        return List.of(QUOTA);
+    }, 2);
+
+    @Test
+    @DisplayName("Every ticker emits its outcome, provider calls and remaining quota")
+    void emitsTickerEvent() {
+        // Given
+        publisher.subscribe(events::add);
+
+        // When
+        publisher.tickerCompleted(1, CollectionJobType.MONTHLY,
+                TickerOutcome.failed("AAPL", 120, "timeout").withProviderCalls(3));
+
+        // Then
+        assertThat(events).containsExactly(new TickerCompleted(1, CollectionJobType.MONTHLY, "AAPL",
+                TickerOutcome.Status.FAILED, 120, "timeout", 3, List.of(QUOTA)));
+    }
+
+    @Test
+    @DisplayName("Throughput is emitted every N tickers and flushed when the job finishes")
+    void emitsThroughputEveryN() {
+        // Given
+        publisher.subscribe(events::add);
+
+        // When
+        publisher.tickerCompleted(1, CollectionJobType.MONTHLY, TickerOutcome.success("AAPL", 100));
+        publisher.tickerCompleted(1, CollectionJobType.MONTHLY, TickerOutcome.failed("MSFT", 300, "boom"));
+        publisher.tickerCompleted(1, CollectionJobType.MONTHLY, TickerOutcome.success("NVDA", 50));
+        publisher.jobFinished(1, CollectionJobType.MONTHLY);
+
+        // Then
+        List<Throughput> throughput = events.stream()
+                .filter(Throughput.class::isInstance)
+                .map(Throughput.class::cast)
+                .toList();
+        assertThat(throughput).hasSize(2);
+        assertThat(throughput.getFirst().processed()).isEqualTo(2);
+        assertThat(throughput.getFirst().failed()).isEqualTo(1);
+        assertThat(throughput.getFirst().averageLatencyMs()).isEqualTo(200.0);
+        assertThat(throughput.getLast().processed()).isEqualTo(1);
+        assertThat(events.getLast()).isEqualTo(new JobFinished(1, CollectionJobType.MONTHLY));
+    }
+
+    @Test
+    @DisplayName("Without subscribers the quota is not read")
+    void skipsQuotaWithoutSubscribers() {
+        // When
+        publisher.tickerCompleted(1, CollectionJobType.MONTHLY, TickerOutcome.success("AAPL", 10).withProviderCalls(2));
+
+        // Then
+        assertThat(quotaReads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Unsubscribed listeners receive nothing")
+    void unsubscribes() {
+        // Given
+        Runnable unsubscribe = publisher.subscribe(events::add);
+
+        // When
+        unsubscribe.run();
+        publisher.tickerCompleted(1, CollectionJobType.MONTHLY, TickerOutcome.success("AAPL", 10));
+
+        // Then
+        assertThat(events).isEmpty();
+    }
+}
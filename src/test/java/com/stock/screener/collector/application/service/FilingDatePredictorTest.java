@@ -0,0 +1,94 @@
+package com.stock.screener.collector.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FilingDatePredictor Tests")
+class FilingDatePredictorTest {
+
+    private final FilingDatePredictor predictor =
+            new FilingDatePredictor(Duration.ofDays(45), Duration.ofDays(75), Duration.ofDays(7));
+
+    @Nested
+    @DisplayName("Expected filing")
+    class ExpectedFilingTests {
+
+        @Test
+        @DisplayName("A 10-Q is expected 45 days after the next quarter ends")
+        void quarterlyFiling() {
+            // Given: Q1 stored, Q2 ends on June 30th
+            LocalDate lastQuarter = LocalDate.of(2025, 3, 31);
+
+            // When
+            LocalDate next = predictor.nextRefresh(lastQuarter, Month.DECEMBER, LocalDateTime.of(2025, 5, 2, 8, 0));
+
+            // Then
+            assertThat(next).isEqualTo(LocalDate.of(2025, 8, 14));
+        }
+
+        @Test
+        @DisplayName("The quarter closing the fiscal year is a 10-K with a longer deadline")
+        void annualFiling() {
+            // Given: Apple-like fiscal year ending in September
+            LocalDate lastQuarter = LocalDate.of(2025, 6, 30);
+
+            // When
+            LocalDate next = predictor.nextRefresh(lastQuarter, Month.SEPTEMBER, LocalDateTime.of(2025, 8, 2, 8, 0));
+
+            // Then
+            assertThat(next).isEqualTo(LocalDate.of(2025, 12, 14));
+        }
+
+        @Test
+        @DisplayName("Quarters ending a few days before month end roll to the end of the month")
+        void fiftyTwoWeekQuarters() {
+            // When
+            LocalDate next = predictor.nextRefresh(LocalDate.of(2025, 3, 29), null, null);
+
+            // Then
+            assertThat(next).isEqualTo(LocalDate.of(2025, 8, 14));
+        }
+    }
+
+    @Nested
+    @DisplayName("Re-checks")
+    class RecheckTests {
+
+        @Test
+        @DisplayName("A collection after the expected filing that found nothing new is retried a week later")
+        void rechecksLateFilers() {
+            // Given: collected on the expected date, still Q1
+            LocalDateTime collected = LocalDateTime.of(2025, 8, 14, 8, 0);
+
+            // When
+            LocalDate next = predictor.nextRefresh(LocalDate.of(2025, 3, 31), Month.DECEMBER, collected);
+
+            // Then
+            assertThat(next).isEqualTo(LocalDate.of(2025, 8, 21));
+        }
+
+        @Test
+        @DisplayName("Nothing stored yet means due now")
+        void neverCollected() {
+            // Then
+            assertThat(predictor.nextRefresh(null, Month.DECEMBER, null)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Parses Alpha Vantage month names and ignores anything else")
+    void parsesFiscalYearEnd() {
+        // Then
+        assertThat(FilingDatePredictor.parseFiscalYearEnd("September")).isEqualTo(Month.SEPTEMBER);
+        assertThat(FilingDatePredictor.parseFiscalYearEnd("None")).isNull();
+        assertThat(FilingDatePredictor.parseFiscalYearEnd(null)).isNull();
+    }
+}
@@ -0,0 +1,125 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.DataCategory;
+import com.stock.screener.collector.application.port.in.FreshnessStats;
+import com.stock.screener.collector.application.port.out.yhfinance.response.YhFinanceResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.stock.screener.collector.application.port.out.fixtures.YhFinanceResponseFixture.aYhFinanceResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FreshnessAwareDataRepository Tests")
+class FreshnessAwareDataRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-10T23:30:00Z");
+
+    private final AtomicInteger apiCalls = new AtomicInteger();
+    private final AtomicReference<LocalDateTime> requestedNotBefore = new AtomicReference<>();
+
+    private YhFinanceResponse storedQuoteSummary;
+    private DataFreshnessMetrics metrics;
+    private FreshnessAwareDataRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new DataFreshnessMetrics();
+        repository = new FreshnessAwareDataRepository(
+                null,
+                ticker -> {
+                    apiCalls.incrementAndGet();
+                    return aYhFinanceResponse().build();
+                },
+                (ticker, notBefore) -> {
+                    requestedNotBefore.set(notBefore);
+                    return Optional.ofNullable(storedQuoteSummary);
+                },
+                metrics,
+                null,
+                Duration.ofDays(90), Duration.ofDays(1), Duration.ofDays(30),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Serves quote summary from the store and counts a hit for prices and analyst data")
+    void servesStoredQuoteSummary() {
+        // Given
+        storedQuoteSummary = aYhFinanceResponse().build();
+
+        // When
+        YhFinanceResponse result = repository.fetchQuoteSummary("AAPL");
+
+        // Then
+        assertThat(result).isSameAs(storedQuoteSummary);
+        assertThat(apiCalls).hasValue(0);
+        assertThat(stats().get(DataCategory.PRICES).hits()).isEqualTo(1);
+        assertThat(stats().get(DataCategory.ANALYST_ESTIMATES).hits()).isEqualTo(1);
+        assertThat(stats().get(DataCategory.FUNDAMENTALS).hits()).isZero();
+    }
+
+    @Test
+    @DisplayName("Calls the API and counts a miss when nothing fresh is stored")
+    void callsApiWhenStale() {
+        // When
+        YhFinanceResponse result = repository.fetchQuoteSummary("AAPL");
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(apiCalls).hasValue(1);
+        assertThat(stats().get(DataCategory.PRICES).misses()).isEqualTo(1);
+        assertThat(stats().get(DataCategory.PRICES).hitRatio()).isZero();
+    }
+
+    @Test
+    @DisplayName("Market data uses the shortest window among its categories (prices: 1 day)")
+    void usesShortestWindowForMarketData() {
+        // When
+        repository.fetchQuoteSummary("AAPL");
+
+        // Then
+        assertThat(requestedNotBefore.get()).isEqualTo(stored(NOW.minus(Duration.ofDays(1))));
+    }
+
+    @Test
+    @DisplayName("A stored report counts a hit inside its window and a miss outside of it or when missing")
+    void countsStoredReportHitsAndMisses() {
+        // When
+        boolean fresh = repository.isFresh(stored(NOW.minus(Duration.ofHours(23))), Set.of(DataCategory.PRICES));
+        boolean stale = repository.isFresh(stored(NOW.minus(Duration.ofHours(25))), Set.of(DataCategory.PRICES));
+        boolean missing = repository.isFresh(null, Set.of(DataCategory.PRICES));
+
+        // Then
+        assertThat(fresh).isTrue();
+        assertThat(stale).isFalse();
+        assertThat(missing).isFalse();
+        assertThat(stats().get(DataCategory.PRICES).hits()).isEqualTo(1);
+        assertThat(stats().get(DataCategory.PRICES).misses()).isEqualTo(2);
+    }
+
+    /**
+     * Stored timestamps are wall-clock times in the JVM zone.
+     */
+    private static LocalDateTime stored(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    private Map<DataCategory, FreshnessStats> stats() {
+        return metrics.getFreshnessStats().stream()
+                .collect(Collectors.toMap(FreshnessStats::category, Function.identity()));
+    }
+}
@@ -0,0 +1,183 @@
+package com.stock.screener.collector.application.service;
+
+import com.stock.screener.collector.application.port.in.MetricRecomputationResult;
+import com.stock.screener.collector.application.port.out.StoredReportPort;
+import com.stock.screener.collector.domain.entity.MonthlyReport;
+import com.stock.screener.collector.domain.entity.QuarterlyReport;
+import com.stock.screener.collector.domain.valueobject.PsRatio;
+import com.stock.screener.collector.domain.valueobject.QuickRatio;
+import com.stock.screener.collector.domain.valueobject.ReportIntegrityStatus;
+import com.stock.screener.common.Sector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("MetricRecomputationService Tests")
+class MetricRecomputationServiceTest {
+
+    private final FakeStoredReports store = new FakeStoredReports();
+
+    @Test
+    @DisplayName("Re-derives metrics from the stored raw columns and writes them back")
+    void recomputesFromRawColumns() {
+        // Given: raw inputs stored, metrics never computed
+        QuarterlyReport quarterly = new QuarterlyReport();
+        quarterly.sector = Sector.TECHNOLOGY;
+        quarterly.totalCurrentAssets = new BigDecimal("500000");
+        quarterly.totalCurrentLiabilities = new BigDecimal("200000");
+        quarterly.inventory = new BigDecimal("100000");
+        store.quarterly.add(quarterly);
+
+        MonthlyReport monthly = new MonthlyReport();
+        monthly.currentPrice = new BigDecimal("100");
+        monthly.targetPrice = new BigDecimal("120");
+        store.monthly.add(monthly);
+
+        // When
+        MetricRecomputationResult result = new MetricRecomputationService(store, 10, 2).recomputeMetrics();
+
+        // Then
+        assertThat(result.quarterlyReports()).isEqualTo(1);
+        assertThat(result.monthlyReports()).isEqualTo(1);
+        assertThat(result.failedReports()).isZero();
+        assertThat(store.writtenQuarterly).containsExactly(quarterly);
+        assertThat(quarterly.quickRatio.value()).isCloseTo(new BigDecimal("2.0"), within(new BigDecimal("0.0001")));
+        assertThat(store.writtenMonthly).containsExactly(monthly);
+        assertThat(monthly.upsidePotential).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Streams fixed-size chunks with at most `parallelism` chunks in flight")
+    void boundsChunksInFlight() {
+        // Given
+        IntStream.range(0, 20).forEach(i -> store.quarterly.add(aReportWithInputs()));
+        store.writeDelayMs = 20;
+
+        // When
+        MetricRecomputationResult result = new MetricRecomputationService(store, 3, 2).recomputeMetrics();
+
+        // Then
+        assertThat(result.quarterlyReports()).isEqualTo(20);
+        assertThat(store.chunkSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(3));
+        assertThat(store.maxConcurrentWrites).hasValueLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A chunk that fails to write is counted and the run continues")
+    void countsFailedChunks() {
+        // Given
+        IntStream.range(0, 4).forEach(i -> store.quarterly.add(aReportWithInputs()));
+        store.failFirstWrite = true;
+
+        // When
+        MetricRecomputationResult result = new MetricRecomputationService(store, 2, 1).recomputeMetrics();
+
+        // Then
+        assertThat(result.quarterlyReports()).isEqualTo(2);
+        assertThat(result.failedReports()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Rows stored before their metric inputs are skipped and keep their metrics")
+    void skipsRowsWithoutInputs() {
+        // Given: metrics from before V13, no inputs to re-derive them from
+        QuarterlyReport legacyQuarterly = new QuarterlyReport();
+        legacyQuarterly.quickRatio = new QuickRatio(new BigDecimal("1.5"));
+        legacyQuarterly.integrityStatus = ReportIntegrityStatus.READY_FOR_ANALYSIS;
+        store.quarterly.add(legacyQuarterly);
+        store.quarterly.add(aReportWithInputs());
+
+        MonthlyReport legacyMonthly = new MonthlyReport();
+        legacyMonthly.psRatio = new PsRatio(new BigDecimal("4.2"));
+        store.monthly.add(legacyMonthly);
+
+        // When
+        MetricRecomputationResult result = new MetricRecomputationService(store, 10, 2).recomputeMetrics();
+
+        // Then
+        assertThat(result.quarterlyReports()).isEqualTo(1);
+        assertThat(result.monthlyReports()).isZero();
+        assertThat(result.skippedReports()).isEqualTo(2);
+        assertThat(store.writtenQuarterly).doesNotContain(legacyQuarterly);
+        assertThat(store.writtenMonthly).isEmpty();
+        assertThat(legacyQuarterly.quickRatio.value()).isEqualByComparingTo("1.5");
+        assertThat(legacyQuarterly.integrityStatus).isEqualTo(ReportIntegrityStatus.READY_FOR_ANALYSIS);
+        assertThat(legacyMonthly.psRatio.value()).isEqualByComparingTo("4.2");
+    }
+
+    private static QuarterlyReport aReportWithInputs() {
+        QuarterlyReport report = new QuarterlyReport();
+        report.totalCurrentAssets = new BigDecimal("500000");
+        report.totalCurrentLiabilities = new BigDecimal("200000");
+        return report;
+    }
+
+    private static class FakeStoredReports implements StoredReportPort {
+
+        private final List<QuarterlyReport> quarterly = new ArrayList<>();
+        private final List<MonthlyReport> monthly = new ArrayList<>();
+        private final List<QuarterlyReport> writtenQuarterly = Collections.synchronizedList(new ArrayList<>());
+        private final List<MonthlyReport> writtenMonthly = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> chunkSizes = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger concurrentWrites = new AtomicInteger();
+        private final AtomicInteger maxConcurrentWrites = new AtomicInteger();
+        private volatile long writeDelayMs;
+        private volatile boolean failFirstWrite;
+
+        @Override
+        public void streamQuarterly(int chunkSize, Consumer<List<QuarterlyReport>> chunkConsumer) {
+            stream(quarterly, chunkSize, chunkConsumer);
+        }
+
+        @Override
+        public void streamMonthly(int chunkSize, Consumer<List<MonthlyReport>> chunkConsumer) {
+            stream(monthly, chunkSize, chunkConsumer);
+        }
+
+        @Override
+        public void updateQuarterlyMetrics(List<QuarterlyReport> reports) {
+            write(reports, writtenQuarterly);
+        }
+
+        @Override
+        public void updateMonthlyMetrics(List<MonthlyReport> reports) {
+            write(reports, writtenMonthly);
+        }
+
+        private <T> void stream(List<T> rows, int chunkSize, Consumer<List<T>> chunkConsumer) {
+            for (int from = 0; from < rows.size(); from += chunkSize) {
+                List<T> chunk = List.copyOf(rows.subList(from, Math.min(from + chunkSize, rows.size())));
+                chunkSizes.add(chunk.size());
+                chunkConsumer.accept(chunk);
+            }
+        }
+
+        private <T> void write(List<T> reports, List<T> written) {
+            int concurrent = concurrentWrites.incrementAndGet();
+            maxConcurrentWrites.accumulateAndGet(concurrent, Math::max);
+            try {
+                if (failFirstWrite) {
+                    failFirstWrite = false;
+                    throw new IllegalStateException("Connection reset");
+                }
+                TimeUnit.MILLISECONDS.sleep(writeDelayMs);
+                written.addAll(reports);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrentWrites.decrementAndGet();
+            }
+        }
+    }
+}
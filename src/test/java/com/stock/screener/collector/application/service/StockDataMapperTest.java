@@ -1,5 +1,6 @@
 package com.stock.screener.collector.application.service;
 
+import com.stock.screener.collector.application.port.out.alphavantage.RawIncomeStatement;
 import com.stock.screener.collector.domain.valueobject.AnalystRatings;
 import com.stock.screener.collector.domain.valueobject.snapshot.FinancialDataSnapshot;
 import com.stock.screener.collector.domain.valueobject.snapshot.MarketDataSnapshot;
@@ -8,9 +9,12 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import com.stock.screener.collector.application.port.out.fixtures.RawBalanceSheetFixture;
+import com.stock.screener.collector.application.port.out.fixtures.RawCashFlowFixture;
 import com.stock.screener.collector.application.port.out.fixtures.RawIncomeStatementFixture;
 
 import static com.stock.screener.collector.application.port.out.fixtures.RawBalanceSheetFixture.aRawBalanceSheet;
@@ -191,7 +195,7 @@ class StockDataMapperTest {
             assertThat(result.retainedEarnings()).isEqualByComparingTo(latestBalance.retainedEarnings());
             assertThat(result.ebit()).isEqualByComparingTo(latestIncome.ebit());
             assertThat(result.totalDebt()).isEqualByComparingTo(latestBalance.shortLongTermDebtTotal());
-            assertThat(result.revenueTTM()).isEqualByComparingTo(latestIncome.totalRevenue());
+            assertThat(result.revenueTTM()).isNull();
 
             // Then — Cash flow fields
             assertThat(result.operatingCashFlow()).isEqualByComparingTo(latestCash.operatingCashflow());
@@ -535,10 +539,10 @@ class StockDataMapperTest {
         @DisplayName("Sums totalRevenue from 4 most recent quarterly reports")
         void sumsFourQuarters() {
             // Given
-            var q1 = RawIncomeStatementFixture.aReport().withTotalRevenue("100000").build();
-            var q2 = RawIncomeStatementFixture.aReport().withTotalRevenue("110000").build();
-            var q3 = RawIncomeStatementFixture.aReport().withTotalRevenue("120000").build();
-            var q4 = RawIncomeStatementFixture.aReport().withTotalRevenue("130000").build();
+            var q1 = quarter("2025-12-31", "100000");
+            var q2 = quarter("2025-09-30", "110000");
+            var q3 = quarter("2025-06-30", "120000");
+            var q4 = quarter("2025-03-31", "130000");
             var incomeStatement = aRawIncomeStatement()
                     .withQuarterlyReports(q1, q2, q3, q4).build();
 
@@ -555,11 +559,11 @@ class StockDataMapperTest {
         @DisplayName("Uses only first 4 reports when more than 4 are present")
         void limitsToFourQuarters() {
             // Given — 5 reports, only first 4 should be summed
-            var q1 = RawIncomeStatementFixture.aReport().withTotalRevenue("100000").build();
-            var q2 = RawIncomeStatementFixture.aReport().withTotalRevenue("100000").build();
-            var q3 = RawIncomeStatementFixture.aReport().withTotalRevenue("100000").build();
-            var q4 = RawIncomeStatementFixture.aReport().withTotalRevenue("100000").build();
-            var q5 = RawIncomeStatementFixture.aReport().withTotalRevenue("999999").build();
+            var q1 = quarter("2025-12-31", "100000");
+            var q2 = quarter("2025-09-30", "100000");
+            var q3 = quarter("2025-06-30", "100000");
+            var q4 = quarter("2025-03-31", "100000");
+            var q5 = quarter("2024-12-31", "999999");
             var incomeStatement = aRawIncomeStatement()
                     .withQuarterlyReports(q1, q2, q3, q4, q5).build();
 
@@ -573,13 +577,14 @@ class StockDataMapperTest {
         }
 
         @Test
-        @DisplayName("Skips null revenue values in quarterly reports")
-        void skipsNullRevenue() {
-            // Given — 4 reports, 2 with null revenue
-            var q1 = RawIncomeStatementFixture.aReport().withTotalRevenue("100000").build();
-            var q2 = RawIncomeStatementFixture.aReport().withNullTotalRevenue().build();
-            var q3 = RawIncomeStatementFixture.aReport().withTotalRevenue("100000").build();
-            var q4 = RawIncomeStatementFixture.aReport().withNullTotalRevenue().build();
+        @DisplayName("Returns null when a quarter lacks revenue")
+        void nullWhenRevenueMissing() {
+            // Given — 4 reports, 1 with null revenue
+            var q1 = quarter("2025-12-31", "100000");
+            var q2 = RawIncomeStatementFixture.aReport().withFiscalDateEnding("2025-09-30")
+                    .withNullTotalRevenue().build();
+            var q3 = quarter("2025-06-30", "100000");
+            var q4 = quarter("2025-03-31", "100000");
             var incomeStatement = aRawIncomeStatement()
                     .withQuarterlyReports(q1, q2, q3, q4).build();
 
@@ -587,9 +592,45 @@ class StockDataMapperTest {
             FinancialDataSnapshot result = mapper.toFinancialDataSnapshot(
                     null, incomeStatement, null);
 
-            // Then — 100000 + 0(skipped) + 100000 + 0(skipped) = 200000
+            // Then — three quarters are not a trailing year
+            assertThat(result.revenueTTM()).isNull();
+        }
+
+        @Test
+        @DisplayName("Returns null when the four latest quarters are not consecutive")
+        void nullWhenQuarterMissing() {
+            // Given — 2025-06-30 was never reported
+            var incomeStatement = aRawIncomeStatement().withQuarterlyReports(
+                    quarter("2025-12-31", "100000"),
+                    quarter("2025-09-30", "100000"),
+                    quarter("2025-03-31", "100000"),
+                    quarter("2024-12-31", "100000")).build();
+
+            // When
+            FinancialDataSnapshot result = mapper.toFinancialDataSnapshot(
+                    null, incomeStatement, null);
+
+            // Then
+            assertThat(result.revenueTTM()).isNull();
+        }
+
+        @Test
+        @DisplayName("Accepts quarters of a 52/53-week fiscal year ending a few days off the calendar quarter")
+        void acceptsWeekBasedQuarters() {
+            // Given
+            var incomeStatement = aRawIncomeStatement().withQuarterlyReports(
+                    quarter("2025-09-27", "100000"),
+                    quarter("2025-06-28", "100000"),
+                    quarter("2025-03-29", "100000"),
+                    quarter("2024-12-28", "100000")).build();
+
+            // When
+            FinancialDataSnapshot result = mapper.toFinancialDataSnapshot(
+                    null, incomeStatement, null);
+
+            // Then
             assertThat(result.revenueTTM())
-                    .isEqualByComparingTo(new BigDecimal("200000"));
+                    .isEqualByComparingTo(new BigDecimal("400000"));
         }
 
         @Test
@@ -630,6 +671,11 @@ class StockDataMapperTest {
             // Then
             assertThat(result.revenueTTM()).isNull();
         }
+
+        private RawIncomeStatement.Report quarter(String fiscalDate, String revenue) {
+            return RawIncomeStatementFixture.aReport().withFiscalDateEnding(fiscalDate).withTotalRevenue(revenue)
+                    .build();
+        }
     }
 
     // ==================== operatingCashFlow ====================
@@ -665,4 +711,105 @@ class StockDataMapperTest {
             assertThat(result.operatingCashFlow()).isNull();
         }
     }
+
+    // ==================== toQuarterlyHistory ====================
+
+    @Nested
+    @DisplayName("toQuarterlyHistory")
+    class ToQuarterlyHistoryTests {
+
+        @Test
+        @DisplayName("Maps every quarter to its own snapshot, newest first")
+        void mapsEveryQuarter() {
+            // Given — reports deliberately out of order
+            var incomeStatement = aRawIncomeStatement().withQuarterlyReports(
+                    income("2025-06-30", "100"),
+                    income("2025-12-31", "300"),
+                    income("2025-09-30", "200")).build();
+
+            // When
+            Map<LocalDate, FinancialDataSnapshot> result = mapper.toQuarterlyHistory(null, incomeStatement, null);
+
+            // Then
+            assertThat(result.keySet()).containsExactly(
+                    LocalDate.of(2025, 12, 31), LocalDate.of(2025, 9, 30), LocalDate.of(2025, 6, 30));
+            assertThat(result.get(LocalDate.of(2025, 9, 30)).totalRevenue())
+                    .isEqualByComparingTo(new BigDecimal("200"));
+        }
+
+        @Test
+        @DisplayName("Revenue TTM sums the quarter and the three before it, null when history is shorter")
+        void calculatesTrailingRevenuePerQuarter() {
+            // Given
+            var incomeStatement = aRawIncomeStatement().withQuarterlyReports(
+                    income("2025-12-31", "500"),
+                    income("2025-09-30", "400"),
+                    income("2025-06-30", "300"),
+                    income("2025-03-31", "200"),
+                    income("2024-12-31", "100")).build();
+
+            // When
+            Map<LocalDate, FinancialDataSnapshot> result = mapper.toQuarterlyHistory(null, incomeStatement, null);
+
+            // Then — 500 + 400 + 300 + 200 and 400 + 300 + 200 + 100
+            assertThat(result.get(LocalDate.of(2025, 12, 31)).revenueTTM())
+                    .isEqualByComparingTo(new BigDecimal("1400"));
+            assertThat(result.get(LocalDate.of(2025, 9, 30)).revenueTTM())
+                    .isEqualByComparingTo(new BigDecimal("1000"));
+            assertThat(result.get(LocalDate.of(2025, 6, 30)).revenueTTM()).isNull();
+        }
+
+        @Test
+        @DisplayName("Revenue TTM is null for a window spanning a missing quarter")
+        void skipsWindowsWithGaps() {
+            // Given — 2025-03-31 was never reported
+            var incomeStatement = aRawIncomeStatement().withQuarterlyReports(
+                    income("2025-12-31", "500"),
+                    income("2025-09-30", "400"),
+                    income("2025-06-30", "300"),
+                    income("2024-12-31", "100"),
+                    income("2024-09-30", "100")).build();
+
+            // When
+            Map<LocalDate, FinancialDataSnapshot> result = mapper.toQuarterlyHistory(null, incomeStatement, null);
+
+            // Then
+            assertThat(result.get(LocalDate.of(2025, 12, 31)).revenueTTM()).isNull();
+            assertThat(result.get(LocalDate.of(2025, 9, 30)).revenueTTM()).isNull();
+        }
+
+        @Test
+        @DisplayName("Matches statements by fiscal date and keeps quarters present in only one of them")
+        void matchesStatementsByFiscalDate() {
+            // Given — cash flow has one quarter more than the income statement
+            var incomeStatement = aRawIncomeStatement().withQuarterlyReports(income("2025-12-31", "100")).build();
+            var cashFlow = aRawCashFlow().withQuarterlyReports(
+                    RawCashFlowFixture.aReport().withFiscalDateEnding("2025-12-31")
+                            .withOperatingCashflow("10").build(),
+                    RawCashFlowFixture.aReport().withFiscalDateEnding("2025-09-30")
+                            .withOperatingCashflow("20").build()).build();
+
+            // When
+            Map<LocalDate, FinancialDataSnapshot> result = mapper.toQuarterlyHistory(null, incomeStatement, cashFlow);
+
+            // Then
+            assertThat(result).hasSize(2);
+            assertThat(result.get(LocalDate.of(2025, 12, 31)).operatingCashFlow())
+                    .isEqualByComparingTo(new BigDecimal("10"));
+            assertThat(result.get(LocalDate.of(2025, 9, 30)).operatingCashFlow())
+                    .isEqualByComparingTo(new BigDecimal("20"));
+            assertThat(result.get(LocalDate.of(2025, 9, 30)).totalRevenue()).isNull();
+        }
+
+        @Test
+        @DisplayName("Returns empty history when all sources are null")
+        void allNull() {
+            // When / Then
+            assertThat(mapper.toQuarterlyHistory(null, null, null)).isEmpty();
+        }
+
+        private RawIncomeStatement.Report income(String fiscalDate, String revenue) {
+            return RawIncomeStatementFixture.aReport().withFiscalDateEnding(fiscalDate).withTotalRevenue(revenue).build();
+        }
+    }
 }
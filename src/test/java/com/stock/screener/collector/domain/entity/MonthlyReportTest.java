@@ -87,6 +87,25 @@ class MonthlyReportTest {
         assertNoCalculationErrorFor(MetricType.PS_RATIO);
     }
 
+    @Test
+    @DisplayName("updateMetrics() computes PsRatio from the stored revenue when the snapshot lacks it")
+    void testUpdateMetricsComputesPsRatioFromStoredRevenue() {
+        // Given: A stored report whose revenue was not returned this time
+        monthlyReport.revenueTTM = new BigDecimal("500000000");
+        var snapshot = aMarketDataSnapshot()
+                .withMarketCap("2000000000")
+                .withNullRevenueTTM()
+                .build();
+
+        // When
+        monthlyReport.updateMetrics(snapshot);
+
+        // Then: The ratio matches the inputs stored next to it (2000000000 / 500000000 = 4.0)
+        assertThat(monthlyReport.psRatio.value())
+                .isCloseTo(new BigDecimal("4.0000"), within(PRECISION));
+        assertNoCalculationErrorFor(MetricType.PS_RATIO);
+    }
+
     @Test
     @DisplayName("updateMetrics() correctly computes ForwardPeg Value Object")
     void testUpdateMetricsComputesForwardPeg() {
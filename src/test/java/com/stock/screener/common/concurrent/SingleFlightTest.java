@@ -0,0 +1,104 @@
+package com.stock.screener.common.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("Concurrent callers for the same key share one execution")
+    void sharesInFlightCall() throws Exception {
+        // Given
+        var calls = new AtomicInteger();
+        var gate = new CountDownLatch(1);
+
+        // When
+        List<Future<Integer>> results;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results = IntStream.range(0, 5)
+                    .mapToObj(i -> executor.submit(() -> singleFlight.execute("AAPL", () -> {
+                        calls.incrementAndGet();
+                        await(gate);
+                        return 42;
+                    })))
+                    .toList();
+            TimeUnit.MILLISECONDS.sleep(100);
+            gate.countDown();
+        }
+
+        // Then
+        assertThat(calls).hasValue(1);
+        for (Future<Integer> result : results) {
+            assertThat(result.get()).isEqualTo(42);
+        }
+        assertThat(singleFlight.executedCount()).isEqualTo(1);
+        assertThat(singleFlight.sharedCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Sequential calls are not cached")
+    void doesNotCacheCompletedCalls() {
+        // Given
+        var calls = new AtomicInteger();
+
+        // When
+        singleFlight.execute("AAPL", calls::incrementAndGet);
+        singleFlight.execute("AAPL", calls::incrementAndGet);
+
+        // Then
+        assertThat(calls).hasValue(2);
+        assertThat(singleFlight.sharedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Followers receive the leader's exception unwrapped")
+    void propagatesFailureToFollowers() throws Exception {
+        // Given
+        var gate = new CountDownLatch(1);
+
+        // When
+        Future<Integer> leader;
+        Future<Integer> follower;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            leader = executor.submit(() -> singleFlight.execute("AAPL", () -> {
+                await(gate);
+                throw new IllegalStateException("External api throw unknown error");
+            }));
+            TimeUnit.MILLISECONDS.sleep(50);
+            follower = executor.submit(() -> singleFlight.execute("AAPL", () -> 1));
+            TimeUnit.MILLISECONDS.sleep(50);
+            gate.countDown();
+        }
+
+        // Then
+        assertThatThrownBy(leader::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(follower::get).isInstanceOf(ExecutionException.class)
+                .cause().isInstanceOf(IllegalStateException.class)
+                .hasMessage("External api throw unknown error");
+    }
+
+    private static void await(CountDownLatch gate) {
+        try {
+            gate.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}